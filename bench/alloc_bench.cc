@@ -0,0 +1,89 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+// Count heap allocations made by error_inject() when no fault fires.
+// Exits with a failure status if the passthrough path allocates.
+//
+//   alloc_bench [iterations]
+
+#include <atomic>
+#include <cerrno>
+#include <chrono>
+#include <cstdio>
+#include <cstdlib>
+#include <new>
+#include <vector>
+
+#include "../fault_table.hh"
+
+static std::atomic<long> allocations(0);
+
+void *operator new(size_t size)
+{
+    allocations++;
+    void *p = malloc(size ? size : 1);
+    if (!p) {
+        throw std::bad_alloc();
+    }
+    return p;
+}
+
+void operator delete(void *p) noexcept
+{
+    free(p);
+}
+
+// return the number of allocations per call
+static double run(const char *name, method_id method, long iterations)
+{
+    const char *path = "/data/ks/cf/ks-cf-ka-1-Data.db";
+
+    // warm up thread local state and caches
+    error_inject(path, method);
+
+    long before = allocations.load();
+    auto start = std::chrono::steady_clock::now();
+    for (long i = 0; i < iterations; i++) {
+        error_inject(path, method);
+    }
+    auto end = std::chrono::steady_clock::now();
+    long count = allocations.load() - before;
+
+    double ns = std::chrono::duration_cast<std::chrono::nanoseconds>(end - start).count();
+    printf("%-28s %10.1f ns/op %10ld allocations\n", name, ns / iterations, count);
+    return (double) count / iterations;
+}
+
+int main(int argc, char **argv)
+{
+    long iterations = argc > 1 ? atol(argv[1]) : 1000000;
+    bool failed = false;
+
+    fault_table_clear_all();
+    failed |= run("no fault", METHOD_READ, iterations) > 0;
+
+    fault_descriptor descr = fault_descriptor();
+    descr.err_no = EIO;
+    fault_table_set(std::vector<method_id>{METHOD_WRITE}, descr);
+    failed |= run("fault on another method", METHOD_READ, iterations) > 0;
+
+    descr.pattern = ".*CommitLog.*";
+    fault_table_set(std::vector<method_id>{METHOD_READ}, descr);
+    failed |= run("fault with unmatched regexp", METHOD_READ, iterations) > 0;
+
+    if (failed) {
+        printf("passthrough path allocates\n");
+        return 1;
+    }
+
+    return 0;
+}
@@ -0,0 +1,77 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+// Saturation knee of a device queue: a rule with 4 channels and an
+// exponential service time of mean 200 us, driven by a growing number of
+// threads each issuing one read at a time.
+//
+//   device_queue_bench [milliseconds per step]
+//
+// Throughput levels off at channels / mean service time, 20k ops/s, while
+// latency keeps growing with the queue.  Runs without FUSE so the delays
+// are slept by the calling threads.
+
+#include <atomic>
+#include <chrono>
+#include <cstdio>
+#include <cstdlib>
+#include <thread>
+#include <vector>
+
+#include "../clock.hh"
+#include "../fault_table.hh"
+
+static const int CHANNELS = 4;
+static const int SERVICE_US = 200;
+
+int main(int argc, char **argv)
+{
+    long step_ms = argc > 1 ? atol(argv[1]) : 1000;
+
+    fault_descriptor descr = fault_descriptor();
+    descr.latency.kind = DELAY_EXPONENTIAL;
+    descr.latency.value_us = SERVICE_US;
+    descr.queue_channels = CHANNELS;
+
+    printf("%8s %12s %12s %12s %12s\n", "threads", "ops/s", "mean us", "max wait us", "max queue");
+    for (int threads = 1; threads <= 32; threads *= 2) {
+        // a fresh queue for every step
+        fault_table_apply({fault_update{{METHOD_READ}, descr, false}}, true);
+
+        std::atomic<int64_t> ops(0);
+        std::atomic<int64_t> latency_ns(0);
+        std::vector<std::thread> workers;
+        uint64_t end_ns = now_ns() + step_ms * 1000000ULL;
+        for (int i = 0; i < threads; i++) {
+            workers.push_back(std::thread([&ops, &latency_ns, end_ns] {
+                uint64_t start;
+                while ((start = now_ns()) < end_ns) {
+                    error_inject("/data/ks/nb-1-big-Data.db", METHOD_READ, 4096);
+                    latency_ns.fetch_add(now_ns() - start);
+                    ops.fetch_add(1);
+                }
+            }));
+        }
+        for (auto &worker: workers) {
+            worker.join();
+        }
+        std::vector<queue_state> queues = fault_table_queues(false);
+
+        const device_queue::state &q = queues[0].queue;
+        printf("%8d %12.0f %12.1f %12lld %12lld\n", threads,
+               ops.load() * 1000.0 / step_ms, latency_ns.load() / 1000.0 / ops.load(),
+               (long long) q.wait_max / 1000, (long long) q.length_max);
+    }
+
+    fault_table_clear_all();
+    return 0;
+}
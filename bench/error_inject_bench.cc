@@ -0,0 +1,136 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+// Per operation cost of error_inject() when no fault fires, the path every
+// FUSE call takes in normal operation.
+//
+//   error_inject_bench [iterations per thread]
+//
+// "legacy" is the former global mutex + std::map lookup, kept here as the
+// baseline. "empty" runs with no fault set, "other" with a fault set on a
+// method the benchmark does not call so the snapshot has to be read.
+// "filtered" sets a fault on the called method whose regexp never matches
+// the path: the legacy path copies the descriptor and compiles and runs the
+// regexp under the lock, the snapshot runs the cached compiled one.
+
+#include <cerrno>
+#include <chrono>
+#include <cstdio>
+#include <cstdlib>
+#include <map>
+#include <mutex>
+#include <regex>
+#include <string>
+#include <thread>
+#include <vector>
+
+#include "../fault_table.hh"
+
+// the fields of the former descriptor the lookup reads
+struct legacy_descriptor {
+    int err_no;
+    std::string regexp;
+};
+
+static std::map<std::string, legacy_descriptor> legacy_map;
+static std::mutex legacy_mutex;
+
+static int legacy_error_inject(std::string path, std::string method)
+{
+    std::lock_guard<std::mutex> lk(legacy_mutex);
+
+    if (!legacy_map.count(method)) {
+        return 0;
+    }
+
+    auto descr = legacy_map[method];
+
+    if (descr.regexp.size()) {
+        std::regex r(descr.regexp);
+        if (!std::regex_match(path, r)) {
+            return 0;
+        }
+    }
+
+    return -descr.err_no;
+}
+
+template <typename inject_fn>
+static double run(inject_fn fn, int threads, long iterations)
+{
+    std::vector<std::thread> workers;
+
+    auto start = std::chrono::steady_clock::now();
+    for (int i = 0; i < threads; i++) {
+        workers.push_back(std::thread([fn, iterations] {
+            for (long j = 0; j < iterations; j++) {
+                if (fn()) {
+                    abort();
+                }
+            }
+        }));
+    }
+    for (auto &worker: workers) {
+        worker.join();
+    }
+    auto end = std::chrono::steady_clock::now();
+
+    // wall time per operation over all threads
+    double ns = std::chrono::duration_cast<std::chrono::nanoseconds>(end - start).count();
+    return ns / (iterations * threads);
+}
+
+int main(int argc, char **argv)
+{
+    long iterations = argc > 1 ? atol(argv[1]) : 1000000;
+
+    fault_descriptor descr = fault_descriptor();
+    descr.err_no = EIO;
+
+    fault_descriptor filtered = descr;
+    filtered.filter = FILTER_REGEXP;
+    filtered.pattern = "/data/system/.*";
+
+    const char *path = "/data/commitlog/CommitLog-1.log";
+    auto legacy_call = [path] {
+        return legacy_error_inject(path, "read");
+    };
+    auto inject_call = [path] {
+        return error_inject(path, METHOD_READ);
+    };
+
+    printf("%8s %12s %12s %12s %16s %12s\n", "threads", "legacy ns",
+           "empty ns", "other ns", "legacy filt ns", "filtered ns");
+    for (int threads = 1; threads <= 64; threads *= 2) {
+        legacy_map.clear();
+        legacy_map["write"] = legacy_descriptor{EIO, ""};
+        double legacy = run(legacy_call, threads, iterations);
+
+        legacy_map["read"] = legacy_descriptor{EIO, filtered.pattern};
+        double legacy_filtered = run(legacy_call, threads, iterations);
+
+        fault_table_clear_all();
+        double empty = run(inject_call, threads, iterations);
+
+        fault_table_set(std::vector<method_id>{METHOD_WRITE}, descr);
+        double other = run(inject_call, threads, iterations);
+
+        fault_table_set(std::vector<method_id>{METHOD_READ}, filtered);
+        double filtered_ns = run(inject_call, threads, iterations);
+        fault_table_clear_all();
+
+        printf("%8d %12.1f %12.1f %12.1f %16.1f %12.1f\n", threads, legacy,
+               empty, other, legacy_filtered, filtered_ns);
+    }
+
+    return 0;
+}
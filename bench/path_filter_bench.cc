@@ -0,0 +1,116 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+// Per operation cost of error_inject() with 1,000 rules stacked on a method,
+// one per keyspace directory, none of them injecting anything.
+//
+//   path_filter_bench [iterations per thread]
+//
+// "regexp" filters every rule with "/data/ks<i>/.*", "prefix" with the
+// "/data/ks<i>/" prefix.  "hit" paths fall under one of the rules, "miss"
+// paths under none so every rule is tried.  The rules are summed so the
+// walk does not stop at the first match.
+
+#include <chrono>
+#include <cstdio>
+#include <cstdlib>
+#include <string>
+#include <thread>
+#include <vector>
+
+#include "../fault_table.hh"
+
+static const int RULES = 1000;
+
+// paths cycled through by every thread, within the match cache capacity
+static const int PATHS = 64;
+
+template <typename inject_fn>
+static double run(inject_fn fn, int threads, long iterations)
+{
+    std::vector<std::thread> workers;
+
+    auto start = std::chrono::steady_clock::now();
+    for (int i = 0; i < threads; i++) {
+        workers.push_back(std::thread([fn, iterations] {
+            for (long j = 0; j < iterations; j++) {
+                if (fn(j)) {
+                    abort();
+                }
+            }
+        }));
+    }
+    for (auto &worker: workers) {
+        worker.join();
+    }
+    auto end = std::chrono::steady_clock::now();
+
+    // wall time per operation over all threads
+    double ns = std::chrono::duration_cast<std::chrono::nanoseconds>(end - start).count();
+    return ns / (iterations * threads);
+}
+
+static void set_rules(filter_type filter)
+{
+    std::vector<fault_update> updates;
+    for (int i = 0; i < RULES; i++) {
+        fault_descriptor descr = fault_descriptor();
+        // fires on every match but injects nothing
+        descr.filter = filter;
+        descr.pattern = "/data/ks" + std::to_string(i) + "/";
+        if (filter == FILTER_REGEXP) {
+            descr.pattern += ".*";
+        }
+        updates.push_back(fault_update{{METHOD_FSYNC}, descr, true});
+    }
+    fault_table_apply(updates, true);
+    fault_table_sum_delays(true);
+}
+
+int main(int argc, char **argv)
+{
+    long iterations = argc > 1 ? atol(argv[1]) : 200000;
+
+    std::vector<std::string> hits;
+    std::vector<std::string> misses;
+    for (int i = 0; i < PATHS; i++) {
+        hits.push_back("/data/ks" + std::to_string(i * 13 % RULES) +
+                       "/table-" + std::to_string(i) + "/nb-1-big-Data.db");
+        misses.push_back("/data/system/table-" + std::to_string(i) +
+                         "/nb-1-big-Data.db");
+    }
+
+    auto hit_call = [&hits] (long j) {
+        return error_inject(hits[j % PATHS], METHOD_FSYNC);
+    };
+    auto miss_call = [&misses] (long j) {
+        return error_inject(misses[j % PATHS], METHOD_FSYNC);
+    };
+
+    printf("%8s %12s %12s %12s %12s\n", "threads",
+           "regexp hit", "regexp miss", "prefix hit", "prefix miss");
+    for (int threads = 1; threads <= 16; threads *= 2) {
+        set_rules(FILTER_REGEXP);
+        double regexp_hit = run(hit_call, threads, iterations);
+        double regexp_miss = run(miss_call, threads, iterations);
+
+        set_rules(FILTER_PREFIX);
+        double prefix_hit = run(hit_call, threads, iterations);
+        double prefix_miss = run(miss_call, threads, iterations);
+
+        printf("%8d %12.1f %12.1f %12.1f %12.1f\n", threads,
+               regexp_hit, regexp_miss, prefix_hit, prefix_miss);
+    }
+
+    fault_table_clear_all();
+    return 0;
+}
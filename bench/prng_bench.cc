@@ -0,0 +1,77 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+// Cost of one probability roll and one errno pick, with the per thread
+// generator and with the former std::random_device per call.
+//
+//   prng_bench [iterations]
+
+#include <chrono>
+#include <cstdio>
+#include <cstdlib>
+#include <random>
+
+#include <cerrno>
+
+#include "../prng.hh"
+
+static int legacy_random_err_no()
+{
+    std::random_device rd;
+    std::uniform_int_distribution<int> dist(E2BIG, EXFULL);
+
+    return dist(rd);
+}
+
+static bool legacy_get_lucky(int probability)
+{
+    std::random_device rd;
+    std::uniform_int_distribution<int> dist(1, 100000);
+
+    if (!probability) {
+        return false;
+    }
+
+    if (dist(rd) > probability) {
+        return true;
+    }
+
+    return false;
+}
+
+template <typename decision_fn>
+static void run(const char *name, decision_fn fn, long iterations)
+{
+    long sum = 0;
+
+    auto start = std::chrono::steady_clock::now();
+    for (long i = 0; i < iterations; i++) {
+        sum += fn();
+    }
+    auto end = std::chrono::steady_clock::now();
+
+    double ns = std::chrono::duration_cast<std::chrono::nanoseconds>(end - start).count();
+    // print sum so the loop is not optimized away
+    printf("%-24s %10.1f ns/decision (%ld)\n", name, ns / iterations, sum);
+}
+
+int main(int argc, char **argv)
+{
+    long iterations = argc > 1 ? atol(argv[1]) : 1000000;
+
+    run("legacy get_lucky", [] { return legacy_get_lucky(50000); }, iterations / 100);
+    run("legacy random_err_no", [] { return legacy_random_err_no(); }, iterations / 100);
+    run("get_lucky", [] { return get_lucky(thread_prng(), 50000); }, iterations);
+    run("random_err_no", [] { return random_err_no(thread_prng()); }, iterations);
+
+    return 0;
+}
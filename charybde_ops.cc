@@ -11,6 +11,10 @@
  */
 
 #include "server.hh"
+#include "fault_table.hh"
+#include "shm_region.hh"
+#include "stats.hh"
+#include "timeline.hh"
 
 #include <iostream>
 
@@ -35,292 +39,235 @@ extern "C" {
 
 int charybde_getattr(const char *path, struct stat *buf)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "getattr");
+    op_scope scope(METHOD_GETATTR, path);
+    int ret = error_inject(path, METHOD_GETATTR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = lstat(path, buf);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_readlink(const char *path, char *buf, size_t bufsiz)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "readlink");
+    op_scope scope(METHOD_READLINK, path);
+    int ret = error_inject(path, METHOD_READLINK);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = readlink(path, buf, bufsiz);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     buf[ret] = 0; // should be null terminated according to FUSE readlink definition. See #11
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_mknod(const char *path, mode_t mode, dev_t dev)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "mknod");
+    op_scope scope(METHOD_MKNOD, path);
+    int ret = error_inject(path, METHOD_MKNOD);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = mknod(path, mode, dev);    
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_mkdir(const char *path, mode_t mode)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "mkdir");
+    op_scope scope(METHOD_MKDIR, path);
+    int ret = error_inject(path, METHOD_MKDIR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = mkdir(path, mode);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_unlink(const char *path)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "unlink");
+    op_scope scope(METHOD_UNLINK, path);
+    int ret = error_inject(path, METHOD_UNLINK);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = unlink(path); 
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_rmdir(const char *path)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "rmdir");
+    op_scope scope(METHOD_RMDIR, path);
+    int ret = error_inject(path, METHOD_RMDIR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = rmdir(path); 
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_symlink(const char *target, const char *linkpath)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, target, "symlink");
+    op_scope scope(METHOD_SYMLINK, target);
+    int ret = error_inject(target, METHOD_SYMLINK);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
-    ret = error_inject(in_flight, linkpath, "symlink");
+    ret = error_inject(linkpath, METHOD_SYMLINK);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = symlink(target, linkpath);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_rename(const char *oldpath, const char *newpath)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, oldpath, "rename");
+    op_scope scope(METHOD_RENAME, oldpath);
+    int ret = error_inject(oldpath, METHOD_RENAME);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
-    ret = error_inject(in_flight, newpath, "rename");
+    ret = error_inject(newpath, METHOD_RENAME);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = rename(oldpath, newpath);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_link(const char *oldpath, const char *newpath)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, oldpath, "link");
+    op_scope scope(METHOD_LINK, oldpath);
+    int ret = error_inject(oldpath, METHOD_LINK);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
-    ret = error_inject(in_flight, newpath, "link");
+    ret = error_inject(newpath, METHOD_LINK);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
     
     ret = link(oldpath, newpath);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_chmod(const char *path, mode_t mode)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "chmod");
+    op_scope scope(METHOD_CHMOD, path);
+    int ret = error_inject(path, METHOD_CHMOD);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
     
     ret = chmod(path, mode);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_chown(const char *path, uid_t owner, gid_t group)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "chown");
+    op_scope scope(METHOD_CHOWN, path);
+    int ret = error_inject(path, METHOD_CHOWN);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = chown(path, owner, group);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_truncate(const char *path, off_t length)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "truncate");
+    op_scope scope(METHOD_TRUNCATE, path);
+    int ret = error_inject(path, METHOD_TRUNCATE);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = truncate(path, length); 
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_open(const char *path, struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "open");
+    op_scope scope(METHOD_OPEN, path);
+    int ret = error_inject(path, METHOD_OPEN);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = open(path, fi->flags);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
     fi->fh = ret;
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_read(const char *path, char *buf, size_t size, off_t offset,
                  struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "read");
+    op_scope scope(METHOD_READ, path, offset, size);
+    int ret = error_inject(path, METHOD_READ, size);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = pread(fi->fh, buf, size, offset);
@@ -328,232 +275,188 @@ int charybde_read(const char *path, char *buf, size_t size, off_t offset,
         ret = -errno;
     }
 
-    in_flight--;
-    return ret;
+    return scope.done(ret);
 }
 
 int charybde_write(const char *path, const char *buf, size_t size, off_t offset,
                   struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "write");
+    op_scope scope(METHOD_WRITE, path, offset, size);
+    int ret = error_inject(path, METHOD_WRITE, size);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
-    std::cout << "WRITE" << std::endl;
-
     ret = pwrite(fi->fh, buf, size, offset);
     if (ret == -1) {
         ret = -errno;
     }
 
-    in_flight--;
-    return ret;
+    return scope.done(ret);
 }
 
 int charybde_statfs(const char *path, struct statvfs *buf)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "statfs");
+    op_scope scope(METHOD_STATFS, path);
+    int ret = error_inject(path, METHOD_STATFS);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = statvfs(path, buf);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_flush(const char *path, struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "flush");
+    op_scope scope(METHOD_FLUSH, path);
+    int ret = error_inject(path, METHOD_FLUSH);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     /* Took from fuse examples */
     ret = close(dup(fi->fh));
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_release(const char *path, struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "release");
+    op_scope scope(METHOD_RELEASE, path);
+    int ret = error_inject(path, METHOD_RELEASE);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     close(fi->fh);
 
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_fsync(const char *path, int datasync, struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "fsync");
+    op_scope scope(METHOD_FSYNC, path);
+    int ret = error_inject(path, METHOD_FSYNC);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     if (datasync) {
         ret = fdatasync(fi->fh);
         if (ret < 0) {
-            in_flight--;
-            return -errno;
+            return scope.done(-errno);
         }
     } else {
         ret = fsync(fi->fh);
         if (ret < 0) {
-            in_flight--;
-            return -errno;
+            return scope.done(-errno);
         }
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_setxattr(const char *path, const char *name,
                      const char *value, size_t size, int flags)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "setxattr");
+    op_scope scope(METHOD_SETXATTR, path);
+    int ret = error_inject(path, METHOD_SETXATTR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = setxattr(path, name, value, size, flags);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_getxattr(const char *path, const char *name,
                      char *value, size_t size)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "getxattr");
+    op_scope scope(METHOD_GETXATTR, path);
+    int ret = error_inject(path, METHOD_GETXATTR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = getxattr(path, name, value, size);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return ret;
+    return scope.done(ret);
 }
 
 int charybde_listxattr(const char *path, char *list,
                       size_t size)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "listxattr");
+    op_scope scope(METHOD_LISTXATTR, path);
+    int ret = error_inject(path, METHOD_LISTXATTR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = listxattr(path, list, size);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return ret;
+    return scope.done(ret);
 }
 
 int charybde_removexattr(const char *path, const char *name)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "removexattr");
+    op_scope scope(METHOD_REMOVEXATTR, path);
+    int ret = error_inject(path, METHOD_REMOVEXATTR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
 
     ret = removexattr(path, name);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_opendir(const char *path, struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "opendir");
+    op_scope scope(METHOD_OPENDIR, path);
+    int ret = error_inject(path, METHOD_OPENDIR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     auto dir = opendir(path);
 
     if (!dir) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
     fi->fh = (int64_t) dir;
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_readdir(const char *path, void *buf, fuse_fill_dir_t filler,
                     off_t offset, struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "readdir");
+    op_scope scope(METHOD_READDIR, path);
+    int ret = error_inject(path, METHOD_READDIR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     DIR *dp = (DIR *) fi->fh;
@@ -568,265 +471,235 @@ int charybde_readdir(const char *path, void *buf, fuse_fill_dir_t filler,
             break;
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 
 int charybde_releasedir(const char *path, struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "releasedir");
+    op_scope scope(METHOD_RELEASEDIR, path);
+    int ret = error_inject(path, METHOD_RELEASEDIR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     DIR *dir = (DIR *) fi->fh;
 
     ret = closedir(dir);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_fsyncdir(const char *path, int datasync, struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "fsyncdir");
+    op_scope scope(METHOD_FSYNCDIR, path);
+    int ret = error_inject(path, METHOD_FSYNCDIR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     auto dir = opendir(path);
     if (!dir) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
     if (datasync) {
         ret = fdatasync(dirfd(dir));
         if (ret < 0) {
-            in_flight--;
-            return -errno;
+            return scope.done(-errno);
         }
     } else {
         ret = fsync(dirfd(dir));
         if (ret < 0) {
-            in_flight--;
-            return -errno;
+            return scope.done(-errno);
         }
     }
 
     closedir(dir);
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 void *charybde_init(struct fuse_conn_info *conn)
 {
-   start_server_thread();
+   // fuse_setup() user data
+   const control_options *options = (const control_options *) fuse_get_context()->private_data;
+
+   start_server_thread(options);
+
+   // a spliced reply is written straight to the device, it would skip the
+   // reply channel of charybde_loop() and its delay would be lost
+   conn->want &= ~(FUSE_CAP_SPLICE_WRITE | FUSE_CAP_SPLICE_MOVE);
+
+   if (options && options->shm_path) {
+       try {
+           shm_region_start(options->shm_path);
+       } catch (const std::exception &e) {
+           std::cout << "Shared memory region disabled: " << e.what() << std::endl;
+       }
+   }
    return NULL;
 }
 
 void charybde_destroy(void *)
 {
-    
+    timeline_stop();
+    shm_region_stop();
 }
 
 int charybde_access(const char *path, int mode)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "access");
+    op_scope scope(METHOD_ACCESS, path);
+    int ret = error_inject(path, METHOD_ACCESS);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = access(path, mode); 
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_create(const char *path, mode_t mode,
                    struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "create");
+    op_scope scope(METHOD_CREATE, path);
+    int ret = error_inject(path, METHOD_CREATE);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = creat(path, mode);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
     fi->fh = ret;
 
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_ftruncate(const char *path, off_t length,
                       struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "ftruncate");
+    op_scope scope(METHOD_FTRUNCATE, path);
+    int ret = error_inject(path, METHOD_FTRUNCATE);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = truncate(path, length);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_fgetattr(const char *path, struct stat *buf, struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "fgetattr");
+    op_scope scope(METHOD_FGETATTR, path);
+    int ret = error_inject(path, METHOD_FGETATTR);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = fstat((int) fi->fh, buf);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_lock(const char *path, struct fuse_file_info *fi, int cmd,
                  struct flock *fl)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "lock");
+    op_scope scope(METHOD_LOCK, path);
+    int ret = error_inject(path, METHOD_LOCK);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = fcntl((int) fi->fh, cmd, fl);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
 
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_utimens(const char *path, const struct timespec tv[2])
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "bmap");
+    op_scope scope(METHOD_BMAP, path);
+    int ret = error_inject(path, METHOD_BMAP);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
     
     std::cout << "charybde_utimens: unimplemented." << std::endl;
 
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_bmap(const char *path, size_t blocksize, uint64_t *idx)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "bmap");
+    op_scope scope(METHOD_BMAP, path);
+    int ret = error_inject(path, METHOD_BMAP);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     std::cout << "charybde_bmap: unimplemented." << std::endl;
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_ioctl(const char *path, int cmd, void *arg,
                   struct fuse_file_info *fi,
                   unsigned int flags, void *data)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "ioctl");
+    op_scope scope(METHOD_IOCTL, path);
+    int ret = error_inject(path, METHOD_IOCTL);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = ioctl(fi->fh, cmd, arg);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_poll(const char *path, struct fuse_file_info *fi,
          struct fuse_pollhandle *ph, unsigned *reventsp)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "poll");
+    op_scope scope(METHOD_POLL, path);
+    int ret = error_inject(path, METHOD_POLL);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     std::cout << "charybde_poll: unimplemented." << std::endl;
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_write_buf(const char *path, struct fuse_bufvec *buf, off_t off,
                       struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "write_buf");
+    op_scope scope(METHOD_WRITE_BUF, path, off, fuse_buf_size(buf));
+    int ret = error_inject(path, METHOD_WRITE_BUF, fuse_buf_size(buf));
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     /* Took from fuse examples */
@@ -838,20 +711,17 @@ int charybde_write_buf(const char *path, struct fuse_bufvec *buf, off_t off,
 
     ret = fuse_buf_copy(&dst, buf, FUSE_BUF_SPLICE_NONBLOCK);
 
-    in_flight--;
-    return ret;
+    return scope.done(ret);
 }
 
 int charybde_read_buf(const char *path, struct fuse_bufvec **bufp,
                      size_t size, off_t off,
                      struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "read_buf");
+    op_scope scope(METHOD_READ_BUF, path, off, size);
+    int ret = error_inject(path, METHOD_READ_BUF, size);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     /* Took from fuse examples */
@@ -859,8 +729,7 @@ int charybde_read_buf(const char *path, struct fuse_bufvec **bufp,
     
     src = (fuse_bufvec *) malloc(sizeof(struct fuse_bufvec));
     if (!src) {
-        in_flight--;
-        return -ENOMEM;
+        return scope.done(-ENOMEM);
     }
     
     *src = FUSE_BUFVEC_INIT(size);
@@ -871,50 +740,41 @@ int charybde_read_buf(const char *path, struct fuse_bufvec **bufp,
     
     *bufp = src;
     
-    in_flight--;
-    return 0;
+    return scope.done(0);
 }
 
 int charybde_flock(const char *path, struct fuse_file_info *fi, int op)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "flock");
+    op_scope scope(METHOD_FLOCK, path);
+    int ret = error_inject(path, METHOD_FLOCK);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = flock(((int) fi->fh), op);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 int charybde_fallocate(const char *path, int mode,
                       off_t offset, off_t len,
                       struct fuse_file_info *fi)
 {
-    static volatile int in_flight = 0;
-    in_flight++;
-    int ret = error_inject(in_flight, path, "fallocate");
+    op_scope scope(METHOD_FALLOCATE, path, offset, len);
+    int ret = error_inject(path, METHOD_FALLOCATE);
     if (ret) {
-        in_flight--;
-        return ret;
+        return scope.done(ret);
     }
 
     ret = fallocate((int) fi->fh, mode, offset, len);
     if (ret < 0) {
-        in_flight--;
-        return -errno;
+        return scope.done(-errno);
     }
     
-    in_flight--;
-    return 0;    
+    return scope.done(0);    
 }
 
 };
@@ -16,8 +16,10 @@
 #include <string.h>
 #include <errno.h>
 #include <fcntl.h>
+#include <stddef.h>
 
 #include "charybde_ops.h"
+#include "fuse_loop.h"
 
 #include "server.hh"
 
@@ -68,8 +70,53 @@ static struct fuse_operations charybde_oper = {
     .fallocate   = charybde_fallocate,
 };
 
+static struct control_options control = {
+    .port        = DEFAULT_CONTROL_PORT,
+    .port_file   = NULL,
+    .socket_path = NULL,
+    .shm_path    = NULL,
+};
+
+#define CONTROL_OPT(t, p) { t, offsetof(struct control_options, p), 0 }
+
+static struct fuse_opt control_opts[] = {
+    CONTROL_OPT("control_port=%d", port),
+    CONTROL_OPT("control_port_file=%s", port_file),
+    CONTROL_OPT("control_socket=%s", socket_path),
+    CONTROL_OPT("control_shm=%s", shm_path),
+    FUSE_OPT_END
+};
+
 int main(int argc, char *argv[])
 {
+    struct fuse_args args = FUSE_ARGS_INIT(argc, argv);
+    char *mountpoint;
+    int multithreaded;
+    struct fuse *fuse;
+    int res;
+
     printf("starting fuse filesystem\n");
-	return fuse_main(argc, argv, &charybde_oper, NULL);
+
+    // our options are removed, FUSE parses the others
+    if (fuse_opt_parse(&args, &control, control_opts, NULL) == -1) {
+        return 1;
+    }
+    if (control.port < 0 || control.port > 65535) {
+        fprintf(stderr, "control_port %d out of range\n", control.port);
+        return 1;
+    }
+
+    // fuse_main() with our own loop, it defers delayed replies
+    fuse = fuse_setup(args.argc, args.argv, &charybde_oper, sizeof(charybde_oper),
+                      &mountpoint, &multithreaded, &control);
+    if (fuse == NULL) {
+        fuse_opt_free_args(&args);
+        return 1;
+    }
+
+    res = charybde_loop(fuse, multithreaded);
+
+    fuse_teardown(fuse, mountpoint);
+    fuse_opt_free_args(&args);
+    return res == -1 ? 1 : 0;
 }
@@ -0,0 +1,123 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "delay_distribution.hh"
+
+#include <cmath>
+#include <limits>
+#include <stdexcept>
+
+// delays are slept or queued as uint32_t microseconds
+static const double MAX_DELAY_US = std::numeric_limits<int32_t>::max();
+
+static const double PI = 3.14159265358979323846;
+
+void check_delay_distribution(const delay_distribution &d)
+{
+    if (d.value_us < 0 || d.min_us < 0 || d.max_us < 0 || d.slow_us < 0) {
+        throw std::invalid_argument("delay distribution values must not be negative");
+    }
+
+    switch (d.kind) {
+    case DELAY_UNIFORM:
+        if (d.max_us < d.min_us) {
+            throw std::invalid_argument("uniform delay max_us must be at least min_us");
+        }
+        break;
+    case DELAY_LOG_NORMAL:
+        if (!(d.shape >= 0)) {
+            throw std::invalid_argument("log-normal delay sigma must not be negative");
+        }
+        break;
+    case DELAY_PARETO:
+        if (!(d.shape > 0) || !d.min_us) {
+            throw std::invalid_argument("pareto delay needs min_us and a positive tail index");
+        }
+        break;
+    case DELAY_BIMODAL:
+        if (d.slow_probability < 0 || d.slow_probability > 100000) {
+            throw std::invalid_argument("bimodal slow_probability must be in [0, 100000]");
+        }
+        break;
+    default:
+        break;
+    }
+}
+
+void check_latency_table(const latency_table &table)
+{
+    const std::vector<uint32_t> &q = table.quantiles_us;
+    if (q.size() > MAX_LATENCY_TABLE_SIZE) {
+        throw std::invalid_argument("latency table has too many points");
+    }
+    for (size_t i = 1; i < q.size(); i++) {
+        if (q[i] < q[i - 1]) {
+            throw std::invalid_argument("latency table quantiles must not decrease");
+        }
+    }
+}
+
+// uniform in [0, 1)
+static double uniform(xoshiro256 &prng)
+{
+    return (prng.next() >> 11) / 9007199254740992.0;    // 2^53
+}
+
+// standard normal, Box-Muller
+static double normal(xoshiro256 &prng)
+{
+    double u = 1.0 - uniform(prng);     // (0, 1] for the log
+    double v = uniform(prng);
+    return std::sqrt(-2.0 * std::log(u)) * std::cos(2.0 * PI * v);
+}
+
+static double sample(const delay_distribution &d, const latency_table *table,
+                     xoshiro256 &prng)
+{
+    switch (d.kind) {
+    case DELAY_FIXED:
+    case DELAY_CONSTANT:
+        return d.value_us;
+    case DELAY_UNIFORM:
+        return d.min_us + uniform(prng) * (d.max_us - d.min_us);
+    case DELAY_EXPONENTIAL:
+        return -d.value_us * std::log(1.0 - uniform(prng));
+    case DELAY_LOG_NORMAL:
+        return d.value_us * std::exp(d.shape * normal(prng));
+    case DELAY_PARETO:
+        return d.min_us / std::pow(1.0 - uniform(prng), 1.0 / d.shape);
+    case DELAY_BIMODAL:
+        if ((int32_t) prng.below(100000) < d.slow_probability) {
+            return d.slow_us;
+        }
+        return d.value_us;
+    case DELAY_EMPIRICAL:
+        if (!table || table->quantiles_us.empty()) {
+            return 0;
+        }
+        return table->quantiles_us[prng.below(table->quantiles_us.size())];
+    }
+    return 0;
+}
+
+uint32_t sample_delay_us(const delay_distribution &d, const latency_table *table,
+                         xoshiro256 &prng)
+{
+    double delay = sample(d, table, prng);
+    if (d.max_us && delay > d.max_us) {
+        delay = d.max_us;
+    }
+    if (delay > MAX_DELAY_US) {
+        delay = MAX_DELAY_US;
+    }
+    return (uint32_t) (delay + 0.5);
+}
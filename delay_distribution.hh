@@ -0,0 +1,62 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef DELAY_DISTRIBUTION_HH
+#define DELAY_DISTRIBUTION_HH
+
+#include <vector>
+
+#include <cstddef>
+#include <cstdint>
+
+#include "prng.hh"
+
+enum delay_kind {
+    DELAY_FIXED,        // delay_us of the rule
+    DELAY_CONSTANT,     // value_us
+    DELAY_UNIFORM,      // in [min_us, max_us]
+    DELAY_EXPONENTIAL,  // mean value_us
+    DELAY_LOG_NORMAL,   // median value_us, sigma shape
+    DELAY_PARETO,       // at least min_us, tail index shape
+    DELAY_BIMODAL,      // value_us, slow_us with slow_probability
+    DELAY_EMPIRICAL,    // latency table of the method, no delay without one
+};
+
+// Delay of an injected operation, drawn for every operation
+struct delay_distribution {
+    delay_kind kind;
+    int64_t value_us;
+    int64_t min_us;
+    int64_t max_us;             // cap of every kind, 0 for none but uniform
+    double shape;
+    int64_t slow_us;
+    int32_t slow_probability;   // over 100 000
+};
+
+// Inverse CDF of a recorded latency distribution: quantiles_us[i] is the
+// delay at quantile (i + 0.5) / size, nondecreasing.  Sampled with one draw
+// and one index.
+struct latency_table {
+    std::vector<uint32_t> quantiles_us;
+};
+
+const size_t MAX_LATENCY_TABLE_SIZE = 1 << 20;
+
+// throw std::invalid_argument if a parameter of the kind is out of range
+void check_delay_distribution(const delay_distribution &distribution);
+void check_latency_table(const latency_table &table);
+
+// table is the one of the method for DELAY_EMPIRICAL, may be null
+uint32_t sample_delay_us(const delay_distribution &distribution,
+                         const latency_table *table, xoshiro256 &prng);
+
+#endif
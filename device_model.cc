@@ -0,0 +1,59 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "device_model.hh"
+
+device_model default_device_model()
+{
+    device_model model;
+
+    model.read_us = 90;
+    model.write_us = 30;
+    model.fsync_us = 600;
+    model.metadata_us = 5;
+    model.read_ns_per_byte = 2.0;   // ~500 MB/s
+    model.write_ns_per_byte = 2.2;  // ~450 MB/s
+    model.queue_depth = 32;
+    model.queue_penalty_us = 15;
+
+    return model;
+}
+
+uint32_t device_delay_us(const device_model &model, method_id method,
+                         size_t size, int64_t in_flight)
+{
+    double delay_us;
+
+    switch (method) {
+    case METHOD_READ:
+    case METHOD_READ_BUF:
+        delay_us = model.read_us + size * model.read_ns_per_byte / 1000;
+        break;
+    case METHOD_WRITE:
+    case METHOD_WRITE_BUF:
+        delay_us = model.write_us + size * model.write_ns_per_byte / 1000;
+        break;
+    case METHOD_FSYNC:
+    case METHOD_FSYNCDIR:
+        delay_us = model.fsync_us;
+        break;
+    default:
+        delay_us = model.metadata_us;
+        break;
+    }
+
+    if (in_flight > model.queue_depth) {
+        delay_us += (double) (in_flight - model.queue_depth) * model.queue_penalty_us;
+    }
+
+    return delay_us > 0 ? (uint32_t) delay_us : 0;
+}
@@ -0,0 +1,44 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef DEVICE_MODEL_HH
+#define DEVICE_MODEL_HH
+
+#include <cstddef>
+#include <cstdint>
+
+#include "methods.hh"
+
+// Latency model of a storage device used by auto_delay rules.
+//
+//   delay = base latency of the method class
+//         + transferred bytes * cost per byte
+//         + operations beyond queue_depth * queue_penalty_us
+struct device_model {
+    int32_t read_us;            // read, read_buf
+    int32_t write_us;           // write, write_buf
+    int32_t fsync_us;           // fsync, fsyncdir
+    int32_t metadata_us;        // every other method
+    double read_ns_per_byte;
+    double write_ns_per_byte;
+    int32_t queue_depth;        // operations served in parallel without penalty
+    int32_t queue_penalty_us;   // per operation queued beyond queue_depth
+};
+
+// rough figures of a datacenter SATA SSD
+device_model default_device_model();
+
+// in_flight is the number of filesystem operations running, this one included
+uint32_t device_delay_us(const device_model &model, method_id method,
+                         size_t size, int64_t in_flight);
+
+#endif
@@ -0,0 +1,76 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "device_queue.hh"
+#include "clock.hh"
+
+#include <algorithm>
+#include <functional>
+
+device_queue::device_queue(int32_t channels)
+    : channels(channels), free_ns(channels, 0), ops(0)
+{
+}
+
+void device_queue::drop_started(uint64_t now)
+{
+    while (!starts.empty() && starts.front() <= now) {
+        starts.pop_front();
+    }
+}
+
+uint64_t device_queue::admit(uint64_t service_ns)
+{
+    uint64_t now;
+    uint64_t start;
+    size_t waiting;
+    {
+        std::lock_guard<std::mutex> lk(mutex);
+
+        // read under the lock so that arrivals are served in order
+        now = now_ns();
+        drop_started(now);
+        waiting = starts.size();
+
+        std::pop_heap(free_ns.begin(), free_ns.end(), std::greater<uint64_t>());
+        start = std::max(free_ns.back(), now);
+        free_ns.back() = start + service_ns;
+        std::push_heap(free_ns.begin(), free_ns.end(), std::greater<uint64_t>());
+
+        if (start > now) {
+            starts.push_back(start);
+        }
+    }
+
+    ops.fetch_add(1, std::memory_order_relaxed);
+    queue_length.record(waiting);
+    wait_ns.record(start - now);
+    return start - now + service_ns;
+}
+
+device_queue::state device_queue::snapshot(bool reset)
+{
+    state s;
+    {
+        std::lock_guard<std::mutex> lk(mutex);
+        uint64_t now = now_ns();
+        drop_started(now);
+        s.waiting = starts.size();
+        s.busy = std::count_if(free_ns.begin(), free_ns.end(),
+                               [now] (uint64_t free) { return free > now; });
+    }
+
+    s.ops = ops.load(std::memory_order_relaxed);
+    wait_ns.snapshot(reset, s.wait_first, s.wait, s.wait_max);
+    queue_length.snapshot(reset, s.length_first, s.length, s.length_max);
+    return s;
+}
@@ -0,0 +1,78 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef DEVICE_QUEUE_HH
+#define DEVICE_QUEUE_HH
+
+#include <atomic>
+#include <deque>
+#include <mutex>
+#include <vector>
+
+#include <cstdint>
+
+#include "histogram.hh"
+
+// Device with a fixed number of channels, each serving one operation at a
+// time, and a FIFO queue in front of them.  It is simulated in virtual
+// time: an operation arriving is given the channel free first, starts when
+// that channel is free and completes service_ns later, so its delay is the
+// queue wait plus its service time.  Nothing blocks on the queue, the lock
+// is held only to pick the channel.
+//
+// The channels bound what callers observe, not the backing filesystem: an
+// operation runs on the backing filesystem when it arrives, only its reply
+// waits for its completion time.  Gating the backing call instead would
+// hold a FUSE worker for every queued operation, hundreds of them under
+// the overload the queue emulates, and would add the backing latency to
+// the service time the rule sets.  Callers still see the replies of a FIFO
+// device with that many channels.  Only the side effects come early: a
+// process reading the backing directory directly, or an operation of
+// another rule, sees a queued write before its reply.
+class device_queue {
+public:
+    explicit device_queue(int32_t channels);
+
+    // return the delay of an operation arriving now, ns
+    uint64_t admit(uint64_t service_ns);
+
+    struct state {
+        int32_t busy;           // channels serving an operation
+        int32_t waiting;        // operations queued for a channel
+        int64_t ops;
+        int32_t wait_first;     // histogram of queue waits, ns
+        std::vector<int64_t> wait;
+        int64_t wait_max;
+        int32_t length_first;   // histogram of the queue lengths seen by arrivals
+        std::vector<int64_t> length;
+        int64_t length_max;
+    };
+
+    // with reset the histograms restart empty
+    state snapshot(bool reset);
+
+    const int32_t channels;
+
+private:
+    // must be called with mutex held
+    void drop_started(uint64_t now);
+
+    std::mutex mutex;
+    std::vector<uint64_t> free_ns;  // min heap of the times channels are free
+    std::deque<uint64_t> starts;    // of the operations waiting, nondecreasing
+
+    std::atomic<int64_t> ops;
+    histogram wait_ns;
+    histogram queue_length;
+};
+
+#endif
@@ -0,0 +1,578 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "fault_table.hh"
+#include "clock.hh"
+#include "fuse_loop.h"
+#include "prng.hh"
+#include "rcu.hh"
+#include "shm_region.hh"
+#include "stats.hh"
+
+#include <algorithm>
+#include <atomic>
+#include <chrono>
+#include <mutex>
+#include <thread>
+
+#include <cerrno>
+#include <climits>
+#include <sys/types.h>
+#include <csignal>
+
+#include <fuse.h>
+
+// null when no fault is set so the common case is a single load
+static std::atomic<const fault_table *> current_table(nullptr);
+
+// serialize writers, readers never take it
+static std::mutex update_mutex;
+
+static const device_model initial_model = default_device_model();
+static std::atomic<const device_model *> current_model(&initial_model);
+
+// null when the method has none
+static std::atomic<const latency_table *> latency_tables[METHOD_COUNT];
+
+// protected by update_mutex
+static bool sum_delays = false;
+static bool seeded = false;
+static uint64_t seed;
+static uint64_t seeded_rules;   // rules set since the seed
+
+static bool is_empty(const fault_table *table)
+{
+    for (int i = 0; i < METHOD_COUNT; i++) {
+        if (table->rules[i]) {
+            return false;
+        }
+    }
+    return true;
+}
+
+// must be called with update_mutex held
+static void publish(fault_table *table)
+{
+    if (table && is_empty(table)) {
+        delete table;
+        table = nullptr;
+    }
+    if (table) {
+        table->sum_delays = sum_delays;
+    }
+
+    const fault_table *old = current_table.exchange(table);
+    if (!old) {
+        return;
+    }
+
+    rcu_synchronize();
+    delete old;
+}
+
+// must be called with update_mutex held
+static fault_table *copy_current()
+{
+    const fault_table *old = current_table.load();
+    if (!old) {
+        return new fault_table();
+    }
+    return new fault_table(*old);
+}
+
+// compile the regexp, may throw std::regex_error
+static std::shared_ptr<fault_descriptor> make_rule(const fault_descriptor &descr)
+{
+    std::shared_ptr<fault_descriptor> rule =
+        std::make_shared<fault_descriptor>(descr);
+    if (rule->filter == FILTER_REGEXP && rule->pattern.size()) {
+        rule->path_filter = std::make_shared<match_cache>(rule->pattern,
+                                                          MATCH_CACHE_CAPACITY);
+    }
+    if (rule->max_injections > 0) {
+        rule->injections = std::make_shared<std::atomic<int64_t>>(0);
+    }
+    if (rule->bytes_per_sec > 0 || rule->ops_per_sec > 0) {
+        rule->shaping = std::make_shared<shaper>(std::max<int64_t>(rule->bytes_per_sec, 0),
+                                                 std::max<int64_t>(rule->byte_burst, 0),
+                                                 std::max<int64_t>(rule->ops_per_sec, 0),
+                                                 std::max<int64_t>(rule->op_burst, 0),
+                                                 now_ns());
+    }
+    if (rule->queue_channels > 0) {
+        rule->queue = std::make_shared<device_queue>(rule->queue_channels);
+    }
+    return rule;
+}
+
+static bool is_indexed(const fault_descriptor &rule)
+{
+    return rule.filter != FILTER_REGEXP && rule.pattern.size();
+}
+
+static std::shared_ptr<const rule_list>
+make_list(std::vector<std::shared_ptr<const fault_descriptor>> rules)
+{
+    std::shared_ptr<rule_list> list = std::make_shared<rule_list>();
+    list->rules = std::move(rules);
+
+    for (uint32_t i = 0; i < list->rules.size(); i++) {
+        const fault_descriptor &rule = *list->rules[i];
+        if (is_indexed(rule)) {
+            list->index.add(i, rule.filter, rule.pattern);
+        } else {
+            list->unindexed.push_back(i);
+        }
+    }
+    return list;
+}
+
+// must be called with update_mutex held
+static void seed_rule(fault_descriptor &rule)
+{
+    if (seeded) {
+        rule.stream = std::make_shared<prng_stream>(
+            xoshiro256(seed + seeded_rules++).next());
+    }
+}
+
+static bool has_duty_cycle(const fault_descriptor &rule)
+{
+    return rule.on_us > 0 && rule.off_us > 0;
+}
+
+// must be called with update_mutex held, after seed_rule
+static void start_cycle(fault_descriptor &rule, uint64_t now)
+{
+    if (!has_duty_cycle(rule)) {
+        return;
+    }
+
+    rule.cycle_start_ns = now;
+    if (rule.random_phase) {
+        // a seeded rule gets the same phase on every run
+        uint64_t random = rule.stream ? xoshiro256(~rule.stream->key).next()
+                                      : thread_prng().next();
+        uint64_t period_ns = (rule.on_us + rule.off_us) * 1000ULL;
+        rule.cycle_start_ns -= random % period_ns;
+    }
+}
+
+void fault_table_set(const std::vector<method_id> &methods,
+                     const fault_descriptor &descr)
+{
+    fault_table_apply({fault_update{methods, descr, false}}, false);
+}
+
+// the rules of list plus rule, in evaluation order
+static std::shared_ptr<const rule_list> stack_rule(const std::shared_ptr<const rule_list> &list,
+                                                   const std::shared_ptr<const fault_descriptor> &rule)
+{
+    std::vector<std::shared_ptr<const fault_descriptor>> stacked;
+    if (list) {
+        stacked = list->rules;
+    }
+
+    auto pos = stacked.begin();
+    while (pos != stacked.end() && (*pos)->priority > rule->priority) {
+        ++pos;
+    }
+    stacked.insert(pos, rule);
+    return make_list(std::move(stacked));
+}
+
+compiled_updates fault_table_compile(const std::vector<fault_update> &updates)
+{
+    compiled_updates compiled;
+    compiled.updates = updates;
+    for (auto &update: updates) {
+        compiled.rules.push_back(make_rule(update.descr));
+    }
+    return compiled;
+}
+
+void fault_table_apply(const std::vector<fault_update> &updates, bool replace)
+{
+    // compile everything before touching the table
+    fault_table_apply(fault_table_compile(updates), replace);
+}
+
+void fault_table_apply(const compiled_updates &compiled, bool replace)
+{
+    const std::vector<fault_update> &updates = compiled.updates;
+    const std::vector<std::shared_ptr<fault_descriptor>> &rules = compiled.rules;
+
+    std::lock_guard<std::mutex> lk(update_mutex);
+
+    // lifetimes start when the rules become visible
+    uint64_t now = now_ns();
+
+    fault_table *table = replace ? new fault_table() : copy_current();
+    for (size_t i = 0; i < updates.size(); i++) {
+        seed_rule(*rules[i]);
+        if (rules[i]->ttl_us > 0) {
+            rules[i]->expires_ns = now + rules[i]->ttl_us * 1000ULL;
+        }
+        start_cycle(*rules[i], now);
+        for (auto method: updates[i].methods) {
+            if (updates[i].stack) {
+                table->rules[method] = stack_rule(table->rules[method], rules[i]);
+            } else {
+                table->rules[method] = make_list({rules[i]});
+            }
+        }
+    }
+    publish(table);
+}
+
+void fault_table_sum_delays(bool sum)
+{
+    std::lock_guard<std::mutex> lk(update_mutex);
+    sum_delays = sum;
+    publish(copy_current());
+}
+
+void fault_table_clear(method_id method)
+{
+    std::lock_guard<std::mutex> lk(update_mutex);
+    fault_table *table = copy_current();
+    table->rules[method].reset();
+    publish(table);
+}
+
+void fault_table_clear_all()
+{
+    std::lock_guard<std::mutex> lk(update_mutex);
+    publish(nullptr);
+}
+
+void fault_table_seed(uint64_t new_seed)
+{
+    std::lock_guard<std::mutex> lk(update_mutex);
+    seeded = true;
+    seed = new_seed;
+    seeded_rules = 0;
+}
+
+void fault_table_unseed()
+{
+    std::lock_guard<std::mutex> lk(update_mutex);
+    seeded = false;
+}
+
+void fault_table_set_device_model(const device_model &model)
+{
+    std::lock_guard<std::mutex> lk(update_mutex);
+    const device_model *old = current_model.exchange(new device_model(model));
+
+    rcu_synchronize();
+    if (old != &initial_model) {
+        delete old;
+    }
+}
+
+void fault_table_set_latency_table(const std::vector<method_id> &methods,
+                                   const latency_table &table)
+{
+    check_latency_table(table);
+
+    std::lock_guard<std::mutex> lk(update_mutex);
+    std::vector<const latency_table *> old;
+    for (auto method: methods) {
+        const latency_table *copy = table.quantiles_us.empty() ? nullptr : new latency_table(table);
+        old.push_back(latency_tables[method].exchange(copy));
+    }
+
+    rcu_synchronize();
+    for (auto table: old) {
+        delete table;
+    }
+}
+
+// the current rules matching pred with their methods, a rule set on
+// several methods is listed once
+template <typename pred_fn>
+static std::vector<std::pair<const fault_descriptor *, std::vector<method_id>>>
+current_rules(const fault_table *table, pred_fn pred)
+{
+    std::vector<std::pair<const fault_descriptor *, std::vector<method_id>>> found;
+    if (!table) {
+        return found;
+    }
+
+    for (int m = 0; m < METHOD_COUNT; m++) {
+        if (!table->rules[m]) {
+            continue;
+        }
+        for (auto &rule: table->rules[m]->rules) {
+            if (!pred(*rule)) {
+                continue;
+            }
+
+            auto known = std::find_if(found.begin(), found.end(),
+                                      [&rule] (const std::pair<const fault_descriptor *,
+                                                               std::vector<method_id>> &f) {
+                                          return f.first == rule.get();
+                                      });
+            if (known == found.end()) {
+                found.push_back({rule.get(), {}});
+                known = found.end() - 1;
+            }
+            known->second.push_back((method_id) m);
+        }
+    }
+    return found;
+}
+
+std::vector<shaper_state> fault_table_shapers()
+{
+    std::vector<shaper_state> states;
+
+    rcu_read_guard guard;
+    const fault_table *table = current_table.load(std::memory_order_acquire);
+    uint64_t now = now_ns();
+    auto shaped = [] (const fault_descriptor &rule) { return (bool) rule.shaping; };
+    for (auto &found: current_rules(table, shaped)) {
+        const fault_descriptor *rule = found.first;
+        const shaper *s = rule->shaping.get();
+
+        shaper_state state;
+        state.name = rule->name;
+        state.methods = found.second;
+        state.bytes_per_sec = s->bytes.rate;
+        state.byte_burst = s->bytes.unlimited() ? 0 : s->bytes.burst;
+        state.bytes_available = s->bytes.level(now);
+        state.ops_per_sec = s->ops.rate;
+        state.op_burst = s->ops.unlimited() ? 0 : s->ops.burst;
+        state.ops_available = s->ops.level(now);
+        state.throttled_ops = s->throttled_ops.load(std::memory_order_relaxed);
+        state.throttled_ns = s->throttled_ns.load(std::memory_order_relaxed);
+        states.push_back(state);
+    }
+    return states;
+}
+
+std::vector<queue_state> fault_table_queues(bool reset)
+{
+    std::vector<queue_state> states;
+
+    rcu_read_guard guard;
+    const fault_table *table = current_table.load(std::memory_order_acquire);
+    auto queued = [] (const fault_descriptor &rule) { return (bool) rule.queue; };
+    for (auto &found: current_rules(table, queued)) {
+        const fault_descriptor *rule = found.first;
+
+        queue_state state;
+        state.name = rule->name;
+        state.methods = found.second;
+        state.channels = rule->queue->channels;
+        state.queue = rule->queue->snapshot(reset);
+        states.push_back(state);
+    }
+    return states;
+}
+
+device_model fault_table_device_model()
+{
+    std::lock_guard<std::mutex> lk(update_mutex);
+    return *current_model.load();
+}
+
+// an expired rule, or one in the off part of its cycle, is skipped as if
+// it was not set
+static bool inactive(const fault_descriptor *descr)
+{
+    if (descr->expires_ns || has_duty_cycle(*descr)) {
+        uint64_t now = now_ns();
+        if (descr->expires_ns && now >= descr->expires_ns) {
+            return true;
+        }
+        if (has_duty_cycle(*descr)) {
+            uint64_t period_ns = (descr->on_us + descr->off_us) * 1000ULL;
+            if ((now - descr->cycle_start_ns) % period_ns >= descr->on_us * 1000ULL) {
+                return true;
+            }
+        }
+    }
+    return descr->injections &&
+           descr->injections->load(std::memory_order_relaxed) >= descr->max_injections;
+}
+
+// take one of the injections left, false if another thread took the last
+static bool consume(const fault_descriptor *descr)
+{
+    return !descr->injections ||
+           descr->injections->fetch_add(1, std::memory_order_relaxed) < descr->max_injections;
+}
+
+// return true if the fault must be injected, err_no and delay_us, unless
+// auto_delay, are set accordingly
+static bool roll(const fault_descriptor *descr, method_id method, xoshiro256 &prng,
+                 int &err_no, uint32_t &delay_us)
+{
+    // get the err_no to inject
+    if (descr->err_no) {
+        err_no = descr->err_no;
+    } else if (descr->random) {
+        err_no = random_err_no(prng);
+    }
+
+    // Are we out of error probability
+    if (get_lucky(prng, descr->probability)) {
+        return false;
+    }
+
+    if (descr->latency.kind == DELAY_EMPIRICAL) {
+        const latency_table *table = latency_tables[method].load(std::memory_order_acquire);
+        delay_us = sample_delay_us(descr->latency, table, prng);
+    } else if (descr->latency.kind != DELAY_FIXED) {
+        delay_us = sample_delay_us(descr->latency, nullptr, prng);
+    } else if (descr->delay_us > 0) {
+        delay_us = descr->delay_us;
+    }
+    return true;
+}
+
+// return an err_no if we must proceed to error injection
+int error_inject(path_view path, method_id method, size_t size)
+{
+    // a concurrent set_fault is seen by the next call
+    if (!current_table.load(std::memory_order_relaxed)) {
+        return 0;
+    }
+
+    int err_no = 0;
+    // us, summed over the rules in 64 bits and clamped once at the end
+    uint64_t delay = 0;
+    bool kill_caller = false;
+
+    // only copy the decision out of the snapshot, sleeping or killing
+    // inside the read side section would stall writers
+    {
+        rcu_read_guard guard;
+
+        const fault_table *table = current_table.load(std::memory_order_acquire);
+        if (!table) {
+            return 0;
+        }
+
+        // no fault injection for this method
+        const rule_list *rules = table->rules[method].get();
+        if (!rules) {
+            return 0;
+        }
+
+        if (!shm_method_enabled(method)) {
+            return 0;
+        }
+
+        // rules whose indexed filter matches, merged in list order with
+        // the rules to check one by one
+        static thread_local std::vector<uint32_t> matched;
+        matched.clear();
+        rules->index.match(path, matched);
+
+        size_t next_matched = 0;
+        size_t next_unindexed = 0;
+        while (next_matched < matched.size() || next_unindexed < rules->unindexed.size()) {
+            const fault_descriptor *descr;
+            if (next_unindexed == rules->unindexed.size() ||
+                (next_matched < matched.size() &&
+                 matched[next_matched] < rules->unindexed[next_unindexed])) {
+                descr = rules->rules[matched[next_matched++]].get();
+            } else {
+                descr = rules->rules[rules->unindexed[next_unindexed++]].get();
+                if (descr->path_filter && !descr->path_filter->match(path)) {
+                    continue;
+                }
+            }
+
+            if (inactive(descr) || !shm_rule_enabled(descr->shm_slot)) {
+                continue;
+            }
+
+            int rule_err_no = 0;
+            uint32_t rule_delay = 0;
+            bool inject;
+            if (descr->stream) {
+                xoshiro256 prng = descr->stream->next();
+                inject = roll(descr, method, prng, rule_err_no, rule_delay);
+            } else {
+                inject = roll(descr, method, thread_prng(), rule_err_no, rule_delay);
+            }
+
+            if (inject && consume(descr)) {
+                if (!err_no) {
+                    err_no = rule_err_no;
+                }
+
+                if (descr->auto_delay) {
+                    const device_model *model = current_model.load(std::memory_order_acquire);
+                    int64_t queued = stats_total_in_flight() + deferred_replies();
+                    rule_delay = device_delay_us(*model, method, size, queued);
+                }
+
+                if (descr->queue) {
+                    // the delay is the service time once a channel is free
+                    delay += (descr->queue->admit(rule_delay * 1000ULL) + 999) / 1000;
+                } else {
+                    delay += rule_delay;
+                }
+
+                if (descr->shaping) {
+                    // rounded up, an operation never gets ahead of its budget
+                    delay += (descr->shaping->charge(size, now_ns()) + 999) / 1000;
+                }
+
+                kill_caller |= descr->kill_caller;
+            }
+
+            // first match decides
+            if (!table->sum_delays) {
+                break;
+            }
+        }
+
+        if (!err_no && !delay && !kill_caller) {
+            return 0;
+        }
+    }
+
+    // queues and shapers can grow without bound under overload
+    delay = std::min<uint64_t>(delay, INT32_MAX);
+
+    // the caller is killed once the delay elapsed, so only plain delays
+    // are deferred
+    uint64_t delay_ns = 0;
+    bool deferred = false;
+    if (delay && !kill_caller && defer_reply(delay)) {
+        delay_ns = delay * 1000ULL;
+        deferred = true;
+    } else if (delay) {
+        uint64_t start_ns = now_ns();
+        std::this_thread::sleep_for(
+            std::chrono::microseconds(delay));
+        delay_ns = now_ns() - start_ns;
+    }
+
+    if (err_no || delay_ns) {
+        op_injected(err_no, delay_ns, deferred);
+    }
+
+    if (kill_caller) {
+        struct fuse_context *context = fuse_get_context();
+        kill(context->pid, SIGKILL);
+        return 0;
+    }
+
+    return -err_no;
+}
@@ -0,0 +1,174 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef FAULT_TABLE_HH
+#define FAULT_TABLE_HH
+
+#include <atomic>
+#include <memory>
+#include <string>
+#include <vector>
+
+#include <cstdint>
+
+#include "delay_distribution.hh"
+#include "device_model.hh"
+#include "device_queue.hh"
+#include "match_cache.hh"
+#include "methods.hh"
+#include "path_index.hh"
+#include "path_view.hh"
+#include "prng.hh"
+#include "token_bucket.hh"
+
+struct fault_descriptor {
+    bool random;        // error code must be randomized
+    int err_no;         // error code to return
+    int32_t probability;    // 0 < probability < 100
+    std::string pattern;    // filter on filename, empty for every file
+    filter_type filter;     // how pattern matches
+    std::shared_ptr<match_cache> path_filter;   // compiled regexp, null if none
+    bool kill_caller;   // Must we kill the caller
+    int32_t delay_us;       // operation delay in us
+    delay_distribution latency; // operation delay drawn per operation unless DELAY_FIXED
+    bool auto_delay;    // delay from the device model instead of delay_us
+    int32_t priority;   // rules of a method are evaluated by decreasing priority
+    std::shared_ptr<prng_stream> stream;    // seeded decisions, null if random
+    int64_t ttl_us;         // rule expires ttl_us after it is set, 0 for never
+    int64_t max_injections; // rule expires once it fired that many times, 0 for never
+    int64_t on_us;          // with off_us, rule is only active on_us out of every
+    int64_t off_us;         // on_us + off_us, starting when set, 0 for always
+    bool random_phase;      // cycle starts at a random point instead of on
+    std::string name;       // reported with the buckets of the rule
+    int64_t bytes_per_sec;  // operations are delayed beyond these budgets,
+    int64_t byte_burst;     // bytes of read and write methods, every
+    int64_t ops_per_sec;    // operation for ops, 0 for unlimited, a burst of
+    int64_t op_burst;       // 0 for 1/10 s worth
+    int32_t queue_channels; // replies queue for this many channels, the delay
+                            // being their service time, 0 for no queue; the
+                            // backing call is not held, see device_queue.hh
+    int32_t shm_slot;       // injected only while this rule flag of the shared
+                            // region is on, 0 for none
+
+    // set when the rule is published, shared by all its methods
+    uint64_t expires_ns;    // 0 for never
+    uint64_t cycle_start_ns;    // start of an on period
+    std::shared_ptr<std::atomic<int64_t>> injections;   // null if unlimited
+    std::shared_ptr<shaper> shaping;    // null without budget
+    std::shared_ptr<device_queue> queue;    // null without channels
+};
+
+// Rules of a method by decreasing priority, among equal priorities the
+// last set comes first.  Built once per snapshot.
+struct rule_list {
+    std::vector<std::shared_ptr<const fault_descriptor>> rules;
+    path_index index;               // prefix, suffix and glob filters
+    std::vector<uint32_t> unindexed;    // positions of the other rules
+};
+
+// Immutable snapshot of the configured faults indexed by method id.
+// Rule lists are shared between consecutive snapshots, a null list means
+// no fault for the method.
+struct fault_table {
+    std::shared_ptr<const rule_list> rules[METHOD_COUNT];
+
+    // false: the first rule whose path filter matches decides alone
+    // true: every matching rule which fires adds its delay, the first
+    // errno wins and any kill_caller kills
+    bool sum_delays;
+};
+
+// paths whose match result is remembered per rule
+const size_t MATCH_CACHE_CAPACITY = 1024;
+
+// a rule and the methods it applies to
+struct fault_update {
+    std::vector<method_id> methods;
+    fault_descriptor descr;
+    bool stack;         // add to the rules of the methods instead of replacing them
+};
+
+// Writers are serialized and publish a new snapshot, they return once no
+// reader can see the previous one anymore.
+// fault_table_set compiles a regexp pattern and throws std::regex_error if
+// it is invalid.
+void fault_table_set(const std::vector<method_id> &methods,
+                     const fault_descriptor &descr);
+
+// Apply every update in a single snapshot, in order.  With replace the
+// methods of no update lose their rules.  Nothing is applied if a regexp
+// is invalid.
+void fault_table_apply(const std::vector<fault_update> &updates, bool replace);
+
+// updates whose regexps are compiled, to be applied once later
+struct compiled_updates {
+    std::vector<fault_update> updates;
+    std::vector<std::shared_ptr<fault_descriptor>> rules;
+};
+
+// throw std::regex_error if a regexp is invalid
+compiled_updates fault_table_compile(const std::vector<fault_update> &updates);
+void fault_table_apply(const compiled_updates &compiled, bool replace);
+
+// how the rules of a method combine, see fault_table::sum_delays
+void fault_table_sum_delays(bool sum_delays);
+void fault_table_clear(method_id method);
+void fault_table_clear_all();
+
+// Rules set after fault_table_seed() draw their decisions from their own
+// stream derived from the seed and the order in which they were set.  The
+// same workload then gets the same faults at the same operation ordinals.
+void fault_table_seed(uint64_t seed);
+void fault_table_unseed();
+
+// Latency table sampled by the DELAY_EMPIRICAL rules of methods, an empty
+// table removes it.  throw std::invalid_argument if it is not sorted.
+void fault_table_set_latency_table(const std::vector<method_id> &methods,
+                                   const latency_table &table);
+
+// budgets of a rule set with bytes_per_sec or ops_per_sec
+struct shaper_state {
+    std::string name;
+    std::vector<method_id> methods;
+    int64_t bytes_per_sec;
+    int64_t byte_burst;
+    int64_t bytes_available;    // negative while operations wait
+    int64_t ops_per_sec;
+    int64_t op_burst;
+    int64_t ops_available;
+    int64_t throttled_ops;
+    int64_t throttled_ns;
+};
+
+std::vector<shaper_state> fault_table_shapers();
+
+// queue of a rule set with queue_channels
+struct queue_state {
+    std::string name;
+    std::vector<method_id> methods;
+    int32_t channels;
+    device_queue::state queue;
+};
+
+// with reset the histograms restart empty
+std::vector<queue_state> fault_table_queues(bool reset);
+
+// Device model used by auto_delay rules, starts as default_device_model()
+void fault_table_set_device_model(const device_model &model);
+device_model fault_table_device_model();
+
+// return an err_no if we must proceed to error injection
+// allocate nothing unless a rule is set for the method
+// size is the number of bytes transferred by read and write methods
+int error_inject(path_view path, method_id method, size_t size = 0);
+
+#endif
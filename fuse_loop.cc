@@ -0,0 +1,300 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#define FUSE_USE_VERSION 29
+
+#include "fuse_loop.h"
+#include "clock.hh"
+#include "timer_wheel.hh"
+
+#include <atomic>
+#include <iostream>
+#include <iterator>
+#include <list>
+#include <mutex>
+
+#include <cerrno>
+#include <cstdlib>
+#include <cstring>
+#include <pthread.h>
+#include <semaphore.h>
+#include <sys/uio.h>
+
+#include <fuse.h>
+#include <fuse_lowlevel.h>
+
+// The high level API sends the reply of an operation as soon as the
+// operation returns, so a delay has to hold the FUSE thread.  Instead the
+// workers hand the session a channel of ours: its send either writes the
+// reply to the kernel channel right away or, if error_inject() asked for a
+// delay, copies it into a timer of the wheel which writes it when due.
+
+// Like fuse_loop_mt(), in multithreaded mode a worker is started whenever
+// none is left waiting for a request, so a request blocked in a sleep or a
+// slow backing filesystem never starves the others, and idle workers above
+// this many leave.  A deferred reply does not hold a worker.
+static const int MAX_IDLE_WORKERS = 10;
+
+static const uint64_t WHEEL_TICK_NS = 100 * 1000;
+static const size_t WHEEL_SLOTS = 4096;
+
+struct deferred_reply {
+    timer t;            // first member, the wheel hands it back
+    size_t size;
+    char data[];
+};
+
+static struct fuse_chan *kernel_chan;
+static timer_wheel *wheel;
+
+// delay asked for the request processed by this thread
+static thread_local bool is_worker = false;
+static thread_local uint32_t reply_delay_us = 0;
+
+bool defer_reply(uint32_t delay_us)
+{
+    if (!is_worker) {
+        return false;
+    }
+    reply_delay_us += delay_us;
+    return true;
+}
+
+size_t deferred_replies()
+{
+    return wheel ? wheel->pending() : 0;
+}
+
+static void send_deferred(timer *t)
+{
+    deferred_reply *reply = (deferred_reply *) t;
+    struct iovec iov = { reply->data, reply->size };
+
+    // the kernel answers ENOENT if the request was interrupted meanwhile
+    fuse_chan_send(kernel_chan, &iov, 1);
+    free(reply);
+}
+
+static int deferring_send(struct fuse_chan *ch, const struct iovec iov[], size_t count)
+{
+    if (!reply_delay_us) {
+        return fuse_chan_send(kernel_chan, iov, count);
+    }
+
+    size_t size = 0;
+    for (size_t i = 0; i < count; i++) {
+        size += iov[i].iov_len;
+    }
+
+    deferred_reply *reply = (deferred_reply *) malloc(sizeof(deferred_reply) + size);
+    if (!reply) {
+        return fuse_chan_send(kernel_chan, iov, count);
+    }
+
+    reply->size = size;
+    char *p = reply->data;
+    for (size_t i = 0; i < count; i++) {
+        memcpy(p, iov[i].iov_base, iov[i].iov_len);
+        p += iov[i].iov_len;
+    }
+
+    reply->t.due_ns = now_ns() + reply_delay_us * 1000ULL;
+    reply->t.fire = send_deferred;
+    wheel->add(&reply->t);
+
+    return 0;
+}
+
+static int deferring_receive(struct fuse_chan **chp, char *buf, size_t size)
+{
+    // the workers receive from the kernel channel
+    return -ENOSYS;
+}
+
+static struct fuse_chan_ops deferring_ops;
+
+struct loop;
+
+struct loop_worker {
+    loop *l;
+    std::list<loop_worker>::iterator self;
+    pthread_t thread;
+};
+
+struct loop {
+    struct fuse_session *se;
+    struct fuse_chan *chan;     // ours, replies go through it
+    bool multithreaded;
+    sem_t finish;               // posted by a worker ending the session
+    std::atomic<int> error;
+
+    std::mutex mutex;           // protects the fields below
+    std::list<loop_worker> workers;     // joined by charybde_loop()
+    int available;              // workers waiting for a request
+    bool exiting;               // no worker starts or leaves anymore
+};
+
+static void *worker(void *data);
+
+// must be called with l->mutex held
+static bool start_worker(loop *l)
+{
+    if (l->exiting) {
+        return false;
+    }
+
+    l->workers.push_back(loop_worker());
+    loop_worker &w = l->workers.back();
+    w.l = l;
+    w.self = std::prev(l->workers.end());
+
+    if (pthread_create(&w.thread, NULL, worker, &w)) {
+        std::cout << "Cannot start worker: " << strerror(errno) << std::endl;
+        l->workers.pop_back();
+        return false;
+    }
+
+    l->available++;
+    return true;
+}
+
+static void *worker(void *data)
+{
+    loop_worker *w = (loop_worker *) data;
+    loop *l = w->l;
+    size_t bufsize = fuse_chan_bufsize(kernel_chan);
+    char *buf = (char *) malloc(bufsize);
+
+    is_worker = true;
+
+    while (buf && !fuse_session_exited(l->se)) {
+        struct fuse_chan *ch = kernel_chan;
+        struct fuse_buf fbuf;
+
+        memset(&fbuf, 0, sizeof(fbuf));
+        fbuf.mem = buf;
+        fbuf.size = bufsize;
+
+        // like fuse_loop_mt(), a worker is only cancelled while waiting
+        pthread_setcancelstate(PTHREAD_CANCEL_ENABLE, NULL);
+        int res = fuse_session_receive_buf(l->se, &fbuf, &ch);
+        pthread_setcancelstate(PTHREAD_CANCEL_DISABLE, NULL);
+
+        if (res == -EINTR) {
+            continue;
+        }
+        if (res <= 0) {
+            if (res < 0) {
+                l->error = -1;
+            }
+            break;
+        }
+
+        if (l->multithreaded) {
+            std::lock_guard<std::mutex> lk(l->mutex);
+            if (!--l->available) {
+                start_worker(l);
+            }
+        }
+
+        reply_delay_us = 0;
+        fuse_session_process_buf(l->se, &fbuf, l->chan);
+
+        if (l->multithreaded) {
+            std::unique_lock<std::mutex> lk(l->mutex);
+            if (++l->available > MAX_IDLE_WORKERS && !l->exiting) {
+                l->available--;
+                l->workers.erase(w->self);
+                lk.unlock();
+
+                pthread_detach(pthread_self());
+                free(buf);
+                return NULL;
+            }
+        }
+    }
+
+    free(buf);
+
+    fuse_session_exit(l->se);
+    sem_post(&l->finish);
+    return NULL;
+}
+
+int charybde_loop(struct fuse *fuse, int multithreaded)
+{
+    loop l;
+    l.se = fuse_get_session(fuse);
+    l.multithreaded = multithreaded;
+    l.error = 0;
+    l.available = 0;
+    l.exiting = false;
+    sem_init(&l.finish, 0, 0);
+
+    kernel_chan = fuse_session_next_chan(l.se, NULL);
+
+    deferring_ops.receive = deferring_receive;
+    deferring_ops.send = deferring_send;
+    deferring_ops.destroy = NULL;
+    l.chan = fuse_chan_new(&deferring_ops, fuse_chan_fd(kernel_chan),
+                           fuse_chan_bufsize(kernel_chan), NULL);
+    if (!l.chan) {
+        std::cout << "Cannot create the reply channel" << std::endl;
+        return -1;
+    }
+
+    if (fuse_start_cleanup_thread(fuse)) {
+        fuse_chan_destroy(l.chan);
+        return -1;
+    }
+
+    wheel = new timer_wheel(WHEEL_TICK_NS, WHEEL_SLOTS);
+
+    bool started;
+    {
+        std::lock_guard<std::mutex> lk(l.mutex);
+        started = start_worker(&l);
+    }
+
+    if (!started) {
+        l.error = -1;
+    }
+
+    // a signal handler exiting the session interrupts the wait
+    while (started && !fuse_session_exited(l.se)) {
+        sem_wait(&l.finish);
+    }
+
+    // the list does not change anymore once exiting is set
+    {
+        std::lock_guard<std::mutex> lk(l.mutex);
+        l.exiting = true;
+    }
+    for (auto &w: l.workers) {
+        pthread_cancel(w.thread);
+    }
+    for (auto &w: l.workers) {
+        pthread_join(w.thread, NULL);
+    }
+
+    // send what is still delayed before the channel goes away
+    wheel->stop();
+    delete wheel;
+    wheel = nullptr;
+
+    fuse_stop_cleanup_thread(fuse);
+    fuse_chan_destroy(l.chan);
+    fuse_session_reset(l.se);
+    sem_destroy(&l.finish);
+
+    return l.error;
+}
@@ -0,0 +1,42 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef FUSE_LOOP_H
+#define FUSE_LOOP_H
+
+struct fuse;
+
+#ifdef __cplusplus
+
+#include <cstddef>
+#include <cstdint>
+
+// Ask for the reply of the request processed by the calling thread to be
+// sent delay_us later, without holding the thread meanwhile.  Return false
+// if the thread is not a loop worker, the caller must then sleep itself.
+bool defer_reply(uint32_t delay_us);
+
+// number of replies waiting for their delay
+size_t deferred_replies();
+
+extern "C" {
+#endif
+
+// Serve the FUSE session until it exits, replies can be deferred.
+// Replaces fuse_loop() and fuse_loop_mt().
+int charybde_loop(struct fuse *fuse, int multithreaded);
+
+#ifdef __cplusplus
+}
+#endif
+
+#endif
@@ -0,0 +1,74 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "histogram.hh"
+
+int histogram_bucket(uint64_t value)
+{
+    if (value < (1ULL << HISTOGRAM_SUB_BITS)) {
+        return value;
+    }
+    if (value >= (1ULL << HISTOGRAM_MAX_BITS)) {
+        return HISTOGRAM_BUCKETS - 1;
+    }
+
+    int e = 63 - __builtin_clzll(value);
+    int sub = (value >> (e - HISTOGRAM_SUB_BITS)) & ((1 << HISTOGRAM_SUB_BITS) - 1);
+    return ((e - HISTOGRAM_SUB_BITS + 1) << HISTOGRAM_SUB_BITS) | sub;
+}
+
+histogram::histogram() : max(0)
+{
+    for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+        buckets[i].store(0, std::memory_order_relaxed);
+    }
+}
+
+void histogram::record(uint64_t value)
+{
+    buckets[histogram_bucket(value)].fetch_add(1, std::memory_order_relaxed);
+
+    int64_t current = max.load(std::memory_order_relaxed);
+    while ((int64_t) value > current &&
+           !max.compare_exchange_weak(current, value, std::memory_order_relaxed)) {
+    }
+}
+
+void histogram::snapshot(bool reset, int32_t &first, std::vector<int64_t> &counts,
+                         int64_t &max_value)
+{
+    int64_t values[HISTOGRAM_BUCKETS];
+    int lo = HISTOGRAM_BUCKETS;
+    int hi = -1;
+
+    for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+        if (reset) {
+            values[i] = buckets[i].exchange(0, std::memory_order_relaxed);
+        } else {
+            values[i] = buckets[i].load(std::memory_order_relaxed);
+        }
+
+        if (values[i]) {
+            lo = lo < i ? lo : i;
+            hi = i;
+        }
+    }
+
+    max_value = reset ? max.exchange(0, std::memory_order_relaxed)
+                      : max.load(std::memory_order_relaxed);
+
+    counts.clear();
+    first = hi < 0 ? 0 : lo;
+    for (int i = lo; i <= hi; i++) {
+        counts.push_back(values[i]);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef HISTOGRAM_HH
+#define HISTOGRAM_HH
+
+#include <atomic>
+#include <vector>
+
+#include <cstdint>
+
+// Log bucketed latency histogram in nanoseconds.
+//
+// Values below 2^HISTOGRAM_SUB_BITS have their own bucket, above that every
+// power of two is split in 2^HISTOGRAM_SUB_BITS buckets, so a bucket is at
+// most 1/16 of its value wide.  Bucket i covers
+//
+//   i < 16:  [i, i]
+//   i >= 16: e = (i >> 4) + 3, sub = i & 15
+//            [(16 + sub) << (e - 4), ((17 + sub) << (e - 4)) - 1]
+//
+// Values of 2^HISTOGRAM_MAX_BITS ns (18 minutes) and more land in the last
+// bucket.  The Java client decodes the same layout.
+
+const int HISTOGRAM_SUB_BITS = 4;
+const int HISTOGRAM_MAX_BITS = 40;
+const int HISTOGRAM_BUCKETS = (HISTOGRAM_MAX_BITS - HISTOGRAM_SUB_BITS + 1) << HISTOGRAM_SUB_BITS;
+
+int histogram_bucket(uint64_t value);
+
+class histogram {
+public:
+    histogram();
+
+    void record(uint64_t value);
+
+    // Copy the non empty range of buckets starting at first and the
+    // maximum recorded value.  With reset every bucket is read and zeroed
+    // atomically so a concurrent record lands in exactly one interval.
+    void snapshot(bool reset, int32_t &first, std::vector<int64_t> &counts,
+                  int64_t &max);
+
+private:
+    std::atomic<int64_t> buckets[HISTOGRAM_BUCKETS];
+    std::atomic<int64_t> max;
+};
+
+#endif
@@ -1,11 +1,12 @@
 package org.charybde;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 
@@ -21,28 +22,58 @@ public class CharybdeFSControl implements AutoCloseable {
 	private static final int DEFAULT_PORT = 9090;
 	private static final String DEFAULT_HOST = "localhost";
 
-	private final String host;
-	private final int port;
-
 	private final transient TTransport transport;
-	private final server.Iface client;
+	private final PipelinedClient client;
 
 	public CharybdeFSControl() throws TException {
 		this( DEFAULT_HOST, DEFAULT_PORT );
 	}
 
 	public CharybdeFSControl( final String host, final int port ) throws TException {
-		checkArgument( port > 0, "port[" + port + "] must be >0" );
-		this.host = requireNonNull( host, "host" );
-		this.port = port;
+		this( host, port, /*clearFaults = */true );
+	}
+
+	/**
+	 * Server serves several controls concurrently, e.g. a test driving faults and
+	 * a stats poller: only one of them should clear the faults on connect
+	 *
+	 * @param clearFaults if true all faults are cleared once connected
+	 */
+	public CharybdeFSControl( final String host,
+	                          final int port,
+	                          final boolean clearFaults ) throws TException {
+		this( new TSocket( requireNonNull( host, "host" ), checkPort( port ) ), clearFaults );
+	}
+
+	/**
+	 * Connects over unix domain socket, for charybdefs started with control_socket option,
+	 * see ControlRoundTripBenchmark to compare its round trip with TCP loopback
+	 *
+	 * @param socketPath path of the control socket
+	 */
+	public CharybdeFSControl( final Path socketPath ) throws TException {
+		this( socketPath, /*clearFaults = */true );
+	}
+
+	public CharybdeFSControl( final Path socketPath,
+	                          final boolean clearFaults ) throws TException {
+		this( new UnixSocketTransport( socketPath ), clearFaults );
+	}
 
-		transport = new TSocket( this.host, this.port );
-		final TTransport transport = new TSocket( host, port );
+	private CharybdeFSControl( final TTransport transport,
+	                           final boolean clearFaults ) throws TException {
+		this.transport = transport;
 		transport.open();
-		final TProtocol protocol = new TBinaryProtocol( transport );
 
-		client = new server.Client( protocol );
-		client.clear_all_faults();
+		client = new PipelinedClient( transport );
+		if( clearFaults ) {
+			client.clear_all_faults();
+		}
+	}
+
+	private static int checkPort( final int port ) {
+		checkArgument( port > 0, "port[" + port + "] must be >0" );
+		return port;
 	}
 
 	public List<String> methodsAvailable() throws TException {
@@ -76,6 +107,22 @@ public class CharybdeFSControl implements AutoCloseable {
 	                      final String victimFileNameRegExp,
 	                      final boolean killCaller,
 	                      final int delayUs ) throws TException {
+		setFault( methods, errorNo, random, probability, victimFileNameRegExp, killCaller, delayUs, /*autoDelay = */false );
+	}
+
+	/**
+	 * @param autoDelay if true delay is computed by the device model (see {@link #setDeviceModel(device_latency_model)})
+	 *                  from operation kind, size and current queue depth, instead of delayUs
+	 * @see #setFault(Set, int, boolean, int, String, boolean, int)
+	 */
+	public void setFault( final Set<Method> methods,
+	                      final int errorNo,
+	                      final boolean random,
+	                      final int probability,
+	                      final String victimFileNameRegExp,
+	                      final boolean killCaller,
+	                      final int delayUs,
+	                      final boolean autoDelay ) throws TException {
 		client.set_fault(
 				methods.stream().map( Method::methodName ).collect( Collectors.toList() ),
 				random,
@@ -84,7 +131,7 @@ public class CharybdeFSControl implements AutoCloseable {
 				victimFileNameRegExp,
 				killCaller,
 				delayUs,
-				/* autoDelay = */false //Not implemented yet: Will be used to simulate SSDs latencies
+				autoDelay
 		);
 	}
 
@@ -102,6 +149,20 @@ public class CharybdeFSControl implements AutoCloseable {
 	                          final String victimFileNameRegExp,
 	                          final boolean killCaller,
 	                          final int delayUs ) throws TException {
+		setAllFaults( errorNo, random, probability, victimFileNameRegExp, killCaller, delayUs, /*autoDelay = */false );
+	}
+
+	/**
+	 * @param autoDelay if true delay is computed by the device model instead of delayUs
+	 * @see #setAllFaults(int, boolean, int, String, boolean, int)
+	 */
+	public void setAllFaults( final int errorNo,
+	                          final boolean random,
+	                          final int probability,
+	                          final String victimFileNameRegExp,
+	                          final boolean killCaller,
+	                          final int delayUs,
+	                          final boolean autoDelay ) throws TException {
 		client.set_all_fault(
 				random,
 				errorNo,
@@ -109,13 +170,638 @@ public class CharybdeFSControl implements AutoCloseable {
 				victimFileNameRegExp,
 				killCaller,
 				delayUs,
-				/* autoDelay = */false //Not implemented yet: Will be used to simulate SSDs latencies
+				autoDelay
+		);
+	}
+
+	/**
+	 * Builds a rule for {@link #setFaults(Collection)} and {@link #applyProfile(Collection)},
+	 * see {@link #setFault(Set, int, boolean, int, String, boolean, int, boolean)} for parameters
+	 */
+	public static fault_rule rule( final Set<Method> methods,
+	                               final int errorNo,
+	                               final boolean random,
+	                               final int probability,
+	                               final String victimFileNameRegExp,
+	                               final boolean killCaller,
+	                               final int delayUs,
+	                               final boolean autoDelay ) {
+		return rule( methods, errorNo, random, probability, victimFileNameRegExp, killCaller, delayUs, autoDelay,
+		             /*priority = */0, /*stack = */false );
+	}
+
+	/**
+	 * @param priority rules of a method are evaluated by decreasing priority, among equal
+	 *                 priorities the last set first
+	 * @param stack    if true rule is added to the rules of its methods instead of replacing them
+	 * @see #rule(Set, int, boolean, int, String, boolean, int, boolean)
+	 * @see #setRuleEvaluation(boolean)
+	 */
+	public static fault_rule rule( final Set<Method> methods,
+	                               final int errorNo,
+	                               final boolean random,
+	                               final int probability,
+	                               final String victimFileNameRegExp,
+	                               final boolean killCaller,
+	                               final int delayUs,
+	                               final boolean autoDelay,
+	                               final int priority,
+	                               final boolean stack ) {
+		return rule( methods, errorNo, random, probability, path_filter_type.REGEXP, victimFileNameRegExp,
+		             killCaller, delayUs, autoDelay, priority, stack );
+	}
+
+	/**
+	 * Prefix, suffix and glob filters of a method are all matched in a single pass over the
+	 * path, whatever the number of rules, while every regexp filter is tried one by one.
+	 *
+	 * @param filterType    how victimFileName matches: REGEXP, PREFIX
+	 *                      (e.g. "/data/keyspace1/"), SUFFIX (e.g. "-Data.db") or GLOB (e.g.
+	 *                      "/commitlog/CommitLog-*.log", see fnmatch(3), '*' matches '/' too)
+	 * @param victimFileName pattern of the paths to inject faults into, empty for every path
+	 * @see #rule(Set, int, boolean, int, String, boolean, int, boolean, int, boolean)
+	 */
+	public static fault_rule rule( final Set<Method> methods,
+	                               final int errorNo,
+	                               final boolean random,
+	                               final int probability,
+	                               final path_filter_type filterType,
+	                               final String victimFileName,
+	                               final boolean killCaller,
+	                               final int delayUs,
+	                               final boolean autoDelay,
+	                               final int priority,
+	                               final boolean stack ) {
+		return new fault_rule(
+				methods.stream().map( Method::methodName ).collect( Collectors.toList() ),
+				random,
+				errorNo,
+				probability,
+				requireNonNull( victimFileName, "victimFileName" ),
+				killCaller,
+				delayUs,
+				autoDelay,
+				priority,
+				stack,
+				requireNonNull( filterType, "filterType" ),
+				/*ttl_us = */0L,
+				/*max_injections = */0L,
+				/*on_us = */0L,
+				/*off_us = */0L,
+				/*random_phase = */false,
+				/*latency = */null,
+				/*name = */"",
+				/*bytes_per_sec = */0L,
+				/*byte_burst = */0L,
+				/*ops_per_sec = */0L,
+				/*op_burst = */0L,
+				/*queue_channels = */0,
+				/*shm_slot = */0
 		);
 	}
 
+	/**
+	 * Fluent alternative to {@link #rule(Set, int, boolean, int, path_filter_type, String, boolean, int, boolean, int, boolean)},
+	 * e.g. a 50ms stall of every fsync for exactly 2 seconds, timed by the server:
+	 * <pre>
+	 * control.setFaults( Collections.singletonList(
+	 *     newRule( EnumSet.of( fsync ) ).delayUs( 50_000 ).expireAfter( Duration.ofSeconds( 2 ) ).build()
+	 * ) );
+	 * </pre>
+	 * Rule defaults to no errno, no delay, firing on every call of every path.
+	 */
+	public static RuleBuilder newRule( final Set<Method> methods ) {
+		return new RuleBuilder( methods );
+	}
+
+	public static final class RuleBuilder {
+		private final fault_rule rule;
+
+		private RuleBuilder( final Set<Method> methods ) {
+			rule = rule( methods, /*errorNo = */0, /*random = */false, /*probability = */0, "",
+			             /*killCaller = */false, /*delayUs = */0, /*autoDelay = */false );
+		}
+
+		public RuleBuilder errorNo( final int errorNo ) {
+			rule.setErr_no( errorNo );
+			return this;
+		}
+
+		public RuleBuilder randomErrorNo() {
+			rule.setRandom( true );
+			return this;
+		}
+
+		/** @param probability fault probability over 100 000, 0 to fire on every call */
+		public RuleBuilder probability( final int probability ) {
+			checkArgument( probability >= 0 && probability <= 100_000, "probability(%s) must be in [0, 100000]", probability );
+			rule.setProbability( probability );
+			return this;
+		}
+
+		public RuleBuilder regexp( final String victimFileNameRegExp ) {
+			return filter( path_filter_type.REGEXP, victimFileNameRegExp );
+		}
+
+		public RuleBuilder prefix( final String victimPathPrefix ) {
+			return filter( path_filter_type.PREFIX, victimPathPrefix );
+		}
+
+		public RuleBuilder suffix( final String victimPathSuffix ) {
+			return filter( path_filter_type.SUFFIX, victimPathSuffix );
+		}
+
+		public RuleBuilder glob( final String victimPathGlob ) {
+			return filter( path_filter_type.GLOB, victimPathGlob );
+		}
+
+		private RuleBuilder filter( final path_filter_type filterType,
+		                            final String victimFileName ) {
+			rule.setFilter_type( filterType );
+			rule.setRegexp( requireNonNull( victimFileName, "victimFileName" ) );
+			return this;
+		}
+
+		public RuleBuilder killCaller() {
+			rule.setKill_caller( true );
+			return this;
+		}
+
+		public RuleBuilder delayUs( final int delayUs ) {
+			checkArgument( delayUs >= 0, "delayUs(%s) must be >= 0", delayUs );
+			rule.setDelay_us( delayUs );
+			return this;
+		}
+
+		/** Delay drawn for every injected operation instead of delayUs */
+		public RuleBuilder latency( final LatencyDistribution distribution ) {
+			rule.setLatency( requireNonNull( distribution, "distribution" ).toThrift() );
+			return this;
+		}
+
+		/** @see #setDeviceModel(device_latency_model) */
+		public RuleBuilder autoDelay() {
+			rule.setAuto_delay( true );
+			return this;
+		}
+
+		/** @see #rule(Set, int, boolean, int, String, boolean, int, boolean, int, boolean) */
+		public RuleBuilder priority( final int priority ) {
+			rule.setPriority( priority );
+			return this;
+		}
+
+		/** Rule is added to the rules of its methods instead of replacing them */
+		public RuleBuilder stacked() {
+			rule.setStack( true );
+			return this;
+		}
+
+		/**
+		 * Rule stops firing once ttl elapsed since the server applied it, whatever the
+		 * round trip of a later clear takes
+		 *
+		 * @param ttl lifetime of the rule, microsecond precision
+		 */
+		public RuleBuilder expireAfter( final Duration ttl ) {
+			final long ttlUs = TimeUnit.NANOSECONDS.toMicros( requireNonNull( ttl, "ttl" ).toNanos() );
+			checkArgument( ttlUs > 0, "ttl(%s) must be at least 1us", ttl );
+			rule.setTtl_us( ttlUs );
+			return this;
+		}
+
+		/** Rule stops firing once it injected maxInjections faults, over all its methods */
+		public RuleBuilder maxInjections( final long maxInjections ) {
+			checkArgument( maxInjections > 0, "maxInjections(%s) must be > 0", maxInjections );
+			rule.setMax_injections( maxInjections );
+			return this;
+		}
+
+		/**
+		 * Rule is only active for on out of every on + off, e.g. a disk stalling 100ms every
+		 * second: {@code newRule( methods ).delayUs( 100_000 ).dutyCycle( ofMillis( 100 ), ofMillis( 900 ) )}.
+		 * The server evaluates the cycle on every call, against a monotonic clock.
+		 */
+		public RuleBuilder dutyCycle( final Duration on,
+		                              final Duration off ) {
+			final long onUs = TimeUnit.NANOSECONDS.toMicros( requireNonNull( on, "on" ).toNanos() );
+			final long offUs = TimeUnit.NANOSECONDS.toMicros( requireNonNull( off, "off" ).toNanos() );
+			checkArgument( onUs > 0, "on(%s) must be at least 1us", on );
+			checkArgument( offUs > 0, "off(%s) must be at least 1us", off );
+			rule.setOn_us( onUs );
+			rule.setOff_us( offUs );
+			return this;
+		}
+
+		/** Duty cycle starts at a random point instead of with on, reproducible once seeded */
+		public RuleBuilder randomPhase() {
+			rule.setRandom_phase( true );
+			return this;
+		}
+
+		/** Label of the rule in {@link CharybdeFSControl#buckets()} */
+		public RuleBuilder name( final String name ) {
+			rule.setName( requireNonNull( name, "name" ) );
+			return this;
+		}
+
+		/**
+		 * Delays, rather than fails, read and write operations beyond bytesPerSec, e.g.
+		 * a 200 MB/s volume. Budget is shared by all methods of the rule.
+		 *
+		 * @param burstBytes bytes which can go at once after an idle period, 0 for 1/10 s worth
+		 */
+		public RuleBuilder bandwidth( final long bytesPerSec,
+		                              final long burstBytes ) {
+			checkArgument( bytesPerSec > 0, "bytesPerSec(%s) must be > 0", bytesPerSec );
+			checkArgument( burstBytes >= 0, "burstBytes(%s) must be >= 0", burstBytes );
+			rule.setBytes_per_sec( bytesPerSec );
+			rule.setByte_burst( burstBytes );
+			return this;
+		}
+
+		/**
+		 * Delays, rather than fails, operations of the rule's methods beyond opsPerSec,
+		 * e.g. a 5k IOPS volume. Budget is shared by all methods of the rule.
+		 *
+		 * @param burstOps operations which can go at once after an idle period, 0 for 1/10 s worth
+		 */
+		public RuleBuilder iops( final long opsPerSec,
+		                         final long burstOps ) {
+			checkArgument( opsPerSec > 0, "opsPerSec(%s) must be > 0", opsPerSec );
+			checkArgument( burstOps >= 0, "burstOps(%s) must be >= 0", burstOps );
+			rule.setOps_per_sec( opsPerSec );
+			rule.setOp_burst( burstOps );
+			return this;
+		}
+
+		/**
+		 * Emulates a device with that many internal channels: operations of the rule's methods
+		 * wait FIFO for a free channel, then for their delay (delayUs, latency or autoDelay)
+		 * as service time, so latency rises with load as on a saturated device. Only replies
+		 * wait: the operation reaches the backing filesystem as soon as it arrives.
+		 *
+		 * @see CharybdeFSControl#queues(boolean)
+		 */
+		public RuleBuilder queueChannels( final int channels ) {
+			checkArgument( channels > 0, "channels(%s) must be > 0", channels );
+			rule.setQueue_channels( channels );
+			return this;
+		}
+
+		/**
+		 * Injects the rule only while the switch of slot in the shared memory region is on
+		 * (it is until switched off), to turn one of several rules stacked on a method on
+		 * and off without RPC. A named rule can be switched by name, its name must then be
+		 * shorter than 32 bytes. Without control_shm option the rule is always on.
+		 *
+		 * @param slot in [1, 256)
+		 * @see CharybdeFSSharedRegion#enableRule(int, boolean)
+		 */
+		public RuleBuilder shmSlot( final int slot ) {
+			checkArgument( slot > 0 && slot < 256, "slot(%s) must be in [1, 256)", slot );
+			rule.setShm_slot( slot );
+			return this;
+		}
+
+		public fault_rule build() {
+			return rule.deepCopy();
+		}
+	}
+
+	/**
+	 * Sets how stacked rules of a method combine.
+	 *
+	 * @param sumDelays if false (default) the first rule whose regexp matches decides alone, e.g.
+	 *                  fsync of commitlog files gets 20ms, fsync of other files 1ms. If true every
+	 *                  matching rule which fires adds its delay and the first errno wins, e.g.
+	 *                  1ms for every fsync plus 19ms more for commitlog files.
+	 */
+	public void setRuleEvaluation( final boolean sumDelays ) throws TException {
+		client.set_rule_evaluation( sumDelays );
+	}
+
+	/**
+	 * Sets all rules at once: filesystem operations see either none or all of them.
+	 * Rules apply in order, each one replaces the rules of its methods, or adds to them
+	 * if stacked. Methods not in rules keep their faults. Nothing is set if a regexp is
+	 * invalid.
+	 */
+	public void setFaults( final Collection<fault_rule> rules ) throws TException {
+		client.set_faults( new ArrayList<>( rules ) );
+	}
+
+	/**
+	 * Replaces the whole fault set at once with rules: methods not in rules lose their
+	 * faults, and filesystem operations never see a half applied profile.
+	 *
+	 * @see #setFaults(Collection)
+	 */
+	public void applyProfile( final Collection<fault_rule> rules ) throws TException {
+		client.replace_all_faults( new ArrayList<>( rules ) );
+	}
+
+	/**
+	 * Builds phases for {@link #startTimeline(List)}, e.g.
+	 * <pre>
+	 * control.startTimeline( timeline()
+	 *     .healthy( Duration.ofSeconds( 30 ) )
+	 *     .phase( Duration.ofSeconds( 10 ), newRule( EnumSet.of( fsync ) ).delayUs( 200_000 ).build() )
+	 *     .phase( Duration.ofSeconds( 5 ), newRule( EnumSet.of( read ) ).errorNo( 5 ).probability( 1_000 ).build() )
+	 *     .build() );
+	 * </pre>
+	 */
+	public static TimelineBuilder timeline() {
+		return new TimelineBuilder();
+	}
+
+	public static final class TimelineBuilder {
+		private final List<timeline_phase> phases = new ArrayList<>();
+		private long startUs = 0;
+
+		private TimelineBuilder() {
+		}
+
+		/** No fault for duration */
+		public TimelineBuilder healthy( final Duration duration ) {
+			return phase( duration, Collections.emptyList() );
+		}
+
+		public TimelineBuilder phase( final Duration duration,
+		                              final fault_rule... rules ) {
+			return phase( duration, Arrays.asList( rules ) );
+		}
+
+		/** Rules replace the whole fault set for duration, see {@link CharybdeFSControl#applyProfile(Collection)} */
+		public TimelineBuilder phase( final Duration duration,
+		                              final Collection<fault_rule> rules ) {
+			final long durationUs = TimeUnit.NANOSECONDS.toMicros( requireNonNull( duration, "duration" ).toNanos() );
+			checkArgument( durationUs > 0, "duration(%s) must be at least 1us", duration );
+			phases.add( new timeline_phase( startUs, new ArrayList<>( rules ) ) );
+			startUs += durationUs;
+			return this;
+		}
+
+		/** @return phases, ended by a healthy one once the last duration elapsed */
+		public List<timeline_phase> build() {
+			final List<timeline_phase> built = new ArrayList<>();
+			for( final timeline_phase phase : phases ) {
+				built.add( phase.deepCopy() );
+			}
+			built.add( new timeline_phase( startUs, new ArrayList<>() ) );
+			return built;
+		}
+	}
+
+	/**
+	 * Stops the running timeline, if any, and starts phases now. Server switches phases by
+	 * itself within microseconds of their start, each phase replacing the whole fault set
+	 * like {@link #applyProfile(Collection)}. Faults set meanwhile by other calls last until
+	 * the next phase. Nothing starts if a regexp is invalid.
+	 *
+	 * @param phases ordered by start time, see {@link #timeline()}
+	 */
+	public void startTimeline( final List<timeline_phase> phases ) throws TException {
+		client.start_timeline( new ArrayList<>( phases ) );
+	}
+
+	/** Stops the running timeline, if any: faults of its current phase stay */
+	public void stopTimeline() throws TException {
+		client.stop_timeline();
+	}
+
+	/** @return running flag, index of the current phase (-1 before the first one) and how late it started */
+	public timeline_status timelineStatus() throws TException {
+		return client.get_timeline();
+	}
+
+	/**
+	 * Sets the table replayed by rules of methods with {@link LatencyDistribution#empirical()}
+	 * latency, e.g. built with {@link LatencyTable#fromPercentileDistribution(Path, java.util.concurrent.TimeUnit, int)}
+	 * from latencies recorded on production devices. Rules set before see the new table.
+	 */
+	public void setLatencyTable( final Set<Method> methods,
+	                             final LatencyTable table ) throws TException {
+		client.set_latency_table(
+				methods.stream().map( Method::methodName ).collect( Collectors.toList() ),
+				requireNonNull( table, "table" ).toThrift()
+		);
+	}
+
+	/**
+	 * @return budgets of the current rules with {@link RuleBuilder#bandwidth(long, long)} or
+	 * {@link RuleBuilder#iops(long, long)}: fill level of their buckets, negative while operations
+	 * wait for budget, and the number and total delay of throttled operations since they were set
+	 */
+	public List<bucket_status> buckets() throws TException {
+		return client.get_buckets();
+	}
+
+	/**
+	 * @param reset if true wait time and queue length histograms are restarted empty on
+	 *              server side, so that successive calls return disjoint intervals
+	 * @return device queues of the current rules with {@link RuleBuilder#queueChannels(int)}
+	 */
+	public List<CharybdeFSQueue> queues( final boolean reset ) throws TException {
+		final List<CharybdeFSQueue> queues = new ArrayList<>();
+		for( final queue_status status : client.get_queues( reset ) ) {
+			queues.add( new CharybdeFSQueue( status ) );
+		}
+		return queues;
+	}
+
+	/** Rules of methods with empirical latency inject no delay anymore */
+	public void clearLatencyTable( final Set<Method> methods ) throws TException {
+		client.set_latency_table(
+				methods.stream().map( Method::methodName ).collect( Collectors.toList() ),
+				Collections.emptyList()
+		);
+	}
+
+	/**
+	 * Sets latency model of the device simulated by faults with autoDelay:
+	 * base latency of method + bytes * cost per byte + (inFlight - queueDepth) * queuePenalty.
+	 * In-flight count is taken over all methods.
+	 */
+	public void setDeviceModel( final device_latency_model model ) throws TException {
+		requireNonNull( model, "model" );
+		checkArgument( model.read_us >= 0 && model.write_us >= 0 && model.fsync_us >= 0 && model.metadata_us >= 0,
+		               "base latencies must be >=0: " + model );
+		checkArgument( model.read_ns_per_byte >= 0 && model.write_ns_per_byte >= 0,
+		               "transfer costs must be >=0: " + model );
+		checkArgument( model.queue_depth >= 0 && model.queue_penalty_us >= 0,
+		               "queue parameters must be >=0: " + model );
+		client.set_device_model( model );
+	}
+
+	public device_latency_model deviceModel() throws TException {
+		return client.get_device_model();
+	}
+
+	/**
+	 * Faults set after this call draw their random decisions (probability, random errno)
+	 * from a stream derived from the seed and the order they were set in. Same workload
+	 * with same seed gets faults at the same operation ordinals.
+	 *
+	 * @param seed seed of the fault streams
+	 */
+	public void setSeed( final long seed ) throws TException {
+		client.set_seed( seed );
+	}
+
+	/** Faults set after this call get non-reproducible random decisions again */
+	public void clearSeed() throws TException {
+		client.clear_seed();
+	}
+
+	/**
+	 * Starts recording binary trace records (see trace.hh for format) of filesystem
+	 * operations into a file on the server side. Restarts trace if already running.
+	 *
+	 * @param file       trace file path, on the host running charybdefs
+	 * @param sampleRate record one operation every sampleRate
+	 */
+	public void startTrace( final String file,
+	                        final int sampleRate ) throws TException {
+		checkArgument( sampleRate > 0, "sampleRate[" + sampleRate + "] must be >0" );
+		client.start_trace( requireNonNull( file, "file" ), sampleRate );
+	}
+
+	public void stopTrace() throws TException {
+		client.stop_trace();
+	}
+
+	/** @return snapshot of per-method in-flight gauges and cumulative op/bytes/errors counters */
+	public CharybdeFSStats stats() throws TException {
+		return new CharybdeFSStats( client.get_stats() );
+	}
+
+	/**
+	 * @param reset if true histograms are restarted empty on server side, so that
+	 *              successive calls return latencies of disjoint intervals
+	 * @return per-method latency histograms since start or last reset
+	 */
+	public CharybdeFSLatencies latencies( final boolean reset ) throws TException {
+		return new CharybdeFSLatencies( client.get_latencies( reset ) );
+	}
+
+
+	/**
+	 * Calls added to a batch are written back-to-back on this connection by
+	 * {@link Batch#execute()}, then their replies are read: a batch costs one round
+	 * trip instead of one per call. Calls are applied in order, but other clients
+	 * may see a partially applied batch.
+	 */
+	public Batch batch() {
+		return new Batch();
+	}
+
+	public final class Batch {
+		private final List<PipelinedClient.Call> calls = new ArrayList<>();
+
+		private Batch() {
+		}
+
+		/** @see CharybdeFSControl#setFault(Set, int, boolean, int, String, boolean, int) */
+		public Batch setFault( final Set<Method> methods,
+		                       final int errorNo,
+		                       final boolean random,
+		                       final int probability,
+		                       final String victimFileNameRegExp,
+		                       final boolean killCaller,
+		                       final int delayUs ) {
+			return setFault( methods, errorNo, random, probability, victimFileNameRegExp, killCaller, delayUs, /*autoDelay = */false );
+		}
+
+		/** @see CharybdeFSControl#setFault(Set, int, boolean, int, String, boolean, int, boolean) */
+		public Batch setFault( final Set<Method> methods,
+		                       final int errorNo,
+		                       final boolean random,
+		                       final int probability,
+		                       final String victimFileNameRegExp,
+		                       final boolean killCaller,
+		                       final int delayUs,
+		                       final boolean autoDelay ) {
+			final List<String> names = methods.stream().map( Method::methodName ).collect( Collectors.toList() );
+			return add(
+					c -> c.send_set_fault( names, random, errorNo, probability, victimFileNameRegExp, killCaller, delayUs, autoDelay ),
+					server.Client::recv_set_fault
+			);
+		}
+
+		/** @see CharybdeFSControl#setAllFaults(int, boolean, int, String, boolean, int, boolean) */
+		public Batch setAllFaults( final int errorNo,
+		                           final boolean random,
+		                           final int probability,
+		                           final String victimFileNameRegExp,
+		                           final boolean killCaller,
+		                           final int delayUs,
+		                           final boolean autoDelay ) {
+			return add(
+					c -> c.send_set_all_fault( random, errorNo, probability, victimFileNameRegExp, killCaller, delayUs, autoDelay ),
+					server.Client::recv_set_all_fault
+			);
+		}
+
+		public Batch clearFault( final Method method ) {
+			final String name = method.methodName();
+			return add(
+					c -> c.send_clear_fault( name ),
+					server.Client::recv_clear_fault
+			);
+		}
+
+		public Batch clearAllFaults() {
+			return add(
+					server.Client::send_clear_all_faults,
+					server.Client::recv_clear_all_faults
+			);
+		}
+
+		public int size() {
+			return calls.size();
+		}
+
+		/**
+		 * Executes the calls added so far and empties the batch. If the server fails
+		 * some calls the following ones are still applied, then the first failure is
+		 * thrown.
+		 */
+		public void execute() throws TException {
+			try {
+				client.pipeline( calls );
+			} finally {
+				calls.clear();
+			}
+		}
+
+		private Batch add( final Sender sender,
+		                   final Receiver receiver ) {
+			calls.add( new PipelinedClient.Call() {
+				@Override
+				public void send( final server.Client client ) throws TException {
+					sender.send( client );
+				}
+
+				@Override
+				public void receive( final server.Client client ) throws TException {
+					receiver.receive( client );
+				}
+			} );
+			return this;
+		}
+	}
+
+	private interface Sender {
+		void send( server.Client client ) throws TException;
+	}
+
+	private interface Receiver {
+		void receive( server.Client client ) throws TException;
+	}
 
 	@Override
-	public void close() throws Exception {
+	public void close() {
 		if( transport.isOpen() ) {
 			transport.close();
 		}
@@ -176,6 +862,19 @@ public class CharybdeFSControl implements AutoCloseable {
 		public String methodName() {
 			return name;
 		}
+
+		private static final Map<String, Method> BY_NAME = new HashMap<>();
+
+		static {
+			for( final Method method : values() ) {
+				BY_NAME.put( method.methodName(), method );
+			}
+		}
+
+		/** @return method with given name, or null if unknown */
+		public static Method byName( final String name ) {
+			return BY_NAME.get( name );
+		}
 	}
 
 	public static void main( String[] args ) throws Exception {
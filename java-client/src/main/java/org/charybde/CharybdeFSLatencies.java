@@ -0,0 +1,75 @@
+package org.charybde;
+
+import java.util.*;
+
+import org.charybde.CharybdeFSControl.Method;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Per-method latency histograms, as returned by {@link CharybdeFSControl#latencies(boolean)}.
+ * Each method has 2 histograms: time spent in backing filesystem, and time spent
+ * in injected delays. Operations failed by injected error have no backing time.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public final class CharybdeFSLatencies {
+	private static final MethodLatency EMPTY = new MethodLatency( LatencyHistogram.EMPTY, LatencyHistogram.EMPTY );
+
+	private final Map<Method, MethodLatency> byMethod;
+
+	CharybdeFSLatencies( final List<method_latency> latencies ) {
+		final EnumMap<Method, MethodLatency> byMethod = new EnumMap<>( Method.class );
+		for( final method_latency latency : latencies ) {
+			final Method method = Method.byName( latency.method );
+			if( method != null ) {
+				byMethod.put( method, new MethodLatency(
+						LatencyHistogram.from( latency.backing ),
+						LatencyHistogram.from( latency.injected )
+				) );
+			}
+		}
+		this.byMethod = Collections.unmodifiableMap( byMethod );
+	}
+
+	public MethodLatency of( final Method method ) {
+		final MethodLatency latency = byMethod.get( requireNonNull( method, "method" ) );
+		return latency != null ? latency : EMPTY;
+	}
+
+	public Map<Method, MethodLatency> byMethod() {
+		return byMethod;
+	}
+
+	@Override
+	public String toString() {
+		return "CharybdeFSLatencies" + byMethod;
+	}
+
+	public static final class MethodLatency {
+		private final LatencyHistogram backing;
+		private final LatencyHistogram injected;
+
+		MethodLatency( final LatencyHistogram backing,
+		               final LatencyHistogram injected ) {
+			this.backing = backing;
+			this.injected = injected;
+		}
+
+		/** @return time spent in the backing filesystem */
+		public LatencyHistogram backing() {
+			return backing;
+		}
+
+		/** @return time spent in injected delays */
+		public LatencyHistogram injected() {
+			return injected;
+		}
+
+		@Override
+		public String toString() {
+			return "{backing=" + backing + ", injected=" + injected + '}';
+		}
+	}
+}
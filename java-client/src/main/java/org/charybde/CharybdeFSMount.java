@@ -0,0 +1,65 @@
+package org.charybde;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.thrift.TException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Mounted charybdefs instance, as returned by {@link CharybdeFSMountUtils#mount(File, File, File, int)}.
+ * Carries the control port of the instance, so many instances may run on the same host.
+ * Closing unmounts.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public final class CharybdeFSMount implements AutoCloseable {
+	private static final String LOCALHOST = "localhost";
+
+	private final File mountDirectory;
+	private final int port;
+
+	CharybdeFSMount( final File mountDirectory,
+	                 final int port ) {
+		checkArgument( port > 0, "port[" + port + "] must be >0" );
+		this.mountDirectory = requireNonNull( mountDirectory, "mountDirectory" );
+		this.port = port;
+	}
+
+	public File mountDirectory() {
+		return mountDirectory;
+	}
+
+	/** @return port the control server of this instance listens on */
+	public int port() {
+		return port;
+	}
+
+	/** @return new control connected to this instance, caller must close it */
+	public CharybdeFSControl control() throws TException {
+		return new CharybdeFSControl( LOCALHOST, port );
+	}
+
+	/**
+	 * Unmounts. Interruption while waiting for fusermount is reported as {@link IOException},
+	 * with the thread interrupt flag restored
+	 */
+	@Override
+	public void close() throws IOException, TimeoutException {
+		try {
+			CharybdeFSMountUtils.unmount( mountDirectory );
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new IOException( "Interrupted while unmounting [" + mountDirectory.getAbsolutePath() + "]", e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "CharybdeFSMount[" + mountDirectory.getAbsolutePath() + ", port: " + port + "]";
+	}
+}
@@ -2,8 +2,13 @@ package org.charybde;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.TimeoutException;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -17,19 +22,45 @@ public abstract class CharybdeFSMountUtils {
 	);
 	private static final boolean DEBUG_FUSE = Boolean.getBoolean( "charybde.debug-fuse" );
 
+	/** Control port of charybdefs started without control_port option */
+	public static final int DEFAULT_PORT = 9090;
+	/** Lets kernel choose a free control port, see {@link CharybdeFSMount#port()} */
+	public static final int ANY_PORT = 0;
+
+	private static final long PORT_WAIT_MS = 5000;
+	private static final long PORT_POLL_MS = 10;
+
 	private CharybdeFSMountUtils() {
 		throw new AssertionError( "Not for instantiation" );
 	}
 
-	public static AutoCloseable mount( final File mountOverDirectory,
-	                                   final File dataDirectory ) throws IOException, TimeoutException, InterruptedException {
+	public static CharybdeFSMount mount( final File mountOverDirectory,
+	                                     final File dataDirectory ) throws IOException, TimeoutException, InterruptedException {
 		return mount( CHARYBDE_EXECUTABLE, mountOverDirectory, dataDirectory );
 	}
 
-	public static AutoCloseable mount( final File charybdeExecutable,
-	                                   final File mountOverDirectory,
-	                                   final File dataDirectory ) throws IOException, TimeoutException, InterruptedException {
+	/**
+	 * Mounts with control server on {@link #DEFAULT_PORT}: previous charybdefs instances are
+	 * killed, since they would hold the port
+	 */
+	public static CharybdeFSMount mount( final File charybdeExecutable,
+	                                     final File mountOverDirectory,
+	                                     final File dataDirectory ) throws IOException, TimeoutException, InterruptedException {
 		killPreviousInstancesIfExist( charybdeExecutable );
+		return mount( charybdeExecutable, mountOverDirectory, dataDirectory, DEFAULT_PORT );
+	}
+
+	/**
+	 * Mounts an instance with its own control port, other instances are left running.
+	 *
+	 * @param port control port, or {@link #ANY_PORT} to let kernel choose a free one
+	 * @return mounted instance, with the port its control server listens on
+	 */
+	public static CharybdeFSMount mount( final File charybdeExecutable,
+	                                     final File mountOverDirectory,
+	                                     final File dataDirectory,
+	                                     final int port ) throws IOException, TimeoutException, InterruptedException {
+		checkArgument( port >= 0 && port <= 65535, "port[" + port + "] must be in [0, 65535]" );
 
 		if( !mountOverDirectory.exists() ) {
 			if( !mountOverDirectory.mkdirs() ) {
@@ -39,6 +70,13 @@ public abstract class CharybdeFSMountUtils {
 		//mounted directory must be empty
 		cleanDirectory( mountOverDirectory );
 
+		//charybdefs writes the port once listening: no file means not ready yet
+		final Path portFile = Files.createTempFile( "charybde", ".port" );
+		Files.delete( portFile );
+		final String options = "-omodules=subdir,subdir=" + dataDirectory.getAbsolutePath()
+				+ ",control_port=" + port
+				+ ",control_port_file=" + portFile.toAbsolutePath();
+
 		final String[] commands;
 		if( DEBUG_FUSE ) {
 			//starting charybdefs with FUSE debug: -f -d
@@ -46,14 +84,14 @@ public abstract class CharybdeFSMountUtils {
 					charybdeExecutable.getAbsolutePath(),
 					"-f", "-d",
 					mountOverDirectory.getAbsolutePath(),
-					"-omodules=subdir,subdir=" + dataDirectory.getAbsolutePath(),
+					options,
 					"> charybde.out", "2>&1", "&"
 			};
 		} else {
 			commands = new String[] {
 					charybdeExecutable.getAbsolutePath(),
 					mountOverDirectory.getAbsolutePath(),
-					"-omodules=subdir,subdir=" + dataDirectory.getAbsolutePath()
+					options
 			};
 		}
 
@@ -63,7 +101,14 @@ public abstract class CharybdeFSMountUtils {
 		);
 		if( result.exitCode == 0 ) {
 			//mounted charybde
-			return () -> unmount( mountOverDirectory );
+			final int boundPort;
+			try {
+				boundPort = waitForPort( portFile );
+			} catch( IOException | TimeoutException e ) {
+				unmount( mountOverDirectory );
+				throw e;
+			}
+			return new CharybdeFSMount( mountOverDirectory, boundPort );
 		} else {
 			throw new IOException( "CharybdeFS mount ["
 					                       + mountOverDirectory.getAbsolutePath()
@@ -92,7 +137,23 @@ public abstract class CharybdeFSMountUtils {
 		}
 	}
 
-	private static void unmount( final File mountOverDirectory ) throws InterruptedException, TimeoutException, IOException {
+	private static int waitForPort( final Path portFile ) throws IOException, TimeoutException, InterruptedException {
+		final long deadlineMs = System.currentTimeMillis() + PORT_WAIT_MS;
+		try {
+			while( !Files.exists( portFile ) ) {
+				if( System.currentTimeMillis() > deadlineMs ) {
+					throw new TimeoutException( "Control server is not listening in " + PORT_WAIT_MS + " ms "
+							                            + "(port taken?): no [" + portFile + "]" );
+				}
+				MILLISECONDS.sleep( PORT_POLL_MS );
+			}
+			return Integer.parseInt( new String( Files.readAllBytes( portFile ), US_ASCII ).trim() );
+		} finally {
+			Files.deleteIfExists( portFile );
+		}
+	}
+
+	static void unmount( final File mountOverDirectory ) throws InterruptedException, TimeoutException, IOException {
 		final ProcessUtils.ProcessResult result = ProcessUtils.runOneShot(
 				1, SECONDS,
 				"fusermount", "-u", mountOverDirectory.getAbsolutePath()
@@ -112,7 +173,8 @@ public abstract class CharybdeFSMountUtils {
 		// since controlling is done via thrift connection on fixed network port (9090)
 		// -- and only 1 charybde instance will be able to bind to it, while others
 		// silently fail doing it.
-		// Thus it is important to kill previous instances
+		// Thus it is important to kill previous instances -- unless each instance gets
+		// its own control port, see mount(..., port)
 
 		final String executableName = charybdeExecutable.getName();
 		final ProcessUtils.ProcessResult result = ProcessUtils.runOneShot(
@@ -0,0 +1,89 @@
+package org.charybde;
+
+import java.util.*;
+
+import org.charybde.CharybdeFSControl.Method;
+
+/**
+ * State of the device queue of a rule, as returned by {@link CharybdeFSControl#queues(boolean)}:
+ * operations of the rule wait FIFO for one of its channels, then for their service time.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public final class CharybdeFSQueue {
+	private final String name;
+	private final Set<Method> methods;
+	private final int channels;
+	private final int busy;
+	private final int waiting;
+	private final long ops;
+	private final LatencyHistogram waitTime;
+	private final CountHistogram queueLength;
+
+	CharybdeFSQueue( final queue_status status ) {
+		this.name = status.name;
+		final EnumSet<Method> methods = EnumSet.noneOf( Method.class );
+		for( final String methodName : status.methods ) {
+			final Method method = Method.byName( methodName );
+			if( method != null ) {
+				methods.add( method );
+			}
+		}
+		this.methods = Collections.unmodifiableSet( methods );
+		this.channels = status.channels;
+		this.busy = status.busy;
+		this.waiting = status.waiting;
+		this.ops = status.ops;
+		this.waitTime = LatencyHistogram.from( status.wait );
+		this.queueLength = CountHistogram.from( status.queue_length );
+	}
+
+	/** @return name of the rule, see {@link CharybdeFSControl.RuleBuilder#name(String)} */
+	public String name() {
+		return name;
+	}
+
+	public Set<Method> methods() {
+		return methods;
+	}
+
+	public int channels() {
+		return channels;
+	}
+
+	/** @return channels serving an operation now */
+	public int busy() {
+		return busy;
+	}
+
+	/** @return operations queued for a channel now */
+	public int waiting() {
+		return waiting;
+	}
+
+	/** @return operations admitted since the rule was set */
+	public long ops() {
+		return ops;
+	}
+
+	/** @return time operations spent queued before their service, ns */
+	public LatencyHistogram waitTime() {
+		return waitTime;
+	}
+
+	/** @return queue length seen by each operation arriving, in operations */
+	public CountHistogram queueLength() {
+		return queueLength;
+	}
+
+	@Override
+	public String toString() {
+		return "CharybdeFSQueue{" + name + methods
+		       + ", busy: " + busy + "/" + channels
+		       + ", waiting: " + waiting
+		       + ", ops: " + ops
+		       + ", wait: " + waitTime
+		       + ", length: " + queueLength + '}';
+	}
+}
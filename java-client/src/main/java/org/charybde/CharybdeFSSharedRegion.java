@@ -0,0 +1,276 @@
+package org.charybde;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.charybde.CharybdeFSControl.Method;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Shared memory region of charybdefs started with control_shm option: operation counters
+ * readable, per-method and per-rule fault switches writable without RPC. See shm_region.hh
+ * for the layout.
+ * <p>
+ * Counters are copied into the region by the daemon every millisecond or so under a
+ * seqlock, {@link #read(Snapshot)} retries until it gets a consistent copy and allocates
+ * nothing. A fault set via RPC on a method is injected only while the method switch is on
+ * (as it is when the daemon starts), {@link #enableFaults(Method, boolean)} is a single
+ * volatile write.
+ * <p>
+ * A rule set with {@link CharybdeFSControl.RuleBuilder#shmSlot(int)} is in addition injected
+ * only while its slot switch is on, so one of several rules stacked on a method can be
+ * switched alone, by slot via {@link #enableRule(int, boolean)} or by the name of the rule
+ * last set on the slot via {@link #enableRule(String, boolean)}.
+ * <p>
+ * The mapping is released by GC only, {@link #close()} releases the file.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public final class CharybdeFSSharedRegion implements AutoCloseable {
+	private static final int MAGIC = 0x43484653;
+	private static final int VERSION = 2;
+	private static final int NAME_SIZE = 16;
+	private static final int RULE_NAME_SIZE = 32;
+
+	//header offsets
+	private static final int VERSION_OFFSET = 4;
+	private static final int METHOD_COUNT_OFFSET = 8;
+	private static final int STATS_OFFSET_OFFSET = 12;
+	private static final int FLAGS_OFFSET_OFFSET = 16;
+	private static final int NAMES_OFFSET_OFFSET = 20;
+	private static final int SIZE_OFFSET = 24;
+	private static final int RULE_FLAGS_OFFSET_OFFSET = 28;
+	private static final int SEQ_OFFSET = 32;
+	private static final int PUBLISH_NS_OFFSET = 40;
+	private static final int RULE_SLOTS_OFFSET = 48;
+	private static final int RULE_NAMES_OFFSET_OFFSET = 52;
+
+	private static final int COUNTERS_SIZE = 4 * Long.BYTES;
+
+	private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle( long[].class, ByteOrder.nativeOrder() );
+	private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle( int[].class, ByteOrder.nativeOrder() );
+
+	private static final Method[] METHODS = Method.values();
+
+	private final Path path;
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+
+	/** offset of counters of method, by Method.ordinal(), -1 if daemon does not know method */
+	private final int[] countersOffsets;
+	/** offset of enable flag of method, by Method.ordinal(), -1 if daemon does not know method */
+	private final int[] flagOffsets;
+
+	private final int ruleFlagsOffset;
+	private final int ruleNamesOffset;
+	/** slot 0 is no slot */
+	private final int ruleSlots;
+
+	private CharybdeFSSharedRegion( final Path path,
+	                                final FileChannel channel,
+	                                final MappedByteBuffer buffer ) throws IOException {
+		this.path = path;
+		this.channel = channel;
+		this.buffer = buffer;
+		buffer.order( ByteOrder.nativeOrder() );
+
+		if( buffer.capacity() < RULE_NAMES_OFFSET_OFFSET + Integer.BYTES || (int) INTS.getAcquire( buffer, 0 ) != MAGIC ) {
+			throw new IOException( "[" + path + "] is not an initialized charybdefs region" );
+		}
+		final int version = buffer.getInt( VERSION_OFFSET );
+		if( version != VERSION ) {
+			throw new IOException( "[" + path + "] region version " + version + ", supported " + VERSION );
+		}
+		final int size = buffer.getInt( SIZE_OFFSET );
+		if( size != buffer.capacity() ) {
+			throw new IOException( "[" + path + "] size " + buffer.capacity() + " while region says " + size );
+		}
+
+		final int methodCount = buffer.getInt( METHOD_COUNT_OFFSET );
+		final int statsOffset = buffer.getInt( STATS_OFFSET_OFFSET );
+		final int flagsOffset = buffer.getInt( FLAGS_OFFSET_OFFSET );
+		final int namesOffset = buffer.getInt( NAMES_OFFSET_OFFSET );
+		ruleFlagsOffset = buffer.getInt( RULE_FLAGS_OFFSET_OFFSET );
+		ruleNamesOffset = buffer.getInt( RULE_NAMES_OFFSET_OFFSET );
+		ruleSlots = buffer.getInt( RULE_SLOTS_OFFSET );
+
+		countersOffsets = new int[METHODS.length];
+		flagOffsets = new int[METHODS.length];
+		Arrays.fill( countersOffsets, -1 );
+		Arrays.fill( flagOffsets, -1 );
+
+		final byte[] name = new byte[NAME_SIZE];
+		for( int slot = 0; slot < methodCount; slot++ ) {
+			final Method method = Method.byName( readName( buffer, namesOffset + slot * NAME_SIZE, name, StandardCharsets.US_ASCII ) );
+			if( method != null ) {
+				countersOffsets[method.ordinal()] = statsOffset + slot * COUNTERS_SIZE;
+				flagOffsets[method.ordinal()] = flagsOffset + slot * Integer.BYTES;
+			}
+		}
+	}
+
+	/** @param path file given as control_shm option */
+	public static CharybdeFSSharedRegion map( final Path path ) throws IOException {
+		requireNonNull( path, "path" );
+		final FileChannel channel = FileChannel.open( path, READ, WRITE );
+		try {
+			final MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_WRITE, 0, channel.size() );
+			return new CharybdeFSSharedRegion( path, channel, buffer );
+		} catch( IOException | RuntimeException e ) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Copies last published counters into snapshot, retrying while the daemon is
+	 * publishing. Allocates nothing.
+	 *
+	 * @return snapshot, for chaining
+	 */
+	public Snapshot read( final Snapshot snapshot ) {
+		final long[] values = snapshot.values;
+		while( true ) {
+			final long seq = (long) LONGS.getAcquire( buffer, SEQ_OFFSET );
+			if( ( seq & 1 ) == 0 ) {
+				for( int i = 0; i < METHODS.length; i++ ) {
+					final int offset = countersOffsets[i];
+					for( int field = 0; field < Snapshot.FIELDS; field++ ) {
+						values[i * Snapshot.FIELDS + field] = offset < 0 ? 0 : buffer.getLong( offset + field * Long.BYTES );
+					}
+				}
+				snapshot.publishedAtNs = buffer.getLong( PUBLISH_NS_OFFSET );
+				VarHandle.loadLoadFence();
+				if( buffer.getLong( SEQ_OFFSET ) == seq ) {
+					return snapshot;
+				}
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	/** Switches faults of method on or off, the fault itself is set via RPC */
+	public void enableFaults( final Method method,
+	                          final boolean enabled ) {
+		INTS.setVolatile( buffer, flagOffset( method ), enabled ? 1 : 0 );
+	}
+
+	public boolean faultsEnabled( final Method method ) {
+		return (int) INTS.getVolatile( buffer, flagOffset( method ) ) != 0;
+	}
+
+	private int flagOffset( final Method method ) {
+		final int offset = flagOffsets[method.ordinal()];
+		if( offset < 0 ) {
+			throw new IllegalArgumentException( method + " is unknown to the daemon of [" + path + "]" );
+		}
+		return offset;
+	}
+
+	/** Switches the rule set with given shm slot on or off, the rule itself is set via RPC */
+	public void enableRule( final int slot,
+	                        final boolean enabled ) {
+		INTS.setVolatile( buffer, ruleFlagOffset( slot ), enabled ? 1 : 0 );
+	}
+
+	public boolean ruleEnabled( final int slot ) {
+		return (int) INTS.getVolatile( buffer, ruleFlagOffset( slot ) ) != 0;
+	}
+
+	/** Switches the rule named so on or off, see {@link #ruleSlot(String)} */
+	public void enableRule( final String name,
+	                        final boolean enabled ) {
+		enableRule( ruleSlot( name ), enabled );
+	}
+
+	public boolean ruleEnabled( final String name ) {
+		return ruleEnabled( ruleSlot( name ) );
+	}
+
+	/**
+	 * Scans slot names, resolve once and switch by slot where it matters.
+	 *
+	 * @return slot of the rule named so last set with a shm slot, since all faults were cleared or replaced
+	 */
+	public int ruleSlot( final String name ) {
+		requireNonNull( name, "name" );
+		final byte[] bytes = new byte[RULE_NAME_SIZE];
+		for( int slot = 1; slot < ruleSlots; slot++ ) {
+			if( name.equals( readName( buffer, ruleNamesOffset + slot * RULE_NAME_SIZE, bytes, StandardCharsets.UTF_8 ) ) ) {
+				return slot;
+			}
+		}
+		throw new IllegalArgumentException( "no rule [" + name + "] has a slot in [" + path + "]" );
+	}
+
+	private int ruleFlagOffset( final int slot ) {
+		if( slot <= 0 || slot >= ruleSlots ) {
+			throw new IllegalArgumentException( "slot " + slot + " is not in [1, " + ruleSlots + ")" );
+		}
+		return ruleFlagsOffset + slot * Integer.BYTES;
+	}
+
+	/** @return NUL padded name at offset, bytes being as long as the name field */
+	private static String readName( final MappedByteBuffer buffer,
+	                                final int offset,
+	                                final byte[] bytes,
+	                                final Charset charset ) {
+		buffer.get( offset, bytes );
+		int length = 0;
+		while( length < bytes.length && bytes[length] != 0 ) {
+			length++;
+		}
+		return new String( bytes, 0, length, charset );
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	@Override
+	public String toString() {
+		return "CharybdeFSSharedRegion[" + path + "]";
+	}
+
+	/** Reusable counters snapshot, see {@link CharybdeFSStats.MethodStats} for the meaning */
+	public static final class Snapshot {
+		private static final int FIELDS = 4;
+
+		private final long[] values = new long[METHODS.length * FIELDS];
+		private long publishedAtNs;
+
+		public long inFlight( final Method method ) {
+			return values[method.ordinal() * FIELDS];
+		}
+
+		public long ops( final Method method ) {
+			return values[method.ordinal() * FIELDS + 1];
+		}
+
+		public long bytes( final Method method ) {
+			return values[method.ordinal() * FIELDS + 2];
+		}
+
+		public long errors( final Method method ) {
+			return values[method.ordinal() * FIELDS + 3];
+		}
+
+		/** @return daemon steady clock (CLOCK_MONOTONIC) nanoseconds at which counters were copied */
+		public long publishedAtNs() {
+			return publishedAtNs;
+		}
+	}
+}
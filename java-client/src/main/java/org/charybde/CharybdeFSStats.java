@@ -0,0 +1,98 @@
+package org.charybde;
+
+import java.util.*;
+
+import org.charybde.CharybdeFSControl.Method;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable snapshot of per-method operation counters, as returned by
+ * {@link CharybdeFSControl#stats()}. Counters are cumulative since charybdefs start,
+ * except inFlight which is a gauge. Counters of different methods are not read
+ * atomically together.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public final class CharybdeFSStats {
+	private final Map<Method, MethodStats> byMethod;
+
+	CharybdeFSStats( final List<method_stats> stats ) {
+		final EnumMap<Method, MethodStats> byMethod = new EnumMap<>( Method.class );
+		for( final method_stats s : stats ) {
+			final Method method = Method.byName( s.method );
+			if( method != null ) {
+				byMethod.put( method, new MethodStats( s.in_flight, s.ops, s.bytes, s.errors ) );
+			}
+		}
+		this.byMethod = Collections.unmodifiableMap( byMethod );
+	}
+
+	public MethodStats of( final Method method ) {
+		final MethodStats stats = byMethod.get( requireNonNull( method, "method" ) );
+		return stats != null ? stats : MethodStats.EMPTY;
+	}
+
+	public Map<Method, MethodStats> byMethod() {
+		return byMethod;
+	}
+
+	/** @return sum of inFlight over all methods */
+	public long totalInFlight() {
+		long total = 0;
+		for( final MethodStats stats : byMethod.values() ) {
+			total += stats.inFlight();
+		}
+		return total;
+	}
+
+	@Override
+	public String toString() {
+		return "CharybdeFSStats" + byMethod;
+	}
+
+	public static final class MethodStats {
+		private static final MethodStats EMPTY = new MethodStats( 0, 0, 0, 0 );
+
+		private final long inFlight;
+		private final long ops;
+		private final long bytes;
+		private final long errors;
+
+		MethodStats( final long inFlight,
+		             final long ops,
+		             final long bytes,
+		             final long errors ) {
+			this.inFlight = inFlight;
+			this.ops = ops;
+			this.bytes = bytes;
+			this.errors = errors;
+		}
+
+		/** @return operations currently running */
+		public long inFlight() {
+			return inFlight;
+		}
+
+		/** @return completed operations */
+		public long ops() {
+			return ops;
+		}
+
+		/** @return bytes read or written */
+		public long bytes() {
+			return bytes;
+		}
+
+		/** @return operations which returned an error, injected or not */
+		public long errors() {
+			return errors;
+		}
+
+		@Override
+		public String toString() {
+			return "{inFlight=" + inFlight + ", ops=" + ops + ", bytes=" + bytes + ", errors=" + errors + '}';
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package org.charybde;
+
+/**
+ * Decoded log-bucketed histogram of counts (e.g. queue lengths), as recorded by charybdefs.
+ * Same bucket layout, and so same precision, as {@link LatencyHistogram}.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public final class CountHistogram {
+	public static final CountHistogram EMPTY = new CountHistogram( LatencyHistogram.EMPTY );
+
+	/** buckets hold counts instead of nanoseconds */
+	private final LatencyHistogram buckets;
+
+	private CountHistogram( final LatencyHistogram buckets ) {
+		this.buckets = buckets;
+	}
+
+	static CountHistogram from( final count_histogram histogram ) {
+		if( histogram == null || histogram.counts == null ) {
+			return EMPTY;
+		}
+		final long[] counts = new long[histogram.counts.size()];
+		for( int i = 0; i < counts.length; i++ ) {
+			counts[i] = histogram.counts.get( i );
+		}
+		return new CountHistogram( new LatencyHistogram( histogram.first_bucket, counts, histogram.max ) );
+	}
+
+	/** @return number of recorded values */
+	public long count() {
+		return buckets.count();
+	}
+
+	/** @return max recorded value, or 0 if empty */
+	public long max() {
+		return buckets.maxNs();
+	}
+
+	/**
+	 * @param percentile in [0..100]
+	 * @return value below or equal to which given percentage of recorded values are, 0 if empty
+	 */
+	public long valueAtPercentile( final double percentile ) {
+		return buckets.valueAtPercentileNs( percentile );
+	}
+
+	public long p50() {
+		return valueAtPercentile( 50 );
+	}
+
+	public long p99() {
+		return valueAtPercentile( 99 );
+	}
+
+	public long p999() {
+		return valueAtPercentile( 99.9 );
+	}
+
+	@Override
+	public String toString() {
+		return "{count=" + count()
+				+ ", p50=" + p50()
+				+ ", p99=" + p99()
+				+ ", p99.9=" + p999()
+				+ ", max=" + max() + "}";
+	}
+}
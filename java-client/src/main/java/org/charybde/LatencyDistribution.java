@@ -0,0 +1,122 @@
+package org.charybde;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Delay drawn by the server for every operation a rule injects into, instead of
+ * the same delayUs for all of them, see {@link CharybdeFSControl.RuleBuilder#latency(LatencyDistribution)}.
+ * Durations have microsecond precision.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public final class LatencyDistribution {
+	private final latency_distribution distribution;
+
+	private LatencyDistribution( final latency_distribution distribution ) {
+		this.distribution = distribution;
+	}
+
+	public static LatencyDistribution constant( final Duration delay ) {
+		return new LatencyDistribution( new latency_distribution().setType( latency_distribution_type.CONSTANT )
+		                                                          .setValue_us( micros( delay, "delay" ) ) );
+	}
+
+	/** Uniform in [min, max] */
+	public static LatencyDistribution uniform( final Duration min,
+	                                           final Duration max ) {
+		final long minUs = micros( min, "min" );
+		final long maxUs = micros( max, "max" );
+		checkArgument( minUs <= maxUs, "min(%s) must not exceed max(%s)", min, max );
+		return new LatencyDistribution( new latency_distribution().setType( latency_distribution_type.UNIFORM )
+		                                                          .setMin_us( minUs )
+		                                                          .setMax_us( maxUs ) );
+	}
+
+	public static LatencyDistribution exponential( final Duration mean ) {
+		return new LatencyDistribution( new latency_distribution().setType( latency_distribution_type.EXPONENTIAL )
+		                                                          .setValue_us( micros( mean, "mean" ) ) );
+	}
+
+	/**
+	 * @param median e^mu
+	 * @param sigma  standard deviation of the log of the delay, e.g. 0.5 gives p99 ~ 3.2 * median
+	 */
+	public static LatencyDistribution logNormal( final Duration median,
+	                                             final double sigma ) {
+		checkArgument( sigma >= 0, "sigma(%s) must not be negative", sigma );
+		return new LatencyDistribution( new latency_distribution().setType( latency_distribution_type.LOG_NORMAL )
+		                                                          .setValue_us( micros( median, "median" ) )
+		                                                          .setShape( sigma ) );
+	}
+
+	/**
+	 * Heavy tail: P(delay > x) = (min / x)^tailIndex. Variance is infinite for tailIndex &lt;= 2,
+	 * so rather bound it with {@link #cappedAt(Duration)}.
+	 *
+	 * @param min       smallest delay
+	 * @param tailIndex alpha, the lower the heavier the tail
+	 */
+	public static LatencyDistribution pareto( final Duration min,
+	                                          final double tailIndex ) {
+		final long minUs = micros( min, "min" );
+		checkArgument( minUs > 0, "min(%s) must be at least 1us", min );
+		checkArgument( tailIndex > 0, "tailIndex(%s) must be positive", tailIndex );
+		return new LatencyDistribution( new latency_distribution().setType( latency_distribution_type.PARETO )
+		                                                          .setMin_us( minUs )
+		                                                          .setShape( tailIndex ) );
+	}
+
+	/**
+	 * Fast path plus rare slow path
+	 *
+	 * @param slowProbability probability of the slow path over 100 000
+	 */
+	public static LatencyDistribution bimodal( final Duration fast,
+	                                           final Duration slow,
+	                                           final int slowProbability ) {
+		checkArgument( slowProbability >= 0 && slowProbability <= 100_000,
+		               "slowProbability(%s) must be in [0, 100000]", slowProbability );
+		return new LatencyDistribution( new latency_distribution().setType( latency_distribution_type.BIMODAL )
+		                                                          .setValue_us( micros( fast, "fast" ) )
+		                                                          .setSlow_us( micros( slow, "slow" ) )
+		                                                          .setSlow_probability( slowProbability ) );
+	}
+
+	/**
+	 * Replays the latency table of the operation's method, no delay for a method without
+	 * one: see {@link CharybdeFSControl#setLatencyTable(java.util.Set, LatencyTable)}
+	 */
+	public static LatencyDistribution empirical() {
+		return new LatencyDistribution( new latency_distribution().setType( latency_distribution_type.EMPIRICAL ) );
+	}
+
+	/** @return same distribution with delays above max lowered to max */
+	public LatencyDistribution cappedAt( final Duration max ) {
+		checkArgument( distribution.getType() != latency_distribution_type.UNIFORM,
+		               "uniform distribution is already bounded by its max" );
+		final long maxUs = micros( max, "max" );
+		checkArgument( maxUs > 0, "max(%s) must be at least 1us", max );
+		return new LatencyDistribution( distribution.deepCopy().setMax_us( maxUs ) );
+	}
+
+	latency_distribution toThrift() {
+		return distribution.deepCopy();
+	}
+
+	@Override
+	public String toString() {
+		return distribution.toString();
+	}
+
+	private static long micros( final Duration duration,
+	                            final String name ) {
+		final long us = TimeUnit.NANOSECONDS.toMicros( requireNonNull( duration, name ).toNanos() );
+		checkArgument( us >= 0, "%s(%s) must not be negative", name, duration );
+		return us;
+	}
+}
@@ -0,0 +1,148 @@
+package org.charybde;
+
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decoded log-bucketed latency histogram (nanoseconds), as recorded by charybdefs.
+ * Bucket layout must match histogram.hh: values below 2^SUB_BITS have own bucket,
+ * every power of 2 above is split into 2^SUB_BITS buckets. Percentiles are reported
+ * as the highest value of the bucket they fall into, so relative error is below 1/16.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public final class LatencyHistogram {
+	static final int SUB_BITS = 4;
+	static final int MAX_BITS = 40;
+	static final int BUCKETS = ( MAX_BITS - SUB_BITS + 1 ) << SUB_BITS;
+
+	public static final LatencyHistogram EMPTY = new LatencyHistogram( 0, new long[0], 0 );
+
+	private final int firstBucket;
+	private final long[] counts;
+	private final long maxNs;
+	private final long totalCount;
+
+	LatencyHistogram( final int firstBucket,
+	                  final long[] counts,
+	                  final long maxNs ) {
+		checkArgument( firstBucket >= 0 && firstBucket + counts.length <= BUCKETS,
+		               "buckets [" + firstBucket + ", " + ( firstBucket + counts.length ) + ") out of range" );
+		this.firstBucket = firstBucket;
+		this.counts = counts;
+		this.maxNs = maxNs;
+
+		long total = 0;
+		for( final long count : counts ) {
+			total += count;
+		}
+		this.totalCount = total;
+	}
+
+	static LatencyHistogram from( final latency_histogram histogram ) {
+		if( histogram == null || histogram.counts == null ) {
+			return EMPTY;
+		}
+		final long[] counts = new long[histogram.counts.size()];
+		for( int i = 0; i < counts.length; i++ ) {
+			counts[i] = histogram.counts.get( i );
+		}
+		return new LatencyHistogram( histogram.first_bucket, counts, histogram.max_ns );
+	}
+
+	/** @return lowest value (ns) which falls into given bucket */
+	static long lowestValue( final int bucket ) {
+		if( bucket < ( 1 << SUB_BITS ) ) {
+			return bucket;
+		}
+		final int exponent = ( bucket >> SUB_BITS ) + SUB_BITS - 1;
+		final int sub = bucket & ( ( 1 << SUB_BITS ) - 1 );
+		return ( ( long ) ( ( 1 << SUB_BITS ) + sub ) ) << ( exponent - SUB_BITS );
+	}
+
+	/** @return highest value (ns) which falls into given bucket */
+	static long highestValue( final int bucket ) {
+		if( bucket < ( 1 << SUB_BITS ) ) {
+			return bucket;
+		}
+		if( bucket == BUCKETS - 1 ) {
+			return Long.MAX_VALUE;
+		}
+		return lowestValue( bucket + 1 ) - 1;
+	}
+
+	/** @return number of recorded values */
+	public long count() {
+		return totalCount;
+	}
+
+	/** @return max recorded value, ns, or 0 if empty */
+	public long maxNs() {
+		return maxNs;
+	}
+
+	/**
+	 * @param percentile in [0..100]
+	 * @return value (ns) below or equal to which given percentage of recorded values are, 0 if empty
+	 */
+	public long valueAtPercentileNs( final double percentile ) {
+		checkArgument( percentile >= 0 && percentile <= 100, "percentile[" + percentile + "] must be in [0,100]" );
+		if( totalCount == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, ( long ) Math.ceil( percentile / 100 * totalCount ) );
+		long seen = 0;
+		for( int i = 0; i < counts.length; i++ ) {
+			seen += counts[i];
+			if( seen >= rank ) {
+				return Math.min( highestValue( firstBucket + i ), maxNs );
+			}
+		}
+		return maxNs;
+	}
+
+	public long p50Ns() {
+		return valueAtPercentileNs( 50 );
+	}
+
+	public long p99Ns() {
+		return valueAtPercentileNs( 99 );
+	}
+
+	public long p999Ns() {
+		return valueAtPercentileNs( 99.9 );
+	}
+
+	/** @return histogram with counts of both this and other */
+	public LatencyHistogram merge( final LatencyHistogram other ) {
+		requireNonNull( other, "other" );
+		if( other.totalCount == 0 ) {
+			return this;
+		}
+		if( totalCount == 0 ) {
+			return other;
+		}
+		final int first = Math.min( firstBucket, other.firstBucket );
+		final int end = Math.max( firstBucket + counts.length, other.firstBucket + other.counts.length );
+		final long[] merged = new long[end - first];
+		for( int i = 0; i < counts.length; i++ ) {
+			merged[firstBucket - first + i] += counts[i];
+		}
+		for( int i = 0; i < other.counts.length; i++ ) {
+			merged[other.firstBucket - first + i] += other.counts[i];
+		}
+		return new LatencyHistogram( first, merged, Math.max( maxNs, other.maxNs ) );
+	}
+
+	@Override
+	public String toString() {
+		return "{count=" + totalCount
+				+ ", p50=" + p50Ns() + "ns"
+				+ ", p99=" + p99Ns() + "ns"
+				+ ", p99.9=" + p999Ns() + "ns"
+				+ ", max=" + maxNs + "ns}";
+	}
+}
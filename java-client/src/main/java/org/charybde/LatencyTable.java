@@ -0,0 +1,204 @@
+package org.charybde;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Inverse CDF of a recorded latency distribution, replayed by rules with
+ * {@link LatencyDistribution#empirical()} once uploaded with
+ * {@link CharybdeFSControl#setLatencyTable(Set, LatencyTable)}: point i is the delay (us)
+ * at quantile (i + 0.5) / points. Server samples it with one random draw and one index.
+ * <p>
+ * Within a histogram bucket values are taken as uniformly spread.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public final class LatencyTable {
+	public static final int DEFAULT_POINTS = 4096;
+	public static final int MAX_POINTS = 1 << 20;
+
+	private final int[] quantilesUs;
+
+	private LatencyTable( final int[] quantilesUs ) {
+		this.quantilesUs = quantilesUs;
+	}
+
+	/**
+	 * @param upperBoundsUs increasing upper bounds of the buckets, the first one starts at 0
+	 * @param counts        number of values in each bucket
+	 */
+	public static LatencyTable fromHistogram( final long[] upperBoundsUs,
+	                                          final long[] counts,
+	                                          final int points ) {
+		checkArgument( upperBoundsUs.length == counts.length,
+		               "%s bucket bounds for %s counts", upperBoundsUs.length, counts.length );
+		long total = 0;
+		for( int i = 0; i < counts.length; i++ ) {
+			checkArgument( counts[i] >= 0, "count[%s](%s) must not be negative", i, counts[i] );
+			checkArgument( upperBoundsUs[i] >= ( i == 0 ? 0 : upperBoundsUs[i - 1] ),
+			               "bucket bounds must increase: %s", upperBoundsUs[i] );
+			total += counts[i];
+		}
+		checkArgument( total > 0, "histogram is empty" );
+
+		final double[] values = new double[counts.length + 1];
+		final double[] cumulative = new double[counts.length + 1];
+		long seen = 0;
+		for( int i = 0; i < counts.length; i++ ) {
+			seen += counts[i];
+			values[i + 1] = upperBoundsUs[i];
+			cumulative[i + 1] = ( double ) seen / total;
+		}
+		return fromCdf( values, cumulative, points );
+	}
+
+	/**
+	 * Text histogram, one bucket per line: upper bound (us) and count, separated by
+	 * spaces, tabs or a comma. Blank lines and lines starting with '#' are skipped.
+	 */
+	public static LatencyTable fromHistogramFile( final Path file,
+	                                              final int points ) throws IOException {
+		final List<long[]> buckets = new ArrayList<>();
+		for( final String line : Files.readAllLines( file ) ) {
+			final String trimmed = line.trim();
+			if( trimmed.isEmpty() || trimmed.startsWith( "#" ) ) {
+				continue;
+			}
+			final String[] columns = trimmed.split( "[\\s,]+" );
+			checkArgument( columns.length == 2, "%s: expected 'upper bound us, count', got '%s'", file, line );
+			buckets.add( new long[] { Long.parseLong( columns[0] ), Long.parseLong( columns[1] ) } );
+		}
+
+		final long[] upperBoundsUs = new long[buckets.size()];
+		final long[] counts = new long[buckets.size()];
+		for( int i = 0; i < buckets.size(); i++ ) {
+			upperBoundsUs[i] = buckets.get( i )[0];
+			counts[i] = buckets.get( i )[1];
+		}
+		return fromHistogram( upperBoundsUs, counts, points );
+	}
+
+	/**
+	 * Percentile distribution as printed by HdrHistogram
+	 * ({@code outputPercentileDistribution()}, HistogramLogProcessor .hgrm files):
+	 * rows of value, percentile as a fraction, total count and 1/(1-percentile).
+	 * Header and footer lines are skipped.
+	 *
+	 * @param valueUnit unit of the value column, as scaled when the distribution was printed
+	 */
+	public static LatencyTable fromPercentileDistribution( final Path file,
+	                                                       final TimeUnit valueUnit,
+	                                                       final int points ) throws IOException {
+		requireNonNull( valueUnit, "valueUnit" );
+		final double usPerUnit = valueUnit.toNanos( 1 ) / 1000.0;
+
+		final List<double[]> rows = new ArrayList<>();
+		for( final String line : Files.readAllLines( file ) ) {
+			final String[] columns = line.trim().split( "\\s+" );
+			// the 100th percentile row has no 1/(1-percentile)
+			if( columns.length < 3 || columns.length > 4 || !isNumber( columns[0] ) || !isNumber( columns[1] ) ) {
+				continue;
+			}
+			rows.add( new double[] { Double.parseDouble( columns[0] ) * usPerUnit, Double.parseDouble( columns[1] ) } );
+		}
+		checkArgument( !rows.isEmpty(), "%s: no percentile row", file );
+
+		final double[] values = new double[rows.size() + 1];
+		final double[] cumulative = new double[rows.size() + 1];
+		for( int i = 0; i < rows.size(); i++ ) {
+			values[i + 1] = rows.get( i )[0];
+			cumulative[i + 1] = rows.get( i )[1];
+		}
+		// all values up to the first row are at its value
+		values[0] = values[1];
+		return fromCdf( values, cumulative, points );
+	}
+
+	/** Replays a distribution recorded by charybdefs, e.g. backing latency of a previous run */
+	public static LatencyTable fromHistogram( final LatencyHistogram histogram,
+	                                          final int points ) {
+		checkArgument( histogram.count() > 0, "histogram is empty" );
+		checkPoints( points );
+		final int[] quantilesUs = new int[points];
+		for( int i = 0; i < points; i++ ) {
+			final long ns = histogram.valueAtPercentileNs( 100.0 * ( i + 0.5 ) / points );
+			quantilesUs[i] = toPoint( ns / 1000.0 );
+		}
+		return new LatencyTable( quantilesUs );
+	}
+
+	/**
+	 * @param valuesUs   nondecreasing
+	 * @param cumulative fraction of values below or equal to valuesUs[i], nondecreasing,
+	 *                   linearly interpolated in between
+	 */
+	private static LatencyTable fromCdf( final double[] valuesUs,
+	                                     final double[] cumulative,
+	                                     final int points ) {
+		checkPoints( points );
+		final int[] quantilesUs = new int[points];
+		int segment = 1;
+		for( int i = 0; i < points; i++ ) {
+			final double quantile = ( i + 0.5 ) / points;
+			while( segment < cumulative.length - 1 && cumulative[segment] < quantile ) {
+				segment++;
+			}
+			final double from = cumulative[segment - 1];
+			final double to = cumulative[segment];
+			final double fraction = to > from ? Math.min( 1, Math.max( 0, ( quantile - from ) / ( to - from ) ) ) : 1;
+			quantilesUs[i] = toPoint( valuesUs[segment - 1] + fraction * ( valuesUs[segment] - valuesUs[segment - 1] ) );
+		}
+		// rounding keeps the values ordered, but not a decreasing input
+		for( int i = 1; i < points; i++ ) {
+			checkArgument( quantilesUs[i] >= quantilesUs[i - 1], "cumulative distribution must not decrease" );
+		}
+		return new LatencyTable( quantilesUs );
+	}
+
+	private static void checkPoints( final int points ) {
+		checkArgument( points > 0 && points <= MAX_POINTS, "points(%s) must be in [1, %s]", points, MAX_POINTS );
+	}
+
+	private static int toPoint( final double us ) {
+		return ( int ) Math.min( Integer.MAX_VALUE, Math.round( us ) );
+	}
+
+	private static boolean isNumber( final String column ) {
+		try {
+			Double.parseDouble( column );
+			return true;
+		} catch( NumberFormatException e ) {
+			return false;
+		}
+	}
+
+	public int points() {
+		return quantilesUs.length;
+	}
+
+	/** @return delay (us) at quantile (point + 0.5) / points */
+	public int quantileUs( final int point ) {
+		return quantilesUs[point];
+	}
+
+	List<Integer> toThrift() {
+		final List<Integer> list = new ArrayList<>( quantilesUs.length );
+		for( final int quantile : quantilesUs ) {
+			list.add( quantile );
+		}
+		return list;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyTable[" + quantilesUs.length + " points, p50: " + quantilesUs[quantilesUs.length / 2]
+		       + "us, max: " + quantilesUs[quantilesUs.length - 1] + "us]";
+	}
+}
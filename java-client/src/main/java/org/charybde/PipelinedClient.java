@@ -0,0 +1,146 @@
+package org.charybde;
+
+import java.util.List;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import static java.lang.Math.min;
+
+/**
+ * Thrift client able to pipeline calls: writes requests back-to-back, flushed once,
+ * then reads the replies. Server serves a connection in order, so replies come in
+ * the order of requests.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+final class PipelinedClient extends server.Client {
+	/**
+	 * Requests written before replies are drained: server blocks on writing replies
+	 * nobody reads once socket buffers are full, and we would block on writing requests
+	 */
+	static final int MAX_PIPELINED = 256;
+
+	/** send_xxx and recv_xxx halves of a call */
+	interface Call {
+		void send( server.Client client ) throws TException;
+
+		void receive( server.Client client ) throws TException;
+	}
+
+	private final CorkedTransport transport;
+	private final int[] seqids = new int[MAX_PIPELINED];
+
+	PipelinedClient( final TTransport transport ) {
+		this( new CorkedTransport( transport ) );
+	}
+
+	private PipelinedClient( final CorkedTransport transport ) {
+		super( new TBinaryProtocol( transport ) );
+		this.transport = transport;
+	}
+
+	/**
+	 * Sends calls and drains their replies by chunks of {@link #MAX_PIPELINED}.
+	 * An exception thrown by server for a call does not stop the following ones,
+	 * the first one is rethrown once all replies are drained.
+	 */
+	void pipeline( final List<? extends Call> calls ) throws TException {
+		for( int from = 0; from < calls.size(); from += MAX_PIPELINED ) {
+			final int to = min( from + MAX_PIPELINED, calls.size() );
+
+			transport.cork();
+			try {
+				for( int i = from; i < to; i++ ) {
+					calls.get( i ).send( this );
+					seqids[i - from] = seqid_;
+				}
+			} finally {
+				transport.uncork();
+			}
+
+			//receiveBase() expects the reply to the last request sent
+			final int lastSeqid = seqid_;
+			TApplicationException failure = null;
+			try {
+				for( int i = from; i < to; i++ ) {
+					seqid_ = seqids[i - from];
+					try {
+						calls.get( i ).receive( this );
+					} catch( TApplicationException e ) {
+						if( e.getType() == TApplicationException.BAD_SEQUENCE_ID ) {
+							throw e;
+						}
+						if( failure == null ) {
+							failure = e;
+						}
+					}
+				}
+			} finally {
+				seqid_ = lastSeqid;
+			}
+			if( failure != null ) {
+				throw failure;
+			}
+		}
+	}
+
+	/** Delegates to a transport, but holds flushes while corked */
+	private static final class CorkedTransport extends TTransport {
+		private final TTransport delegate;
+		private boolean corked = false;
+
+		private CorkedTransport( final TTransport delegate ) {
+			this.delegate = delegate;
+		}
+
+		void cork() {
+			corked = true;
+		}
+
+		void uncork() throws TTransportException {
+			corked = false;
+			delegate.flush();
+		}
+
+		@Override
+		public boolean isOpen() {
+			return delegate.isOpen();
+		}
+
+		@Override
+		public void open() throws TTransportException {
+			delegate.open();
+		}
+
+		@Override
+		public void close() {
+			delegate.close();
+		}
+
+		@Override
+		public int read( final byte[] buf,
+		                 final int off,
+		                 final int len ) throws TTransportException {
+			return delegate.read( buf, off, len );
+		}
+
+		@Override
+		public void write( final byte[] buf,
+		                   final int off,
+		                   final int len ) throws TTransportException {
+			delegate.write( buf, off, len );
+		}
+
+		@Override
+		public void flush() throws TTransportException {
+			if( !corked ) {
+				delegate.flush();
+			}
+		}
+	}
+}
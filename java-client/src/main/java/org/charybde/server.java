@@ -8,7 +8,7 @@
 package org.charybde;
 
 @SuppressWarnings( { "cast", "rawtypes", "serial", "unchecked", "unused" } )
-@javax.annotation.Generated( value = "Autogenerated by Thrift Compiler (0.11.0)", date = "2018-04-28" )
+@javax.annotation.Generated( value = "Autogenerated by Thrift Compiler (0.11.0)", date = "2026-10-17" )
 public class server {
 
 	public interface Iface {
@@ -23,6 +23,40 @@ public class server {
 
 		public void set_all_fault( boolean random, int err_no, int probability, java.lang.String regexp, boolean kill_caller, int delay_us, boolean auto_delay ) throws org.apache.thrift.TException;
 
+		public void set_faults( java.util.List<fault_rule> rules ) throws org.apache.thrift.TException;
+
+		public void replace_all_faults( java.util.List<fault_rule> rules ) throws org.apache.thrift.TException;
+
+		public void set_rule_evaluation( boolean sum_delays ) throws org.apache.thrift.TException;
+
+		public java.util.List<bucket_status> get_buckets() throws org.apache.thrift.TException;
+
+		public java.util.List<queue_status> get_queues( boolean reset ) throws org.apache.thrift.TException;
+
+		public void set_latency_table( java.util.List<java.lang.String> methods, java.util.List<java.lang.Integer> quantiles_us ) throws org.apache.thrift.TException;
+
+		public void start_timeline( java.util.List<timeline_phase> phases ) throws org.apache.thrift.TException;
+
+		public void stop_timeline() throws org.apache.thrift.TException;
+
+		public timeline_status get_timeline() throws org.apache.thrift.TException;
+
+		public void set_seed( long seed ) throws org.apache.thrift.TException;
+
+		public void clear_seed() throws org.apache.thrift.TException;
+
+		public void start_trace( java.lang.String file, int sample_rate ) throws org.apache.thrift.TException;
+
+		public void stop_trace() throws org.apache.thrift.TException;
+
+		public java.util.List<method_stats> get_stats() throws org.apache.thrift.TException;
+
+		public java.util.List<method_latency> get_latencies( boolean reset ) throws org.apache.thrift.TException;
+
+		public void set_device_model( device_latency_model model ) throws org.apache.thrift.TException;
+
+		public device_latency_model get_device_model() throws org.apache.thrift.TException;
+
 	}
 
 	public interface AsyncIface {
@@ -37,6 +71,40 @@ public class server {
 
 		public void set_all_fault( boolean random, int err_no, int probability, java.lang.String regexp, boolean kill_caller, int delay_us, boolean auto_delay, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
 
+		public void set_faults( java.util.List<fault_rule> rules, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void replace_all_faults( java.util.List<fault_rule> rules, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void set_rule_evaluation( boolean sum_delays, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void get_buckets( org.apache.thrift.async.AsyncMethodCallback<java.util.List<bucket_status>> resultHandler ) throws org.apache.thrift.TException;
+
+		public void get_queues( boolean reset, org.apache.thrift.async.AsyncMethodCallback<java.util.List<queue_status>> resultHandler ) throws org.apache.thrift.TException;
+
+		public void set_latency_table( java.util.List<java.lang.String> methods, java.util.List<java.lang.Integer> quantiles_us, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void start_timeline( java.util.List<timeline_phase> phases, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void stop_timeline( org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void get_timeline( org.apache.thrift.async.AsyncMethodCallback<timeline_status> resultHandler ) throws org.apache.thrift.TException;
+
+		public void set_seed( long seed, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void clear_seed( org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void start_trace( java.lang.String file, int sample_rate, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void stop_trace( org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void get_stats( org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_stats>> resultHandler ) throws org.apache.thrift.TException;
+
+		public void get_latencies( boolean reset, org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_latency>> resultHandler ) throws org.apache.thrift.TException;
+
+		public void set_device_model( device_latency_model model, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException;
+
+		public void get_device_model( org.apache.thrift.async.AsyncMethodCallback<device_latency_model> resultHandler ) throws org.apache.thrift.TException;
+
 	}
 
 	public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -160,6 +228,308 @@ public class server {
 			return;
 		}
 
+		public void set_faults( java.util.List<fault_rule> rules ) throws org.apache.thrift.TException {
+			send_set_faults( rules );
+			recv_set_faults();
+		}
+
+		public void send_set_faults( java.util.List<fault_rule> rules ) throws org.apache.thrift.TException {
+			set_faults_args args = new set_faults_args();
+			args.setRules( rules );
+			sendBase( "set_faults", args );
+		}
+
+		public void recv_set_faults() throws org.apache.thrift.TException {
+			set_faults_result result = new set_faults_result();
+			receiveBase( result, "set_faults" );
+			return;
+		}
+
+		public void replace_all_faults( java.util.List<fault_rule> rules ) throws org.apache.thrift.TException {
+			send_replace_all_faults( rules );
+			recv_replace_all_faults();
+		}
+
+		public void send_replace_all_faults( java.util.List<fault_rule> rules ) throws org.apache.thrift.TException {
+			replace_all_faults_args args = new replace_all_faults_args();
+			args.setRules( rules );
+			sendBase( "replace_all_faults", args );
+		}
+
+		public void recv_replace_all_faults() throws org.apache.thrift.TException {
+			replace_all_faults_result result = new replace_all_faults_result();
+			receiveBase( result, "replace_all_faults" );
+			return;
+		}
+
+		public void set_rule_evaluation( boolean sum_delays ) throws org.apache.thrift.TException {
+			send_set_rule_evaluation( sum_delays );
+			recv_set_rule_evaluation();
+		}
+
+		public void send_set_rule_evaluation( boolean sum_delays ) throws org.apache.thrift.TException {
+			set_rule_evaluation_args args = new set_rule_evaluation_args();
+			args.setSum_delays( sum_delays );
+			sendBase( "set_rule_evaluation", args );
+		}
+
+		public void recv_set_rule_evaluation() throws org.apache.thrift.TException {
+			set_rule_evaluation_result result = new set_rule_evaluation_result();
+			receiveBase( result, "set_rule_evaluation" );
+			return;
+		}
+
+		public java.util.List<bucket_status> get_buckets() throws org.apache.thrift.TException {
+			send_get_buckets();
+			return recv_get_buckets();
+		}
+
+		public void send_get_buckets() throws org.apache.thrift.TException {
+			get_buckets_args args = new get_buckets_args();
+			sendBase( "get_buckets", args );
+		}
+
+		public java.util.List<bucket_status> recv_get_buckets() throws org.apache.thrift.TException {
+			get_buckets_result result = new get_buckets_result();
+			receiveBase( result, "get_buckets" );
+			if( result.isSetSuccess() ) {
+				return result.success;
+			}
+			throw new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.MISSING_RESULT, "get_buckets failed: unknown result" );
+		}
+
+		public java.util.List<queue_status> get_queues( boolean reset ) throws org.apache.thrift.TException {
+			send_get_queues( reset );
+			return recv_get_queues();
+		}
+
+		public void send_get_queues( boolean reset ) throws org.apache.thrift.TException {
+			get_queues_args args = new get_queues_args();
+			args.setReset( reset );
+			sendBase( "get_queues", args );
+		}
+
+		public java.util.List<queue_status> recv_get_queues() throws org.apache.thrift.TException {
+			get_queues_result result = new get_queues_result();
+			receiveBase( result, "get_queues" );
+			if( result.isSetSuccess() ) {
+				return result.success;
+			}
+			throw new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.MISSING_RESULT, "get_queues failed: unknown result" );
+		}
+
+		public void set_latency_table( java.util.List<java.lang.String> methods, java.util.List<java.lang.Integer> quantiles_us ) throws org.apache.thrift.TException {
+			send_set_latency_table( methods, quantiles_us );
+			recv_set_latency_table();
+		}
+
+		public void send_set_latency_table( java.util.List<java.lang.String> methods, java.util.List<java.lang.Integer> quantiles_us ) throws org.apache.thrift.TException {
+			set_latency_table_args args = new set_latency_table_args();
+			args.setMethods( methods );
+			args.setQuantiles_us( quantiles_us );
+			sendBase( "set_latency_table", args );
+		}
+
+		public void recv_set_latency_table() throws org.apache.thrift.TException {
+			set_latency_table_result result = new set_latency_table_result();
+			receiveBase( result, "set_latency_table" );
+			return;
+		}
+
+		public void start_timeline( java.util.List<timeline_phase> phases ) throws org.apache.thrift.TException {
+			send_start_timeline( phases );
+			recv_start_timeline();
+		}
+
+		public void send_start_timeline( java.util.List<timeline_phase> phases ) throws org.apache.thrift.TException {
+			start_timeline_args args = new start_timeline_args();
+			args.setPhases( phases );
+			sendBase( "start_timeline", args );
+		}
+
+		public void recv_start_timeline() throws org.apache.thrift.TException {
+			start_timeline_result result = new start_timeline_result();
+			receiveBase( result, "start_timeline" );
+			return;
+		}
+
+		public void stop_timeline() throws org.apache.thrift.TException {
+			send_stop_timeline();
+			recv_stop_timeline();
+		}
+
+		public void send_stop_timeline() throws org.apache.thrift.TException {
+			stop_timeline_args args = new stop_timeline_args();
+			sendBase( "stop_timeline", args );
+		}
+
+		public void recv_stop_timeline() throws org.apache.thrift.TException {
+			stop_timeline_result result = new stop_timeline_result();
+			receiveBase( result, "stop_timeline" );
+			return;
+		}
+
+		public timeline_status get_timeline() throws org.apache.thrift.TException {
+			send_get_timeline();
+			return recv_get_timeline();
+		}
+
+		public void send_get_timeline() throws org.apache.thrift.TException {
+			get_timeline_args args = new get_timeline_args();
+			sendBase( "get_timeline", args );
+		}
+
+		public timeline_status recv_get_timeline() throws org.apache.thrift.TException {
+			get_timeline_result result = new get_timeline_result();
+			receiveBase( result, "get_timeline" );
+			if( result.isSetSuccess() ) {
+				return result.success;
+			}
+			throw new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.MISSING_RESULT, "get_timeline failed: unknown result" );
+		}
+
+		public void set_seed( long seed ) throws org.apache.thrift.TException {
+			send_set_seed( seed );
+			recv_set_seed();
+		}
+
+		public void send_set_seed( long seed ) throws org.apache.thrift.TException {
+			set_seed_args args = new set_seed_args();
+			args.setSeed( seed );
+			sendBase( "set_seed", args );
+		}
+
+		public void recv_set_seed() throws org.apache.thrift.TException {
+			set_seed_result result = new set_seed_result();
+			receiveBase( result, "set_seed" );
+			return;
+		}
+
+		public void clear_seed() throws org.apache.thrift.TException {
+			send_clear_seed();
+			recv_clear_seed();
+		}
+
+		public void send_clear_seed() throws org.apache.thrift.TException {
+			clear_seed_args args = new clear_seed_args();
+			sendBase( "clear_seed", args );
+		}
+
+		public void recv_clear_seed() throws org.apache.thrift.TException {
+			clear_seed_result result = new clear_seed_result();
+			receiveBase( result, "clear_seed" );
+			return;
+		}
+
+		public void start_trace( java.lang.String file, int sample_rate ) throws org.apache.thrift.TException {
+			send_start_trace( file, sample_rate );
+			recv_start_trace();
+		}
+
+		public void send_start_trace( java.lang.String file, int sample_rate ) throws org.apache.thrift.TException {
+			start_trace_args args = new start_trace_args();
+			args.setFile( file );
+			args.setSample_rate( sample_rate );
+			sendBase( "start_trace", args );
+		}
+
+		public void recv_start_trace() throws org.apache.thrift.TException {
+			start_trace_result result = new start_trace_result();
+			receiveBase( result, "start_trace" );
+			return;
+		}
+
+		public void stop_trace() throws org.apache.thrift.TException {
+			send_stop_trace();
+			recv_stop_trace();
+		}
+
+		public void send_stop_trace() throws org.apache.thrift.TException {
+			stop_trace_args args = new stop_trace_args();
+			sendBase( "stop_trace", args );
+		}
+
+		public void recv_stop_trace() throws org.apache.thrift.TException {
+			stop_trace_result result = new stop_trace_result();
+			receiveBase( result, "stop_trace" );
+			return;
+		}
+
+		public java.util.List<method_stats> get_stats() throws org.apache.thrift.TException {
+			send_get_stats();
+			return recv_get_stats();
+		}
+
+		public void send_get_stats() throws org.apache.thrift.TException {
+			get_stats_args args = new get_stats_args();
+			sendBase( "get_stats", args );
+		}
+
+		public java.util.List<method_stats> recv_get_stats() throws org.apache.thrift.TException {
+			get_stats_result result = new get_stats_result();
+			receiveBase( result, "get_stats" );
+			if( result.isSetSuccess() ) {
+				return result.success;
+			}
+			throw new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.MISSING_RESULT, "get_stats failed: unknown result" );
+		}
+
+		public java.util.List<method_latency> get_latencies( boolean reset ) throws org.apache.thrift.TException {
+			send_get_latencies( reset );
+			return recv_get_latencies();
+		}
+
+		public void send_get_latencies( boolean reset ) throws org.apache.thrift.TException {
+			get_latencies_args args = new get_latencies_args();
+			args.setReset( reset );
+			sendBase( "get_latencies", args );
+		}
+
+		public java.util.List<method_latency> recv_get_latencies() throws org.apache.thrift.TException {
+			get_latencies_result result = new get_latencies_result();
+			receiveBase( result, "get_latencies" );
+			if( result.isSetSuccess() ) {
+				return result.success;
+			}
+			throw new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.MISSING_RESULT, "get_latencies failed: unknown result" );
+		}
+
+		public void set_device_model( device_latency_model model ) throws org.apache.thrift.TException {
+			send_set_device_model( model );
+			recv_set_device_model();
+		}
+
+		public void send_set_device_model( device_latency_model model ) throws org.apache.thrift.TException {
+			set_device_model_args args = new set_device_model_args();
+			args.setModel( model );
+			sendBase( "set_device_model", args );
+		}
+
+		public void recv_set_device_model() throws org.apache.thrift.TException {
+			set_device_model_result result = new set_device_model_result();
+			receiveBase( result, "set_device_model" );
+			return;
+		}
+
+		public device_latency_model get_device_model() throws org.apache.thrift.TException {
+			send_get_device_model();
+			return recv_get_device_model();
+		}
+
+		public void send_get_device_model() throws org.apache.thrift.TException {
+			get_device_model_args args = new get_device_model_args();
+			sendBase( "get_device_model", args );
+		}
+
+		public device_latency_model recv_get_device_model() throws org.apache.thrift.TException {
+			get_device_model_result result = new get_device_model_result();
+			receiveBase( result, "get_device_model" );
+			if( result.isSetSuccess() ) {
+				return result.success;
+			}
+			throw new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.MISSING_RESULT, "get_device_model failed: unknown result" );
+		}
+
 	}
 
 	public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
@@ -377,299 +747,635 @@ public class server {
 			}
 		}
 
-	}
-
-	public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-		private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger( Processor.class.getName() );
-
-		public Processor( I iface ) {
-			super( iface, getProcessMap( new java.util.HashMap<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>() ) );
-		}
-
-		protected Processor( I iface, java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap ) {
-			super( iface, getProcessMap( processMap ) );
-		}
-
-		private static <I extends Iface> java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap( java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap ) {
-			processMap.put( "get_methods", new get_methods() );
-			processMap.put( "clear_all_faults", new clear_all_faults() );
-			processMap.put( "clear_fault", new clear_fault() );
-			processMap.put( "set_fault", new set_fault() );
-			processMap.put( "set_all_fault", new set_all_fault() );
-			return processMap;
+		public void set_faults( java.util.List<fault_rule> rules, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			set_faults_call method_call = new set_faults_call( rules, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
 		}
 
-		public static class get_methods<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_methods_args> {
-			public get_methods() {
-				super( "get_methods" );
-			}
+		public static class set_faults_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			private java.util.List<fault_rule> rules;
 
-			public get_methods_args getEmptyArgsInstance() {
-				return new get_methods_args();
+			public set_faults_call( java.util.List<fault_rule> rules, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.rules = rules;
 			}
 
-			protected boolean isOneway() {
-				return false;
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "set_faults", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				set_faults_args args = new set_faults_args();
+				args.setRules( rules );
+				args.write( prot );
+				prot.writeMessageEnd();
 			}
 
-			@Override
-			protected boolean handleRuntimeExceptions() {
-				return false;
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
 			}
+		}
 
-			public get_methods_result getResult( I iface, get_methods_args args ) throws org.apache.thrift.TException {
-				get_methods_result result = new get_methods_result();
-				result.success = iface.get_methods();
-				return result;
-			}
+		public void replace_all_faults( java.util.List<fault_rule> rules, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			replace_all_faults_call method_call = new replace_all_faults_call( rules, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
 		}
 
-		public static class clear_all_faults<I extends Iface> extends org.apache.thrift.ProcessFunction<I, clear_all_faults_args> {
-			public clear_all_faults() {
-				super( "clear_all_faults" );
-			}
+		public static class replace_all_faults_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			private java.util.List<fault_rule> rules;
 
-			public clear_all_faults_args getEmptyArgsInstance() {
-				return new clear_all_faults_args();
+			public replace_all_faults_call( java.util.List<fault_rule> rules, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.rules = rules;
 			}
 
-			protected boolean isOneway() {
-				return false;
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "replace_all_faults", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				replace_all_faults_args args = new replace_all_faults_args();
+				args.setRules( rules );
+				args.write( prot );
+				prot.writeMessageEnd();
 			}
 
-			@Override
-			protected boolean handleRuntimeExceptions() {
-				return false;
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
 			}
+		}
 
-			public clear_all_faults_result getResult( I iface, clear_all_faults_args args ) throws org.apache.thrift.TException {
-				clear_all_faults_result result = new clear_all_faults_result();
-				iface.clear_all_faults();
-				return result;
-			}
+		public void set_rule_evaluation( boolean sum_delays, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			set_rule_evaluation_call method_call = new set_rule_evaluation_call( sum_delays, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
 		}
 
-		public static class clear_fault<I extends Iface> extends org.apache.thrift.ProcessFunction<I, clear_fault_args> {
-			public clear_fault() {
-				super( "clear_fault" );
+		public static class set_rule_evaluation_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			private boolean sum_delays;
+
+			public set_rule_evaluation_call( boolean sum_delays, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.sum_delays = sum_delays;
 			}
 
-			public clear_fault_args getEmptyArgsInstance() {
-				return new clear_fault_args();
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "set_rule_evaluation", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				set_rule_evaluation_args args = new set_rule_evaluation_args();
+				args.setSum_delays( sum_delays );
+				args.write( prot );
+				prot.writeMessageEnd();
 			}
 
-			protected boolean isOneway() {
-				return false;
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
 			}
+		}
 
-			@Override
-			protected boolean handleRuntimeExceptions() {
-				return false;
-			}
+		public void get_buckets( org.apache.thrift.async.AsyncMethodCallback<java.util.List<bucket_status>> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			get_buckets_call method_call = new get_buckets_call( resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
 
-			public clear_fault_result getResult( I iface, clear_fault_args args ) throws org.apache.thrift.TException {
-				clear_fault_result result = new clear_fault_result();
-				iface.clear_fault( args.method );
-				return result;
+		public static class get_buckets_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<bucket_status>> {
+			public get_buckets_call( org.apache.thrift.async.AsyncMethodCallback<java.util.List<bucket_status>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
 			}
-		}
 
-		public static class set_fault<I extends Iface> extends org.apache.thrift.ProcessFunction<I, set_fault_args> {
-			public set_fault() {
-				super( "set_fault" );
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "get_buckets", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				get_buckets_args args = new get_buckets_args();
+				args.write( prot );
+				prot.writeMessageEnd();
 			}
 
-			public set_fault_args getEmptyArgsInstance() {
-				return new set_fault_args();
+			public java.util.List<bucket_status> getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return ( new Client( prot ) ).recv_get_buckets();
 			}
+		}
 
-			protected boolean isOneway() {
-				return false;
+		public void get_queues( boolean reset, org.apache.thrift.async.AsyncMethodCallback<java.util.List<queue_status>> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			get_queues_call method_call = new get_queues_call( reset, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class get_queues_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<queue_status>> {
+			private boolean reset;
+
+			public get_queues_call( boolean reset, org.apache.thrift.async.AsyncMethodCallback<java.util.List<queue_status>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.reset = reset;
 			}
 
-			@Override
-			protected boolean handleRuntimeExceptions() {
-				return false;
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "get_queues", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				get_queues_args args = new get_queues_args();
+				args.setReset( reset );
+				args.write( prot );
+				prot.writeMessageEnd();
 			}
 
-			public set_fault_result getResult( I iface, set_fault_args args ) throws org.apache.thrift.TException {
-				set_fault_result result = new set_fault_result();
-				iface.set_fault( args.methods, args.random, args.err_no, args.probability, args.regexp, args.kill_caller, args.delay_us, args.auto_delay );
-				return result;
+			public java.util.List<queue_status> getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return ( new Client( prot ) ).recv_get_queues();
 			}
 		}
 
-		public static class set_all_fault<I extends Iface> extends org.apache.thrift.ProcessFunction<I, set_all_fault_args> {
-			public set_all_fault() {
-				super( "set_all_fault" );
+		public void set_latency_table( java.util.List<java.lang.String> methods, java.util.List<java.lang.Integer> quantiles_us, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			set_latency_table_call method_call = new set_latency_table_call( methods, quantiles_us, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class set_latency_table_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			private java.util.List<java.lang.String> methods;
+			private java.util.List<java.lang.Integer> quantiles_us;
+
+			public set_latency_table_call( java.util.List<java.lang.String> methods, java.util.List<java.lang.Integer> quantiles_us, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.methods = methods;
+				this.quantiles_us = quantiles_us;
 			}
 
-			public set_all_fault_args getEmptyArgsInstance() {
-				return new set_all_fault_args();
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "set_latency_table", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				set_latency_table_args args = new set_latency_table_args();
+				args.setMethods( methods );
+				args.setQuantiles_us( quantiles_us );
+				args.write( prot );
+				prot.writeMessageEnd();
 			}
 
-			protected boolean isOneway() {
-				return false;
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
 			}
+		}
 
-			@Override
-			protected boolean handleRuntimeExceptions() {
-				return false;
+		public void start_timeline( java.util.List<timeline_phase> phases, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			start_timeline_call method_call = new start_timeline_call( phases, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class start_timeline_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			private java.util.List<timeline_phase> phases;
+
+			public start_timeline_call( java.util.List<timeline_phase> phases, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.phases = phases;
 			}
 
-			public set_all_fault_result getResult( I iface, set_all_fault_args args ) throws org.apache.thrift.TException {
-				set_all_fault_result result = new set_all_fault_result();
-				iface.set_all_fault( args.random, args.err_no, args.probability, args.regexp, args.kill_caller, args.delay_us, args.auto_delay );
-				return result;
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "start_timeline", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				start_timeline_args args = new start_timeline_args();
+				args.setPhases( phases );
+				args.write( prot );
+				prot.writeMessageEnd();
+			}
+
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
 			}
 		}
 
-	}
+		public void stop_timeline( org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			stop_timeline_call method_call = new stop_timeline_call( resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
 
-	public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-		private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger( AsyncProcessor.class.getName() );
+		public static class stop_timeline_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			public stop_timeline_call( org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+			}
 
-		public AsyncProcessor( I iface ) {
-			super( iface, getProcessMap( new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>() ) );
-		}
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "stop_timeline", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				stop_timeline_args args = new stop_timeline_args();
+				args.write( prot );
+				prot.writeMessageEnd();
+			}
 
-		protected AsyncProcessor( I iface, java.util.Map<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>> processMap ) {
-			super( iface, getProcessMap( processMap ) );
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
+			}
 		}
 
-		private static <I extends AsyncIface> java.util.Map<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>> getProcessMap( java.util.Map<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>> processMap ) {
-			processMap.put( "get_methods", new get_methods() );
-			processMap.put( "clear_all_faults", new clear_all_faults() );
-			processMap.put( "clear_fault", new clear_fault() );
-			processMap.put( "set_fault", new set_fault() );
-			processMap.put( "set_all_fault", new set_all_fault() );
-			return processMap;
+		public void get_timeline( org.apache.thrift.async.AsyncMethodCallback<timeline_status> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			get_timeline_call method_call = new get_timeline_call( resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
 		}
 
-		public static class get_methods<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_methods_args, java.util.List<java.lang.String>> {
-			public get_methods() {
-				super( "get_methods" );
+		public static class get_timeline_call extends org.apache.thrift.async.TAsyncMethodCall<timeline_status> {
+			public get_timeline_call( org.apache.thrift.async.AsyncMethodCallback<timeline_status> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
 			}
 
-			public get_methods_args getEmptyArgsInstance() {
-				return new get_methods_args();
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "get_timeline", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				get_timeline_args args = new get_timeline_args();
+				args.write( prot );
+				prot.writeMessageEnd();
 			}
 
-			public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
-				final org.apache.thrift.AsyncProcessFunction fcall = this;
-				return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() {
-					public void onComplete( java.util.List<java.lang.String> o ) {
-						get_methods_result result = new get_methods_result();
-						result.success = o;
-						try {
-							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
-						} catch( org.apache.thrift.transport.TTransportException e ) {
-							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
-							fb.close();
-						} catch( java.lang.Exception e ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", e );
-							onError( e );
-						}
-					}
+			public timeline_status getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return ( new Client( prot ) ).recv_get_timeline();
+			}
+		}
 
-					public void onError( java.lang.Exception e ) {
-						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-						org.apache.thrift.TSerializable msg;
-						get_methods_result result = new get_methods_result();
-						if( e instanceof org.apache.thrift.transport.TTransportException ) {
-							_LOGGER.error( "TTransportException inside handler", e );
-							fb.close();
-							return;
-						} else if( e instanceof org.apache.thrift.TApplicationException ) {
-							_LOGGER.error( "TApplicationException inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = ( org.apache.thrift.TApplicationException ) e;
-						} else {
-							_LOGGER.error( "Exception inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
-						}
-						try {
-							fcall.sendResponse( fb, msg, msgType, seqid );
-						} catch( java.lang.Exception ex ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", ex );
-							fb.close();
-						}
-					}
-				};
+		public void set_seed( long seed, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			set_seed_call method_call = new set_seed_call( seed, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class set_seed_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			private long seed;
+
+			public set_seed_call( long seed, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.seed = seed;
 			}
 
-			protected boolean isOneway() {
-				return false;
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "set_seed", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				set_seed_args args = new set_seed_args();
+				args.setSeed( seed );
+				args.write( prot );
+				prot.writeMessageEnd();
 			}
 
-			public void start( I iface, get_methods_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler ) throws org.apache.thrift.TException {
-				iface.get_methods( resultHandler );
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
 			}
 		}
 
-		public static class clear_all_faults<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, clear_all_faults_args, Void> {
-			public clear_all_faults() {
-				super( "clear_all_faults" );
+		public void clear_seed( org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			clear_seed_call method_call = new clear_seed_call( resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class clear_seed_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			public clear_seed_call( org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
 			}
 
-			public clear_all_faults_args getEmptyArgsInstance() {
-				return new clear_all_faults_args();
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "clear_seed", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				clear_seed_args args = new clear_seed_args();
+				args.write( prot );
+				prot.writeMessageEnd();
 			}
 
-			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
-				final org.apache.thrift.AsyncProcessFunction fcall = this;
-				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
-					public void onComplete( Void o ) {
-						clear_all_faults_result result = new clear_all_faults_result();
-						try {
-							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
-						} catch( org.apache.thrift.transport.TTransportException e ) {
-							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
-							fb.close();
-						} catch( java.lang.Exception e ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", e );
-							onError( e );
-						}
-					}
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
+			}
+		}
 
-					public void onError( java.lang.Exception e ) {
-						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-						org.apache.thrift.TSerializable msg;
-						clear_all_faults_result result = new clear_all_faults_result();
-						if( e instanceof org.apache.thrift.transport.TTransportException ) {
-							_LOGGER.error( "TTransportException inside handler", e );
-							fb.close();
-							return;
-						} else if( e instanceof org.apache.thrift.TApplicationException ) {
-							_LOGGER.error( "TApplicationException inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = ( org.apache.thrift.TApplicationException ) e;
-						} else {
-							_LOGGER.error( "Exception inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
-						}
-						try {
-							fcall.sendResponse( fb, msg, msgType, seqid );
-						} catch( java.lang.Exception ex ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", ex );
-							fb.close();
-						}
-					}
-				};
+		public void start_trace( java.lang.String file, int sample_rate, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			start_trace_call method_call = new start_trace_call( file, sample_rate, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class start_trace_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			private java.lang.String file;
+			private int sample_rate;
+
+			public start_trace_call( java.lang.String file, int sample_rate, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.file = file;
+				this.sample_rate = sample_rate;
+			}
+
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "start_trace", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				start_trace_args args = new start_trace_args();
+				args.setFile( file );
+				args.setSample_rate( sample_rate );
+				args.write( prot );
+				prot.writeMessageEnd();
+			}
+
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
+			}
+		}
+
+		public void stop_trace( org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			stop_trace_call method_call = new stop_trace_call( resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class stop_trace_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			public stop_trace_call( org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+			}
+
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "stop_trace", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				stop_trace_args args = new stop_trace_args();
+				args.write( prot );
+				prot.writeMessageEnd();
+			}
+
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
+			}
+		}
+
+		public void get_stats( org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_stats>> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			get_stats_call method_call = new get_stats_call( resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class get_stats_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<method_stats>> {
+			public get_stats_call( org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_stats>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+			}
+
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "get_stats", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				get_stats_args args = new get_stats_args();
+				args.write( prot );
+				prot.writeMessageEnd();
+			}
+
+			public java.util.List<method_stats> getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return ( new Client( prot ) ).recv_get_stats();
+			}
+		}
+
+		public void get_latencies( boolean reset, org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_latency>> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			get_latencies_call method_call = new get_latencies_call( reset, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class get_latencies_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<method_latency>> {
+			private boolean reset;
+
+			public get_latencies_call( boolean reset, org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_latency>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.reset = reset;
+			}
+
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "get_latencies", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				get_latencies_args args = new get_latencies_args();
+				args.setReset( reset );
+				args.write( prot );
+				prot.writeMessageEnd();
+			}
+
+			public java.util.List<method_latency> getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return ( new Client( prot ) ).recv_get_latencies();
+			}
+		}
+
+		public void set_device_model( device_latency_model model, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			set_device_model_call method_call = new set_device_model_call( model, resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class set_device_model_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+			private device_latency_model model;
+
+			public set_device_model_call( device_latency_model model, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+				this.model = model;
+			}
+
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "set_device_model", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				set_device_model_args args = new set_device_model_args();
+				args.setModel( model );
+				args.write( prot );
+				prot.writeMessageEnd();
+			}
+
+			public Void getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return null;
+			}
+		}
+
+		public void get_device_model( org.apache.thrift.async.AsyncMethodCallback<device_latency_model> resultHandler ) throws org.apache.thrift.TException {
+			checkReady();
+			get_device_model_call method_call = new get_device_model_call( resultHandler, this, ___protocolFactory, ___transport );
+			this.___currentMethod = method_call;
+			___manager.call( method_call );
+		}
+
+		public static class get_device_model_call extends org.apache.thrift.async.TAsyncMethodCall<device_latency_model> {
+			public get_device_model_call( org.apache.thrift.async.AsyncMethodCallback<device_latency_model> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport ) throws org.apache.thrift.TException {
+				super( client, protocolFactory, transport, resultHandler, false );
+			}
+
+			public void write_args( org.apache.thrift.protocol.TProtocol prot ) throws org.apache.thrift.TException {
+				prot.writeMessageBegin( new org.apache.thrift.protocol.TMessage( "get_device_model", org.apache.thrift.protocol.TMessageType.CALL, 0 ) );
+				get_device_model_args args = new get_device_model_args();
+				args.write( prot );
+				prot.writeMessageEnd();
+			}
+
+			public device_latency_model getResult() throws org.apache.thrift.TException {
+				if( getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ ) {
+					throw new java.lang.IllegalStateException( "Method call not finished!" );
+				}
+				org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport( getFrameBuffer().array() );
+				org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol( memoryTransport );
+				return ( new Client( prot ) ).recv_get_device_model();
+			}
+		}
+
+	}
+
+	public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+		private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger( Processor.class.getName() );
+
+		public Processor( I iface ) {
+			super( iface, getProcessMap( new java.util.HashMap<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>() ) );
+		}
+
+		protected Processor( I iface, java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap ) {
+			super( iface, getProcessMap( processMap ) );
+		}
+
+		private static <I extends Iface> java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap( java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap ) {
+			processMap.put( "get_methods", new get_methods() );
+			processMap.put( "clear_all_faults", new clear_all_faults() );
+			processMap.put( "clear_fault", new clear_fault() );
+			processMap.put( "set_fault", new set_fault() );
+			processMap.put( "set_all_fault", new set_all_fault() );
+			processMap.put( "set_faults", new set_faults() );
+			processMap.put( "replace_all_faults", new replace_all_faults() );
+			processMap.put( "set_rule_evaluation", new set_rule_evaluation() );
+			processMap.put( "get_buckets", new get_buckets() );
+			processMap.put( "get_queues", new get_queues() );
+			processMap.put( "set_latency_table", new set_latency_table() );
+			processMap.put( "start_timeline", new start_timeline() );
+			processMap.put( "stop_timeline", new stop_timeline() );
+			processMap.put( "get_timeline", new get_timeline() );
+			processMap.put( "set_seed", new set_seed() );
+			processMap.put( "clear_seed", new clear_seed() );
+			processMap.put( "start_trace", new start_trace() );
+			processMap.put( "stop_trace", new stop_trace() );
+			processMap.put( "get_stats", new get_stats() );
+			processMap.put( "get_latencies", new get_latencies() );
+			processMap.put( "set_device_model", new set_device_model() );
+			processMap.put( "get_device_model", new get_device_model() );
+			return processMap;
+		}
+
+		public static class get_methods<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_methods_args> {
+			public get_methods() {
+				super( "get_methods" );
+			}
+
+			public get_methods_args getEmptyArgsInstance() {
+				return new get_methods_args();
 			}
 
 			protected boolean isOneway() {
 				return false;
 			}
 
-			public void start( I iface, clear_all_faults_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
-				iface.clear_all_faults( resultHandler );
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public get_methods_result getResult( I iface, get_methods_args args ) throws org.apache.thrift.TException {
+				get_methods_result result = new get_methods_result();
+				result.success = iface.get_methods();
+				return result;
 			}
 		}
 
-		public static class clear_fault<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, clear_fault_args, Void> {
+		public static class clear_all_faults<I extends Iface> extends org.apache.thrift.ProcessFunction<I, clear_all_faults_args> {
+			public clear_all_faults() {
+				super( "clear_all_faults" );
+			}
+
+			public clear_all_faults_args getEmptyArgsInstance() {
+				return new clear_all_faults_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public clear_all_faults_result getResult( I iface, clear_all_faults_args args ) throws org.apache.thrift.TException {
+				clear_all_faults_result result = new clear_all_faults_result();
+				iface.clear_all_faults();
+				return result;
+			}
+		}
+
+		public static class clear_fault<I extends Iface> extends org.apache.thrift.ProcessFunction<I, clear_fault_args> {
 			public clear_fault() {
 				super( "clear_fault" );
 			}
@@ -678,188 +1384,13288 @@ public class server {
 				return new clear_fault_args();
 			}
 
-			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
-				final org.apache.thrift.AsyncProcessFunction fcall = this;
-				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
-					public void onComplete( Void o ) {
-						clear_fault_result result = new clear_fault_result();
-						try {
-							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
-						} catch( org.apache.thrift.transport.TTransportException e ) {
-							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
-							fb.close();
-						} catch( java.lang.Exception e ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", e );
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public clear_fault_result getResult( I iface, clear_fault_args args ) throws org.apache.thrift.TException {
+				clear_fault_result result = new clear_fault_result();
+				iface.clear_fault( args.method );
+				return result;
+			}
+		}
+
+		public static class set_fault<I extends Iface> extends org.apache.thrift.ProcessFunction<I, set_fault_args> {
+			public set_fault() {
+				super( "set_fault" );
+			}
+
+			public set_fault_args getEmptyArgsInstance() {
+				return new set_fault_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public set_fault_result getResult( I iface, set_fault_args args ) throws org.apache.thrift.TException {
+				set_fault_result result = new set_fault_result();
+				iface.set_fault( args.methods, args.random, args.err_no, args.probability, args.regexp, args.kill_caller, args.delay_us, args.auto_delay );
+				return result;
+			}
+		}
+
+		public static class set_all_fault<I extends Iface> extends org.apache.thrift.ProcessFunction<I, set_all_fault_args> {
+			public set_all_fault() {
+				super( "set_all_fault" );
+			}
+
+			public set_all_fault_args getEmptyArgsInstance() {
+				return new set_all_fault_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public set_all_fault_result getResult( I iface, set_all_fault_args args ) throws org.apache.thrift.TException {
+				set_all_fault_result result = new set_all_fault_result();
+				iface.set_all_fault( args.random, args.err_no, args.probability, args.regexp, args.kill_caller, args.delay_us, args.auto_delay );
+				return result;
+			}
+		}
+
+		public static class set_faults<I extends Iface> extends org.apache.thrift.ProcessFunction<I, set_faults_args> {
+			public set_faults() {
+				super( "set_faults" );
+			}
+
+			public set_faults_args getEmptyArgsInstance() {
+				return new set_faults_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public set_faults_result getResult( I iface, set_faults_args args ) throws org.apache.thrift.TException {
+				set_faults_result result = new set_faults_result();
+				iface.set_faults( args.rules );
+				return result;
+			}
+		}
+
+		public static class replace_all_faults<I extends Iface> extends org.apache.thrift.ProcessFunction<I, replace_all_faults_args> {
+			public replace_all_faults() {
+				super( "replace_all_faults" );
+			}
+
+			public replace_all_faults_args getEmptyArgsInstance() {
+				return new replace_all_faults_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public replace_all_faults_result getResult( I iface, replace_all_faults_args args ) throws org.apache.thrift.TException {
+				replace_all_faults_result result = new replace_all_faults_result();
+				iface.replace_all_faults( args.rules );
+				return result;
+			}
+		}
+
+		public static class set_rule_evaluation<I extends Iface> extends org.apache.thrift.ProcessFunction<I, set_rule_evaluation_args> {
+			public set_rule_evaluation() {
+				super( "set_rule_evaluation" );
+			}
+
+			public set_rule_evaluation_args getEmptyArgsInstance() {
+				return new set_rule_evaluation_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public set_rule_evaluation_result getResult( I iface, set_rule_evaluation_args args ) throws org.apache.thrift.TException {
+				set_rule_evaluation_result result = new set_rule_evaluation_result();
+				iface.set_rule_evaluation( args.sum_delays );
+				return result;
+			}
+		}
+
+		public static class get_buckets<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_buckets_args> {
+			public get_buckets() {
+				super( "get_buckets" );
+			}
+
+			public get_buckets_args getEmptyArgsInstance() {
+				return new get_buckets_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public get_buckets_result getResult( I iface, get_buckets_args args ) throws org.apache.thrift.TException {
+				get_buckets_result result = new get_buckets_result();
+				result.success = iface.get_buckets();
+				return result;
+			}
+		}
+
+		public static class get_queues<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_queues_args> {
+			public get_queues() {
+				super( "get_queues" );
+			}
+
+			public get_queues_args getEmptyArgsInstance() {
+				return new get_queues_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public get_queues_result getResult( I iface, get_queues_args args ) throws org.apache.thrift.TException {
+				get_queues_result result = new get_queues_result();
+				result.success = iface.get_queues( args.reset );
+				return result;
+			}
+		}
+
+		public static class set_latency_table<I extends Iface> extends org.apache.thrift.ProcessFunction<I, set_latency_table_args> {
+			public set_latency_table() {
+				super( "set_latency_table" );
+			}
+
+			public set_latency_table_args getEmptyArgsInstance() {
+				return new set_latency_table_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public set_latency_table_result getResult( I iface, set_latency_table_args args ) throws org.apache.thrift.TException {
+				set_latency_table_result result = new set_latency_table_result();
+				iface.set_latency_table( args.methods, args.quantiles_us );
+				return result;
+			}
+		}
+
+		public static class start_timeline<I extends Iface> extends org.apache.thrift.ProcessFunction<I, start_timeline_args> {
+			public start_timeline() {
+				super( "start_timeline" );
+			}
+
+			public start_timeline_args getEmptyArgsInstance() {
+				return new start_timeline_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public start_timeline_result getResult( I iface, start_timeline_args args ) throws org.apache.thrift.TException {
+				start_timeline_result result = new start_timeline_result();
+				iface.start_timeline( args.phases );
+				return result;
+			}
+		}
+
+		public static class stop_timeline<I extends Iface> extends org.apache.thrift.ProcessFunction<I, stop_timeline_args> {
+			public stop_timeline() {
+				super( "stop_timeline" );
+			}
+
+			public stop_timeline_args getEmptyArgsInstance() {
+				return new stop_timeline_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public stop_timeline_result getResult( I iface, stop_timeline_args args ) throws org.apache.thrift.TException {
+				stop_timeline_result result = new stop_timeline_result();
+				iface.stop_timeline();
+				return result;
+			}
+		}
+
+		public static class get_timeline<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_timeline_args> {
+			public get_timeline() {
+				super( "get_timeline" );
+			}
+
+			public get_timeline_args getEmptyArgsInstance() {
+				return new get_timeline_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public get_timeline_result getResult( I iface, get_timeline_args args ) throws org.apache.thrift.TException {
+				get_timeline_result result = new get_timeline_result();
+				result.success = iface.get_timeline();
+				return result;
+			}
+		}
+
+		public static class set_seed<I extends Iface> extends org.apache.thrift.ProcessFunction<I, set_seed_args> {
+			public set_seed() {
+				super( "set_seed" );
+			}
+
+			public set_seed_args getEmptyArgsInstance() {
+				return new set_seed_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public set_seed_result getResult( I iface, set_seed_args args ) throws org.apache.thrift.TException {
+				set_seed_result result = new set_seed_result();
+				iface.set_seed( args.seed );
+				return result;
+			}
+		}
+
+		public static class clear_seed<I extends Iface> extends org.apache.thrift.ProcessFunction<I, clear_seed_args> {
+			public clear_seed() {
+				super( "clear_seed" );
+			}
+
+			public clear_seed_args getEmptyArgsInstance() {
+				return new clear_seed_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public clear_seed_result getResult( I iface, clear_seed_args args ) throws org.apache.thrift.TException {
+				clear_seed_result result = new clear_seed_result();
+				iface.clear_seed();
+				return result;
+			}
+		}
+
+		public static class start_trace<I extends Iface> extends org.apache.thrift.ProcessFunction<I, start_trace_args> {
+			public start_trace() {
+				super( "start_trace" );
+			}
+
+			public start_trace_args getEmptyArgsInstance() {
+				return new start_trace_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public start_trace_result getResult( I iface, start_trace_args args ) throws org.apache.thrift.TException {
+				start_trace_result result = new start_trace_result();
+				iface.start_trace( args.file, args.sample_rate );
+				return result;
+			}
+		}
+
+		public static class stop_trace<I extends Iface> extends org.apache.thrift.ProcessFunction<I, stop_trace_args> {
+			public stop_trace() {
+				super( "stop_trace" );
+			}
+
+			public stop_trace_args getEmptyArgsInstance() {
+				return new stop_trace_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public stop_trace_result getResult( I iface, stop_trace_args args ) throws org.apache.thrift.TException {
+				stop_trace_result result = new stop_trace_result();
+				iface.stop_trace();
+				return result;
+			}
+		}
+
+		public static class get_stats<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_stats_args> {
+			public get_stats() {
+				super( "get_stats" );
+			}
+
+			public get_stats_args getEmptyArgsInstance() {
+				return new get_stats_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public get_stats_result getResult( I iface, get_stats_args args ) throws org.apache.thrift.TException {
+				get_stats_result result = new get_stats_result();
+				result.success = iface.get_stats();
+				return result;
+			}
+		}
+
+		public static class get_latencies<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_latencies_args> {
+			public get_latencies() {
+				super( "get_latencies" );
+			}
+
+			public get_latencies_args getEmptyArgsInstance() {
+				return new get_latencies_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public get_latencies_result getResult( I iface, get_latencies_args args ) throws org.apache.thrift.TException {
+				get_latencies_result result = new get_latencies_result();
+				result.success = iface.get_latencies( args.reset );
+				return result;
+			}
+		}
+
+		public static class set_device_model<I extends Iface> extends org.apache.thrift.ProcessFunction<I, set_device_model_args> {
+			public set_device_model() {
+				super( "set_device_model" );
+			}
+
+			public set_device_model_args getEmptyArgsInstance() {
+				return new set_device_model_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public set_device_model_result getResult( I iface, set_device_model_args args ) throws org.apache.thrift.TException {
+				set_device_model_result result = new set_device_model_result();
+				iface.set_device_model( args.model );
+				return result;
+			}
+		}
+
+		public static class get_device_model<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_device_model_args> {
+			public get_device_model() {
+				super( "get_device_model" );
+			}
+
+			public get_device_model_args getEmptyArgsInstance() {
+				return new get_device_model_args();
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			@Override
+			protected boolean handleRuntimeExceptions() {
+				return false;
+			}
+
+			public get_device_model_result getResult( I iface, get_device_model_args args ) throws org.apache.thrift.TException {
+				get_device_model_result result = new get_device_model_result();
+				result.success = iface.get_device_model();
+				return result;
+			}
+		}
+
+	}
+
+	public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+		private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger( AsyncProcessor.class.getName() );
+
+		public AsyncProcessor( I iface ) {
+			super( iface, getProcessMap( new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>() ) );
+		}
+
+		protected AsyncProcessor( I iface, java.util.Map<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>> processMap ) {
+			super( iface, getProcessMap( processMap ) );
+		}
+
+		private static <I extends AsyncIface> java.util.Map<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>> getProcessMap( java.util.Map<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>> processMap ) {
+			processMap.put( "get_methods", new get_methods() );
+			processMap.put( "clear_all_faults", new clear_all_faults() );
+			processMap.put( "clear_fault", new clear_fault() );
+			processMap.put( "set_fault", new set_fault() );
+			processMap.put( "set_all_fault", new set_all_fault() );
+			processMap.put( "set_faults", new set_faults() );
+			processMap.put( "replace_all_faults", new replace_all_faults() );
+			processMap.put( "set_rule_evaluation", new set_rule_evaluation() );
+			processMap.put( "get_buckets", new get_buckets() );
+			processMap.put( "get_queues", new get_queues() );
+			processMap.put( "set_latency_table", new set_latency_table() );
+			processMap.put( "start_timeline", new start_timeline() );
+			processMap.put( "stop_timeline", new stop_timeline() );
+			processMap.put( "get_timeline", new get_timeline() );
+			processMap.put( "set_seed", new set_seed() );
+			processMap.put( "clear_seed", new clear_seed() );
+			processMap.put( "start_trace", new start_trace() );
+			processMap.put( "stop_trace", new stop_trace() );
+			processMap.put( "get_stats", new get_stats() );
+			processMap.put( "get_latencies", new get_latencies() );
+			processMap.put( "set_device_model", new set_device_model() );
+			processMap.put( "get_device_model", new get_device_model() );
+			return processMap;
+		}
+
+		public static class get_methods<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_methods_args, java.util.List<java.lang.String>> {
+			public get_methods() {
+				super( "get_methods" );
+			}
+
+			public get_methods_args getEmptyArgsInstance() {
+				return new get_methods_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() {
+					public void onComplete( java.util.List<java.lang.String> o ) {
+						get_methods_result result = new get_methods_result();
+						result.success = o;
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						get_methods_result result = new get_methods_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, get_methods_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler ) throws org.apache.thrift.TException {
+				iface.get_methods( resultHandler );
+			}
+		}
+
+		public static class clear_all_faults<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, clear_all_faults_args, Void> {
+			public clear_all_faults() {
+				super( "clear_all_faults" );
+			}
+
+			public clear_all_faults_args getEmptyArgsInstance() {
+				return new clear_all_faults_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						clear_all_faults_result result = new clear_all_faults_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						clear_all_faults_result result = new clear_all_faults_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, clear_all_faults_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.clear_all_faults( resultHandler );
+			}
+		}
+
+		public static class clear_fault<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, clear_fault_args, Void> {
+			public clear_fault() {
+				super( "clear_fault" );
+			}
+
+			public clear_fault_args getEmptyArgsInstance() {
+				return new clear_fault_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						clear_fault_result result = new clear_fault_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						clear_fault_result result = new clear_fault_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, clear_fault_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.clear_fault( args.method, resultHandler );
+			}
+		}
+
+		public static class set_fault<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, set_fault_args, Void> {
+			public set_fault() {
+				super( "set_fault" );
+			}
+
+			public set_fault_args getEmptyArgsInstance() {
+				return new set_fault_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						set_fault_result result = new set_fault_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						set_fault_result result = new set_fault_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, set_fault_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.set_fault( args.methods, args.random, args.err_no, args.probability, args.regexp, args.kill_caller, args.delay_us, args.auto_delay, resultHandler );
+			}
+		}
+
+		public static class set_all_fault<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, set_all_fault_args, Void> {
+			public set_all_fault() {
+				super( "set_all_fault" );
+			}
+
+			public set_all_fault_args getEmptyArgsInstance() {
+				return new set_all_fault_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						set_all_fault_result result = new set_all_fault_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						set_all_fault_result result = new set_all_fault_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, set_all_fault_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.set_all_fault( args.random, args.err_no, args.probability, args.regexp, args.kill_caller, args.delay_us, args.auto_delay, resultHandler );
+			}
+		}
+
+		public static class set_faults<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, set_faults_args, Void> {
+			public set_faults() {
+				super( "set_faults" );
+			}
+
+			public set_faults_args getEmptyArgsInstance() {
+				return new set_faults_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						set_faults_result result = new set_faults_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						set_faults_result result = new set_faults_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, set_faults_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.set_faults( args.rules, resultHandler );
+			}
+		}
+
+		public static class replace_all_faults<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, replace_all_faults_args, Void> {
+			public replace_all_faults() {
+				super( "replace_all_faults" );
+			}
+
+			public replace_all_faults_args getEmptyArgsInstance() {
+				return new replace_all_faults_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						replace_all_faults_result result = new replace_all_faults_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						replace_all_faults_result result = new replace_all_faults_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, replace_all_faults_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.replace_all_faults( args.rules, resultHandler );
+			}
+		}
+
+		public static class set_rule_evaluation<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, set_rule_evaluation_args, Void> {
+			public set_rule_evaluation() {
+				super( "set_rule_evaluation" );
+			}
+
+			public set_rule_evaluation_args getEmptyArgsInstance() {
+				return new set_rule_evaluation_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						set_rule_evaluation_result result = new set_rule_evaluation_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						set_rule_evaluation_result result = new set_rule_evaluation_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, set_rule_evaluation_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.set_rule_evaluation( args.sum_delays, resultHandler );
+			}
+		}
+
+		public static class get_buckets<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_buckets_args, java.util.List<bucket_status>> {
+			public get_buckets() {
+				super( "get_buckets" );
+			}
+
+			public get_buckets_args getEmptyArgsInstance() {
+				return new get_buckets_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<java.util.List<bucket_status>> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<bucket_status>>() {
+					public void onComplete( java.util.List<bucket_status> o ) {
+						get_buckets_result result = new get_buckets_result();
+						result.success = o;
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						get_buckets_result result = new get_buckets_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, get_buckets_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<bucket_status>> resultHandler ) throws org.apache.thrift.TException {
+				iface.get_buckets( resultHandler );
+			}
+		}
+
+		public static class get_queues<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_queues_args, java.util.List<queue_status>> {
+			public get_queues() {
+				super( "get_queues" );
+			}
+
+			public get_queues_args getEmptyArgsInstance() {
+				return new get_queues_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<java.util.List<queue_status>> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<queue_status>>() {
+					public void onComplete( java.util.List<queue_status> o ) {
+						get_queues_result result = new get_queues_result();
+						result.success = o;
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						get_queues_result result = new get_queues_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, get_queues_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<queue_status>> resultHandler ) throws org.apache.thrift.TException {
+				iface.get_queues( args.reset, resultHandler );
+			}
+		}
+
+		public static class set_latency_table<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, set_latency_table_args, Void> {
+			public set_latency_table() {
+				super( "set_latency_table" );
+			}
+
+			public set_latency_table_args getEmptyArgsInstance() {
+				return new set_latency_table_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						set_latency_table_result result = new set_latency_table_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						set_latency_table_result result = new set_latency_table_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, set_latency_table_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.set_latency_table( args.methods, args.quantiles_us, resultHandler );
+			}
+		}
+
+		public static class start_timeline<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, start_timeline_args, Void> {
+			public start_timeline() {
+				super( "start_timeline" );
+			}
+
+			public start_timeline_args getEmptyArgsInstance() {
+				return new start_timeline_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						start_timeline_result result = new start_timeline_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						start_timeline_result result = new start_timeline_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, start_timeline_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.start_timeline( args.phases, resultHandler );
+			}
+		}
+
+		public static class stop_timeline<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, stop_timeline_args, Void> {
+			public stop_timeline() {
+				super( "stop_timeline" );
+			}
+
+			public stop_timeline_args getEmptyArgsInstance() {
+				return new stop_timeline_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						stop_timeline_result result = new stop_timeline_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						stop_timeline_result result = new stop_timeline_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, stop_timeline_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.stop_timeline( resultHandler );
+			}
+		}
+
+		public static class get_timeline<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_timeline_args, timeline_status> {
+			public get_timeline() {
+				super( "get_timeline" );
+			}
+
+			public get_timeline_args getEmptyArgsInstance() {
+				return new get_timeline_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<timeline_status> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<timeline_status>() {
+					public void onComplete( timeline_status o ) {
+						get_timeline_result result = new get_timeline_result();
+						result.success = o;
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						get_timeline_result result = new get_timeline_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, get_timeline_args args, org.apache.thrift.async.AsyncMethodCallback<timeline_status> resultHandler ) throws org.apache.thrift.TException {
+				iface.get_timeline( resultHandler );
+			}
+		}
+
+		public static class set_seed<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, set_seed_args, Void> {
+			public set_seed() {
+				super( "set_seed" );
+			}
+
+			public set_seed_args getEmptyArgsInstance() {
+				return new set_seed_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						set_seed_result result = new set_seed_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						set_seed_result result = new set_seed_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, set_seed_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.set_seed( args.seed, resultHandler );
+			}
+		}
+
+		public static class clear_seed<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, clear_seed_args, Void> {
+			public clear_seed() {
+				super( "clear_seed" );
+			}
+
+			public clear_seed_args getEmptyArgsInstance() {
+				return new clear_seed_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						clear_seed_result result = new clear_seed_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						clear_seed_result result = new clear_seed_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, clear_seed_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.clear_seed( resultHandler );
+			}
+		}
+
+		public static class start_trace<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, start_trace_args, Void> {
+			public start_trace() {
+				super( "start_trace" );
+			}
+
+			public start_trace_args getEmptyArgsInstance() {
+				return new start_trace_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						start_trace_result result = new start_trace_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						start_trace_result result = new start_trace_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, start_trace_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.start_trace( args.file, args.sample_rate, resultHandler );
+			}
+		}
+
+		public static class stop_trace<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, stop_trace_args, Void> {
+			public stop_trace() {
+				super( "stop_trace" );
+			}
+
+			public stop_trace_args getEmptyArgsInstance() {
+				return new stop_trace_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						stop_trace_result result = new stop_trace_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						stop_trace_result result = new stop_trace_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, stop_trace_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.stop_trace( resultHandler );
+			}
+		}
+
+		public static class get_stats<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_stats_args, java.util.List<method_stats>> {
+			public get_stats() {
+				super( "get_stats" );
+			}
+
+			public get_stats_args getEmptyArgsInstance() {
+				return new get_stats_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_stats>> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_stats>>() {
+					public void onComplete( java.util.List<method_stats> o ) {
+						get_stats_result result = new get_stats_result();
+						result.success = o;
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						get_stats_result result = new get_stats_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, get_stats_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_stats>> resultHandler ) throws org.apache.thrift.TException {
+				iface.get_stats( resultHandler );
+			}
+		}
+
+		public static class get_latencies<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_latencies_args, java.util.List<method_latency>> {
+			public get_latencies() {
+				super( "get_latencies" );
+			}
+
+			public get_latencies_args getEmptyArgsInstance() {
+				return new get_latencies_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_latency>> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_latency>>() {
+					public void onComplete( java.util.List<method_latency> o ) {
+						get_latencies_result result = new get_latencies_result();
+						result.success = o;
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						get_latencies_result result = new get_latencies_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, get_latencies_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<method_latency>> resultHandler ) throws org.apache.thrift.TException {
+				iface.get_latencies( args.reset, resultHandler );
+			}
+		}
+
+		public static class set_device_model<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, set_device_model_args, Void> {
+			public set_device_model() {
+				super( "set_device_model" );
+			}
+
+			public set_device_model_args getEmptyArgsInstance() {
+				return new set_device_model_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
+					public void onComplete( Void o ) {
+						set_device_model_result result = new set_device_model_result();
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
+							onError( e );
+						}
+					}
+
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						set_device_model_result result = new set_device_model_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, set_device_model_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
+				iface.set_device_model( args.model, resultHandler );
+			}
+		}
+
+		public static class get_device_model<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_device_model_args, device_latency_model> {
+			public get_device_model() {
+				super( "get_device_model" );
+			}
+
+			public get_device_model_args getEmptyArgsInstance() {
+				return new get_device_model_args();
+			}
+
+			public org.apache.thrift.async.AsyncMethodCallback<device_latency_model> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
+				final org.apache.thrift.AsyncProcessFunction fcall = this;
+				return new org.apache.thrift.async.AsyncMethodCallback<device_latency_model>() {
+					public void onComplete( device_latency_model o ) {
+						get_device_model_result result = new get_device_model_result();
+						result.success = o;
+						try {
+							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
+						} catch( org.apache.thrift.transport.TTransportException e ) {
+							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
+							fb.close();
+						} catch( java.lang.Exception e ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", e );
 							onError( e );
 						}
 					}
 
-					public void onError( java.lang.Exception e ) {
-						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-						org.apache.thrift.TSerializable msg;
-						clear_fault_result result = new clear_fault_result();
-						if( e instanceof org.apache.thrift.transport.TTransportException ) {
-							_LOGGER.error( "TTransportException inside handler", e );
-							fb.close();
-							return;
-						} else if( e instanceof org.apache.thrift.TApplicationException ) {
-							_LOGGER.error( "TApplicationException inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = ( org.apache.thrift.TApplicationException ) e;
-						} else {
-							_LOGGER.error( "Exception inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
-						}
-						try {
-							fcall.sendResponse( fb, msg, msgType, seqid );
-						} catch( java.lang.Exception ex ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", ex );
-							fb.close();
-						}
+					public void onError( java.lang.Exception e ) {
+						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+						org.apache.thrift.TSerializable msg;
+						get_device_model_result result = new get_device_model_result();
+						if( e instanceof org.apache.thrift.transport.TTransportException ) {
+							_LOGGER.error( "TTransportException inside handler", e );
+							fb.close();
+							return;
+						} else if( e instanceof org.apache.thrift.TApplicationException ) {
+							_LOGGER.error( "TApplicationException inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = ( org.apache.thrift.TApplicationException ) e;
+						} else {
+							_LOGGER.error( "Exception inside handler", e );
+							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
+						}
+						try {
+							fcall.sendResponse( fb, msg, msgType, seqid );
+						} catch( java.lang.Exception ex ) {
+							_LOGGER.error( "Exception writing to internal frame buffer", ex );
+							fb.close();
+						}
+					}
+				};
+			}
+
+			protected boolean isOneway() {
+				return false;
+			}
+
+			public void start( I iface, get_device_model_args args, org.apache.thrift.async.AsyncMethodCallback<device_latency_model> resultHandler ) throws org.apache.thrift.TException {
+				iface.get_device_model( resultHandler );
+			}
+		}
+
+	}
+
+	public static class get_methods_args implements org.apache.thrift.TBase<get_methods_args, get_methods_args._Fields>, java.io.Serializable, Cloneable, Comparable<get_methods_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_methods_args" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_methods_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_methods_argsTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_methods_args.class, metaDataMap );
+		}
+
+		public get_methods_args() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_methods_args( get_methods_args other ) {
+		}
+
+		public get_methods_args deepCopy() {
+			return new get_methods_args( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_methods_args ) {
+				return this.equals( ( get_methods_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( get_methods_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( get_methods_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_methods_args(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class get_methods_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_methods_argsStandardScheme getScheme() {
+				return new get_methods_argsStandardScheme();
+			}
+		}
+
+		private static class get_methods_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_methods_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_methods_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_methods_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class get_methods_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_methods_argsTupleScheme getScheme() {
+				return new get_methods_argsTupleScheme();
+			}
+		}
+
+		private static class get_methods_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_methods_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_methods_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_methods_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class get_methods_result implements org.apache.thrift.TBase<get_methods_result, get_methods_result._Fields>, java.io.Serializable, Cloneable, Comparable<get_methods_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_methods_result" );
+
+		private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField( "success", org.apache.thrift.protocol.TType.LIST, ( short ) 0 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_methods_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_methods_resultTupleSchemeFactory();
+
+		public java.util.List<java.lang.String> success; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			SUCCESS( ( short ) 0, "success" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 0: // SUCCESS
+						return SUCCESS;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData( "success", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                            new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                          new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_methods_result.class, metaDataMap );
+		}
+
+		public get_methods_result() {
+		}
+
+		public get_methods_result(
+				java.util.List<java.lang.String> success ) {
+			this();
+			this.success = success;
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_methods_result( get_methods_result other ) {
+			if( other.isSetSuccess() ) {
+				java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>( other.success );
+				this.success = __this__success;
+			}
+		}
+
+		public get_methods_result deepCopy() {
+			return new get_methods_result( this );
+		}
+
+		@Override
+		public void clear() {
+			this.success = null;
+		}
+
+		public int getSuccessSize() {
+			return ( this.success == null ) ? 0 : this.success.size();
+		}
+
+		public java.util.Iterator<java.lang.String> getSuccessIterator() {
+			return ( this.success == null ) ? null : this.success.iterator();
+		}
+
+		public void addToSuccess( java.lang.String elem ) {
+			if( this.success == null ) {
+				this.success = new java.util.ArrayList<java.lang.String>();
+			}
+			this.success.add( elem );
+		}
+
+		public java.util.List<java.lang.String> getSuccess() {
+			return this.success;
+		}
+
+		public get_methods_result setSuccess( java.util.List<java.lang.String> success ) {
+			this.success = success;
+			return this;
+		}
+
+		public void unsetSuccess() {
+			this.success = null;
+		}
+
+		/** Returns true if field success is set (has been assigned a value) and false otherwise */
+		public boolean isSetSuccess() {
+			return this.success != null;
+		}
+
+		public void setSuccessIsSet( boolean value ) {
+			if( !value ) {
+				this.success = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case SUCCESS:
+					if( value == null ) {
+						unsetSuccess();
+					} else {
+						setSuccess( ( java.util.List<java.lang.String> ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case SUCCESS:
+					return getSuccess();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case SUCCESS:
+					return isSetSuccess();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_methods_result ) {
+				return this.equals( ( get_methods_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( get_methods_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_success = true && this.isSetSuccess();
+			boolean that_present_success = true && that.isSetSuccess();
+			if( this_present_success || that_present_success ) {
+				if( !( this_present_success && that_present_success ) ) {
+					return false;
+				}
+				if( !this.success.equals( that.success ) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetSuccess() ) ? 131071 : 524287 );
+			if( isSetSuccess() ) {
+				hashCode = hashCode * 8191 + success.hashCode();
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( get_methods_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetSuccess() ).compareTo( other.isSetSuccess() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSuccess() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.success, other.success );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_methods_result(" );
+			boolean first = true;
+
+			sb.append( "success:" );
+			if( this.success == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.success );
+			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class get_methods_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_methods_resultStandardScheme getScheme() {
+				return new get_methods_resultStandardScheme();
+			}
+		}
+
+		private static class get_methods_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_methods_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_methods_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 0: // SUCCESS
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+									struct.success = new java.util.ArrayList<java.lang.String>( _list48.size );
+									java.lang.String _elem49;
+									for( int _i50 = 0; _i50 < _list48.size; ++_i50 ) {
+										_elem49 = iprot.readString();
+										struct.success.add( _elem49 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setSuccessIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_methods_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.success != null ) {
+					oprot.writeFieldBegin( SUCCESS_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, struct.success.size() ) );
+						for( java.lang.String _iter51 : struct.success ) {
+							oprot.writeString( _iter51 );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class get_methods_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_methods_resultTupleScheme getScheme() {
+				return new get_methods_resultTupleScheme();
+			}
+		}
+
+		private static class get_methods_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_methods_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_methods_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetSuccess() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetSuccess() ) {
+					{
+						oprot.writeI32( struct.success.size() );
+						for( java.lang.String _iter52 : struct.success ) {
+							oprot.writeString( _iter52 );
+						}
+					}
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_methods_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list53 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, iprot.readI32() );
+						struct.success = new java.util.ArrayList<java.lang.String>( _list53.size );
+						java.lang.String _elem54;
+						for( int _i55 = 0; _i55 < _list53.size; ++_i55 ) {
+							_elem54 = iprot.readString();
+							struct.success.add( _elem54 );
+						}
+					}
+					struct.setSuccessIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class clear_all_faults_args implements org.apache.thrift.TBase<clear_all_faults_args, clear_all_faults_args._Fields>, java.io.Serializable, Cloneable, Comparable<clear_all_faults_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_all_faults_args" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_all_faults_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_all_faults_argsTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_all_faults_args.class, metaDataMap );
+		}
+
+		public clear_all_faults_args() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public clear_all_faults_args( clear_all_faults_args other ) {
+		}
+
+		public clear_all_faults_args deepCopy() {
+			return new clear_all_faults_args( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof clear_all_faults_args ) {
+				return this.equals( ( clear_all_faults_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( clear_all_faults_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( clear_all_faults_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_all_faults_args(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class clear_all_faults_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_all_faults_argsStandardScheme getScheme() {
+				return new clear_all_faults_argsStandardScheme();
+			}
+		}
+
+		private static class clear_all_faults_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_all_faults_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_all_faults_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_all_faults_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class clear_all_faults_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_all_faults_argsTupleScheme getScheme() {
+				return new clear_all_faults_argsTupleScheme();
+			}
+		}
+
+		private static class clear_all_faults_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_all_faults_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, clear_all_faults_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, clear_all_faults_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class clear_all_faults_result implements org.apache.thrift.TBase<clear_all_faults_result, clear_all_faults_result._Fields>, java.io.Serializable, Cloneable, Comparable<clear_all_faults_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_all_faults_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_all_faults_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_all_faults_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_all_faults_result.class, metaDataMap );
+		}
+
+		public clear_all_faults_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public clear_all_faults_result( clear_all_faults_result other ) {
+		}
+
+		public clear_all_faults_result deepCopy() {
+			return new clear_all_faults_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof clear_all_faults_result ) {
+				return this.equals( ( clear_all_faults_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( clear_all_faults_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( clear_all_faults_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_all_faults_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class clear_all_faults_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_all_faults_resultStandardScheme getScheme() {
+				return new clear_all_faults_resultStandardScheme();
+			}
+		}
+
+		private static class clear_all_faults_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_all_faults_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_all_faults_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_all_faults_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class clear_all_faults_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_all_faults_resultTupleScheme getScheme() {
+				return new clear_all_faults_resultTupleScheme();
+			}
+		}
+
+		private static class clear_all_faults_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_all_faults_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, clear_all_faults_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, clear_all_faults_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class clear_fault_args implements org.apache.thrift.TBase<clear_fault_args, clear_fault_args._Fields>, java.io.Serializable, Cloneable, Comparable<clear_fault_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_fault_args" );
+
+		private static final org.apache.thrift.protocol.TField METHOD_FIELD_DESC = new org.apache.thrift.protocol.TField( "method", org.apache.thrift.protocol.TType.STRING, ( short ) 1 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_fault_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_fault_argsTupleSchemeFactory();
+
+		public java.lang.String method; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			METHOD( ( short ) 1, "method" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // METHOD
+						return METHOD;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.METHOD, new org.apache.thrift.meta_data.FieldMetaData( "method", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_fault_args.class, metaDataMap );
+		}
+
+		public clear_fault_args() {
+		}
+
+		public clear_fault_args(
+				java.lang.String method ) {
+			this();
+			this.method = method;
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public clear_fault_args( clear_fault_args other ) {
+			if( other.isSetMethod() ) {
+				this.method = other.method;
+			}
+		}
+
+		public clear_fault_args deepCopy() {
+			return new clear_fault_args( this );
+		}
+
+		@Override
+		public void clear() {
+			this.method = null;
+		}
+
+		public java.lang.String getMethod() {
+			return this.method;
+		}
+
+		public clear_fault_args setMethod( java.lang.String method ) {
+			this.method = method;
+			return this;
+		}
+
+		public void unsetMethod() {
+			this.method = null;
+		}
+
+		/** Returns true if field method is set (has been assigned a value) and false otherwise */
+		public boolean isSetMethod() {
+			return this.method != null;
+		}
+
+		public void setMethodIsSet( boolean value ) {
+			if( !value ) {
+				this.method = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case METHOD:
+					if( value == null ) {
+						unsetMethod();
+					} else {
+						setMethod( ( java.lang.String ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case METHOD:
+					return getMethod();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case METHOD:
+					return isSetMethod();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof clear_fault_args ) {
+				return this.equals( ( clear_fault_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( clear_fault_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_method = true && this.isSetMethod();
+			boolean that_present_method = true && that.isSetMethod();
+			if( this_present_method || that_present_method ) {
+				if( !( this_present_method && that_present_method ) ) {
+					return false;
+				}
+				if( !this.method.equals( that.method ) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetMethod() ) ? 131071 : 524287 );
+			if( isSetMethod() ) {
+				hashCode = hashCode * 8191 + method.hashCode();
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( clear_fault_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetMethod() ).compareTo( other.isSetMethod() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetMethod() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.method, other.method );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_fault_args(" );
+			boolean first = true;
+
+			sb.append( "method:" );
+			if( this.method == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.method );
+			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class clear_fault_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_fault_argsStandardScheme getScheme() {
+				return new clear_fault_argsStandardScheme();
+			}
+		}
+
+		private static class clear_fault_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_fault_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_fault_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // METHOD
+							if( schemeField.type == org.apache.thrift.protocol.TType.STRING ) {
+								struct.method = iprot.readString();
+								struct.setMethodIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_fault_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.method != null ) {
+					oprot.writeFieldBegin( METHOD_FIELD_DESC );
+					oprot.writeString( struct.method );
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class clear_fault_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_fault_argsTupleScheme getScheme() {
+				return new clear_fault_argsTupleScheme();
+			}
+		}
+
+		private static class clear_fault_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_fault_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, clear_fault_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetMethod() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetMethod() ) {
+					oprot.writeString( struct.method );
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, clear_fault_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					struct.method = iprot.readString();
+					struct.setMethodIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class clear_fault_result implements org.apache.thrift.TBase<clear_fault_result, clear_fault_result._Fields>, java.io.Serializable, Cloneable, Comparable<clear_fault_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_fault_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_fault_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_fault_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_fault_result.class, metaDataMap );
+		}
+
+		public clear_fault_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public clear_fault_result( clear_fault_result other ) {
+		}
+
+		public clear_fault_result deepCopy() {
+			return new clear_fault_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof clear_fault_result ) {
+				return this.equals( ( clear_fault_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( clear_fault_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( clear_fault_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_fault_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class clear_fault_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_fault_resultStandardScheme getScheme() {
+				return new clear_fault_resultStandardScheme();
+			}
+		}
+
+		private static class clear_fault_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_fault_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_fault_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_fault_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class clear_fault_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_fault_resultTupleScheme getScheme() {
+				return new clear_fault_resultTupleScheme();
+			}
+		}
+
+		private static class clear_fault_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_fault_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, clear_fault_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, clear_fault_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_fault_args implements org.apache.thrift.TBase<set_fault_args, set_fault_args._Fields>, java.io.Serializable, Cloneable, Comparable<set_fault_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_fault_args" );
+
+		private static final org.apache.thrift.protocol.TField METHODS_FIELD_DESC = new org.apache.thrift.protocol.TField( "methods", org.apache.thrift.protocol.TType.LIST, ( short ) 1 );
+		private static final org.apache.thrift.protocol.TField RANDOM_FIELD_DESC = new org.apache.thrift.protocol.TField( "random", org.apache.thrift.protocol.TType.BOOL, ( short ) 2 );
+		private static final org.apache.thrift.protocol.TField ERR_NO_FIELD_DESC = new org.apache.thrift.protocol.TField( "err_no", org.apache.thrift.protocol.TType.I32, ( short ) 3 );
+		private static final org.apache.thrift.protocol.TField PROBABILITY_FIELD_DESC = new org.apache.thrift.protocol.TField( "probability", org.apache.thrift.protocol.TType.I32, ( short ) 4 );
+		private static final org.apache.thrift.protocol.TField REGEXP_FIELD_DESC = new org.apache.thrift.protocol.TField( "regexp", org.apache.thrift.protocol.TType.STRING, ( short ) 5 );
+		private static final org.apache.thrift.protocol.TField KILL_CALLER_FIELD_DESC = new org.apache.thrift.protocol.TField( "kill_caller", org.apache.thrift.protocol.TType.BOOL, ( short ) 6 );
+		private static final org.apache.thrift.protocol.TField DELAY_US_FIELD_DESC = new org.apache.thrift.protocol.TField( "delay_us", org.apache.thrift.protocol.TType.I32, ( short ) 7 );
+		private static final org.apache.thrift.protocol.TField AUTO_DELAY_FIELD_DESC = new org.apache.thrift.protocol.TField( "auto_delay", org.apache.thrift.protocol.TType.BOOL, ( short ) 8 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_fault_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_fault_argsTupleSchemeFactory();
+
+		public java.util.List<java.lang.String> methods; // required
+		public boolean random; // required
+		public int err_no; // required
+		public int probability; // required
+		public java.lang.String regexp; // required
+		public boolean kill_caller; // required
+		public int delay_us; // required
+		public boolean auto_delay; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			METHODS( ( short ) 1, "methods" ),
+			RANDOM( ( short ) 2, "random" ),
+			ERR_NO( ( short ) 3, "err_no" ),
+			PROBABILITY( ( short ) 4, "probability" ),
+			REGEXP( ( short ) 5, "regexp" ),
+			KILL_CALLER( ( short ) 6, "kill_caller" ),
+			DELAY_US( ( short ) 7, "delay_us" ),
+			AUTO_DELAY( ( short ) 8, "auto_delay" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // METHODS
+						return METHODS;
+					case 2: // RANDOM
+						return RANDOM;
+					case 3: // ERR_NO
+						return ERR_NO;
+					case 4: // PROBABILITY
+						return PROBABILITY;
+					case 5: // REGEXP
+						return REGEXP;
+					case 6: // KILL_CALLER
+						return KILL_CALLER;
+					case 7: // DELAY_US
+						return DELAY_US;
+					case 8: // AUTO_DELAY
+						return AUTO_DELAY;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		private static final int __RANDOM_ISSET_ID = 0;
+		private static final int __ERR_NO_ISSET_ID = 1;
+		private static final int __PROBABILITY_ISSET_ID = 2;
+		private static final int __KILL_CALLER_ISSET_ID = 3;
+		private static final int __DELAY_US_ISSET_ID = 4;
+		private static final int __AUTO_DELAY_ISSET_ID = 5;
+		private byte __isset_bitfield = 0;
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.METHODS, new org.apache.thrift.meta_data.FieldMetaData( "methods", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                            new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                          new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) ) );
+			tmpMap.put( _Fields.RANDOM, new org.apache.thrift.meta_data.FieldMetaData( "random", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			tmpMap.put( _Fields.ERR_NO, new org.apache.thrift.meta_data.FieldMetaData( "err_no", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
+			tmpMap.put( _Fields.PROBABILITY, new org.apache.thrift.meta_data.FieldMetaData( "probability", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                                new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
+			tmpMap.put( _Fields.REGEXP, new org.apache.thrift.meta_data.FieldMetaData( "regexp", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) );
+			tmpMap.put( _Fields.KILL_CALLER, new org.apache.thrift.meta_data.FieldMetaData( "kill_caller", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                                new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			tmpMap.put( _Fields.DELAY_US, new org.apache.thrift.meta_data.FieldMetaData( "delay_us", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                             new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
+			tmpMap.put( _Fields.AUTO_DELAY, new org.apache.thrift.meta_data.FieldMetaData( "auto_delay", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                               new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_fault_args.class, metaDataMap );
+		}
+
+		public set_fault_args() {
+		}
+
+		public set_fault_args(
+				java.util.List<java.lang.String> methods,
+				boolean random,
+				int err_no,
+				int probability,
+				java.lang.String regexp,
+				boolean kill_caller,
+				int delay_us,
+				boolean auto_delay ) {
+			this();
+			this.methods = methods;
+			this.random = random;
+			setRandomIsSet( true );
+			this.err_no = err_no;
+			setErr_noIsSet( true );
+			this.probability = probability;
+			setProbabilityIsSet( true );
+			this.regexp = regexp;
+			this.kill_caller = kill_caller;
+			setKill_callerIsSet( true );
+			this.delay_us = delay_us;
+			setDelay_usIsSet( true );
+			this.auto_delay = auto_delay;
+			setAuto_delayIsSet( true );
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_fault_args( set_fault_args other ) {
+			__isset_bitfield = other.__isset_bitfield;
+			if( other.isSetMethods() ) {
+				java.util.List<java.lang.String> __this__methods = new java.util.ArrayList<java.lang.String>( other.methods );
+				this.methods = __this__methods;
+			}
+			this.random = other.random;
+			this.err_no = other.err_no;
+			this.probability = other.probability;
+			if( other.isSetRegexp() ) {
+				this.regexp = other.regexp;
+			}
+			this.kill_caller = other.kill_caller;
+			this.delay_us = other.delay_us;
+			this.auto_delay = other.auto_delay;
+		}
+
+		public set_fault_args deepCopy() {
+			return new set_fault_args( this );
+		}
+
+		@Override
+		public void clear() {
+			this.methods = null;
+			setRandomIsSet( false );
+			this.random = false;
+			setErr_noIsSet( false );
+			this.err_no = 0;
+			setProbabilityIsSet( false );
+			this.probability = 0;
+			this.regexp = null;
+			setKill_callerIsSet( false );
+			this.kill_caller = false;
+			setDelay_usIsSet( false );
+			this.delay_us = 0;
+			setAuto_delayIsSet( false );
+			this.auto_delay = false;
+		}
+
+		public int getMethodsSize() {
+			return ( this.methods == null ) ? 0 : this.methods.size();
+		}
+
+		public java.util.Iterator<java.lang.String> getMethodsIterator() {
+			return ( this.methods == null ) ? null : this.methods.iterator();
+		}
+
+		public void addToMethods( java.lang.String elem ) {
+			if( this.methods == null ) {
+				this.methods = new java.util.ArrayList<java.lang.String>();
+			}
+			this.methods.add( elem );
+		}
+
+		public java.util.List<java.lang.String> getMethods() {
+			return this.methods;
+		}
+
+		public set_fault_args setMethods( java.util.List<java.lang.String> methods ) {
+			this.methods = methods;
+			return this;
+		}
+
+		public void unsetMethods() {
+			this.methods = null;
+		}
+
+		/** Returns true if field methods is set (has been assigned a value) and false otherwise */
+		public boolean isSetMethods() {
+			return this.methods != null;
+		}
+
+		public void setMethodsIsSet( boolean value ) {
+			if( !value ) {
+				this.methods = null;
+			}
+		}
+
+		public boolean isRandom() {
+			return this.random;
+		}
+
+		public set_fault_args setRandom( boolean random ) {
+			this.random = random;
+			setRandomIsSet( true );
+			return this;
+		}
+
+		public void unsetRandom() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __RANDOM_ISSET_ID );
+		}
+
+		/** Returns true if field random is set (has been assigned a value) and false otherwise */
+		public boolean isSetRandom() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __RANDOM_ISSET_ID );
+		}
+
+		public void setRandomIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __RANDOM_ISSET_ID, value );
+		}
+
+		public int getErr_no() {
+			return this.err_no;
+		}
+
+		public set_fault_args setErr_no( int err_no ) {
+			this.err_no = err_no;
+			setErr_noIsSet( true );
+			return this;
+		}
+
+		public void unsetErr_no() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __ERR_NO_ISSET_ID );
+		}
+
+		/** Returns true if field err_no is set (has been assigned a value) and false otherwise */
+		public boolean isSetErr_no() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __ERR_NO_ISSET_ID );
+		}
+
+		public void setErr_noIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __ERR_NO_ISSET_ID, value );
+		}
+
+		public int getProbability() {
+			return this.probability;
+		}
+
+		public set_fault_args setProbability( int probability ) {
+			this.probability = probability;
+			setProbabilityIsSet( true );
+			return this;
+		}
+
+		public void unsetProbability() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __PROBABILITY_ISSET_ID );
+		}
+
+		/** Returns true if field probability is set (has been assigned a value) and false otherwise */
+		public boolean isSetProbability() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __PROBABILITY_ISSET_ID );
+		}
+
+		public void setProbabilityIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __PROBABILITY_ISSET_ID, value );
+		}
+
+		public java.lang.String getRegexp() {
+			return this.regexp;
+		}
+
+		public set_fault_args setRegexp( java.lang.String regexp ) {
+			this.regexp = regexp;
+			return this;
+		}
+
+		public void unsetRegexp() {
+			this.regexp = null;
+		}
+
+		/** Returns true if field regexp is set (has been assigned a value) and false otherwise */
+		public boolean isSetRegexp() {
+			return this.regexp != null;
+		}
+
+		public void setRegexpIsSet( boolean value ) {
+			if( !value ) {
+				this.regexp = null;
+			}
+		}
+
+		public boolean isKill_caller() {
+			return this.kill_caller;
+		}
+
+		public set_fault_args setKill_caller( boolean kill_caller ) {
+			this.kill_caller = kill_caller;
+			setKill_callerIsSet( true );
+			return this;
+		}
+
+		public void unsetKill_caller() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __KILL_CALLER_ISSET_ID );
+		}
+
+		/** Returns true if field kill_caller is set (has been assigned a value) and false otherwise */
+		public boolean isSetKill_caller() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __KILL_CALLER_ISSET_ID );
+		}
+
+		public void setKill_callerIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __KILL_CALLER_ISSET_ID, value );
+		}
+
+		public int getDelay_us() {
+			return this.delay_us;
+		}
+
+		public set_fault_args setDelay_us( int delay_us ) {
+			this.delay_us = delay_us;
+			setDelay_usIsSet( true );
+			return this;
+		}
+
+		public void unsetDelay_us() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __DELAY_US_ISSET_ID );
+		}
+
+		/** Returns true if field delay_us is set (has been assigned a value) and false otherwise */
+		public boolean isSetDelay_us() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __DELAY_US_ISSET_ID );
+		}
+
+		public void setDelay_usIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __DELAY_US_ISSET_ID, value );
+		}
+
+		public boolean isAuto_delay() {
+			return this.auto_delay;
+		}
+
+		public set_fault_args setAuto_delay( boolean auto_delay ) {
+			this.auto_delay = auto_delay;
+			setAuto_delayIsSet( true );
+			return this;
+		}
+
+		public void unsetAuto_delay() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID );
+		}
+
+		/** Returns true if field auto_delay is set (has been assigned a value) and false otherwise */
+		public boolean isSetAuto_delay() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID );
+		}
+
+		public void setAuto_delayIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID, value );
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case METHODS:
+					if( value == null ) {
+						unsetMethods();
+					} else {
+						setMethods( ( java.util.List<java.lang.String> ) value );
+					}
+					break;
+
+				case RANDOM:
+					if( value == null ) {
+						unsetRandom();
+					} else {
+						setRandom( ( java.lang.Boolean ) value );
+					}
+					break;
+
+				case ERR_NO:
+					if( value == null ) {
+						unsetErr_no();
+					} else {
+						setErr_no( ( java.lang.Integer ) value );
+					}
+					break;
+
+				case PROBABILITY:
+					if( value == null ) {
+						unsetProbability();
+					} else {
+						setProbability( ( java.lang.Integer ) value );
+					}
+					break;
+
+				case REGEXP:
+					if( value == null ) {
+						unsetRegexp();
+					} else {
+						setRegexp( ( java.lang.String ) value );
+					}
+					break;
+
+				case KILL_CALLER:
+					if( value == null ) {
+						unsetKill_caller();
+					} else {
+						setKill_caller( ( java.lang.Boolean ) value );
+					}
+					break;
+
+				case DELAY_US:
+					if( value == null ) {
+						unsetDelay_us();
+					} else {
+						setDelay_us( ( java.lang.Integer ) value );
+					}
+					break;
+
+				case AUTO_DELAY:
+					if( value == null ) {
+						unsetAuto_delay();
+					} else {
+						setAuto_delay( ( java.lang.Boolean ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case METHODS:
+					return getMethods();
+
+				case RANDOM:
+					return isRandom();
+
+				case ERR_NO:
+					return getErr_no();
+
+				case PROBABILITY:
+					return getProbability();
+
+				case REGEXP:
+					return getRegexp();
+
+				case KILL_CALLER:
+					return isKill_caller();
+
+				case DELAY_US:
+					return getDelay_us();
+
+				case AUTO_DELAY:
+					return isAuto_delay();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case METHODS:
+					return isSetMethods();
+				case RANDOM:
+					return isSetRandom();
+				case ERR_NO:
+					return isSetErr_no();
+				case PROBABILITY:
+					return isSetProbability();
+				case REGEXP:
+					return isSetRegexp();
+				case KILL_CALLER:
+					return isSetKill_caller();
+				case DELAY_US:
+					return isSetDelay_us();
+				case AUTO_DELAY:
+					return isSetAuto_delay();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_fault_args ) {
+				return this.equals( ( set_fault_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_fault_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_methods = true && this.isSetMethods();
+			boolean that_present_methods = true && that.isSetMethods();
+			if( this_present_methods || that_present_methods ) {
+				if( !( this_present_methods && that_present_methods ) ) {
+					return false;
+				}
+				if( !this.methods.equals( that.methods ) ) {
+					return false;
+				}
+			}
+
+			boolean this_present_random = true;
+			boolean that_present_random = true;
+			if( this_present_random || that_present_random ) {
+				if( !( this_present_random && that_present_random ) ) {
+					return false;
+				}
+				if( this.random != that.random ) {
+					return false;
+				}
+			}
+
+			boolean this_present_err_no = true;
+			boolean that_present_err_no = true;
+			if( this_present_err_no || that_present_err_no ) {
+				if( !( this_present_err_no && that_present_err_no ) ) {
+					return false;
+				}
+				if( this.err_no != that.err_no ) {
+					return false;
+				}
+			}
+
+			boolean this_present_probability = true;
+			boolean that_present_probability = true;
+			if( this_present_probability || that_present_probability ) {
+				if( !( this_present_probability && that_present_probability ) ) {
+					return false;
+				}
+				if( this.probability != that.probability ) {
+					return false;
+				}
+			}
+
+			boolean this_present_regexp = true && this.isSetRegexp();
+			boolean that_present_regexp = true && that.isSetRegexp();
+			if( this_present_regexp || that_present_regexp ) {
+				if( !( this_present_regexp && that_present_regexp ) ) {
+					return false;
+				}
+				if( !this.regexp.equals( that.regexp ) ) {
+					return false;
+				}
+			}
+
+			boolean this_present_kill_caller = true;
+			boolean that_present_kill_caller = true;
+			if( this_present_kill_caller || that_present_kill_caller ) {
+				if( !( this_present_kill_caller && that_present_kill_caller ) ) {
+					return false;
+				}
+				if( this.kill_caller != that.kill_caller ) {
+					return false;
+				}
+			}
+
+			boolean this_present_delay_us = true;
+			boolean that_present_delay_us = true;
+			if( this_present_delay_us || that_present_delay_us ) {
+				if( !( this_present_delay_us && that_present_delay_us ) ) {
+					return false;
+				}
+				if( this.delay_us != that.delay_us ) {
+					return false;
+				}
+			}
+
+			boolean this_present_auto_delay = true;
+			boolean that_present_auto_delay = true;
+			if( this_present_auto_delay || that_present_auto_delay ) {
+				if( !( this_present_auto_delay && that_present_auto_delay ) ) {
+					return false;
+				}
+				if( this.auto_delay != that.auto_delay ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetMethods() ) ? 131071 : 524287 );
+			if( isSetMethods() ) {
+				hashCode = hashCode * 8191 + methods.hashCode();
+			}
+
+			hashCode = hashCode * 8191 + ( ( random ) ? 131071 : 524287 );
+
+			hashCode = hashCode * 8191 + err_no;
+
+			hashCode = hashCode * 8191 + probability;
+
+			hashCode = hashCode * 8191 + ( ( isSetRegexp() ) ? 131071 : 524287 );
+			if( isSetRegexp() ) {
+				hashCode = hashCode * 8191 + regexp.hashCode();
+			}
+
+			hashCode = hashCode * 8191 + ( ( kill_caller ) ? 131071 : 524287 );
+
+			hashCode = hashCode * 8191 + delay_us;
+
+			hashCode = hashCode * 8191 + ( ( auto_delay ) ? 131071 : 524287 );
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_fault_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetMethods() ).compareTo( other.isSetMethods() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetMethods() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.methods, other.methods );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetRandom() ).compareTo( other.isSetRandom() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetRandom() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.random, other.random );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetErr_no() ).compareTo( other.isSetErr_no() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetErr_no() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.err_no, other.err_no );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetProbability() ).compareTo( other.isSetProbability() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetProbability() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.probability, other.probability );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetRegexp() ).compareTo( other.isSetRegexp() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetRegexp() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.regexp, other.regexp );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetKill_caller() ).compareTo( other.isSetKill_caller() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetKill_caller() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.kill_caller, other.kill_caller );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetDelay_us() ).compareTo( other.isSetDelay_us() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetDelay_us() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.delay_us, other.delay_us );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetAuto_delay() ).compareTo( other.isSetAuto_delay() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetAuto_delay() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.auto_delay, other.auto_delay );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_fault_args(" );
+			boolean first = true;
+
+			sb.append( "methods:" );
+			if( this.methods == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.methods );
+			}
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "random:" );
+			sb.append( this.random );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "err_no:" );
+			sb.append( this.err_no );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "probability:" );
+			sb.append( this.probability );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "regexp:" );
+			if( this.regexp == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.regexp );
+			}
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "kill_caller:" );
+			sb.append( this.kill_caller );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "delay_us:" );
+			sb.append( this.delay_us );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "auto_delay:" );
+			sb.append( this.auto_delay );
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				// it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+				__isset_bitfield = 0;
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_fault_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_fault_argsStandardScheme getScheme() {
+				return new set_fault_argsStandardScheme();
+			}
+		}
+
+		private static class set_fault_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_fault_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_fault_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // METHODS
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+									struct.methods = new java.util.ArrayList<java.lang.String>( _list56.size );
+									java.lang.String _elem57;
+									for( int _i58 = 0; _i58 < _list56.size; ++_i58 ) {
+										_elem57 = iprot.readString();
+										struct.methods.add( _elem57 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setMethodsIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 2: // RANDOM
+							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
+								struct.random = iprot.readBool();
+								struct.setRandomIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 3: // ERR_NO
+							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
+								struct.err_no = iprot.readI32();
+								struct.setErr_noIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 4: // PROBABILITY
+							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
+								struct.probability = iprot.readI32();
+								struct.setProbabilityIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 5: // REGEXP
+							if( schemeField.type == org.apache.thrift.protocol.TType.STRING ) {
+								struct.regexp = iprot.readString();
+								struct.setRegexpIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 6: // KILL_CALLER
+							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
+								struct.kill_caller = iprot.readBool();
+								struct.setKill_callerIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 7: // DELAY_US
+							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
+								struct.delay_us = iprot.readI32();
+								struct.setDelay_usIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 8: // AUTO_DELAY
+							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
+								struct.auto_delay = iprot.readBool();
+								struct.setAuto_delayIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_fault_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.methods != null ) {
+					oprot.writeFieldBegin( METHODS_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, struct.methods.size() ) );
+						for( java.lang.String _iter59 : struct.methods ) {
+							oprot.writeString( _iter59 );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldBegin( RANDOM_FIELD_DESC );
+				oprot.writeBool( struct.random );
+				oprot.writeFieldEnd();
+				oprot.writeFieldBegin( ERR_NO_FIELD_DESC );
+				oprot.writeI32( struct.err_no );
+				oprot.writeFieldEnd();
+				oprot.writeFieldBegin( PROBABILITY_FIELD_DESC );
+				oprot.writeI32( struct.probability );
+				oprot.writeFieldEnd();
+				if( struct.regexp != null ) {
+					oprot.writeFieldBegin( REGEXP_FIELD_DESC );
+					oprot.writeString( struct.regexp );
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldBegin( KILL_CALLER_FIELD_DESC );
+				oprot.writeBool( struct.kill_caller );
+				oprot.writeFieldEnd();
+				oprot.writeFieldBegin( DELAY_US_FIELD_DESC );
+				oprot.writeI32( struct.delay_us );
+				oprot.writeFieldEnd();
+				oprot.writeFieldBegin( AUTO_DELAY_FIELD_DESC );
+				oprot.writeBool( struct.auto_delay );
+				oprot.writeFieldEnd();
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_fault_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_fault_argsTupleScheme getScheme() {
+				return new set_fault_argsTupleScheme();
+			}
+		}
+
+		private static class set_fault_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_fault_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_fault_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetMethods() ) {
+					optionals.set( 0 );
+				}
+				if( struct.isSetRandom() ) {
+					optionals.set( 1 );
+				}
+				if( struct.isSetErr_no() ) {
+					optionals.set( 2 );
+				}
+				if( struct.isSetProbability() ) {
+					optionals.set( 3 );
+				}
+				if( struct.isSetRegexp() ) {
+					optionals.set( 4 );
+				}
+				if( struct.isSetKill_caller() ) {
+					optionals.set( 5 );
+				}
+				if( struct.isSetDelay_us() ) {
+					optionals.set( 6 );
+				}
+				if( struct.isSetAuto_delay() ) {
+					optionals.set( 7 );
+				}
+				oprot.writeBitSet( optionals, 8 );
+				if( struct.isSetMethods() ) {
+					{
+						oprot.writeI32( struct.methods.size() );
+						for( java.lang.String _iter60 : struct.methods ) {
+							oprot.writeString( _iter60 );
+						}
+					}
+				}
+				if( struct.isSetRandom() ) {
+					oprot.writeBool( struct.random );
+				}
+				if( struct.isSetErr_no() ) {
+					oprot.writeI32( struct.err_no );
+				}
+				if( struct.isSetProbability() ) {
+					oprot.writeI32( struct.probability );
+				}
+				if( struct.isSetRegexp() ) {
+					oprot.writeString( struct.regexp );
+				}
+				if( struct.isSetKill_caller() ) {
+					oprot.writeBool( struct.kill_caller );
+				}
+				if( struct.isSetDelay_us() ) {
+					oprot.writeI32( struct.delay_us );
+				}
+				if( struct.isSetAuto_delay() ) {
+					oprot.writeBool( struct.auto_delay );
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_fault_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 8 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, iprot.readI32() );
+						struct.methods = new java.util.ArrayList<java.lang.String>( _list61.size );
+						java.lang.String _elem62;
+						for( int _i63 = 0; _i63 < _list61.size; ++_i63 ) {
+							_elem62 = iprot.readString();
+							struct.methods.add( _elem62 );
+						}
+					}
+					struct.setMethodsIsSet( true );
+				}
+				if( incoming.get( 1 ) ) {
+					struct.random = iprot.readBool();
+					struct.setRandomIsSet( true );
+				}
+				if( incoming.get( 2 ) ) {
+					struct.err_no = iprot.readI32();
+					struct.setErr_noIsSet( true );
+				}
+				if( incoming.get( 3 ) ) {
+					struct.probability = iprot.readI32();
+					struct.setProbabilityIsSet( true );
+				}
+				if( incoming.get( 4 ) ) {
+					struct.regexp = iprot.readString();
+					struct.setRegexpIsSet( true );
+				}
+				if( incoming.get( 5 ) ) {
+					struct.kill_caller = iprot.readBool();
+					struct.setKill_callerIsSet( true );
+				}
+				if( incoming.get( 6 ) ) {
+					struct.delay_us = iprot.readI32();
+					struct.setDelay_usIsSet( true );
+				}
+				if( incoming.get( 7 ) ) {
+					struct.auto_delay = iprot.readBool();
+					struct.setAuto_delayIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_fault_result implements org.apache.thrift.TBase<set_fault_result, set_fault_result._Fields>, java.io.Serializable, Cloneable, Comparable<set_fault_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_fault_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_fault_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_fault_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_fault_result.class, metaDataMap );
+		}
+
+		public set_fault_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_fault_result( set_fault_result other ) {
+		}
+
+		public set_fault_result deepCopy() {
+			return new set_fault_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_fault_result ) {
+				return this.equals( ( set_fault_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_fault_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_fault_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_fault_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_fault_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_fault_resultStandardScheme getScheme() {
+				return new set_fault_resultStandardScheme();
+			}
+		}
+
+		private static class set_fault_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_fault_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_fault_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_fault_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_fault_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_fault_resultTupleScheme getScheme() {
+				return new set_fault_resultTupleScheme();
+			}
+		}
+
+		private static class set_fault_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_fault_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_fault_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_fault_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_all_fault_args implements org.apache.thrift.TBase<set_all_fault_args, set_all_fault_args._Fields>, java.io.Serializable, Cloneable, Comparable<set_all_fault_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_all_fault_args" );
+
+		private static final org.apache.thrift.protocol.TField RANDOM_FIELD_DESC = new org.apache.thrift.protocol.TField( "random", org.apache.thrift.protocol.TType.BOOL, ( short ) 1 );
+		private static final org.apache.thrift.protocol.TField ERR_NO_FIELD_DESC = new org.apache.thrift.protocol.TField( "err_no", org.apache.thrift.protocol.TType.I32, ( short ) 2 );
+		private static final org.apache.thrift.protocol.TField PROBABILITY_FIELD_DESC = new org.apache.thrift.protocol.TField( "probability", org.apache.thrift.protocol.TType.I32, ( short ) 3 );
+		private static final org.apache.thrift.protocol.TField REGEXP_FIELD_DESC = new org.apache.thrift.protocol.TField( "regexp", org.apache.thrift.protocol.TType.STRING, ( short ) 4 );
+		private static final org.apache.thrift.protocol.TField KILL_CALLER_FIELD_DESC = new org.apache.thrift.protocol.TField( "kill_caller", org.apache.thrift.protocol.TType.BOOL, ( short ) 5 );
+		private static final org.apache.thrift.protocol.TField DELAY_US_FIELD_DESC = new org.apache.thrift.protocol.TField( "delay_us", org.apache.thrift.protocol.TType.I32, ( short ) 6 );
+		private static final org.apache.thrift.protocol.TField AUTO_DELAY_FIELD_DESC = new org.apache.thrift.protocol.TField( "auto_delay", org.apache.thrift.protocol.TType.BOOL, ( short ) 7 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_all_fault_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_all_fault_argsTupleSchemeFactory();
+
+		public boolean random; // required
+		public int err_no; // required
+		public int probability; // required
+		public java.lang.String regexp; // required
+		public boolean kill_caller; // required
+		public int delay_us; // required
+		public boolean auto_delay; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			RANDOM( ( short ) 1, "random" ),
+			ERR_NO( ( short ) 2, "err_no" ),
+			PROBABILITY( ( short ) 3, "probability" ),
+			REGEXP( ( short ) 4, "regexp" ),
+			KILL_CALLER( ( short ) 5, "kill_caller" ),
+			DELAY_US( ( short ) 6, "delay_us" ),
+			AUTO_DELAY( ( short ) 7, "auto_delay" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // RANDOM
+						return RANDOM;
+					case 2: // ERR_NO
+						return ERR_NO;
+					case 3: // PROBABILITY
+						return PROBABILITY;
+					case 4: // REGEXP
+						return REGEXP;
+					case 5: // KILL_CALLER
+						return KILL_CALLER;
+					case 6: // DELAY_US
+						return DELAY_US;
+					case 7: // AUTO_DELAY
+						return AUTO_DELAY;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		private static final int __RANDOM_ISSET_ID = 0;
+		private static final int __ERR_NO_ISSET_ID = 1;
+		private static final int __PROBABILITY_ISSET_ID = 2;
+		private static final int __KILL_CALLER_ISSET_ID = 3;
+		private static final int __DELAY_US_ISSET_ID = 4;
+		private static final int __AUTO_DELAY_ISSET_ID = 5;
+		private byte __isset_bitfield = 0;
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.RANDOM, new org.apache.thrift.meta_data.FieldMetaData( "random", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			tmpMap.put( _Fields.ERR_NO, new org.apache.thrift.meta_data.FieldMetaData( "err_no", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
+			tmpMap.put( _Fields.PROBABILITY, new org.apache.thrift.meta_data.FieldMetaData( "probability", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                                new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
+			tmpMap.put( _Fields.REGEXP, new org.apache.thrift.meta_data.FieldMetaData( "regexp", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) );
+			tmpMap.put( _Fields.KILL_CALLER, new org.apache.thrift.meta_data.FieldMetaData( "kill_caller", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                                new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			tmpMap.put( _Fields.DELAY_US, new org.apache.thrift.meta_data.FieldMetaData( "delay_us", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                             new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
+			tmpMap.put( _Fields.AUTO_DELAY, new org.apache.thrift.meta_data.FieldMetaData( "auto_delay", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                               new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_all_fault_args.class, metaDataMap );
+		}
+
+		public set_all_fault_args() {
+		}
+
+		public set_all_fault_args(
+				boolean random,
+				int err_no,
+				int probability,
+				java.lang.String regexp,
+				boolean kill_caller,
+				int delay_us,
+				boolean auto_delay ) {
+			this();
+			this.random = random;
+			setRandomIsSet( true );
+			this.err_no = err_no;
+			setErr_noIsSet( true );
+			this.probability = probability;
+			setProbabilityIsSet( true );
+			this.regexp = regexp;
+			this.kill_caller = kill_caller;
+			setKill_callerIsSet( true );
+			this.delay_us = delay_us;
+			setDelay_usIsSet( true );
+			this.auto_delay = auto_delay;
+			setAuto_delayIsSet( true );
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_all_fault_args( set_all_fault_args other ) {
+			__isset_bitfield = other.__isset_bitfield;
+			this.random = other.random;
+			this.err_no = other.err_no;
+			this.probability = other.probability;
+			if( other.isSetRegexp() ) {
+				this.regexp = other.regexp;
+			}
+			this.kill_caller = other.kill_caller;
+			this.delay_us = other.delay_us;
+			this.auto_delay = other.auto_delay;
+		}
+
+		public set_all_fault_args deepCopy() {
+			return new set_all_fault_args( this );
+		}
+
+		@Override
+		public void clear() {
+			setRandomIsSet( false );
+			this.random = false;
+			setErr_noIsSet( false );
+			this.err_no = 0;
+			setProbabilityIsSet( false );
+			this.probability = 0;
+			this.regexp = null;
+			setKill_callerIsSet( false );
+			this.kill_caller = false;
+			setDelay_usIsSet( false );
+			this.delay_us = 0;
+			setAuto_delayIsSet( false );
+			this.auto_delay = false;
+		}
+
+		public boolean isRandom() {
+			return this.random;
+		}
+
+		public set_all_fault_args setRandom( boolean random ) {
+			this.random = random;
+			setRandomIsSet( true );
+			return this;
+		}
+
+		public void unsetRandom() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __RANDOM_ISSET_ID );
+		}
+
+		/** Returns true if field random is set (has been assigned a value) and false otherwise */
+		public boolean isSetRandom() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __RANDOM_ISSET_ID );
+		}
+
+		public void setRandomIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __RANDOM_ISSET_ID, value );
+		}
+
+		public int getErr_no() {
+			return this.err_no;
+		}
+
+		public set_all_fault_args setErr_no( int err_no ) {
+			this.err_no = err_no;
+			setErr_noIsSet( true );
+			return this;
+		}
+
+		public void unsetErr_no() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __ERR_NO_ISSET_ID );
+		}
+
+		/** Returns true if field err_no is set (has been assigned a value) and false otherwise */
+		public boolean isSetErr_no() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __ERR_NO_ISSET_ID );
+		}
+
+		public void setErr_noIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __ERR_NO_ISSET_ID, value );
+		}
+
+		public int getProbability() {
+			return this.probability;
+		}
+
+		public set_all_fault_args setProbability( int probability ) {
+			this.probability = probability;
+			setProbabilityIsSet( true );
+			return this;
+		}
+
+		public void unsetProbability() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __PROBABILITY_ISSET_ID );
+		}
+
+		/** Returns true if field probability is set (has been assigned a value) and false otherwise */
+		public boolean isSetProbability() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __PROBABILITY_ISSET_ID );
+		}
+
+		public void setProbabilityIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __PROBABILITY_ISSET_ID, value );
+		}
+
+		public java.lang.String getRegexp() {
+			return this.regexp;
+		}
+
+		public set_all_fault_args setRegexp( java.lang.String regexp ) {
+			this.regexp = regexp;
+			return this;
+		}
+
+		public void unsetRegexp() {
+			this.regexp = null;
+		}
+
+		/** Returns true if field regexp is set (has been assigned a value) and false otherwise */
+		public boolean isSetRegexp() {
+			return this.regexp != null;
+		}
+
+		public void setRegexpIsSet( boolean value ) {
+			if( !value ) {
+				this.regexp = null;
+			}
+		}
+
+		public boolean isKill_caller() {
+			return this.kill_caller;
+		}
+
+		public set_all_fault_args setKill_caller( boolean kill_caller ) {
+			this.kill_caller = kill_caller;
+			setKill_callerIsSet( true );
+			return this;
+		}
+
+		public void unsetKill_caller() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __KILL_CALLER_ISSET_ID );
+		}
+
+		/** Returns true if field kill_caller is set (has been assigned a value) and false otherwise */
+		public boolean isSetKill_caller() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __KILL_CALLER_ISSET_ID );
+		}
+
+		public void setKill_callerIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __KILL_CALLER_ISSET_ID, value );
+		}
+
+		public int getDelay_us() {
+			return this.delay_us;
+		}
+
+		public set_all_fault_args setDelay_us( int delay_us ) {
+			this.delay_us = delay_us;
+			setDelay_usIsSet( true );
+			return this;
+		}
+
+		public void unsetDelay_us() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __DELAY_US_ISSET_ID );
+		}
+
+		/** Returns true if field delay_us is set (has been assigned a value) and false otherwise */
+		public boolean isSetDelay_us() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __DELAY_US_ISSET_ID );
+		}
+
+		public void setDelay_usIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __DELAY_US_ISSET_ID, value );
+		}
+
+		public boolean isAuto_delay() {
+			return this.auto_delay;
+		}
+
+		public set_all_fault_args setAuto_delay( boolean auto_delay ) {
+			this.auto_delay = auto_delay;
+			setAuto_delayIsSet( true );
+			return this;
+		}
+
+		public void unsetAuto_delay() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID );
+		}
+
+		/** Returns true if field auto_delay is set (has been assigned a value) and false otherwise */
+		public boolean isSetAuto_delay() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID );
+		}
+
+		public void setAuto_delayIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID, value );
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case RANDOM:
+					if( value == null ) {
+						unsetRandom();
+					} else {
+						setRandom( ( java.lang.Boolean ) value );
+					}
+					break;
+
+				case ERR_NO:
+					if( value == null ) {
+						unsetErr_no();
+					} else {
+						setErr_no( ( java.lang.Integer ) value );
+					}
+					break;
+
+				case PROBABILITY:
+					if( value == null ) {
+						unsetProbability();
+					} else {
+						setProbability( ( java.lang.Integer ) value );
+					}
+					break;
+
+				case REGEXP:
+					if( value == null ) {
+						unsetRegexp();
+					} else {
+						setRegexp( ( java.lang.String ) value );
+					}
+					break;
+
+				case KILL_CALLER:
+					if( value == null ) {
+						unsetKill_caller();
+					} else {
+						setKill_caller( ( java.lang.Boolean ) value );
+					}
+					break;
+
+				case DELAY_US:
+					if( value == null ) {
+						unsetDelay_us();
+					} else {
+						setDelay_us( ( java.lang.Integer ) value );
+					}
+					break;
+
+				case AUTO_DELAY:
+					if( value == null ) {
+						unsetAuto_delay();
+					} else {
+						setAuto_delay( ( java.lang.Boolean ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case RANDOM:
+					return isRandom();
+
+				case ERR_NO:
+					return getErr_no();
+
+				case PROBABILITY:
+					return getProbability();
+
+				case REGEXP:
+					return getRegexp();
+
+				case KILL_CALLER:
+					return isKill_caller();
+
+				case DELAY_US:
+					return getDelay_us();
+
+				case AUTO_DELAY:
+					return isAuto_delay();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case RANDOM:
+					return isSetRandom();
+				case ERR_NO:
+					return isSetErr_no();
+				case PROBABILITY:
+					return isSetProbability();
+				case REGEXP:
+					return isSetRegexp();
+				case KILL_CALLER:
+					return isSetKill_caller();
+				case DELAY_US:
+					return isSetDelay_us();
+				case AUTO_DELAY:
+					return isSetAuto_delay();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_all_fault_args ) {
+				return this.equals( ( set_all_fault_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_all_fault_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_random = true;
+			boolean that_present_random = true;
+			if( this_present_random || that_present_random ) {
+				if( !( this_present_random && that_present_random ) ) {
+					return false;
+				}
+				if( this.random != that.random ) {
+					return false;
+				}
+			}
+
+			boolean this_present_err_no = true;
+			boolean that_present_err_no = true;
+			if( this_present_err_no || that_present_err_no ) {
+				if( !( this_present_err_no && that_present_err_no ) ) {
+					return false;
+				}
+				if( this.err_no != that.err_no ) {
+					return false;
+				}
+			}
+
+			boolean this_present_probability = true;
+			boolean that_present_probability = true;
+			if( this_present_probability || that_present_probability ) {
+				if( !( this_present_probability && that_present_probability ) ) {
+					return false;
+				}
+				if( this.probability != that.probability ) {
+					return false;
+				}
+			}
+
+			boolean this_present_regexp = true && this.isSetRegexp();
+			boolean that_present_regexp = true && that.isSetRegexp();
+			if( this_present_regexp || that_present_regexp ) {
+				if( !( this_present_regexp && that_present_regexp ) ) {
+					return false;
+				}
+				if( !this.regexp.equals( that.regexp ) ) {
+					return false;
+				}
+			}
+
+			boolean this_present_kill_caller = true;
+			boolean that_present_kill_caller = true;
+			if( this_present_kill_caller || that_present_kill_caller ) {
+				if( !( this_present_kill_caller && that_present_kill_caller ) ) {
+					return false;
+				}
+				if( this.kill_caller != that.kill_caller ) {
+					return false;
+				}
+			}
+
+			boolean this_present_delay_us = true;
+			boolean that_present_delay_us = true;
+			if( this_present_delay_us || that_present_delay_us ) {
+				if( !( this_present_delay_us && that_present_delay_us ) ) {
+					return false;
+				}
+				if( this.delay_us != that.delay_us ) {
+					return false;
+				}
+			}
+
+			boolean this_present_auto_delay = true;
+			boolean that_present_auto_delay = true;
+			if( this_present_auto_delay || that_present_auto_delay ) {
+				if( !( this_present_auto_delay && that_present_auto_delay ) ) {
+					return false;
+				}
+				if( this.auto_delay != that.auto_delay ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( random ) ? 131071 : 524287 );
+
+			hashCode = hashCode * 8191 + err_no;
+
+			hashCode = hashCode * 8191 + probability;
+
+			hashCode = hashCode * 8191 + ( ( isSetRegexp() ) ? 131071 : 524287 );
+			if( isSetRegexp() ) {
+				hashCode = hashCode * 8191 + regexp.hashCode();
+			}
+
+			hashCode = hashCode * 8191 + ( ( kill_caller ) ? 131071 : 524287 );
+
+			hashCode = hashCode * 8191 + delay_us;
+
+			hashCode = hashCode * 8191 + ( ( auto_delay ) ? 131071 : 524287 );
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_all_fault_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetRandom() ).compareTo( other.isSetRandom() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetRandom() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.random, other.random );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetErr_no() ).compareTo( other.isSetErr_no() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetErr_no() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.err_no, other.err_no );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetProbability() ).compareTo( other.isSetProbability() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetProbability() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.probability, other.probability );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetRegexp() ).compareTo( other.isSetRegexp() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetRegexp() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.regexp, other.regexp );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetKill_caller() ).compareTo( other.isSetKill_caller() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetKill_caller() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.kill_caller, other.kill_caller );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetDelay_us() ).compareTo( other.isSetDelay_us() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetDelay_us() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.delay_us, other.delay_us );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetAuto_delay() ).compareTo( other.isSetAuto_delay() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetAuto_delay() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.auto_delay, other.auto_delay );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_all_fault_args(" );
+			boolean first = true;
+
+			sb.append( "random:" );
+			sb.append( this.random );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "err_no:" );
+			sb.append( this.err_no );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "probability:" );
+			sb.append( this.probability );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "regexp:" );
+			if( this.regexp == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.regexp );
+			}
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "kill_caller:" );
+			sb.append( this.kill_caller );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "delay_us:" );
+			sb.append( this.delay_us );
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "auto_delay:" );
+			sb.append( this.auto_delay );
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				// it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+				__isset_bitfield = 0;
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_all_fault_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_all_fault_argsStandardScheme getScheme() {
+				return new set_all_fault_argsStandardScheme();
+			}
+		}
+
+		private static class set_all_fault_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_all_fault_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_all_fault_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // RANDOM
+							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
+								struct.random = iprot.readBool();
+								struct.setRandomIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 2: // ERR_NO
+							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
+								struct.err_no = iprot.readI32();
+								struct.setErr_noIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 3: // PROBABILITY
+							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
+								struct.probability = iprot.readI32();
+								struct.setProbabilityIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 4: // REGEXP
+							if( schemeField.type == org.apache.thrift.protocol.TType.STRING ) {
+								struct.regexp = iprot.readString();
+								struct.setRegexpIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 5: // KILL_CALLER
+							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
+								struct.kill_caller = iprot.readBool();
+								struct.setKill_callerIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 6: // DELAY_US
+							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
+								struct.delay_us = iprot.readI32();
+								struct.setDelay_usIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 7: // AUTO_DELAY
+							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
+								struct.auto_delay = iprot.readBool();
+								struct.setAuto_delayIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_all_fault_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldBegin( RANDOM_FIELD_DESC );
+				oprot.writeBool( struct.random );
+				oprot.writeFieldEnd();
+				oprot.writeFieldBegin( ERR_NO_FIELD_DESC );
+				oprot.writeI32( struct.err_no );
+				oprot.writeFieldEnd();
+				oprot.writeFieldBegin( PROBABILITY_FIELD_DESC );
+				oprot.writeI32( struct.probability );
+				oprot.writeFieldEnd();
+				if( struct.regexp != null ) {
+					oprot.writeFieldBegin( REGEXP_FIELD_DESC );
+					oprot.writeString( struct.regexp );
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldBegin( KILL_CALLER_FIELD_DESC );
+				oprot.writeBool( struct.kill_caller );
+				oprot.writeFieldEnd();
+				oprot.writeFieldBegin( DELAY_US_FIELD_DESC );
+				oprot.writeI32( struct.delay_us );
+				oprot.writeFieldEnd();
+				oprot.writeFieldBegin( AUTO_DELAY_FIELD_DESC );
+				oprot.writeBool( struct.auto_delay );
+				oprot.writeFieldEnd();
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_all_fault_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_all_fault_argsTupleScheme getScheme() {
+				return new set_all_fault_argsTupleScheme();
+			}
+		}
+
+		private static class set_all_fault_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_all_fault_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_all_fault_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetRandom() ) {
+					optionals.set( 0 );
+				}
+				if( struct.isSetErr_no() ) {
+					optionals.set( 1 );
+				}
+				if( struct.isSetProbability() ) {
+					optionals.set( 2 );
+				}
+				if( struct.isSetRegexp() ) {
+					optionals.set( 3 );
+				}
+				if( struct.isSetKill_caller() ) {
+					optionals.set( 4 );
+				}
+				if( struct.isSetDelay_us() ) {
+					optionals.set( 5 );
+				}
+				if( struct.isSetAuto_delay() ) {
+					optionals.set( 6 );
+				}
+				oprot.writeBitSet( optionals, 7 );
+				if( struct.isSetRandom() ) {
+					oprot.writeBool( struct.random );
+				}
+				if( struct.isSetErr_no() ) {
+					oprot.writeI32( struct.err_no );
+				}
+				if( struct.isSetProbability() ) {
+					oprot.writeI32( struct.probability );
+				}
+				if( struct.isSetRegexp() ) {
+					oprot.writeString( struct.regexp );
+				}
+				if( struct.isSetKill_caller() ) {
+					oprot.writeBool( struct.kill_caller );
+				}
+				if( struct.isSetDelay_us() ) {
+					oprot.writeI32( struct.delay_us );
+				}
+				if( struct.isSetAuto_delay() ) {
+					oprot.writeBool( struct.auto_delay );
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_all_fault_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 7 );
+				if( incoming.get( 0 ) ) {
+					struct.random = iprot.readBool();
+					struct.setRandomIsSet( true );
+				}
+				if( incoming.get( 1 ) ) {
+					struct.err_no = iprot.readI32();
+					struct.setErr_noIsSet( true );
+				}
+				if( incoming.get( 2 ) ) {
+					struct.probability = iprot.readI32();
+					struct.setProbabilityIsSet( true );
+				}
+				if( incoming.get( 3 ) ) {
+					struct.regexp = iprot.readString();
+					struct.setRegexpIsSet( true );
+				}
+				if( incoming.get( 4 ) ) {
+					struct.kill_caller = iprot.readBool();
+					struct.setKill_callerIsSet( true );
+				}
+				if( incoming.get( 5 ) ) {
+					struct.delay_us = iprot.readI32();
+					struct.setDelay_usIsSet( true );
+				}
+				if( incoming.get( 6 ) ) {
+					struct.auto_delay = iprot.readBool();
+					struct.setAuto_delayIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_all_fault_result implements org.apache.thrift.TBase<set_all_fault_result, set_all_fault_result._Fields>, java.io.Serializable, Cloneable, Comparable<set_all_fault_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_all_fault_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_all_fault_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_all_fault_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_all_fault_result.class, metaDataMap );
+		}
+
+		public set_all_fault_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_all_fault_result( set_all_fault_result other ) {
+		}
+
+		public set_all_fault_result deepCopy() {
+			return new set_all_fault_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_all_fault_result ) {
+				return this.equals( ( set_all_fault_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_all_fault_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_all_fault_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_all_fault_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_all_fault_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_all_fault_resultStandardScheme getScheme() {
+				return new set_all_fault_resultStandardScheme();
+			}
+		}
+
+		private static class set_all_fault_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_all_fault_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_all_fault_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_all_fault_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_all_fault_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_all_fault_resultTupleScheme getScheme() {
+				return new set_all_fault_resultTupleScheme();
+			}
+		}
+
+		private static class set_all_fault_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_all_fault_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_all_fault_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_all_fault_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_faults_args implements org.apache.thrift.TBase<set_faults_args, set_faults_args._Fields>, java.io.Serializable, Cloneable, Comparable<set_faults_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_faults_args" );
+
+		private static final org.apache.thrift.protocol.TField RULES_FIELD_DESC = new org.apache.thrift.protocol.TField( "rules", org.apache.thrift.protocol.TType.LIST, ( short ) 1 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_faults_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_faults_argsTupleSchemeFactory();
+
+		public java.util.List<fault_rule> rules; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			RULES( ( short ) 1, "rules" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // RULES
+						return RULES;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.RULES, new org.apache.thrift.meta_data.FieldMetaData( "rules", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                          new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                        new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, fault_rule.class ) ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_faults_args.class, metaDataMap );
+		}
+
+		public set_faults_args() {
+		}
+
+		public set_faults_args(
+				java.util.List<fault_rule> rules ) {
+			this();
+			this.rules = rules;
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_faults_args( set_faults_args other ) {
+			if( other.isSetRules() ) {
+				java.util.List<fault_rule> __this__rules = new java.util.ArrayList<fault_rule>( other.rules.size() );
+				for( fault_rule other_element : other.rules ) {
+					__this__rules.add( new fault_rule( other_element ) );
+				}
+				this.rules = __this__rules;
+			}
+		}
+
+		public set_faults_args deepCopy() {
+			return new set_faults_args( this );
+		}
+
+		@Override
+		public void clear() {
+			this.rules = null;
+		}
+
+		public int getRulesSize() {
+			return ( this.rules == null ) ? 0 : this.rules.size();
+		}
+
+		public java.util.Iterator<fault_rule> getRulesIterator() {
+			return ( this.rules == null ) ? null : this.rules.iterator();
+		}
+
+		public void addToRules( fault_rule elem ) {
+			if( this.rules == null ) {
+				this.rules = new java.util.ArrayList<fault_rule>();
+			}
+			this.rules.add( elem );
+		}
+
+		public java.util.List<fault_rule> getRules() {
+			return this.rules;
+		}
+
+		public set_faults_args setRules( java.util.List<fault_rule> rules ) {
+			this.rules = rules;
+			return this;
+		}
+
+		public void unsetRules() {
+			this.rules = null;
+		}
+
+		/** Returns true if field rules is set (has been assigned a value) and false otherwise */
+		public boolean isSetRules() {
+			return this.rules != null;
+		}
+
+		public void setRulesIsSet( boolean value ) {
+			if( !value ) {
+				this.rules = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case RULES:
+					if( value == null ) {
+						unsetRules();
+					} else {
+						setRules( ( java.util.List<fault_rule> ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case RULES:
+					return getRules();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case RULES:
+					return isSetRules();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_faults_args ) {
+				return this.equals( ( set_faults_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_faults_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_rules = true && this.isSetRules();
+			boolean that_present_rules = true && that.isSetRules();
+			if( this_present_rules || that_present_rules ) {
+				if( !( this_present_rules && that_present_rules ) ) {
+					return false;
+				}
+				if( !this.rules.equals( that.rules ) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetRules() ) ? 131071 : 524287 );
+			if( isSetRules() ) {
+				hashCode = hashCode * 8191 + rules.hashCode();
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_faults_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetRules() ).compareTo( other.isSetRules() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetRules() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.rules, other.rules );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_faults_args(" );
+			boolean first = true;
+
+			sb.append( "rules:" );
+			if( this.rules == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.rules );
+			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_faults_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_faults_argsStandardScheme getScheme() {
+				return new set_faults_argsStandardScheme();
+			}
+		}
+
+		private static class set_faults_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_faults_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_faults_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // RULES
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+									struct.rules = new java.util.ArrayList<fault_rule>( _list64.size );
+									fault_rule _elem65;
+									for( int _i66 = 0; _i66 < _list64.size; ++_i66 ) {
+										_elem65 = new fault_rule();
+										_elem65.read( iprot );
+										struct.rules.add( _elem65 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setRulesIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_faults_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.rules != null ) {
+					oprot.writeFieldBegin( RULES_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, struct.rules.size() ) );
+						for( fault_rule _iter67 : struct.rules ) {
+							_iter67.write( oprot );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_faults_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_faults_argsTupleScheme getScheme() {
+				return new set_faults_argsTupleScheme();
+			}
+		}
+
+		private static class set_faults_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_faults_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_faults_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetRules() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetRules() ) {
+					{
+						oprot.writeI32( struct.rules.size() );
+						for( fault_rule _iter68 : struct.rules ) {
+							_iter68.write( oprot );
+						}
+					}
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_faults_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, iprot.readI32() );
+						struct.rules = new java.util.ArrayList<fault_rule>( _list69.size );
+						fault_rule _elem70;
+						for( int _i71 = 0; _i71 < _list69.size; ++_i71 ) {
+							_elem70 = new fault_rule();
+							_elem70.read( iprot );
+							struct.rules.add( _elem70 );
+						}
+					}
+					struct.setRulesIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_faults_result implements org.apache.thrift.TBase<set_faults_result, set_faults_result._Fields>, java.io.Serializable, Cloneable, Comparable<set_faults_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_faults_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_faults_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_faults_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_faults_result.class, metaDataMap );
+		}
+
+		public set_faults_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_faults_result( set_faults_result other ) {
+		}
+
+		public set_faults_result deepCopy() {
+			return new set_faults_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_faults_result ) {
+				return this.equals( ( set_faults_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_faults_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_faults_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_faults_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_faults_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_faults_resultStandardScheme getScheme() {
+				return new set_faults_resultStandardScheme();
+			}
+		}
+
+		private static class set_faults_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_faults_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_faults_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_faults_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_faults_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_faults_resultTupleScheme getScheme() {
+				return new set_faults_resultTupleScheme();
+			}
+		}
+
+		private static class set_faults_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_faults_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_faults_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_faults_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class replace_all_faults_args implements org.apache.thrift.TBase<replace_all_faults_args, replace_all_faults_args._Fields>, java.io.Serializable, Cloneable, Comparable<replace_all_faults_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "replace_all_faults_args" );
+
+		private static final org.apache.thrift.protocol.TField RULES_FIELD_DESC = new org.apache.thrift.protocol.TField( "rules", org.apache.thrift.protocol.TType.LIST, ( short ) 1 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new replace_all_faults_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new replace_all_faults_argsTupleSchemeFactory();
+
+		public java.util.List<fault_rule> rules; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			RULES( ( short ) 1, "rules" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // RULES
+						return RULES;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.RULES, new org.apache.thrift.meta_data.FieldMetaData( "rules", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                          new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                        new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, fault_rule.class ) ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( replace_all_faults_args.class, metaDataMap );
+		}
+
+		public replace_all_faults_args() {
+		}
+
+		public replace_all_faults_args(
+				java.util.List<fault_rule> rules ) {
+			this();
+			this.rules = rules;
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public replace_all_faults_args( replace_all_faults_args other ) {
+			if( other.isSetRules() ) {
+				java.util.List<fault_rule> __this__rules = new java.util.ArrayList<fault_rule>( other.rules.size() );
+				for( fault_rule other_element : other.rules ) {
+					__this__rules.add( new fault_rule( other_element ) );
+				}
+				this.rules = __this__rules;
+			}
+		}
+
+		public replace_all_faults_args deepCopy() {
+			return new replace_all_faults_args( this );
+		}
+
+		@Override
+		public void clear() {
+			this.rules = null;
+		}
+
+		public int getRulesSize() {
+			return ( this.rules == null ) ? 0 : this.rules.size();
+		}
+
+		public java.util.Iterator<fault_rule> getRulesIterator() {
+			return ( this.rules == null ) ? null : this.rules.iterator();
+		}
+
+		public void addToRules( fault_rule elem ) {
+			if( this.rules == null ) {
+				this.rules = new java.util.ArrayList<fault_rule>();
+			}
+			this.rules.add( elem );
+		}
+
+		public java.util.List<fault_rule> getRules() {
+			return this.rules;
+		}
+
+		public replace_all_faults_args setRules( java.util.List<fault_rule> rules ) {
+			this.rules = rules;
+			return this;
+		}
+
+		public void unsetRules() {
+			this.rules = null;
+		}
+
+		/** Returns true if field rules is set (has been assigned a value) and false otherwise */
+		public boolean isSetRules() {
+			return this.rules != null;
+		}
+
+		public void setRulesIsSet( boolean value ) {
+			if( !value ) {
+				this.rules = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case RULES:
+					if( value == null ) {
+						unsetRules();
+					} else {
+						setRules( ( java.util.List<fault_rule> ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case RULES:
+					return getRules();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case RULES:
+					return isSetRules();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof replace_all_faults_args ) {
+				return this.equals( ( replace_all_faults_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( replace_all_faults_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_rules = true && this.isSetRules();
+			boolean that_present_rules = true && that.isSetRules();
+			if( this_present_rules || that_present_rules ) {
+				if( !( this_present_rules && that_present_rules ) ) {
+					return false;
+				}
+				if( !this.rules.equals( that.rules ) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetRules() ) ? 131071 : 524287 );
+			if( isSetRules() ) {
+				hashCode = hashCode * 8191 + rules.hashCode();
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( replace_all_faults_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetRules() ).compareTo( other.isSetRules() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetRules() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.rules, other.rules );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "replace_all_faults_args(" );
+			boolean first = true;
+
+			sb.append( "rules:" );
+			if( this.rules == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.rules );
+			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class replace_all_faults_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public replace_all_faults_argsStandardScheme getScheme() {
+				return new replace_all_faults_argsStandardScheme();
+			}
+		}
+
+		private static class replace_all_faults_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<replace_all_faults_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, replace_all_faults_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // RULES
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list72 = iprot.readListBegin();
+									struct.rules = new java.util.ArrayList<fault_rule>( _list72.size );
+									fault_rule _elem73;
+									for( int _i74 = 0; _i74 < _list72.size; ++_i74 ) {
+										_elem73 = new fault_rule();
+										_elem73.read( iprot );
+										struct.rules.add( _elem73 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setRulesIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, replace_all_faults_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.rules != null ) {
+					oprot.writeFieldBegin( RULES_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, struct.rules.size() ) );
+						for( fault_rule _iter75 : struct.rules ) {
+							_iter75.write( oprot );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class replace_all_faults_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public replace_all_faults_argsTupleScheme getScheme() {
+				return new replace_all_faults_argsTupleScheme();
+			}
+		}
+
+		private static class replace_all_faults_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<replace_all_faults_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, replace_all_faults_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetRules() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetRules() ) {
+					{
+						oprot.writeI32( struct.rules.size() );
+						for( fault_rule _iter76 : struct.rules ) {
+							_iter76.write( oprot );
+						}
+					}
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, replace_all_faults_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list77 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, iprot.readI32() );
+						struct.rules = new java.util.ArrayList<fault_rule>( _list77.size );
+						fault_rule _elem78;
+						for( int _i79 = 0; _i79 < _list77.size; ++_i79 ) {
+							_elem78 = new fault_rule();
+							_elem78.read( iprot );
+							struct.rules.add( _elem78 );
+						}
+					}
+					struct.setRulesIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class replace_all_faults_result implements org.apache.thrift.TBase<replace_all_faults_result, replace_all_faults_result._Fields>, java.io.Serializable, Cloneable, Comparable<replace_all_faults_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "replace_all_faults_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new replace_all_faults_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new replace_all_faults_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( replace_all_faults_result.class, metaDataMap );
+		}
+
+		public replace_all_faults_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public replace_all_faults_result( replace_all_faults_result other ) {
+		}
+
+		public replace_all_faults_result deepCopy() {
+			return new replace_all_faults_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof replace_all_faults_result ) {
+				return this.equals( ( replace_all_faults_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( replace_all_faults_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( replace_all_faults_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "replace_all_faults_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class replace_all_faults_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public replace_all_faults_resultStandardScheme getScheme() {
+				return new replace_all_faults_resultStandardScheme();
+			}
+		}
+
+		private static class replace_all_faults_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<replace_all_faults_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, replace_all_faults_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, replace_all_faults_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class replace_all_faults_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public replace_all_faults_resultTupleScheme getScheme() {
+				return new replace_all_faults_resultTupleScheme();
+			}
+		}
+
+		private static class replace_all_faults_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<replace_all_faults_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, replace_all_faults_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, replace_all_faults_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_rule_evaluation_args implements org.apache.thrift.TBase<set_rule_evaluation_args, set_rule_evaluation_args._Fields>, java.io.Serializable, Cloneable, Comparable<set_rule_evaluation_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_rule_evaluation_args" );
+
+		private static final org.apache.thrift.protocol.TField SUM_DELAYS_FIELD_DESC = new org.apache.thrift.protocol.TField( "sum_delays", org.apache.thrift.protocol.TType.BOOL, ( short ) 1 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_rule_evaluation_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_rule_evaluation_argsTupleSchemeFactory();
+
+		public boolean sum_delays; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			SUM_DELAYS( ( short ) 1, "sum_delays" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // SUM_DELAYS
+						return SUM_DELAYS;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		private static final int __SUM_DELAYS_ISSET_ID = 0;
+		private byte __isset_bitfield = 0;
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.SUM_DELAYS, new org.apache.thrift.meta_data.FieldMetaData( "sum_delays", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                               new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_rule_evaluation_args.class, metaDataMap );
+		}
+
+		public set_rule_evaluation_args() {
+		}
+
+		public set_rule_evaluation_args(
+				boolean sum_delays ) {
+			this();
+			this.sum_delays = sum_delays;
+			setSum_delaysIsSet( true );
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_rule_evaluation_args( set_rule_evaluation_args other ) {
+			__isset_bitfield = other.__isset_bitfield;
+			this.sum_delays = other.sum_delays;
+		}
+
+		public set_rule_evaluation_args deepCopy() {
+			return new set_rule_evaluation_args( this );
+		}
+
+		@Override
+		public void clear() {
+			setSum_delaysIsSet( false );
+			this.sum_delays = false;
+		}
+
+		public boolean isSum_delays() {
+			return this.sum_delays;
+		}
+
+		public set_rule_evaluation_args setSum_delays( boolean sum_delays ) {
+			this.sum_delays = sum_delays;
+			setSum_delaysIsSet( true );
+			return this;
+		}
+
+		public void unsetSum_delays() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __SUM_DELAYS_ISSET_ID );
+		}
+
+		/** Returns true if field sum_delays is set (has been assigned a value) and false otherwise */
+		public boolean isSetSum_delays() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __SUM_DELAYS_ISSET_ID );
+		}
+
+		public void setSum_delaysIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __SUM_DELAYS_ISSET_ID, value );
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case SUM_DELAYS:
+					if( value == null ) {
+						unsetSum_delays();
+					} else {
+						setSum_delays( ( java.lang.Boolean ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case SUM_DELAYS:
+					return isSum_delays();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case SUM_DELAYS:
+					return isSetSum_delays();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_rule_evaluation_args ) {
+				return this.equals( ( set_rule_evaluation_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_rule_evaluation_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_sum_delays = true;
+			boolean that_present_sum_delays = true;
+			if( this_present_sum_delays || that_present_sum_delays ) {
+				if( !( this_present_sum_delays && that_present_sum_delays ) ) {
+					return false;
+				}
+				if( this.sum_delays != that.sum_delays ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( sum_delays ) ? 131071 : 524287 );
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_rule_evaluation_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetSum_delays() ).compareTo( other.isSetSum_delays() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSum_delays() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.sum_delays, other.sum_delays );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_rule_evaluation_args(" );
+			boolean first = true;
+
+			sb.append( "sum_delays:" );
+			sb.append( this.sum_delays );
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				// it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+				__isset_bitfield = 0;
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_rule_evaluation_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_rule_evaluation_argsStandardScheme getScheme() {
+				return new set_rule_evaluation_argsStandardScheme();
+			}
+		}
+
+		private static class set_rule_evaluation_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_rule_evaluation_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_rule_evaluation_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // SUM_DELAYS
+							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
+								struct.sum_delays = iprot.readBool();
+								struct.setSum_delaysIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_rule_evaluation_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldBegin( SUM_DELAYS_FIELD_DESC );
+				oprot.writeBool( struct.sum_delays );
+				oprot.writeFieldEnd();
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_rule_evaluation_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_rule_evaluation_argsTupleScheme getScheme() {
+				return new set_rule_evaluation_argsTupleScheme();
+			}
+		}
+
+		private static class set_rule_evaluation_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_rule_evaluation_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_rule_evaluation_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetSum_delays() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetSum_delays() ) {
+					oprot.writeBool( struct.sum_delays );
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_rule_evaluation_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					struct.sum_delays = iprot.readBool();
+					struct.setSum_delaysIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_rule_evaluation_result implements org.apache.thrift.TBase<set_rule_evaluation_result, set_rule_evaluation_result._Fields>, java.io.Serializable, Cloneable, Comparable<set_rule_evaluation_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_rule_evaluation_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_rule_evaluation_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_rule_evaluation_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_rule_evaluation_result.class, metaDataMap );
+		}
+
+		public set_rule_evaluation_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_rule_evaluation_result( set_rule_evaluation_result other ) {
+		}
+
+		public set_rule_evaluation_result deepCopy() {
+			return new set_rule_evaluation_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_rule_evaluation_result ) {
+				return this.equals( ( set_rule_evaluation_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_rule_evaluation_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_rule_evaluation_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_rule_evaluation_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_rule_evaluation_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_rule_evaluation_resultStandardScheme getScheme() {
+				return new set_rule_evaluation_resultStandardScheme();
+			}
+		}
+
+		private static class set_rule_evaluation_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_rule_evaluation_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_rule_evaluation_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_rule_evaluation_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_rule_evaluation_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_rule_evaluation_resultTupleScheme getScheme() {
+				return new set_rule_evaluation_resultTupleScheme();
+			}
+		}
+
+		private static class set_rule_evaluation_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_rule_evaluation_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_rule_evaluation_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_rule_evaluation_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class get_buckets_args implements org.apache.thrift.TBase<get_buckets_args, get_buckets_args._Fields>, java.io.Serializable, Cloneable, Comparable<get_buckets_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_buckets_args" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_buckets_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_buckets_argsTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_buckets_args.class, metaDataMap );
+		}
+
+		public get_buckets_args() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_buckets_args( get_buckets_args other ) {
+		}
+
+		public get_buckets_args deepCopy() {
+			return new get_buckets_args( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_buckets_args ) {
+				return this.equals( ( get_buckets_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( get_buckets_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( get_buckets_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_buckets_args(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class get_buckets_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_buckets_argsStandardScheme getScheme() {
+				return new get_buckets_argsStandardScheme();
+			}
+		}
+
+		private static class get_buckets_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_buckets_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_buckets_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_buckets_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class get_buckets_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_buckets_argsTupleScheme getScheme() {
+				return new get_buckets_argsTupleScheme();
+			}
+		}
+
+		private static class get_buckets_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_buckets_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_buckets_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_buckets_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class get_buckets_result implements org.apache.thrift.TBase<get_buckets_result, get_buckets_result._Fields>, java.io.Serializable, Cloneable, Comparable<get_buckets_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_buckets_result" );
+
+		private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField( "success", org.apache.thrift.protocol.TType.LIST, ( short ) 0 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_buckets_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_buckets_resultTupleSchemeFactory();
+
+		public java.util.List<bucket_status> success; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			SUCCESS( ( short ) 0, "success" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 0: // SUCCESS
+						return SUCCESS;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData( "success", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                            new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                          new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, bucket_status.class ) ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_buckets_result.class, metaDataMap );
+		}
+
+		public get_buckets_result() {
+		}
+
+		public get_buckets_result(
+				java.util.List<bucket_status> success ) {
+			this();
+			this.success = success;
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_buckets_result( get_buckets_result other ) {
+			if( other.isSetSuccess() ) {
+				java.util.List<bucket_status> __this__success = new java.util.ArrayList<bucket_status>( other.success.size() );
+				for( bucket_status other_element : other.success ) {
+					__this__success.add( new bucket_status( other_element ) );
+				}
+				this.success = __this__success;
+			}
+		}
+
+		public get_buckets_result deepCopy() {
+			return new get_buckets_result( this );
+		}
+
+		@Override
+		public void clear() {
+			this.success = null;
+		}
+
+		public int getSuccessSize() {
+			return ( this.success == null ) ? 0 : this.success.size();
+		}
+
+		public java.util.Iterator<bucket_status> getSuccessIterator() {
+			return ( this.success == null ) ? null : this.success.iterator();
+		}
+
+		public void addToSuccess( bucket_status elem ) {
+			if( this.success == null ) {
+				this.success = new java.util.ArrayList<bucket_status>();
+			}
+			this.success.add( elem );
+		}
+
+		public java.util.List<bucket_status> getSuccess() {
+			return this.success;
+		}
+
+		public get_buckets_result setSuccess( java.util.List<bucket_status> success ) {
+			this.success = success;
+			return this;
+		}
+
+		public void unsetSuccess() {
+			this.success = null;
+		}
+
+		/** Returns true if field success is set (has been assigned a value) and false otherwise */
+		public boolean isSetSuccess() {
+			return this.success != null;
+		}
+
+		public void setSuccessIsSet( boolean value ) {
+			if( !value ) {
+				this.success = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case SUCCESS:
+					if( value == null ) {
+						unsetSuccess();
+					} else {
+						setSuccess( ( java.util.List<bucket_status> ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case SUCCESS:
+					return getSuccess();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case SUCCESS:
+					return isSetSuccess();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_buckets_result ) {
+				return this.equals( ( get_buckets_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( get_buckets_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_success = true && this.isSetSuccess();
+			boolean that_present_success = true && that.isSetSuccess();
+			if( this_present_success || that_present_success ) {
+				if( !( this_present_success && that_present_success ) ) {
+					return false;
+				}
+				if( !this.success.equals( that.success ) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetSuccess() ) ? 131071 : 524287 );
+			if( isSetSuccess() ) {
+				hashCode = hashCode * 8191 + success.hashCode();
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( get_buckets_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetSuccess() ).compareTo( other.isSetSuccess() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSuccess() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.success, other.success );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_buckets_result(" );
+			boolean first = true;
+
+			sb.append( "success:" );
+			if( this.success == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.success );
+			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class get_buckets_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_buckets_resultStandardScheme getScheme() {
+				return new get_buckets_resultStandardScheme();
+			}
+		}
+
+		private static class get_buckets_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_buckets_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_buckets_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 0: // SUCCESS
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list80 = iprot.readListBegin();
+									struct.success = new java.util.ArrayList<bucket_status>( _list80.size );
+									bucket_status _elem81;
+									for( int _i82 = 0; _i82 < _list80.size; ++_i82 ) {
+										_elem81 = new bucket_status();
+										_elem81.read( iprot );
+										struct.success.add( _elem81 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setSuccessIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_buckets_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.success != null ) {
+					oprot.writeFieldBegin( SUCCESS_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, struct.success.size() ) );
+						for( bucket_status _iter83 : struct.success ) {
+							_iter83.write( oprot );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class get_buckets_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_buckets_resultTupleScheme getScheme() {
+				return new get_buckets_resultTupleScheme();
+			}
+		}
+
+		private static class get_buckets_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_buckets_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_buckets_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetSuccess() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetSuccess() ) {
+					{
+						oprot.writeI32( struct.success.size() );
+						for( bucket_status _iter84 : struct.success ) {
+							_iter84.write( oprot );
+						}
+					}
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_buckets_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list85 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, iprot.readI32() );
+						struct.success = new java.util.ArrayList<bucket_status>( _list85.size );
+						bucket_status _elem86;
+						for( int _i87 = 0; _i87 < _list85.size; ++_i87 ) {
+							_elem86 = new bucket_status();
+							_elem86.read( iprot );
+							struct.success.add( _elem86 );
+						}
+					}
+					struct.setSuccessIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class get_queues_args implements org.apache.thrift.TBase<get_queues_args, get_queues_args._Fields>, java.io.Serializable, Cloneable, Comparable<get_queues_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_queues_args" );
+
+		private static final org.apache.thrift.protocol.TField RESET_FIELD_DESC = new org.apache.thrift.protocol.TField( "reset", org.apache.thrift.protocol.TType.BOOL, ( short ) 1 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_queues_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_queues_argsTupleSchemeFactory();
+
+		public boolean reset; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			RESET( ( short ) 1, "reset" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // RESET
+						return RESET;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		private static final int __RESET_ISSET_ID = 0;
+		private byte __isset_bitfield = 0;
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.RESET, new org.apache.thrift.meta_data.FieldMetaData( "reset", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                          new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_queues_args.class, metaDataMap );
+		}
+
+		public get_queues_args() {
+		}
+
+		public get_queues_args(
+				boolean reset ) {
+			this();
+			this.reset = reset;
+			setResetIsSet( true );
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_queues_args( get_queues_args other ) {
+			__isset_bitfield = other.__isset_bitfield;
+			this.reset = other.reset;
+		}
+
+		public get_queues_args deepCopy() {
+			return new get_queues_args( this );
+		}
+
+		@Override
+		public void clear() {
+			setResetIsSet( false );
+			this.reset = false;
+		}
+
+		public boolean isReset() {
+			return this.reset;
+		}
+
+		public get_queues_args setReset( boolean reset ) {
+			this.reset = reset;
+			setResetIsSet( true );
+			return this;
+		}
+
+		public void unsetReset() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __RESET_ISSET_ID );
+		}
+
+		/** Returns true if field reset is set (has been assigned a value) and false otherwise */
+		public boolean isSetReset() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __RESET_ISSET_ID );
+		}
+
+		public void setResetIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __RESET_ISSET_ID, value );
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case RESET:
+					if( value == null ) {
+						unsetReset();
+					} else {
+						setReset( ( java.lang.Boolean ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case RESET:
+					return isReset();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case RESET:
+					return isSetReset();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_queues_args ) {
+				return this.equals( ( get_queues_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( get_queues_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_reset = true;
+			boolean that_present_reset = true;
+			if( this_present_reset || that_present_reset ) {
+				if( !( this_present_reset && that_present_reset ) ) {
+					return false;
+				}
+				if( this.reset != that.reset ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( reset ) ? 131071 : 524287 );
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( get_queues_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetReset() ).compareTo( other.isSetReset() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetReset() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.reset, other.reset );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_queues_args(" );
+			boolean first = true;
+
+			sb.append( "reset:" );
+			sb.append( this.reset );
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				// it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+				__isset_bitfield = 0;
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class get_queues_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_queues_argsStandardScheme getScheme() {
+				return new get_queues_argsStandardScheme();
+			}
+		}
+
+		private static class get_queues_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_queues_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_queues_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // RESET
+							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
+								struct.reset = iprot.readBool();
+								struct.setResetIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_queues_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldBegin( RESET_FIELD_DESC );
+				oprot.writeBool( struct.reset );
+				oprot.writeFieldEnd();
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class get_queues_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_queues_argsTupleScheme getScheme() {
+				return new get_queues_argsTupleScheme();
+			}
+		}
+
+		private static class get_queues_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_queues_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_queues_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetReset() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetReset() ) {
+					oprot.writeBool( struct.reset );
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_queues_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					struct.reset = iprot.readBool();
+					struct.setResetIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class get_queues_result implements org.apache.thrift.TBase<get_queues_result, get_queues_result._Fields>, java.io.Serializable, Cloneable, Comparable<get_queues_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_queues_result" );
+
+		private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField( "success", org.apache.thrift.protocol.TType.LIST, ( short ) 0 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_queues_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_queues_resultTupleSchemeFactory();
+
+		public java.util.List<queue_status> success; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			SUCCESS( ( short ) 0, "success" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 0: // SUCCESS
+						return SUCCESS;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData( "success", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                            new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                          new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, queue_status.class ) ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_queues_result.class, metaDataMap );
+		}
+
+		public get_queues_result() {
+		}
+
+		public get_queues_result(
+				java.util.List<queue_status> success ) {
+			this();
+			this.success = success;
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_queues_result( get_queues_result other ) {
+			if( other.isSetSuccess() ) {
+				java.util.List<queue_status> __this__success = new java.util.ArrayList<queue_status>( other.success.size() );
+				for( queue_status other_element : other.success ) {
+					__this__success.add( new queue_status( other_element ) );
+				}
+				this.success = __this__success;
+			}
+		}
+
+		public get_queues_result deepCopy() {
+			return new get_queues_result( this );
+		}
+
+		@Override
+		public void clear() {
+			this.success = null;
+		}
+
+		public int getSuccessSize() {
+			return ( this.success == null ) ? 0 : this.success.size();
+		}
+
+		public java.util.Iterator<queue_status> getSuccessIterator() {
+			return ( this.success == null ) ? null : this.success.iterator();
+		}
+
+		public void addToSuccess( queue_status elem ) {
+			if( this.success == null ) {
+				this.success = new java.util.ArrayList<queue_status>();
+			}
+			this.success.add( elem );
+		}
+
+		public java.util.List<queue_status> getSuccess() {
+			return this.success;
+		}
+
+		public get_queues_result setSuccess( java.util.List<queue_status> success ) {
+			this.success = success;
+			return this;
+		}
+
+		public void unsetSuccess() {
+			this.success = null;
+		}
+
+		/** Returns true if field success is set (has been assigned a value) and false otherwise */
+		public boolean isSetSuccess() {
+			return this.success != null;
+		}
+
+		public void setSuccessIsSet( boolean value ) {
+			if( !value ) {
+				this.success = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case SUCCESS:
+					if( value == null ) {
+						unsetSuccess();
+					} else {
+						setSuccess( ( java.util.List<queue_status> ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case SUCCESS:
+					return getSuccess();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case SUCCESS:
+					return isSetSuccess();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_queues_result ) {
+				return this.equals( ( get_queues_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( get_queues_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_success = true && this.isSetSuccess();
+			boolean that_present_success = true && that.isSetSuccess();
+			if( this_present_success || that_present_success ) {
+				if( !( this_present_success && that_present_success ) ) {
+					return false;
+				}
+				if( !this.success.equals( that.success ) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetSuccess() ) ? 131071 : 524287 );
+			if( isSetSuccess() ) {
+				hashCode = hashCode * 8191 + success.hashCode();
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( get_queues_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetSuccess() ).compareTo( other.isSetSuccess() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSuccess() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.success, other.success );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_queues_result(" );
+			boolean first = true;
+
+			sb.append( "success:" );
+			if( this.success == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.success );
+			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class get_queues_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_queues_resultStandardScheme getScheme() {
+				return new get_queues_resultStandardScheme();
+			}
+		}
+
+		private static class get_queues_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_queues_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_queues_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 0: // SUCCESS
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list88 = iprot.readListBegin();
+									struct.success = new java.util.ArrayList<queue_status>( _list88.size );
+									queue_status _elem89;
+									for( int _i90 = 0; _i90 < _list88.size; ++_i90 ) {
+										_elem89 = new queue_status();
+										_elem89.read( iprot );
+										struct.success.add( _elem89 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setSuccessIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_queues_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.success != null ) {
+					oprot.writeFieldBegin( SUCCESS_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, struct.success.size() ) );
+						for( queue_status _iter91 : struct.success ) {
+							_iter91.write( oprot );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class get_queues_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_queues_resultTupleScheme getScheme() {
+				return new get_queues_resultTupleScheme();
+			}
+		}
+
+		private static class get_queues_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_queues_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_queues_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetSuccess() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetSuccess() ) {
+					{
+						oprot.writeI32( struct.success.size() );
+						for( queue_status _iter92 : struct.success ) {
+							_iter92.write( oprot );
+						}
+					}
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_queues_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list93 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, iprot.readI32() );
+						struct.success = new java.util.ArrayList<queue_status>( _list93.size );
+						queue_status _elem94;
+						for( int _i95 = 0; _i95 < _list93.size; ++_i95 ) {
+							_elem94 = new queue_status();
+							_elem94.read( iprot );
+							struct.success.add( _elem94 );
+						}
+					}
+					struct.setSuccessIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_latency_table_args implements org.apache.thrift.TBase<set_latency_table_args, set_latency_table_args._Fields>, java.io.Serializable, Cloneable, Comparable<set_latency_table_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_latency_table_args" );
+
+		private static final org.apache.thrift.protocol.TField METHODS_FIELD_DESC = new org.apache.thrift.protocol.TField( "methods", org.apache.thrift.protocol.TType.LIST, ( short ) 1 );
+		private static final org.apache.thrift.protocol.TField QUANTILES_US_FIELD_DESC = new org.apache.thrift.protocol.TField( "quantiles_us", org.apache.thrift.protocol.TType.LIST, ( short ) 2 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_latency_table_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_latency_table_argsTupleSchemeFactory();
+
+		public java.util.List<java.lang.String> methods; // required
+		public java.util.List<java.lang.Integer> quantiles_us; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			METHODS( ( short ) 1, "methods" ),
+			QUANTILES_US( ( short ) 2, "quantiles_us" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // METHODS
+						return METHODS;
+					case 2: // QUANTILES_US
+						return QUANTILES_US;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.METHODS, new org.apache.thrift.meta_data.FieldMetaData( "methods", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                            new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                          new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) ) );
+			tmpMap.put( _Fields.QUANTILES_US, new org.apache.thrift.meta_data.FieldMetaData( "quantiles_us", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                                 new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                               new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_latency_table_args.class, metaDataMap );
+		}
+
+		public set_latency_table_args() {
+		}
+
+		public set_latency_table_args(
+				java.util.List<java.lang.String> methods,
+				java.util.List<java.lang.Integer> quantiles_us ) {
+			this();
+			this.methods = methods;
+			this.quantiles_us = quantiles_us;
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_latency_table_args( set_latency_table_args other ) {
+			if( other.isSetMethods() ) {
+				java.util.List<java.lang.String> __this__methods = new java.util.ArrayList<java.lang.String>( other.methods );
+				this.methods = __this__methods;
+			}
+			if( other.isSetQuantiles_us() ) {
+				java.util.List<java.lang.Integer> __this__quantiles_us = new java.util.ArrayList<java.lang.Integer>( other.quantiles_us );
+				this.quantiles_us = __this__quantiles_us;
+			}
+		}
+
+		public set_latency_table_args deepCopy() {
+			return new set_latency_table_args( this );
+		}
+
+		@Override
+		public void clear() {
+			this.methods = null;
+			this.quantiles_us = null;
+		}
+
+		public int getMethodsSize() {
+			return ( this.methods == null ) ? 0 : this.methods.size();
+		}
+
+		public java.util.Iterator<java.lang.String> getMethodsIterator() {
+			return ( this.methods == null ) ? null : this.methods.iterator();
+		}
+
+		public void addToMethods( java.lang.String elem ) {
+			if( this.methods == null ) {
+				this.methods = new java.util.ArrayList<java.lang.String>();
+			}
+			this.methods.add( elem );
+		}
+
+		public java.util.List<java.lang.String> getMethods() {
+			return this.methods;
+		}
+
+		public set_latency_table_args setMethods( java.util.List<java.lang.String> methods ) {
+			this.methods = methods;
+			return this;
+		}
+
+		public void unsetMethods() {
+			this.methods = null;
+		}
+
+		/** Returns true if field methods is set (has been assigned a value) and false otherwise */
+		public boolean isSetMethods() {
+			return this.methods != null;
+		}
+
+		public void setMethodsIsSet( boolean value ) {
+			if( !value ) {
+				this.methods = null;
+			}
+		}
+
+		public int getQuantiles_usSize() {
+			return ( this.quantiles_us == null ) ? 0 : this.quantiles_us.size();
+		}
+
+		public java.util.Iterator<java.lang.Integer> getQuantiles_usIterator() {
+			return ( this.quantiles_us == null ) ? null : this.quantiles_us.iterator();
+		}
+
+		public void addToQuantiles_us( int elem ) {
+			if( this.quantiles_us == null ) {
+				this.quantiles_us = new java.util.ArrayList<java.lang.Integer>();
+			}
+			this.quantiles_us.add( elem );
+		}
+
+		public java.util.List<java.lang.Integer> getQuantiles_us() {
+			return this.quantiles_us;
+		}
+
+		public set_latency_table_args setQuantiles_us( java.util.List<java.lang.Integer> quantiles_us ) {
+			this.quantiles_us = quantiles_us;
+			return this;
+		}
+
+		public void unsetQuantiles_us() {
+			this.quantiles_us = null;
+		}
+
+		/** Returns true if field quantiles_us is set (has been assigned a value) and false otherwise */
+		public boolean isSetQuantiles_us() {
+			return this.quantiles_us != null;
+		}
+
+		public void setQuantiles_usIsSet( boolean value ) {
+			if( !value ) {
+				this.quantiles_us = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case METHODS:
+					if( value == null ) {
+						unsetMethods();
+					} else {
+						setMethods( ( java.util.List<java.lang.String> ) value );
+					}
+					break;
+
+				case QUANTILES_US:
+					if( value == null ) {
+						unsetQuantiles_us();
+					} else {
+						setQuantiles_us( ( java.util.List<java.lang.Integer> ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case METHODS:
+					return getMethods();
+
+				case QUANTILES_US:
+					return getQuantiles_us();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case METHODS:
+					return isSetMethods();
+				case QUANTILES_US:
+					return isSetQuantiles_us();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_latency_table_args ) {
+				return this.equals( ( set_latency_table_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_latency_table_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_methods = true && this.isSetMethods();
+			boolean that_present_methods = true && that.isSetMethods();
+			if( this_present_methods || that_present_methods ) {
+				if( !( this_present_methods && that_present_methods ) ) {
+					return false;
+				}
+				if( !this.methods.equals( that.methods ) ) {
+					return false;
+				}
+			}
+
+			boolean this_present_quantiles_us = true && this.isSetQuantiles_us();
+			boolean that_present_quantiles_us = true && that.isSetQuantiles_us();
+			if( this_present_quantiles_us || that_present_quantiles_us ) {
+				if( !( this_present_quantiles_us && that_present_quantiles_us ) ) {
+					return false;
+				}
+				if( !this.quantiles_us.equals( that.quantiles_us ) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetMethods() ) ? 131071 : 524287 );
+			if( isSetMethods() ) {
+				hashCode = hashCode * 8191 + methods.hashCode();
+			}
+
+			hashCode = hashCode * 8191 + ( ( isSetQuantiles_us() ) ? 131071 : 524287 );
+			if( isSetQuantiles_us() ) {
+				hashCode = hashCode * 8191 + quantiles_us.hashCode();
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_latency_table_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetMethods() ).compareTo( other.isSetMethods() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetMethods() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.methods, other.methods );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetQuantiles_us() ).compareTo( other.isSetQuantiles_us() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetQuantiles_us() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.quantiles_us, other.quantiles_us );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_latency_table_args(" );
+			boolean first = true;
+
+			sb.append( "methods:" );
+			if( this.methods == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.methods );
+			}
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
+			}
+			sb.append( "quantiles_us:" );
+			if( this.quantiles_us == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.quantiles_us );
+			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_latency_table_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_latency_table_argsStandardScheme getScheme() {
+				return new set_latency_table_argsStandardScheme();
+			}
+		}
+
+		private static class set_latency_table_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_latency_table_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_latency_table_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // METHODS
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list96 = iprot.readListBegin();
+									struct.methods = new java.util.ArrayList<java.lang.String>( _list96.size );
+									java.lang.String _elem97;
+									for( int _i98 = 0; _i98 < _list96.size; ++_i98 ) {
+										_elem97 = iprot.readString();
+										struct.methods.add( _elem97 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setMethodsIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 2: // QUANTILES_US
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list99 = iprot.readListBegin();
+									struct.quantiles_us = new java.util.ArrayList<java.lang.Integer>( _list99.size );
+									int _elem100;
+									for( int _i101 = 0; _i101 < _list99.size; ++_i101 ) {
+										_elem100 = iprot.readI32();
+										struct.quantiles_us.add( _elem100 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setQuantiles_usIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_latency_table_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.methods != null ) {
+					oprot.writeFieldBegin( METHODS_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, struct.methods.size() ) );
+						for( java.lang.String _iter102 : struct.methods ) {
+							oprot.writeString( _iter102 );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				if( struct.quantiles_us != null ) {
+					oprot.writeFieldBegin( QUANTILES_US_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.I32, struct.quantiles_us.size() ) );
+						for( int _iter103 : struct.quantiles_us ) {
+							oprot.writeI32( _iter103 );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_latency_table_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_latency_table_argsTupleScheme getScheme() {
+				return new set_latency_table_argsTupleScheme();
+			}
+		}
+
+		private static class set_latency_table_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_latency_table_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_latency_table_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetMethods() ) {
+					optionals.set( 0 );
+				}
+				if( struct.isSetQuantiles_us() ) {
+					optionals.set( 1 );
+				}
+				oprot.writeBitSet( optionals, 2 );
+				if( struct.isSetMethods() ) {
+					{
+						oprot.writeI32( struct.methods.size() );
+						for( java.lang.String _iter104 : struct.methods ) {
+							oprot.writeString( _iter104 );
+						}
+					}
+				}
+				if( struct.isSetQuantiles_us() ) {
+					{
+						oprot.writeI32( struct.quantiles_us.size() );
+						for( int _iter105 : struct.quantiles_us ) {
+							oprot.writeI32( _iter105 );
+						}
+					}
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_latency_table_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 2 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list106 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, iprot.readI32() );
+						struct.methods = new java.util.ArrayList<java.lang.String>( _list106.size );
+						java.lang.String _elem107;
+						for( int _i108 = 0; _i108 < _list106.size; ++_i108 ) {
+							_elem107 = iprot.readString();
+							struct.methods.add( _elem107 );
+						}
+					}
+					struct.setMethodsIsSet( true );
+				}
+				if( incoming.get( 1 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list109 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.I32, iprot.readI32() );
+						struct.quantiles_us = new java.util.ArrayList<java.lang.Integer>( _list109.size );
+						int _elem110;
+						for( int _i111 = 0; _i111 < _list109.size; ++_i111 ) {
+							_elem110 = iprot.readI32();
+							struct.quantiles_us.add( _elem110 );
+						}
+					}
+					struct.setQuantiles_usIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_latency_table_result implements org.apache.thrift.TBase<set_latency_table_result, set_latency_table_result._Fields>, java.io.Serializable, Cloneable, Comparable<set_latency_table_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_latency_table_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_latency_table_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_latency_table_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_latency_table_result.class, metaDataMap );
+		}
+
+		public set_latency_table_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_latency_table_result( set_latency_table_result other ) {
+		}
+
+		public set_latency_table_result deepCopy() {
+			return new set_latency_table_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_latency_table_result ) {
+				return this.equals( ( set_latency_table_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_latency_table_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_latency_table_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_latency_table_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_latency_table_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_latency_table_resultStandardScheme getScheme() {
+				return new set_latency_table_resultStandardScheme();
+			}
+		}
+
+		private static class set_latency_table_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_latency_table_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_latency_table_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_latency_table_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_latency_table_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_latency_table_resultTupleScheme getScheme() {
+				return new set_latency_table_resultTupleScheme();
+			}
+		}
+
+		private static class set_latency_table_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_latency_table_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_latency_table_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_latency_table_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class start_timeline_args implements org.apache.thrift.TBase<start_timeline_args, start_timeline_args._Fields>, java.io.Serializable, Cloneable, Comparable<start_timeline_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "start_timeline_args" );
+
+		private static final org.apache.thrift.protocol.TField PHASES_FIELD_DESC = new org.apache.thrift.protocol.TField( "phases", org.apache.thrift.protocol.TType.LIST, ( short ) 1 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new start_timeline_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new start_timeline_argsTupleSchemeFactory();
+
+		public java.util.List<timeline_phase> phases; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			PHASES( ( short ) 1, "phases" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // PHASES
+						return PHASES;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.PHASES, new org.apache.thrift.meta_data.FieldMetaData( "phases", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                           new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                         new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, timeline_phase.class ) ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( start_timeline_args.class, metaDataMap );
+		}
+
+		public start_timeline_args() {
+		}
+
+		public start_timeline_args(
+				java.util.List<timeline_phase> phases ) {
+			this();
+			this.phases = phases;
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public start_timeline_args( start_timeline_args other ) {
+			if( other.isSetPhases() ) {
+				java.util.List<timeline_phase> __this__phases = new java.util.ArrayList<timeline_phase>( other.phases.size() );
+				for( timeline_phase other_element : other.phases ) {
+					__this__phases.add( new timeline_phase( other_element ) );
+				}
+				this.phases = __this__phases;
+			}
+		}
+
+		public start_timeline_args deepCopy() {
+			return new start_timeline_args( this );
+		}
+
+		@Override
+		public void clear() {
+			this.phases = null;
+		}
+
+		public int getPhasesSize() {
+			return ( this.phases == null ) ? 0 : this.phases.size();
+		}
+
+		public java.util.Iterator<timeline_phase> getPhasesIterator() {
+			return ( this.phases == null ) ? null : this.phases.iterator();
+		}
+
+		public void addToPhases( timeline_phase elem ) {
+			if( this.phases == null ) {
+				this.phases = new java.util.ArrayList<timeline_phase>();
+			}
+			this.phases.add( elem );
+		}
+
+		public java.util.List<timeline_phase> getPhases() {
+			return this.phases;
+		}
+
+		public start_timeline_args setPhases( java.util.List<timeline_phase> phases ) {
+			this.phases = phases;
+			return this;
+		}
+
+		public void unsetPhases() {
+			this.phases = null;
+		}
+
+		/** Returns true if field phases is set (has been assigned a value) and false otherwise */
+		public boolean isSetPhases() {
+			return this.phases != null;
+		}
+
+		public void setPhasesIsSet( boolean value ) {
+			if( !value ) {
+				this.phases = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case PHASES:
+					if( value == null ) {
+						unsetPhases();
+					} else {
+						setPhases( ( java.util.List<timeline_phase> ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case PHASES:
+					return getPhases();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case PHASES:
+					return isSetPhases();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof start_timeline_args ) {
+				return this.equals( ( start_timeline_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( start_timeline_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_phases = true && this.isSetPhases();
+			boolean that_present_phases = true && that.isSetPhases();
+			if( this_present_phases || that_present_phases ) {
+				if( !( this_present_phases && that_present_phases ) ) {
+					return false;
+				}
+				if( !this.phases.equals( that.phases ) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetPhases() ) ? 131071 : 524287 );
+			if( isSetPhases() ) {
+				hashCode = hashCode * 8191 + phases.hashCode();
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( start_timeline_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetPhases() ).compareTo( other.isSetPhases() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetPhases() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.phases, other.phases );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "start_timeline_args(" );
+			boolean first = true;
+
+			sb.append( "phases:" );
+			if( this.phases == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.phases );
+			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class start_timeline_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public start_timeline_argsStandardScheme getScheme() {
+				return new start_timeline_argsStandardScheme();
+			}
+		}
+
+		private static class start_timeline_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<start_timeline_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, start_timeline_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // PHASES
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list112 = iprot.readListBegin();
+									struct.phases = new java.util.ArrayList<timeline_phase>( _list112.size );
+									timeline_phase _elem113;
+									for( int _i114 = 0; _i114 < _list112.size; ++_i114 ) {
+										_elem113 = new timeline_phase();
+										_elem113.read( iprot );
+										struct.phases.add( _elem113 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setPhasesIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, start_timeline_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.phases != null ) {
+					oprot.writeFieldBegin( PHASES_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, struct.phases.size() ) );
+						for( timeline_phase _iter115 : struct.phases ) {
+							_iter115.write( oprot );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class start_timeline_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public start_timeline_argsTupleScheme getScheme() {
+				return new start_timeline_argsTupleScheme();
+			}
+		}
+
+		private static class start_timeline_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<start_timeline_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, start_timeline_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetPhases() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetPhases() ) {
+					{
+						oprot.writeI32( struct.phases.size() );
+						for( timeline_phase _iter116 : struct.phases ) {
+							_iter116.write( oprot );
+						}
+					}
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, start_timeline_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list117 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, iprot.readI32() );
+						struct.phases = new java.util.ArrayList<timeline_phase>( _list117.size );
+						timeline_phase _elem118;
+						for( int _i119 = 0; _i119 < _list117.size; ++_i119 ) {
+							_elem118 = new timeline_phase();
+							_elem118.read( iprot );
+							struct.phases.add( _elem118 );
+						}
+					}
+					struct.setPhasesIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class start_timeline_result implements org.apache.thrift.TBase<start_timeline_result, start_timeline_result._Fields>, java.io.Serializable, Cloneable, Comparable<start_timeline_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "start_timeline_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new start_timeline_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new start_timeline_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( start_timeline_result.class, metaDataMap );
+		}
+
+		public start_timeline_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public start_timeline_result( start_timeline_result other ) {
+		}
+
+		public start_timeline_result deepCopy() {
+			return new start_timeline_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof start_timeline_result ) {
+				return this.equals( ( start_timeline_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( start_timeline_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( start_timeline_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "start_timeline_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class start_timeline_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public start_timeline_resultStandardScheme getScheme() {
+				return new start_timeline_resultStandardScheme();
+			}
+		}
+
+		private static class start_timeline_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<start_timeline_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, start_timeline_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, start_timeline_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class start_timeline_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public start_timeline_resultTupleScheme getScheme() {
+				return new start_timeline_resultTupleScheme();
+			}
+		}
+
+		private static class start_timeline_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<start_timeline_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, start_timeline_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, start_timeline_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class stop_timeline_args implements org.apache.thrift.TBase<stop_timeline_args, stop_timeline_args._Fields>, java.io.Serializable, Cloneable, Comparable<stop_timeline_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "stop_timeline_args" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new stop_timeline_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new stop_timeline_argsTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( stop_timeline_args.class, metaDataMap );
+		}
+
+		public stop_timeline_args() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public stop_timeline_args( stop_timeline_args other ) {
+		}
+
+		public stop_timeline_args deepCopy() {
+			return new stop_timeline_args( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof stop_timeline_args ) {
+				return this.equals( ( stop_timeline_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( stop_timeline_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( stop_timeline_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "stop_timeline_args(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class stop_timeline_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public stop_timeline_argsStandardScheme getScheme() {
+				return new stop_timeline_argsStandardScheme();
+			}
+		}
+
+		private static class stop_timeline_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<stop_timeline_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, stop_timeline_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, stop_timeline_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class stop_timeline_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public stop_timeline_argsTupleScheme getScheme() {
+				return new stop_timeline_argsTupleScheme();
+			}
+		}
+
+		private static class stop_timeline_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<stop_timeline_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, stop_timeline_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, stop_timeline_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class stop_timeline_result implements org.apache.thrift.TBase<stop_timeline_result, stop_timeline_result._Fields>, java.io.Serializable, Cloneable, Comparable<stop_timeline_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "stop_timeline_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new stop_timeline_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new stop_timeline_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( stop_timeline_result.class, metaDataMap );
+		}
+
+		public stop_timeline_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public stop_timeline_result( stop_timeline_result other ) {
+		}
+
+		public stop_timeline_result deepCopy() {
+			return new stop_timeline_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof stop_timeline_result ) {
+				return this.equals( ( stop_timeline_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( stop_timeline_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( stop_timeline_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "stop_timeline_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class stop_timeline_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public stop_timeline_resultStandardScheme getScheme() {
+				return new stop_timeline_resultStandardScheme();
+			}
+		}
+
+		private static class stop_timeline_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<stop_timeline_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, stop_timeline_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, stop_timeline_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class stop_timeline_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public stop_timeline_resultTupleScheme getScheme() {
+				return new stop_timeline_resultTupleScheme();
+			}
+		}
+
+		private static class stop_timeline_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<stop_timeline_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, stop_timeline_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, stop_timeline_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class get_timeline_args implements org.apache.thrift.TBase<get_timeline_args, get_timeline_args._Fields>, java.io.Serializable, Cloneable, Comparable<get_timeline_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_timeline_args" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_timeline_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_timeline_argsTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_timeline_args.class, metaDataMap );
+		}
+
+		public get_timeline_args() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_timeline_args( get_timeline_args other ) {
+		}
+
+		public get_timeline_args deepCopy() {
+			return new get_timeline_args( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_timeline_args ) {
+				return this.equals( ( get_timeline_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( get_timeline_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( get_timeline_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_timeline_args(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class get_timeline_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_timeline_argsStandardScheme getScheme() {
+				return new get_timeline_argsStandardScheme();
+			}
+		}
+
+		private static class get_timeline_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_timeline_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_timeline_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_timeline_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class get_timeline_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_timeline_argsTupleScheme getScheme() {
+				return new get_timeline_argsTupleScheme();
+			}
+		}
+
+		private static class get_timeline_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_timeline_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_timeline_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_timeline_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class get_timeline_result implements org.apache.thrift.TBase<get_timeline_result, get_timeline_result._Fields>, java.io.Serializable, Cloneable, Comparable<get_timeline_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_timeline_result" );
+
+		private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField( "success", org.apache.thrift.protocol.TType.STRUCT, ( short ) 0 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_timeline_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_timeline_resultTupleSchemeFactory();
+
+		public timeline_status success; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			SUCCESS( ( short ) 0, "success" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 0: // SUCCESS
+						return SUCCESS;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData( "success", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                            new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, timeline_status.class ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_timeline_result.class, metaDataMap );
+		}
+
+		public get_timeline_result() {
+		}
+
+		public get_timeline_result(
+				timeline_status success ) {
+			this();
+			this.success = success;
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_timeline_result( get_timeline_result other ) {
+			if( other.isSetSuccess() ) {
+				this.success = new timeline_status( other.success );
+			}
+		}
+
+		public get_timeline_result deepCopy() {
+			return new get_timeline_result( this );
+		}
+
+		@Override
+		public void clear() {
+			this.success = null;
+		}
+
+		public timeline_status getSuccess() {
+			return this.success;
+		}
+
+		public get_timeline_result setSuccess( timeline_status success ) {
+			this.success = success;
+			return this;
+		}
+
+		public void unsetSuccess() {
+			this.success = null;
+		}
+
+		/** Returns true if field success is set (has been assigned a value) and false otherwise */
+		public boolean isSetSuccess() {
+			return this.success != null;
+		}
+
+		public void setSuccessIsSet( boolean value ) {
+			if( !value ) {
+				this.success = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case SUCCESS:
+					if( value == null ) {
+						unsetSuccess();
+					} else {
+						setSuccess( ( timeline_status ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case SUCCESS:
+					return getSuccess();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case SUCCESS:
+					return isSetSuccess();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_timeline_result ) {
+				return this.equals( ( get_timeline_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( get_timeline_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_success = true && this.isSetSuccess();
+			boolean that_present_success = true && that.isSetSuccess();
+			if( this_present_success || that_present_success ) {
+				if( !( this_present_success && that_present_success ) ) {
+					return false;
+				}
+				if( !this.success.equals( that.success ) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetSuccess() ) ? 131071 : 524287 );
+			if( isSetSuccess() ) {
+				hashCode = hashCode * 8191 + success.hashCode();
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( get_timeline_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetSuccess() ).compareTo( other.isSetSuccess() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSuccess() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.success, other.success );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_timeline_result(" );
+			boolean first = true;
+
+			sb.append( "success:" );
+			if( this.success == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.success );
+			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+			if( success != null ) {
+				success.validate();
+			}
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class get_timeline_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_timeline_resultStandardScheme getScheme() {
+				return new get_timeline_resultStandardScheme();
+			}
+		}
+
+		private static class get_timeline_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_timeline_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_timeline_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 0: // SUCCESS
+							if( schemeField.type == org.apache.thrift.protocol.TType.STRUCT ) {
+								struct.success = new timeline_status();
+								struct.success.read( iprot );
+								struct.setSuccessIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_timeline_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.success != null ) {
+					oprot.writeFieldBegin( SUCCESS_FIELD_DESC );
+					struct.success.write( oprot );
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class get_timeline_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_timeline_resultTupleScheme getScheme() {
+				return new get_timeline_resultTupleScheme();
+			}
+		}
+
+		private static class get_timeline_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_timeline_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_timeline_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetSuccess() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetSuccess() ) {
+					struct.success.write( oprot );
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_timeline_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					struct.success = new timeline_status();
+					struct.success.read( iprot );
+					struct.setSuccessIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_seed_args implements org.apache.thrift.TBase<set_seed_args, set_seed_args._Fields>, java.io.Serializable, Cloneable, Comparable<set_seed_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_seed_args" );
+
+		private static final org.apache.thrift.protocol.TField SEED_FIELD_DESC = new org.apache.thrift.protocol.TField( "seed", org.apache.thrift.protocol.TType.I64, ( short ) 1 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_seed_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_seed_argsTupleSchemeFactory();
+
+		public long seed; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			SEED( ( short ) 1, "seed" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // SEED
+						return SEED;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		// isset id assignments
+		private static final int __SEED_ISSET_ID = 0;
+		private byte __isset_bitfield = 0;
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.SEED, new org.apache.thrift.meta_data.FieldMetaData( "seed", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                         new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I64 ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_seed_args.class, metaDataMap );
+		}
+
+		public set_seed_args() {
+		}
+
+		public set_seed_args(
+				long seed ) {
+			this();
+			this.seed = seed;
+			setSeedIsSet( true );
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_seed_args( set_seed_args other ) {
+			__isset_bitfield = other.__isset_bitfield;
+			this.seed = other.seed;
+		}
+
+		public set_seed_args deepCopy() {
+			return new set_seed_args( this );
+		}
+
+		@Override
+		public void clear() {
+			setSeedIsSet( false );
+			this.seed = 0;
+		}
+
+		public long getSeed() {
+			return this.seed;
+		}
+
+		public set_seed_args setSeed( long seed ) {
+			this.seed = seed;
+			setSeedIsSet( true );
+			return this;
+		}
+
+		public void unsetSeed() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __SEED_ISSET_ID );
+		}
+
+		/** Returns true if field seed is set (has been assigned a value) and false otherwise */
+		public boolean isSetSeed() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __SEED_ISSET_ID );
+		}
+
+		public void setSeedIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __SEED_ISSET_ID, value );
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case SEED:
+					if( value == null ) {
+						unsetSeed();
+					} else {
+						setSeed( ( java.lang.Long ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case SEED:
+					return getSeed();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case SEED:
+					return isSetSeed();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_seed_args ) {
+				return this.equals( ( set_seed_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_seed_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_seed = true;
+			boolean that_present_seed = true;
+			if( this_present_seed || that_present_seed ) {
+				if( !( this_present_seed && that_present_seed ) ) {
+					return false;
+				}
+				if( this.seed != that.seed ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode( seed );
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_seed_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetSeed() ).compareTo( other.isSetSeed() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSeed() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.seed, other.seed );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_seed_args(" );
+			boolean first = true;
+
+			sb.append( "seed:" );
+			sb.append( this.seed );
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				// it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+				__isset_bitfield = 0;
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_seed_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_seed_argsStandardScheme getScheme() {
+				return new set_seed_argsStandardScheme();
+			}
+		}
+
+		private static class set_seed_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_seed_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_seed_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // SEED
+							if( schemeField.type == org.apache.thrift.protocol.TType.I64 ) {
+								struct.seed = iprot.readI64();
+								struct.setSeedIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_seed_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldBegin( SEED_FIELD_DESC );
+				oprot.writeI64( struct.seed );
+				oprot.writeFieldEnd();
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_seed_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_seed_argsTupleScheme getScheme() {
+				return new set_seed_argsTupleScheme();
+			}
+		}
+
+		private static class set_seed_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_seed_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_seed_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetSeed() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetSeed() ) {
+					oprot.writeI64( struct.seed );
+				}
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_seed_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					struct.seed = iprot.readI64();
+					struct.setSeedIsSet( true );
+				}
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class set_seed_result implements org.apache.thrift.TBase<set_seed_result, set_seed_result._Fields>, java.io.Serializable, Cloneable, Comparable<set_seed_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_seed_result" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_seed_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_seed_resultTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_seed_result.class, metaDataMap );
+		}
+
+		public set_seed_result() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_seed_result( set_seed_result other ) {
+		}
+
+		public set_seed_result deepCopy() {
+			return new set_seed_result( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_seed_result ) {
+				return this.equals( ( set_seed_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( set_seed_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_seed_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_seed_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class set_seed_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_seed_resultStandardScheme getScheme() {
+				return new set_seed_resultStandardScheme();
+			}
+		}
+
+		private static class set_seed_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_seed_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_seed_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
 					}
-				};
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
+
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_seed_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_seed_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_seed_resultTupleScheme getScheme() {
+				return new set_seed_resultTupleScheme();
+			}
+		}
+
+		private static class set_seed_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_seed_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_seed_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_seed_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class clear_seed_args implements org.apache.thrift.TBase<clear_seed_args, clear_seed_args._Fields>, java.io.Serializable, Cloneable, Comparable<clear_seed_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_seed_args" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_seed_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_seed_argsTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_seed_args.class, metaDataMap );
+		}
+
+		public clear_seed_args() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public clear_seed_args( clear_seed_args other ) {
+		}
+
+		public clear_seed_args deepCopy() {
+			return new clear_seed_args( this );
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof clear_seed_args ) {
+				return this.equals( ( clear_seed_args ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( clear_seed_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( clear_seed_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
 			}
 
-			protected boolean isOneway() {
-				return false;
-			}
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_seed_args(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
 
-			public void start( I iface, clear_fault_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
-				iface.clear_fault( args.method, resultHandler );
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
 			}
 		}
 
-		public static class set_fault<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, set_fault_args, Void> {
-			public set_fault() {
-				super( "set_fault" );
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
 			}
+		}
 
-			public set_fault_args getEmptyArgsInstance() {
-				return new set_fault_args();
+		private static class clear_seed_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_seed_argsStandardScheme getScheme() {
+				return new clear_seed_argsStandardScheme();
 			}
+		}
 
-			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
-				final org.apache.thrift.AsyncProcessFunction fcall = this;
-				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
-					public void onComplete( Void o ) {
-						set_fault_result result = new set_fault_result();
-						try {
-							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
-						} catch( org.apache.thrift.transport.TTransportException e ) {
-							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
-							fb.close();
-						} catch( java.lang.Exception e ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", e );
-							onError( e );
-						}
-					}
+		private static class clear_seed_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_seed_args> {
 
-					public void onError( java.lang.Exception e ) {
-						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-						org.apache.thrift.TSerializable msg;
-						set_fault_result result = new set_fault_result();
-						if( e instanceof org.apache.thrift.transport.TTransportException ) {
-							_LOGGER.error( "TTransportException inside handler", e );
-							fb.close();
-							return;
-						} else if( e instanceof org.apache.thrift.TApplicationException ) {
-							_LOGGER.error( "TApplicationException inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = ( org.apache.thrift.TApplicationException ) e;
-						} else {
-							_LOGGER.error( "Exception inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
-						}
-						try {
-							fcall.sendResponse( fb, msg, msgType, seqid );
-						} catch( java.lang.Exception ex ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", ex );
-							fb.close();
-						}
+			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_seed_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
 					}
-				};
-			}
-
-			protected boolean isOneway() {
-				return false;
-			}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
 
-			public void start( I iface, set_fault_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
-				iface.set_fault( args.methods, args.random, args.err_no, args.probability, args.regexp, args.kill_caller, args.delay_us, args.auto_delay, resultHandler );
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
 			}
-		}
 
-		public static class set_all_fault<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, set_all_fault_args, Void> {
-			public set_all_fault() {
-				super( "set_all_fault" );
-			}
+			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_seed_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
 
-			public set_all_fault_args getEmptyArgsInstance() {
-				return new set_all_fault_args();
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
 			}
 
-			public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler( final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid ) {
-				final org.apache.thrift.AsyncProcessFunction fcall = this;
-				return new org.apache.thrift.async.AsyncMethodCallback<Void>() {
-					public void onComplete( Void o ) {
-						set_all_fault_result result = new set_all_fault_result();
-						try {
-							fcall.sendResponse( fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid );
-						} catch( org.apache.thrift.transport.TTransportException e ) {
-							_LOGGER.error( "TTransportException writing to internal frame buffer", e );
-							fb.close();
-						} catch( java.lang.Exception e ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", e );
-							onError( e );
-						}
-					}
+		}
 
-					public void onError( java.lang.Exception e ) {
-						byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-						org.apache.thrift.TSerializable msg;
-						set_all_fault_result result = new set_all_fault_result();
-						if( e instanceof org.apache.thrift.transport.TTransportException ) {
-							_LOGGER.error( "TTransportException inside handler", e );
-							fb.close();
-							return;
-						} else if( e instanceof org.apache.thrift.TApplicationException ) {
-							_LOGGER.error( "TApplicationException inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = ( org.apache.thrift.TApplicationException ) e;
-						} else {
-							_LOGGER.error( "Exception inside handler", e );
-							msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-							msg = new org.apache.thrift.TApplicationException( org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage() );
-						}
-						try {
-							fcall.sendResponse( fb, msg, msgType, seqid );
-						} catch( java.lang.Exception ex ) {
-							_LOGGER.error( "Exception writing to internal frame buffer", ex );
-							fb.close();
-						}
-					}
-				};
+		private static class clear_seed_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_seed_argsTupleScheme getScheme() {
+				return new clear_seed_argsTupleScheme();
 			}
+		}
 
-			protected boolean isOneway() {
-				return false;
+		private static class clear_seed_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_seed_args> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, clear_seed_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 
-			public void start( I iface, set_all_fault_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler ) throws org.apache.thrift.TException {
-				iface.set_all_fault( args.random, args.err_no, args.probability, args.regexp, args.kill_caller, args.delay_us, args.auto_delay, resultHandler );
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, clear_seed_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 		}
 
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
 	}
 
-	public static class get_methods_args implements org.apache.thrift.TBase<get_methods_args, get_methods_args._Fields>, java.io.Serializable, Cloneable, Comparable<get_methods_args> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_methods_args" );
+	public static class clear_seed_result implements org.apache.thrift.TBase<clear_seed_result, clear_seed_result._Fields>, java.io.Serializable, Cloneable, Comparable<clear_seed_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_seed_result" );
 
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_methods_argsStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_methods_argsTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_seed_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_seed_resultTupleSchemeFactory();
 
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -925,20 +14731,20 @@ public class server {
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_methods_args.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_seed_result.class, metaDataMap );
 		}
 
-		public get_methods_args() {
+		public clear_seed_result() {
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public get_methods_args( get_methods_args other ) {
+		public clear_seed_result( clear_seed_result other ) {
 		}
 
-		public get_methods_args deepCopy() {
-			return new get_methods_args( this );
+		public clear_seed_result deepCopy() {
+			return new clear_seed_result( this );
 		}
 
 		@Override
@@ -972,13 +14778,13 @@ public class server {
 			if( that == null ) {
 				return false;
 			}
-			if( that instanceof get_methods_args ) {
-				return this.equals( ( get_methods_args ) that );
+			if( that instanceof clear_seed_result ) {
+				return this.equals( ( clear_seed_result ) that );
 			}
 			return false;
 		}
 
-		public boolean equals( get_methods_args that ) {
+		public boolean equals( clear_seed_result that ) {
 			if( that == null ) {
 				return false;
 			}
@@ -997,7 +14803,7 @@ public class server {
 		}
 
 		@Override
-		public int compareTo( get_methods_args other ) {
+		public int compareTo( clear_seed_result other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
@@ -1021,7 +14827,7 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_methods_args(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_seed_result(" );
 			boolean first = true;
 
 			sb.append( ")" );
@@ -1049,15 +14855,15 @@ public class server {
 			}
 		}
 
-		private static class get_methods_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public get_methods_argsStandardScheme getScheme() {
-				return new get_methods_argsStandardScheme();
+		private static class clear_seed_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_seed_resultStandardScheme getScheme() {
+				return new clear_seed_resultStandardScheme();
 			}
 		}
 
-		private static class get_methods_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_methods_args> {
+		private static class clear_seed_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_seed_result> {
 
-			public void read( org.apache.thrift.protocol.TProtocol iprot, get_methods_args struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_seed_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TField schemeField;
 				iprot.readStructBegin();
 				while( true ) {
@@ -1077,7 +14883,7 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, get_methods_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_seed_result struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
@@ -1087,21 +14893,21 @@ public class server {
 
 		}
 
-		private static class get_methods_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public get_methods_argsTupleScheme getScheme() {
-				return new get_methods_argsTupleScheme();
+		private static class clear_seed_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public clear_seed_resultTupleScheme getScheme() {
+				return new clear_seed_resultTupleScheme();
 			}
 		}
 
-		private static class get_methods_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_methods_args> {
+		private static class clear_seed_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_seed_result> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, get_methods_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, clear_seed_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, get_methods_args struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, clear_seed_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 		}
@@ -1111,19 +14917,22 @@ public class server {
 		}
 	}
 
-	public static class get_methods_result implements org.apache.thrift.TBase<get_methods_result, get_methods_result._Fields>, java.io.Serializable, Cloneable, Comparable<get_methods_result> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_methods_result" );
+	public static class start_trace_args implements org.apache.thrift.TBase<start_trace_args, start_trace_args._Fields>, java.io.Serializable, Cloneable, Comparable<start_trace_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "start_trace_args" );
 
-		private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField( "success", org.apache.thrift.protocol.TType.LIST, ( short ) 0 );
+		private static final org.apache.thrift.protocol.TField FILE_FIELD_DESC = new org.apache.thrift.protocol.TField( "file", org.apache.thrift.protocol.TType.STRING, ( short ) 1 );
+		private static final org.apache.thrift.protocol.TField SAMPLE_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField( "sample_rate", org.apache.thrift.protocol.TType.I32, ( short ) 2 );
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_methods_resultStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_methods_resultTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new start_trace_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new start_trace_argsTupleSchemeFactory();
 
-		public java.util.List<java.lang.String> success; // required
+		public java.lang.String file; // required
+		public int sample_rate; // required
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
 		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-			SUCCESS( ( short ) 0, "success" );
+			FILE( ( short ) 1, "file" ),
+			SAMPLE_RATE( ( short ) 2, "sample_rate" );
 
 			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -1138,8 +14947,10 @@ public class server {
 			 */
 			public static _Fields findByThriftId( int fieldId ) {
 				switch( fieldId ) {
-					case 0: // SUCCESS
-						return SUCCESS;
+					case 1: // FILE
+						return FILE;
+					case 2: // SAMPLE_RATE
+						return SAMPLE_RATE;
 					default:
 						return null;
 				}
@@ -1182,91 +14993,116 @@ public class server {
 		}
 
 		// isset id assignments
+		private static final int __SAMPLE_RATE_ISSET_ID = 0;
+		private byte __isset_bitfield = 0;
 		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
 
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
-			tmpMap.put( _Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData( "success", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                            new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
-			                                                                                                                          new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) ) );
+			tmpMap.put( _Fields.FILE, new org.apache.thrift.meta_data.FieldMetaData( "file", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                         new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) );
+			tmpMap.put( _Fields.SAMPLE_RATE, new org.apache.thrift.meta_data.FieldMetaData( "sample_rate", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                                new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_methods_result.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( start_trace_args.class, metaDataMap );
 		}
 
-		public get_methods_result() {
+		public start_trace_args() {
 		}
 
-		public get_methods_result(
-				java.util.List<java.lang.String> success ) {
+		public start_trace_args(
+				java.lang.String file,
+				int sample_rate ) {
 			this();
-			this.success = success;
+			this.file = file;
+			this.sample_rate = sample_rate;
+			setSample_rateIsSet( true );
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public get_methods_result( get_methods_result other ) {
-			if( other.isSetSuccess() ) {
-				java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>( other.success );
-				this.success = __this__success;
+		public start_trace_args( start_trace_args other ) {
+			__isset_bitfield = other.__isset_bitfield;
+			if( other.isSetFile() ) {
+				this.file = other.file;
 			}
+			this.sample_rate = other.sample_rate;
 		}
 
-		public get_methods_result deepCopy() {
-			return new get_methods_result( this );
+		public start_trace_args deepCopy() {
+			return new start_trace_args( this );
 		}
 
 		@Override
 		public void clear() {
-			this.success = null;
+			this.file = null;
+			setSample_rateIsSet( false );
+			this.sample_rate = 0;
 		}
 
-		public int getSuccessSize() {
-			return ( this.success == null ) ? 0 : this.success.size();
+		public java.lang.String getFile() {
+			return this.file;
 		}
 
-		public java.util.Iterator<java.lang.String> getSuccessIterator() {
-			return ( this.success == null ) ? null : this.success.iterator();
+		public start_trace_args setFile( java.lang.String file ) {
+			this.file = file;
+			return this;
 		}
 
-		public void addToSuccess( java.lang.String elem ) {
-			if( this.success == null ) {
-				this.success = new java.util.ArrayList<java.lang.String>();
+		public void unsetFile() {
+			this.file = null;
+		}
+
+		/** Returns true if field file is set (has been assigned a value) and false otherwise */
+		public boolean isSetFile() {
+			return this.file != null;
+		}
+
+		public void setFileIsSet( boolean value ) {
+			if( !value ) {
+				this.file = null;
 			}
-			this.success.add( elem );
 		}
 
-		public java.util.List<java.lang.String> getSuccess() {
-			return this.success;
+		public int getSample_rate() {
+			return this.sample_rate;
 		}
 
-		public get_methods_result setSuccess( java.util.List<java.lang.String> success ) {
-			this.success = success;
+		public start_trace_args setSample_rate( int sample_rate ) {
+			this.sample_rate = sample_rate;
+			setSample_rateIsSet( true );
 			return this;
 		}
 
-		public void unsetSuccess() {
-			this.success = null;
+		public void unsetSample_rate() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __SAMPLE_RATE_ISSET_ID );
 		}
 
-		/** Returns true if field success is set (has been assigned a value) and false otherwise */
-		public boolean isSetSuccess() {
-			return this.success != null;
+		/** Returns true if field sample_rate is set (has been assigned a value) and false otherwise */
+		public boolean isSetSample_rate() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __SAMPLE_RATE_ISSET_ID );
 		}
 
-		public void setSuccessIsSet( boolean value ) {
-			if( !value ) {
-				this.success = null;
-			}
+		public void setSample_rateIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __SAMPLE_RATE_ISSET_ID, value );
 		}
 
 		public void setFieldValue( _Fields field, java.lang.Object value ) {
 			switch( field ) {
-				case SUCCESS:
+				case FILE:
 					if( value == null ) {
-						unsetSuccess();
+						unsetFile();
 					} else {
-						setSuccess( ( java.util.List<java.lang.String> ) value );
+						setFile( ( java.lang.String ) value );
+					}
+					break;
+
+				case SAMPLE_RATE:
+					if( value == null ) {
+						unsetSample_rate();
+					} else {
+						setSample_rate( ( java.lang.Integer ) value );
 					}
 					break;
 
@@ -1275,8 +15111,11 @@ public class server {
 
 		public java.lang.Object getFieldValue( _Fields field ) {
 			switch( field ) {
-				case SUCCESS:
-					return getSuccess();
+				case FILE:
+					return getFile();
+
+				case SAMPLE_RATE:
+					return getSample_rate();
 
 			}
 			throw new java.lang.IllegalStateException();
@@ -1289,8 +15128,10 @@ public class server {
 			}
 
 			switch( field ) {
-				case SUCCESS:
-					return isSetSuccess();
+				case FILE:
+					return isSetFile();
+				case SAMPLE_RATE:
+					return isSetSample_rate();
 			}
 			throw new java.lang.IllegalStateException();
 		}
@@ -1300,13 +15141,13 @@ public class server {
 			if( that == null ) {
 				return false;
 			}
-			if( that instanceof get_methods_result ) {
-				return this.equals( ( get_methods_result ) that );
+			if( that instanceof start_trace_args ) {
+				return this.equals( ( start_trace_args ) that );
 			}
 			return false;
 		}
 
-		public boolean equals( get_methods_result that ) {
+		public boolean equals( start_trace_args that ) {
 			if( that == null ) {
 				return false;
 			}
@@ -1314,13 +15155,24 @@ public class server {
 				return true;
 			}
 
-			boolean this_present_success = true && this.isSetSuccess();
-			boolean that_present_success = true && that.isSetSuccess();
-			if( this_present_success || that_present_success ) {
-				if( !( this_present_success && that_present_success ) ) {
+			boolean this_present_file = true && this.isSetFile();
+			boolean that_present_file = true && that.isSetFile();
+			if( this_present_file || that_present_file ) {
+				if( !( this_present_file && that_present_file ) ) {
+					return false;
+				}
+				if( !this.file.equals( that.file ) ) {
+					return false;
+				}
+			}
+
+			boolean this_present_sample_rate = true;
+			boolean that_present_sample_rate = true;
+			if( this_present_sample_rate || that_present_sample_rate ) {
+				if( !( this_present_sample_rate && that_present_sample_rate ) ) {
 					return false;
 				}
-				if( !this.success.equals( that.success ) ) {
+				if( this.sample_rate != that.sample_rate ) {
 					return false;
 				}
 			}
@@ -1332,28 +15184,40 @@ public class server {
 		public int hashCode() {
 			int hashCode = 1;
 
-			hashCode = hashCode * 8191 + ( ( isSetSuccess() ) ? 131071 : 524287 );
-			if( isSetSuccess() ) {
-				hashCode = hashCode * 8191 + success.hashCode();
+			hashCode = hashCode * 8191 + ( ( isSetFile() ) ? 131071 : 524287 );
+			if( isSetFile() ) {
+				hashCode = hashCode * 8191 + file.hashCode();
 			}
 
+			hashCode = hashCode * 8191 + sample_rate;
+
 			return hashCode;
 		}
 
 		@Override
-		public int compareTo( get_methods_result other ) {
+		public int compareTo( start_trace_args other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
 
 			int lastComparison = 0;
 
-			lastComparison = java.lang.Boolean.valueOf( isSetSuccess() ).compareTo( other.isSetSuccess() );
+			lastComparison = java.lang.Boolean.valueOf( isSetFile() ).compareTo( other.isSetFile() );
 			if( lastComparison != 0 ) {
 				return lastComparison;
 			}
-			if( isSetSuccess() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.success, other.success );
+			if( isSetFile() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.file, other.file );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			lastComparison = java.lang.Boolean.valueOf( isSetSample_rate() ).compareTo( other.isSetSample_rate() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSample_rate() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.sample_rate, other.sample_rate );
 				if( lastComparison != 0 ) {
 					return lastComparison;
 				}
@@ -1375,15 +15239,21 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_methods_result(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "start_trace_args(" );
 			boolean first = true;
 
-			sb.append( "success:" );
-			if( this.success == null ) {
+			sb.append( "file:" );
+			if( this.file == null ) {
 				sb.append( "null" );
 			} else {
-				sb.append( this.success );
+				sb.append( this.file );
+			}
+			first = false;
+			if( !first ) {
+				sb.append( ", " );
 			}
+			sb.append( "sample_rate:" );
+			sb.append( this.sample_rate );
 			first = false;
 			sb.append( ")" );
 			return sb.toString();
@@ -1404,21 +15274,23 @@ public class server {
 
 		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
 			try {
+				// it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+				__isset_bitfield = 0;
 				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
 			} catch( org.apache.thrift.TException te ) {
 				throw new java.io.IOException( te );
 			}
 		}
 
-		private static class get_methods_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public get_methods_resultStandardScheme getScheme() {
-				return new get_methods_resultStandardScheme();
+		private static class start_trace_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public start_trace_argsStandardScheme getScheme() {
+				return new start_trace_argsStandardScheme();
 			}
 		}
 
-		private static class get_methods_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_methods_result> {
+		private static class start_trace_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<start_trace_args> {
 
-			public void read( org.apache.thrift.protocol.TProtocol iprot, get_methods_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol iprot, start_trace_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TField schemeField;
 				iprot.readStructBegin();
 				while( true ) {
@@ -1427,19 +15299,18 @@ public class server {
 						break;
 					}
 					switch( schemeField.id ) {
-						case 0: // SUCCESS
-							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
-								{
-									org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-									struct.success = new java.util.ArrayList<java.lang.String>( _list0.size );
-									java.lang.String _elem1;
-									for( int _i2 = 0; _i2 < _list0.size; ++_i2 ) {
-										_elem1 = iprot.readString();
-										struct.success.add( _elem1 );
-									}
-									iprot.readListEnd();
-								}
-								struct.setSuccessIsSet( true );
+						case 1: // FILE
+							if( schemeField.type == org.apache.thrift.protocol.TType.STRING ) {
+								struct.file = iprot.readString();
+								struct.setFileIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						case 2: // SAMPLE_RATE
+							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
+								struct.sample_rate = iprot.readI32();
+								struct.setSample_rateIsSet( true );
 							} else {
 								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
 							}
@@ -1455,68 +15326,62 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, get_methods_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, start_trace_args struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
-				if( struct.success != null ) {
-					oprot.writeFieldBegin( SUCCESS_FIELD_DESC );
-					{
-						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, struct.success.size() ) );
-						for( java.lang.String _iter3 : struct.success ) {
-							oprot.writeString( _iter3 );
-						}
-						oprot.writeListEnd();
-					}
+				if( struct.file != null ) {
+					oprot.writeFieldBegin( FILE_FIELD_DESC );
+					oprot.writeString( struct.file );
 					oprot.writeFieldEnd();
 				}
+				oprot.writeFieldBegin( SAMPLE_RATE_FIELD_DESC );
+				oprot.writeI32( struct.sample_rate );
+				oprot.writeFieldEnd();
 				oprot.writeFieldStop();
 				oprot.writeStructEnd();
 			}
 
 		}
 
-		private static class get_methods_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public get_methods_resultTupleScheme getScheme() {
-				return new get_methods_resultTupleScheme();
+		private static class start_trace_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public start_trace_argsTupleScheme getScheme() {
+				return new start_trace_argsTupleScheme();
 			}
 		}
 
-		private static class get_methods_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_methods_result> {
+		private static class start_trace_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<start_trace_args> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, get_methods_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, start_trace_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 				java.util.BitSet optionals = new java.util.BitSet();
-				if( struct.isSetSuccess() ) {
+				if( struct.isSetFile() ) {
 					optionals.set( 0 );
 				}
-				oprot.writeBitSet( optionals, 1 );
-				if( struct.isSetSuccess() ) {
-					{
-						oprot.writeI32( struct.success.size() );
-						for( java.lang.String _iter4 : struct.success ) {
-							oprot.writeString( _iter4 );
-						}
-					}
+				if( struct.isSetSample_rate() ) {
+					optionals.set( 1 );
+				}
+				oprot.writeBitSet( optionals, 2 );
+				if( struct.isSetFile() ) {
+					oprot.writeString( struct.file );
+				}
+				if( struct.isSetSample_rate() ) {
+					oprot.writeI32( struct.sample_rate );
 				}
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, get_methods_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, start_trace_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
-				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				java.util.BitSet incoming = iprot.readBitSet( 2 );
 				if( incoming.get( 0 ) ) {
-					{
-						org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, iprot.readI32() );
-						struct.success = new java.util.ArrayList<java.lang.String>( _list5.size );
-						java.lang.String _elem6;
-						for( int _i7 = 0; _i7 < _list5.size; ++_i7 ) {
-							_elem6 = iprot.readString();
-							struct.success.add( _elem6 );
-						}
-					}
-					struct.setSuccessIsSet( true );
+					struct.file = iprot.readString();
+					struct.setFileIsSet( true );
+				}
+				if( incoming.get( 1 ) ) {
+					struct.sample_rate = iprot.readI32();
+					struct.setSample_rateIsSet( true );
 				}
 			}
 		}
@@ -1526,12 +15391,12 @@ public class server {
 		}
 	}
 
-	public static class clear_all_faults_args implements org.apache.thrift.TBase<clear_all_faults_args, clear_all_faults_args._Fields>, java.io.Serializable, Cloneable, Comparable<clear_all_faults_args> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_all_faults_args" );
+	public static class start_trace_result implements org.apache.thrift.TBase<start_trace_result, start_trace_result._Fields>, java.io.Serializable, Cloneable, Comparable<start_trace_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "start_trace_result" );
 
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_all_faults_argsStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_all_faults_argsTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new start_trace_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new start_trace_resultTupleSchemeFactory();
 
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -1597,20 +15462,20 @@ public class server {
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_all_faults_args.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( start_trace_result.class, metaDataMap );
 		}
 
-		public clear_all_faults_args() {
+		public start_trace_result() {
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public clear_all_faults_args( clear_all_faults_args other ) {
+		public start_trace_result( start_trace_result other ) {
 		}
 
-		public clear_all_faults_args deepCopy() {
-			return new clear_all_faults_args( this );
+		public start_trace_result deepCopy() {
+			return new start_trace_result( this );
 		}
 
 		@Override
@@ -1644,13 +15509,13 @@ public class server {
 			if( that == null ) {
 				return false;
 			}
-			if( that instanceof clear_all_faults_args ) {
-				return this.equals( ( clear_all_faults_args ) that );
+			if( that instanceof start_trace_result ) {
+				return this.equals( ( start_trace_result ) that );
 			}
 			return false;
 		}
 
-		public boolean equals( clear_all_faults_args that ) {
+		public boolean equals( start_trace_result that ) {
 			if( that == null ) {
 				return false;
 			}
@@ -1669,7 +15534,7 @@ public class server {
 		}
 
 		@Override
-		public int compareTo( clear_all_faults_args other ) {
+		public int compareTo( start_trace_result other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
@@ -1693,7 +15558,7 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_all_faults_args(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "start_trace_result(" );
 			boolean first = true;
 
 			sb.append( ")" );
@@ -1721,15 +15586,15 @@ public class server {
 			}
 		}
 
-		private static class clear_all_faults_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public clear_all_faults_argsStandardScheme getScheme() {
-				return new clear_all_faults_argsStandardScheme();
+		private static class start_trace_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public start_trace_resultStandardScheme getScheme() {
+				return new start_trace_resultStandardScheme();
 			}
 		}
 
-		private static class clear_all_faults_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_all_faults_args> {
+		private static class start_trace_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<start_trace_result> {
 
-			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_all_faults_args struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol iprot, start_trace_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TField schemeField;
 				iprot.readStructBegin();
 				while( true ) {
@@ -1749,7 +15614,7 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_all_faults_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, start_trace_result struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
@@ -1759,21 +15624,21 @@ public class server {
 
 		}
 
-		private static class clear_all_faults_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public clear_all_faults_argsTupleScheme getScheme() {
-				return new clear_all_faults_argsTupleScheme();
+		private static class start_trace_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public start_trace_resultTupleScheme getScheme() {
+				return new start_trace_resultTupleScheme();
 			}
 		}
 
-		private static class clear_all_faults_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_all_faults_args> {
+		private static class start_trace_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<start_trace_result> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, clear_all_faults_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, start_trace_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, clear_all_faults_args struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, start_trace_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 		}
@@ -1783,12 +15648,12 @@ public class server {
 		}
 	}
 
-	public static class clear_all_faults_result implements org.apache.thrift.TBase<clear_all_faults_result, clear_all_faults_result._Fields>, java.io.Serializable, Cloneable, Comparable<clear_all_faults_result> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_all_faults_result" );
+	public static class stop_trace_args implements org.apache.thrift.TBase<stop_trace_args, stop_trace_args._Fields>, java.io.Serializable, Cloneable, Comparable<stop_trace_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "stop_trace_args" );
 
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_all_faults_resultStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_all_faults_resultTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new stop_trace_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new stop_trace_argsTupleSchemeFactory();
 
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -1854,20 +15719,20 @@ public class server {
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_all_faults_result.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( stop_trace_args.class, metaDataMap );
 		}
 
-		public clear_all_faults_result() {
+		public stop_trace_args() {
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public clear_all_faults_result( clear_all_faults_result other ) {
+		public stop_trace_args( stop_trace_args other ) {
 		}
 
-		public clear_all_faults_result deepCopy() {
-			return new clear_all_faults_result( this );
+		public stop_trace_args deepCopy() {
+			return new stop_trace_args( this );
 		}
 
 		@Override
@@ -1901,13 +15766,13 @@ public class server {
 			if( that == null ) {
 				return false;
 			}
-			if( that instanceof clear_all_faults_result ) {
-				return this.equals( ( clear_all_faults_result ) that );
+			if( that instanceof stop_trace_args ) {
+				return this.equals( ( stop_trace_args ) that );
 			}
 			return false;
 		}
 
-		public boolean equals( clear_all_faults_result that ) {
+		public boolean equals( stop_trace_args that ) {
 			if( that == null ) {
 				return false;
 			}
@@ -1926,7 +15791,7 @@ public class server {
 		}
 
 		@Override
-		public int compareTo( clear_all_faults_result other ) {
+		public int compareTo( stop_trace_args other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
@@ -1950,7 +15815,7 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_all_faults_result(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "stop_trace_args(" );
 			boolean first = true;
 
 			sb.append( ")" );
@@ -1978,15 +15843,15 @@ public class server {
 			}
 		}
 
-		private static class clear_all_faults_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public clear_all_faults_resultStandardScheme getScheme() {
-				return new clear_all_faults_resultStandardScheme();
+		private static class stop_trace_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public stop_trace_argsStandardScheme getScheme() {
+				return new stop_trace_argsStandardScheme();
 			}
 		}
 
-		private static class clear_all_faults_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_all_faults_result> {
+		private static class stop_trace_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<stop_trace_args> {
 
-			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_all_faults_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol iprot, stop_trace_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TField schemeField;
 				iprot.readStructBegin();
 				while( true ) {
@@ -2006,7 +15871,7 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_all_faults_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, stop_trace_args struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
@@ -2016,21 +15881,21 @@ public class server {
 
 		}
 
-		private static class clear_all_faults_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public clear_all_faults_resultTupleScheme getScheme() {
-				return new clear_all_faults_resultTupleScheme();
+		private static class stop_trace_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public stop_trace_argsTupleScheme getScheme() {
+				return new stop_trace_argsTupleScheme();
 			}
 		}
 
-		private static class clear_all_faults_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_all_faults_result> {
+		private static class stop_trace_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<stop_trace_args> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, clear_all_faults_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, stop_trace_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, clear_all_faults_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, stop_trace_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 		}
@@ -2040,19 +15905,17 @@ public class server {
 		}
 	}
 
-	public static class clear_fault_args implements org.apache.thrift.TBase<clear_fault_args, clear_fault_args._Fields>, java.io.Serializable, Cloneable, Comparable<clear_fault_args> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_fault_args" );
+	public static class stop_trace_result implements org.apache.thrift.TBase<stop_trace_result, stop_trace_result._Fields>, java.io.Serializable, Cloneable, Comparable<stop_trace_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "stop_trace_result" );
 
-		private static final org.apache.thrift.protocol.TField METHOD_FIELD_DESC = new org.apache.thrift.protocol.TField( "method", org.apache.thrift.protocol.TType.STRING, ( short ) 1 );
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_fault_argsStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_fault_argsTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new stop_trace_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new stop_trace_resultTupleSchemeFactory();
 
-		public java.lang.String method; // required
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
 		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-			METHOD( ( short ) 1, "method" );
+			;
 
 			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -2067,8 +15930,6 @@ public class server {
 			 */
 			public static _Fields findByThriftId( int fieldId ) {
 				switch( fieldId ) {
-					case 1: // METHOD
-						return METHOD;
 					default:
 						return null;
 				}
@@ -2110,86 +15971,38 @@ public class server {
 			}
 		}
 
-		// isset id assignments
 		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
 
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
-			tmpMap.put( _Fields.METHOD, new org.apache.thrift.meta_data.FieldMetaData( "method", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_fault_args.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( stop_trace_result.class, metaDataMap );
 		}
 
-		public clear_fault_args() {
-		}
-
-		public clear_fault_args(
-				java.lang.String method ) {
-			this();
-			this.method = method;
+		public stop_trace_result() {
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public clear_fault_args( clear_fault_args other ) {
-			if( other.isSetMethod() ) {
-				this.method = other.method;
-			}
+		public stop_trace_result( stop_trace_result other ) {
 		}
 
-		public clear_fault_args deepCopy() {
-			return new clear_fault_args( this );
+		public stop_trace_result deepCopy() {
+			return new stop_trace_result( this );
 		}
 
 		@Override
 		public void clear() {
-			this.method = null;
-		}
-
-		public java.lang.String getMethod() {
-			return this.method;
-		}
-
-		public clear_fault_args setMethod( java.lang.String method ) {
-			this.method = method;
-			return this;
-		}
-
-		public void unsetMethod() {
-			this.method = null;
-		}
-
-		/** Returns true if field method is set (has been assigned a value) and false otherwise */
-		public boolean isSetMethod() {
-			return this.method != null;
-		}
-
-		public void setMethodIsSet( boolean value ) {
-			if( !value ) {
-				this.method = null;
-			}
 		}
 
 		public void setFieldValue( _Fields field, java.lang.Object value ) {
 			switch( field ) {
-				case METHOD:
-					if( value == null ) {
-						unsetMethod();
-					} else {
-						setMethod( ( java.lang.String ) value );
-					}
-					break;
-
 			}
 		}
 
 		public java.lang.Object getFieldValue( _Fields field ) {
 			switch( field ) {
-				case METHOD:
-					return getMethod();
-
 			}
 			throw new java.lang.IllegalStateException();
 		}
@@ -2201,8 +16014,6 @@ public class server {
 			}
 
 			switch( field ) {
-				case METHOD:
-					return isSetMethod();
 			}
 			throw new java.lang.IllegalStateException();
 		}
@@ -2212,13 +16023,13 @@ public class server {
 			if( that == null ) {
 				return false;
 			}
-			if( that instanceof clear_fault_args ) {
-				return this.equals( ( clear_fault_args ) that );
+			if( that instanceof stop_trace_result ) {
+				return this.equals( ( stop_trace_result ) that );
 			}
 			return false;
 		}
 
-		public boolean equals( clear_fault_args that ) {
+		public boolean equals( stop_trace_result that ) {
 			if( that == null ) {
 				return false;
 			}
@@ -2226,17 +16037,6 @@ public class server {
 				return true;
 			}
 
-			boolean this_present_method = true && this.isSetMethod();
-			boolean that_present_method = true && that.isSetMethod();
-			if( this_present_method || that_present_method ) {
-				if( !( this_present_method && that_present_method ) ) {
-					return false;
-				}
-				if( !this.method.equals( that.method ) ) {
-					return false;
-				}
-			}
-
 			return true;
 		}
 
@@ -2244,32 +16044,17 @@ public class server {
 		public int hashCode() {
 			int hashCode = 1;
 
-			hashCode = hashCode * 8191 + ( ( isSetMethod() ) ? 131071 : 524287 );
-			if( isSetMethod() ) {
-				hashCode = hashCode * 8191 + method.hashCode();
-			}
-
 			return hashCode;
 		}
 
 		@Override
-		public int compareTo( clear_fault_args other ) {
+		public int compareTo( stop_trace_result other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
 
 			int lastComparison = 0;
 
-			lastComparison = java.lang.Boolean.valueOf( isSetMethod() ).compareTo( other.isSetMethod() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetMethod() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.method, other.method );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
 			return 0;
 		}
 
@@ -2287,16 +16072,9 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_fault_args(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "stop_trace_result(" );
 			boolean first = true;
 
-			sb.append( "method:" );
-			if( this.method == null ) {
-				sb.append( "null" );
-			} else {
-				sb.append( this.method );
-			}
-			first = false;
 			sb.append( ")" );
 			return sb.toString();
 		}
@@ -2322,15 +16100,15 @@ public class server {
 			}
 		}
 
-		private static class clear_fault_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public clear_fault_argsStandardScheme getScheme() {
-				return new clear_fault_argsStandardScheme();
+		private static class stop_trace_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public stop_trace_resultStandardScheme getScheme() {
+				return new stop_trace_resultStandardScheme();
 			}
 		}
 
-		private static class clear_fault_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_fault_args> {
+		private static class stop_trace_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<stop_trace_result> {
 
-			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_fault_args struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol iprot, stop_trace_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TField schemeField;
 				iprot.readStructBegin();
 				while( true ) {
@@ -2339,14 +16117,6 @@ public class server {
 						break;
 					}
 					switch( schemeField.id ) {
-						case 1: // METHOD
-							if( schemeField.type == org.apache.thrift.protocol.TType.STRING ) {
-								struct.method = iprot.readString();
-								struct.setMethodIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
 						default:
 							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
 					}
@@ -2358,50 +16128,32 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_fault_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, stop_trace_result struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
-				if( struct.method != null ) {
-					oprot.writeFieldBegin( METHOD_FIELD_DESC );
-					oprot.writeString( struct.method );
-					oprot.writeFieldEnd();
-				}
 				oprot.writeFieldStop();
 				oprot.writeStructEnd();
 			}
 
 		}
-
-		private static class clear_fault_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public clear_fault_argsTupleScheme getScheme() {
-				return new clear_fault_argsTupleScheme();
+
+		private static class stop_trace_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public stop_trace_resultTupleScheme getScheme() {
+				return new stop_trace_resultTupleScheme();
 			}
 		}
 
-		private static class clear_fault_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_fault_args> {
+		private static class stop_trace_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<stop_trace_result> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, clear_fault_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, stop_trace_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
-				java.util.BitSet optionals = new java.util.BitSet();
-				if( struct.isSetMethod() ) {
-					optionals.set( 0 );
-				}
-				oprot.writeBitSet( optionals, 1 );
-				if( struct.isSetMethod() ) {
-					oprot.writeString( struct.method );
-				}
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, clear_fault_args struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, stop_trace_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
-				java.util.BitSet incoming = iprot.readBitSet( 1 );
-				if( incoming.get( 0 ) ) {
-					struct.method = iprot.readString();
-					struct.setMethodIsSet( true );
-				}
 			}
 		}
 
@@ -2410,12 +16162,12 @@ public class server {
 		}
 	}
 
-	public static class clear_fault_result implements org.apache.thrift.TBase<clear_fault_result, clear_fault_result._Fields>, java.io.Serializable, Cloneable, Comparable<clear_fault_result> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "clear_fault_result" );
+	public static class get_stats_args implements org.apache.thrift.TBase<get_stats_args, get_stats_args._Fields>, java.io.Serializable, Cloneable, Comparable<get_stats_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_stats_args" );
 
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new clear_fault_resultStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new clear_fault_resultTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_stats_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_stats_argsTupleSchemeFactory();
 
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -2481,20 +16233,20 @@ public class server {
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( clear_fault_result.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_stats_args.class, metaDataMap );
 		}
 
-		public clear_fault_result() {
+		public get_stats_args() {
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public clear_fault_result( clear_fault_result other ) {
+		public get_stats_args( get_stats_args other ) {
 		}
 
-		public clear_fault_result deepCopy() {
-			return new clear_fault_result( this );
+		public get_stats_args deepCopy() {
+			return new get_stats_args( this );
 		}
 
 		@Override
@@ -2528,13 +16280,13 @@ public class server {
 			if( that == null ) {
 				return false;
 			}
-			if( that instanceof clear_fault_result ) {
-				return this.equals( ( clear_fault_result ) that );
+			if( that instanceof get_stats_args ) {
+				return this.equals( ( get_stats_args ) that );
 			}
 			return false;
 		}
 
-		public boolean equals( clear_fault_result that ) {
+		public boolean equals( get_stats_args that ) {
 			if( that == null ) {
 				return false;
 			}
@@ -2553,7 +16305,7 @@ public class server {
 		}
 
 		@Override
-		public int compareTo( clear_fault_result other ) {
+		public int compareTo( get_stats_args other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
@@ -2577,7 +16329,7 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "clear_fault_result(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_stats_args(" );
 			boolean first = true;
 
 			sb.append( ")" );
@@ -2605,15 +16357,15 @@ public class server {
 			}
 		}
 
-		private static class clear_fault_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public clear_fault_resultStandardScheme getScheme() {
-				return new clear_fault_resultStandardScheme();
+		private static class get_stats_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_stats_argsStandardScheme getScheme() {
+				return new get_stats_argsStandardScheme();
 			}
 		}
 
-		private static class clear_fault_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<clear_fault_result> {
+		private static class get_stats_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_stats_args> {
 
-			public void read( org.apache.thrift.protocol.TProtocol iprot, clear_fault_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_stats_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TField schemeField;
 				iprot.readStructBegin();
 				while( true ) {
@@ -2633,7 +16385,7 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, clear_fault_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_stats_args struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
@@ -2643,21 +16395,21 @@ public class server {
 
 		}
 
-		private static class clear_fault_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public clear_fault_resultTupleScheme getScheme() {
-				return new clear_fault_resultTupleScheme();
+		private static class get_stats_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_stats_argsTupleScheme getScheme() {
+				return new get_stats_argsTupleScheme();
 			}
 		}
 
-		private static class clear_fault_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<clear_fault_result> {
+		private static class get_stats_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_stats_args> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, clear_fault_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_stats_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, clear_fault_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_stats_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 			}
 		}
@@ -2667,40 +16419,19 @@ public class server {
 		}
 	}
 
-	public static class set_fault_args implements org.apache.thrift.TBase<set_fault_args, set_fault_args._Fields>, java.io.Serializable, Cloneable, Comparable<set_fault_args> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_fault_args" );
+	public static class get_stats_result implements org.apache.thrift.TBase<get_stats_result, get_stats_result._Fields>, java.io.Serializable, Cloneable, Comparable<get_stats_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_stats_result" );
 
-		private static final org.apache.thrift.protocol.TField METHODS_FIELD_DESC = new org.apache.thrift.protocol.TField( "methods", org.apache.thrift.protocol.TType.LIST, ( short ) 1 );
-		private static final org.apache.thrift.protocol.TField RANDOM_FIELD_DESC = new org.apache.thrift.protocol.TField( "random", org.apache.thrift.protocol.TType.BOOL, ( short ) 2 );
-		private static final org.apache.thrift.protocol.TField ERR_NO_FIELD_DESC = new org.apache.thrift.protocol.TField( "err_no", org.apache.thrift.protocol.TType.I32, ( short ) 3 );
-		private static final org.apache.thrift.protocol.TField PROBABILITY_FIELD_DESC = new org.apache.thrift.protocol.TField( "probability", org.apache.thrift.protocol.TType.I32, ( short ) 4 );
-		private static final org.apache.thrift.protocol.TField REGEXP_FIELD_DESC = new org.apache.thrift.protocol.TField( "regexp", org.apache.thrift.protocol.TType.STRING, ( short ) 5 );
-		private static final org.apache.thrift.protocol.TField KILL_CALLER_FIELD_DESC = new org.apache.thrift.protocol.TField( "kill_caller", org.apache.thrift.protocol.TType.BOOL, ( short ) 6 );
-		private static final org.apache.thrift.protocol.TField DELAY_US_FIELD_DESC = new org.apache.thrift.protocol.TField( "delay_us", org.apache.thrift.protocol.TType.I32, ( short ) 7 );
-		private static final org.apache.thrift.protocol.TField AUTO_DELAY_FIELD_DESC = new org.apache.thrift.protocol.TField( "auto_delay", org.apache.thrift.protocol.TType.BOOL, ( short ) 8 );
+		private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField( "success", org.apache.thrift.protocol.TType.LIST, ( short ) 0 );
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_fault_argsStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_fault_argsTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_stats_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_stats_resultTupleSchemeFactory();
 
-		public java.util.List<java.lang.String> methods; // required
-		public boolean random; // required
-		public int err_no; // required
-		public int probability; // required
-		public java.lang.String regexp; // required
-		public boolean kill_caller; // required
-		public int delay_us; // required
-		public boolean auto_delay; // required
+		public java.util.List<method_stats> success; // required
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
 		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-			METHODS( ( short ) 1, "methods" ),
-			RANDOM( ( short ) 2, "random" ),
-			ERR_NO( ( short ) 3, "err_no" ),
-			PROBABILITY( ( short ) 4, "probability" ),
-			REGEXP( ( short ) 5, "regexp" ),
-			KILL_CALLER( ( short ) 6, "kill_caller" ),
-			DELAY_US( ( short ) 7, "delay_us" ),
-			AUTO_DELAY( ( short ) 8, "auto_delay" );
+			SUCCESS( ( short ) 0, "success" );
 
 			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -2715,22 +16446,8 @@ public class server {
 			 */
 			public static _Fields findByThriftId( int fieldId ) {
 				switch( fieldId ) {
-					case 1: // METHODS
-						return METHODS;
-					case 2: // RANDOM
-						return RANDOM;
-					case 3: // ERR_NO
-						return ERR_NO;
-					case 4: // PROBABILITY
-						return PROBABILITY;
-					case 5: // REGEXP
-						return REGEXP;
-					case 6: // KILL_CALLER
-						return KILL_CALLER;
-					case 7: // DELAY_US
-						return DELAY_US;
-					case 8: // AUTO_DELAY
-						return AUTO_DELAY;
+					case 0: // SUCCESS
+						return SUCCESS;
 					default:
 						return null;
 				}
@@ -2773,373 +16490,496 @@ public class server {
 		}
 
 		// isset id assignments
-		private static final int __RANDOM_ISSET_ID = 0;
-		private static final int __ERR_NO_ISSET_ID = 1;
-		private static final int __PROBABILITY_ISSET_ID = 2;
-		private static final int __KILL_CALLER_ISSET_ID = 3;
-		private static final int __DELAY_US_ISSET_ID = 4;
-		private static final int __AUTO_DELAY_ISSET_ID = 5;
-		private byte __isset_bitfield = 0;
 		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
 
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
-			tmpMap.put( _Fields.METHODS, new org.apache.thrift.meta_data.FieldMetaData( "methods", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			tmpMap.put( _Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData( "success", org.apache.thrift.TFieldRequirementType.DEFAULT,
 			                                                                            new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
-			                                                                                                                          new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) ) );
-			tmpMap.put( _Fields.RANDOM, new org.apache.thrift.meta_data.FieldMetaData( "random", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
-			tmpMap.put( _Fields.ERR_NO, new org.apache.thrift.meta_data.FieldMetaData( "err_no", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
-			tmpMap.put( _Fields.PROBABILITY, new org.apache.thrift.meta_data.FieldMetaData( "probability", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                                new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
-			tmpMap.put( _Fields.REGEXP, new org.apache.thrift.meta_data.FieldMetaData( "regexp", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) );
-			tmpMap.put( _Fields.KILL_CALLER, new org.apache.thrift.meta_data.FieldMetaData( "kill_caller", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                                new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
-			tmpMap.put( _Fields.DELAY_US, new org.apache.thrift.meta_data.FieldMetaData( "delay_us", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                             new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
-			tmpMap.put( _Fields.AUTO_DELAY, new org.apache.thrift.meta_data.FieldMetaData( "auto_delay", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                               new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			                                                                                                                          new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, method_stats.class ) ) ) );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_fault_args.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_stats_result.class, metaDataMap );
 		}
 
-		public set_fault_args() {
+		public get_stats_result() {
 		}
 
-		public set_fault_args(
-				java.util.List<java.lang.String> methods,
-				boolean random,
-				int err_no,
-				int probability,
-				java.lang.String regexp,
-				boolean kill_caller,
-				int delay_us,
-				boolean auto_delay ) {
+		public get_stats_result(
+				java.util.List<method_stats> success ) {
 			this();
-			this.methods = methods;
-			this.random = random;
-			setRandomIsSet( true );
-			this.err_no = err_no;
-			setErr_noIsSet( true );
-			this.probability = probability;
-			setProbabilityIsSet( true );
-			this.regexp = regexp;
-			this.kill_caller = kill_caller;
-			setKill_callerIsSet( true );
-			this.delay_us = delay_us;
-			setDelay_usIsSet( true );
-			this.auto_delay = auto_delay;
-			setAuto_delayIsSet( true );
+			this.success = success;
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public set_fault_args( set_fault_args other ) {
-			__isset_bitfield = other.__isset_bitfield;
-			if( other.isSetMethods() ) {
-				java.util.List<java.lang.String> __this__methods = new java.util.ArrayList<java.lang.String>( other.methods );
-				this.methods = __this__methods;
+		public get_stats_result( get_stats_result other ) {
+			if( other.isSetSuccess() ) {
+				java.util.List<method_stats> __this__success = new java.util.ArrayList<method_stats>( other.success.size() );
+				for( method_stats other_element : other.success ) {
+					__this__success.add( new method_stats( other_element ) );
+				}
+				this.success = __this__success;
 			}
-			this.random = other.random;
-			this.err_no = other.err_no;
-			this.probability = other.probability;
-			if( other.isSetRegexp() ) {
-				this.regexp = other.regexp;
+		}
+
+		public get_stats_result deepCopy() {
+			return new get_stats_result( this );
+		}
+
+		@Override
+		public void clear() {
+			this.success = null;
+		}
+
+		public int getSuccessSize() {
+			return ( this.success == null ) ? 0 : this.success.size();
+		}
+
+		public java.util.Iterator<method_stats> getSuccessIterator() {
+			return ( this.success == null ) ? null : this.success.iterator();
+		}
+
+		public void addToSuccess( method_stats elem ) {
+			if( this.success == null ) {
+				this.success = new java.util.ArrayList<method_stats>();
+			}
+			this.success.add( elem );
+		}
+
+		public java.util.List<method_stats> getSuccess() {
+			return this.success;
+		}
+
+		public get_stats_result setSuccess( java.util.List<method_stats> success ) {
+			this.success = success;
+			return this;
+		}
+
+		public void unsetSuccess() {
+			this.success = null;
+		}
+
+		/** Returns true if field success is set (has been assigned a value) and false otherwise */
+		public boolean isSetSuccess() {
+			return this.success != null;
+		}
+
+		public void setSuccessIsSet( boolean value ) {
+			if( !value ) {
+				this.success = null;
+			}
+		}
+
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case SUCCESS:
+					if( value == null ) {
+						unsetSuccess();
+					} else {
+						setSuccess( ( java.util.List<method_stats> ) value );
+					}
+					break;
+
+			}
+		}
+
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case SUCCESS:
+					return getSuccess();
+
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
+
+			switch( field ) {
+				case SUCCESS:
+					return isSetSuccess();
+			}
+			throw new java.lang.IllegalStateException();
+		}
+
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_stats_result ) {
+				return this.equals( ( get_stats_result ) that );
+			}
+			return false;
+		}
+
+		public boolean equals( get_stats_result that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
+
+			boolean this_present_success = true && this.isSetSuccess();
+			boolean that_present_success = true && that.isSetSuccess();
+			if( this_present_success || that_present_success ) {
+				if( !( this_present_success && that_present_success ) ) {
+					return false;
+				}
+				if( !this.success.equals( that.success ) ) {
+					return false;
+				}
 			}
-			this.kill_caller = other.kill_caller;
-			this.delay_us = other.delay_us;
-			this.auto_delay = other.auto_delay;
-		}
 
-		public set_fault_args deepCopy() {
-			return new set_fault_args( this );
+			return true;
 		}
 
 		@Override
-		public void clear() {
-			this.methods = null;
-			setRandomIsSet( false );
-			this.random = false;
-			setErr_noIsSet( false );
-			this.err_no = 0;
-			setProbabilityIsSet( false );
-			this.probability = 0;
-			this.regexp = null;
-			setKill_callerIsSet( false );
-			this.kill_caller = false;
-			setDelay_usIsSet( false );
-			this.delay_us = 0;
-			setAuto_delayIsSet( false );
-			this.auto_delay = false;
-		}
+		public int hashCode() {
+			int hashCode = 1;
 
-		public int getMethodsSize() {
-			return ( this.methods == null ) ? 0 : this.methods.size();
-		}
+			hashCode = hashCode * 8191 + ( ( isSetSuccess() ) ? 131071 : 524287 );
+			if( isSetSuccess() ) {
+				hashCode = hashCode * 8191 + success.hashCode();
+			}
 
-		public java.util.Iterator<java.lang.String> getMethodsIterator() {
-			return ( this.methods == null ) ? null : this.methods.iterator();
+			return hashCode;
 		}
 
-		public void addToMethods( java.lang.String elem ) {
-			if( this.methods == null ) {
-				this.methods = new java.util.ArrayList<java.lang.String>();
+		@Override
+		public int compareTo( get_stats_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
 			}
-			this.methods.add( elem );
-		}
 
-		public java.util.List<java.lang.String> getMethods() {
-			return this.methods;
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetSuccess() ).compareTo( other.isSetSuccess() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSuccess() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.success, other.success );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
 		}
 
-		public set_fault_args setMethods( java.util.List<java.lang.String> methods ) {
-			this.methods = methods;
-			return this;
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
 		}
 
-		public void unsetMethods() {
-			this.methods = null;
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
 		}
 
-		/** Returns true if field methods is set (has been assigned a value) and false otherwise */
-		public boolean isSetMethods() {
-			return this.methods != null;
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
 		}
 
-		public void setMethodsIsSet( boolean value ) {
-			if( !value ) {
-				this.methods = null;
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_stats_result(" );
+			boolean first = true;
+
+			sb.append( "success:" );
+			if( this.success == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.success );
 			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
 		}
 
-		public boolean isRandom() {
-			return this.random;
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
 		}
 
-		public set_fault_args setRandom( boolean random ) {
-			this.random = random;
-			setRandomIsSet( true );
-			return this;
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
 		}
 
-		public void unsetRandom() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __RANDOM_ISSET_ID );
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
 		}
 
-		/** Returns true if field random is set (has been assigned a value) and false otherwise */
-		public boolean isSetRandom() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __RANDOM_ISSET_ID );
+		private static class get_stats_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_stats_resultStandardScheme getScheme() {
+				return new get_stats_resultStandardScheme();
+			}
 		}
 
-		public void setRandomIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __RANDOM_ISSET_ID, value );
-		}
+		private static class get_stats_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_stats_result> {
 
-		public int getErr_no() {
-			return this.err_no;
-		}
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_stats_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 0: // SUCCESS
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list120 = iprot.readListBegin();
+									struct.success = new java.util.ArrayList<method_stats>( _list120.size );
+									method_stats _elem121;
+									for( int _i122 = 0; _i122 < _list120.size; ++_i122 ) {
+										_elem121 = new method_stats();
+										_elem121.read( iprot );
+										struct.success.add( _elem121 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setSuccessIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
 
-		public set_fault_args setErr_no( int err_no ) {
-			this.err_no = err_no;
-			setErr_noIsSet( true );
-			return this;
-		}
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
 
-		public void unsetErr_no() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __ERR_NO_ISSET_ID );
-		}
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_stats_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
 
-		/** Returns true if field err_no is set (has been assigned a value) and false otherwise */
-		public boolean isSetErr_no() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __ERR_NO_ISSET_ID );
-		}
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.success != null ) {
+					oprot.writeFieldBegin( SUCCESS_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, struct.success.size() ) );
+						for( method_stats _iter123 : struct.success ) {
+							_iter123.write( oprot );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
 
-		public void setErr_noIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __ERR_NO_ISSET_ID, value );
 		}
 
-		public int getProbability() {
-			return this.probability;
+		private static class get_stats_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_stats_resultTupleScheme getScheme() {
+				return new get_stats_resultTupleScheme();
+			}
 		}
 
-		public set_fault_args setProbability( int probability ) {
-			this.probability = probability;
-			setProbabilityIsSet( true );
-			return this;
-		}
+		private static class get_stats_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_stats_result> {
 
-		public void unsetProbability() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __PROBABILITY_ISSET_ID );
-		}
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_stats_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetSuccess() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetSuccess() ) {
+					{
+						oprot.writeI32( struct.success.size() );
+						for( method_stats _iter124 : struct.success ) {
+							_iter124.write( oprot );
+						}
+					}
+				}
+			}
 
-		/** Returns true if field probability is set (has been assigned a value) and false otherwise */
-		public boolean isSetProbability() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __PROBABILITY_ISSET_ID );
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_stats_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list125 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, iprot.readI32() );
+						struct.success = new java.util.ArrayList<method_stats>( _list125.size );
+						method_stats _elem126;
+						for( int _i127 = 0; _i127 < _list125.size; ++_i127 ) {
+							_elem126 = new method_stats();
+							_elem126.read( iprot );
+							struct.success.add( _elem126 );
+						}
+					}
+					struct.setSuccessIsSet( true );
+				}
+			}
 		}
 
-		public void setProbabilityIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __PROBABILITY_ISSET_ID, value );
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
 		}
+	}
 
-		public java.lang.String getRegexp() {
-			return this.regexp;
-		}
+	public static class get_latencies_args implements org.apache.thrift.TBase<get_latencies_args, get_latencies_args._Fields>, java.io.Serializable, Cloneable, Comparable<get_latencies_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_latencies_args" );
 
-		public set_fault_args setRegexp( java.lang.String regexp ) {
-			this.regexp = regexp;
-			return this;
-		}
+		private static final org.apache.thrift.protocol.TField RESET_FIELD_DESC = new org.apache.thrift.protocol.TField( "reset", org.apache.thrift.protocol.TType.BOOL, ( short ) 1 );
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_latencies_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_latencies_argsTupleSchemeFactory();
+
+		public boolean reset; // required
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			RESET( ( short ) 1, "reset" );
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					case 1: // RESET
+						return RESET;
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
 
-		public void unsetRegexp() {
-			this.regexp = null;
-		}
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
 
-		/** Returns true if field regexp is set (has been assigned a value) and false otherwise */
-		public boolean isSetRegexp() {
-			return this.regexp != null;
-		}
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
 
-		public void setRegexpIsSet( boolean value ) {
-			if( !value ) {
-				this.regexp = null;
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
 			}
-		}
-
-		public boolean isKill_caller() {
-			return this.kill_caller;
-		}
 
-		public set_fault_args setKill_caller( boolean kill_caller ) {
-			this.kill_caller = kill_caller;
-			setKill_callerIsSet( true );
-			return this;
-		}
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
 
-		public void unsetKill_caller() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __KILL_CALLER_ISSET_ID );
+			public java.lang.String getFieldName() {
+				return _fieldName;
+			}
 		}
 
-		/** Returns true if field kill_caller is set (has been assigned a value) and false otherwise */
-		public boolean isSetKill_caller() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __KILL_CALLER_ISSET_ID );
-		}
+		// isset id assignments
+		private static final int __RESET_ISSET_ID = 0;
+		private byte __isset_bitfield = 0;
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
 
-		public void setKill_callerIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __KILL_CALLER_ISSET_ID, value );
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.RESET, new org.apache.thrift.meta_data.FieldMetaData( "reset", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                          new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_latencies_args.class, metaDataMap );
 		}
 
-		public int getDelay_us() {
-			return this.delay_us;
+		public get_latencies_args() {
 		}
 
-		public set_fault_args setDelay_us( int delay_us ) {
-			this.delay_us = delay_us;
-			setDelay_usIsSet( true );
-			return this;
+		public get_latencies_args(
+				boolean reset ) {
+			this();
+			this.reset = reset;
+			setResetIsSet( true );
 		}
 
-		public void unsetDelay_us() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __DELAY_US_ISSET_ID );
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_latencies_args( get_latencies_args other ) {
+			__isset_bitfield = other.__isset_bitfield;
+			this.reset = other.reset;
 		}
 
-		/** Returns true if field delay_us is set (has been assigned a value) and false otherwise */
-		public boolean isSetDelay_us() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __DELAY_US_ISSET_ID );
+		public get_latencies_args deepCopy() {
+			return new get_latencies_args( this );
 		}
 
-		public void setDelay_usIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __DELAY_US_ISSET_ID, value );
+		@Override
+		public void clear() {
+			setResetIsSet( false );
+			this.reset = false;
 		}
 
-		public boolean isAuto_delay() {
-			return this.auto_delay;
+		public boolean isReset() {
+			return this.reset;
 		}
 
-		public set_fault_args setAuto_delay( boolean auto_delay ) {
-			this.auto_delay = auto_delay;
-			setAuto_delayIsSet( true );
+		public get_latencies_args setReset( boolean reset ) {
+			this.reset = reset;
+			setResetIsSet( true );
 			return this;
 		}
 
-		public void unsetAuto_delay() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID );
+		public void unsetReset() {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __RESET_ISSET_ID );
 		}
 
-		/** Returns true if field auto_delay is set (has been assigned a value) and false otherwise */
-		public boolean isSetAuto_delay() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID );
+		/** Returns true if field reset is set (has been assigned a value) and false otherwise */
+		public boolean isSetReset() {
+			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __RESET_ISSET_ID );
 		}
 
-		public void setAuto_delayIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID, value );
+		public void setResetIsSet( boolean value ) {
+			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __RESET_ISSET_ID, value );
 		}
 
 		public void setFieldValue( _Fields field, java.lang.Object value ) {
 			switch( field ) {
-				case METHODS:
-					if( value == null ) {
-						unsetMethods();
-					} else {
-						setMethods( ( java.util.List<java.lang.String> ) value );
-					}
-					break;
-
-				case RANDOM:
-					if( value == null ) {
-						unsetRandom();
-					} else {
-						setRandom( ( java.lang.Boolean ) value );
-					}
-					break;
-
-				case ERR_NO:
-					if( value == null ) {
-						unsetErr_no();
-					} else {
-						setErr_no( ( java.lang.Integer ) value );
-					}
-					break;
-
-				case PROBABILITY:
-					if( value == null ) {
-						unsetProbability();
-					} else {
-						setProbability( ( java.lang.Integer ) value );
-					}
-					break;
-
-				case REGEXP:
-					if( value == null ) {
-						unsetRegexp();
-					} else {
-						setRegexp( ( java.lang.String ) value );
-					}
-					break;
-
-				case KILL_CALLER:
+				case RESET:
 					if( value == null ) {
-						unsetKill_caller();
-					} else {
-						setKill_caller( ( java.lang.Boolean ) value );
-					}
-					break;
-
-				case DELAY_US:
-					if( value == null ) {
-						unsetDelay_us();
-					} else {
-						setDelay_us( ( java.lang.Integer ) value );
-					}
-					break;
-
-				case AUTO_DELAY:
-					if( value == null ) {
-						unsetAuto_delay();
+						unsetReset();
 					} else {
-						setAuto_delay( ( java.lang.Boolean ) value );
+						setReset( ( java.lang.Boolean ) value );
 					}
 					break;
 
@@ -3148,29 +16988,8 @@ public class server {
 
 		public java.lang.Object getFieldValue( _Fields field ) {
 			switch( field ) {
-				case METHODS:
-					return getMethods();
-
-				case RANDOM:
-					return isRandom();
-
-				case ERR_NO:
-					return getErr_no();
-
-				case PROBABILITY:
-					return getProbability();
-
-				case REGEXP:
-					return getRegexp();
-
-				case KILL_CALLER:
-					return isKill_caller();
-
-				case DELAY_US:
-					return getDelay_us();
-
-				case AUTO_DELAY:
-					return isAuto_delay();
+				case RESET:
+					return isReset();
 
 			}
 			throw new java.lang.IllegalStateException();
@@ -3183,129 +17002,38 @@ public class server {
 			}
 
 			switch( field ) {
-				case METHODS:
-					return isSetMethods();
-				case RANDOM:
-					return isSetRandom();
-				case ERR_NO:
-					return isSetErr_no();
-				case PROBABILITY:
-					return isSetProbability();
-				case REGEXP:
-					return isSetRegexp();
-				case KILL_CALLER:
-					return isSetKill_caller();
-				case DELAY_US:
-					return isSetDelay_us();
-				case AUTO_DELAY:
-					return isSetAuto_delay();
+				case RESET:
+					return isSetReset();
 			}
 			throw new java.lang.IllegalStateException();
 		}
 
 		@Override
-		public boolean equals( java.lang.Object that ) {
-			if( that == null ) {
-				return false;
-			}
-			if( that instanceof set_fault_args ) {
-				return this.equals( ( set_fault_args ) that );
-			}
-			return false;
-		}
-
-		public boolean equals( set_fault_args that ) {
-			if( that == null ) {
-				return false;
-			}
-			if( this == that ) {
-				return true;
-			}
-
-			boolean this_present_methods = true && this.isSetMethods();
-			boolean that_present_methods = true && that.isSetMethods();
-			if( this_present_methods || that_present_methods ) {
-				if( !( this_present_methods && that_present_methods ) ) {
-					return false;
-				}
-				if( !this.methods.equals( that.methods ) ) {
-					return false;
-				}
-			}
-
-			boolean this_present_random = true;
-			boolean that_present_random = true;
-			if( this_present_random || that_present_random ) {
-				if( !( this_present_random && that_present_random ) ) {
-					return false;
-				}
-				if( this.random != that.random ) {
-					return false;
-				}
-			}
-
-			boolean this_present_err_no = true;
-			boolean that_present_err_no = true;
-			if( this_present_err_no || that_present_err_no ) {
-				if( !( this_present_err_no && that_present_err_no ) ) {
-					return false;
-				}
-				if( this.err_no != that.err_no ) {
-					return false;
-				}
-			}
-
-			boolean this_present_probability = true;
-			boolean that_present_probability = true;
-			if( this_present_probability || that_present_probability ) {
-				if( !( this_present_probability && that_present_probability ) ) {
-					return false;
-				}
-				if( this.probability != that.probability ) {
-					return false;
-				}
-			}
-
-			boolean this_present_regexp = true && this.isSetRegexp();
-			boolean that_present_regexp = true && that.isSetRegexp();
-			if( this_present_regexp || that_present_regexp ) {
-				if( !( this_present_regexp && that_present_regexp ) ) {
-					return false;
-				}
-				if( !this.regexp.equals( that.regexp ) ) {
-					return false;
-				}
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
 			}
-
-			boolean this_present_kill_caller = true;
-			boolean that_present_kill_caller = true;
-			if( this_present_kill_caller || that_present_kill_caller ) {
-				if( !( this_present_kill_caller && that_present_kill_caller ) ) {
-					return false;
-				}
-				if( this.kill_caller != that.kill_caller ) {
-					return false;
-				}
+			if( that instanceof get_latencies_args ) {
+				return this.equals( ( get_latencies_args ) that );
 			}
+			return false;
+		}
 
-			boolean this_present_delay_us = true;
-			boolean that_present_delay_us = true;
-			if( this_present_delay_us || that_present_delay_us ) {
-				if( !( this_present_delay_us && that_present_delay_us ) ) {
-					return false;
-				}
-				if( this.delay_us != that.delay_us ) {
-					return false;
-				}
+		public boolean equals( get_latencies_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
 			}
 
-			boolean this_present_auto_delay = true;
-			boolean that_present_auto_delay = true;
-			if( this_present_auto_delay || that_present_auto_delay ) {
-				if( !( this_present_auto_delay && that_present_auto_delay ) ) {
+			boolean this_present_reset = true;
+			boolean that_present_reset = true;
+			if( this_present_reset || that_present_reset ) {
+				if( !( this_present_reset && that_present_reset ) ) {
 					return false;
 				}
-				if( this.auto_delay != that.auto_delay ) {
+				if( this.reset != that.reset ) {
 					return false;
 				}
 			}
@@ -3317,115 +17045,25 @@ public class server {
 		public int hashCode() {
 			int hashCode = 1;
 
-			hashCode = hashCode * 8191 + ( ( isSetMethods() ) ? 131071 : 524287 );
-			if( isSetMethods() ) {
-				hashCode = hashCode * 8191 + methods.hashCode();
-			}
-
-			hashCode = hashCode * 8191 + ( ( random ) ? 131071 : 524287 );
-
-			hashCode = hashCode * 8191 + err_no;
-
-			hashCode = hashCode * 8191 + probability;
-
-			hashCode = hashCode * 8191 + ( ( isSetRegexp() ) ? 131071 : 524287 );
-			if( isSetRegexp() ) {
-				hashCode = hashCode * 8191 + regexp.hashCode();
-			}
-
-			hashCode = hashCode * 8191 + ( ( kill_caller ) ? 131071 : 524287 );
-
-			hashCode = hashCode * 8191 + delay_us;
-
-			hashCode = hashCode * 8191 + ( ( auto_delay ) ? 131071 : 524287 );
+			hashCode = hashCode * 8191 + ( ( reset ) ? 131071 : 524287 );
 
 			return hashCode;
 		}
 
 		@Override
-		public int compareTo( set_fault_args other ) {
+		public int compareTo( get_latencies_args other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
 
 			int lastComparison = 0;
 
-			lastComparison = java.lang.Boolean.valueOf( isSetMethods() ).compareTo( other.isSetMethods() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetMethods() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.methods, other.methods );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetRandom() ).compareTo( other.isSetRandom() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetRandom() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.random, other.random );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetErr_no() ).compareTo( other.isSetErr_no() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetErr_no() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.err_no, other.err_no );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetProbability() ).compareTo( other.isSetProbability() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetProbability() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.probability, other.probability );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetRegexp() ).compareTo( other.isSetRegexp() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetRegexp() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.regexp, other.regexp );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetKill_caller() ).compareTo( other.isSetKill_caller() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetKill_caller() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.kill_caller, other.kill_caller );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetDelay_us() ).compareTo( other.isSetDelay_us() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetDelay_us() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.delay_us, other.delay_us );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetAuto_delay() ).compareTo( other.isSetAuto_delay() );
+			lastComparison = java.lang.Boolean.valueOf( isSetReset() ).compareTo( other.isSetReset() );
 			if( lastComparison != 0 ) {
 				return lastComparison;
 			}
-			if( isSetAuto_delay() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.auto_delay, other.auto_delay );
+			if( isSetReset() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.reset, other.reset );
 				if( lastComparison != 0 ) {
 					return lastComparison;
 				}
@@ -3447,61 +17085,11 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_fault_args(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_latencies_args(" );
 			boolean first = true;
 
-			sb.append( "methods:" );
-			if( this.methods == null ) {
-				sb.append( "null" );
-			} else {
-				sb.append( this.methods );
-			}
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "random:" );
-			sb.append( this.random );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "err_no:" );
-			sb.append( this.err_no );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "probability:" );
-			sb.append( this.probability );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "regexp:" );
-			if( this.regexp == null ) {
-				sb.append( "null" );
-			} else {
-				sb.append( this.regexp );
-			}
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "kill_caller:" );
-			sb.append( this.kill_caller );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "delay_us:" );
-			sb.append( this.delay_us );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "auto_delay:" );
-			sb.append( this.auto_delay );
+			sb.append( "reset:" );
+			sb.append( this.reset );
 			first = false;
 			sb.append( ")" );
 			return sb.toString();
@@ -3530,92 +17118,27 @@ public class server {
 			}
 		}
 
-		private static class set_fault_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public set_fault_argsStandardScheme getScheme() {
-				return new set_fault_argsStandardScheme();
+		private static class get_latencies_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_latencies_argsStandardScheme getScheme() {
+				return new get_latencies_argsStandardScheme();
 			}
 		}
 
-		private static class set_fault_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_fault_args> {
-
-			public void read( org.apache.thrift.protocol.TProtocol iprot, set_fault_args struct ) throws org.apache.thrift.TException {
-				org.apache.thrift.protocol.TField schemeField;
-				iprot.readStructBegin();
-				while( true ) {
-					schemeField = iprot.readFieldBegin();
-					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
-						break;
-					}
-					switch( schemeField.id ) {
-						case 1: // METHODS
-							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
-								{
-									org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-									struct.methods = new java.util.ArrayList<java.lang.String>( _list8.size );
-									java.lang.String _elem9;
-									for( int _i10 = 0; _i10 < _list8.size; ++_i10 ) {
-										_elem9 = iprot.readString();
-										struct.methods.add( _elem9 );
-									}
-									iprot.readListEnd();
-								}
-								struct.setMethodsIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 2: // RANDOM
-							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
-								struct.random = iprot.readBool();
-								struct.setRandomIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 3: // ERR_NO
-							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
-								struct.err_no = iprot.readI32();
-								struct.setErr_noIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 4: // PROBABILITY
-							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
-								struct.probability = iprot.readI32();
-								struct.setProbabilityIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 5: // REGEXP
-							if( schemeField.type == org.apache.thrift.protocol.TType.STRING ) {
-								struct.regexp = iprot.readString();
-								struct.setRegexpIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 6: // KILL_CALLER
-							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
-								struct.kill_caller = iprot.readBool();
-								struct.setKill_callerIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 7: // DELAY_US
-							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
-								struct.delay_us = iprot.readI32();
-								struct.setDelay_usIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 8: // AUTO_DELAY
+		private static class get_latencies_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_latencies_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_latencies_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // RESET
 							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
-								struct.auto_delay = iprot.readBool();
-								struct.setAuto_delayIsSet( true );
+								struct.reset = iprot.readBool();
+								struct.setResetIsSet( true );
 							} else {
 								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
 							}
@@ -3631,43 +17154,12 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, set_fault_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_latencies_args struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
-				if( struct.methods != null ) {
-					oprot.writeFieldBegin( METHODS_FIELD_DESC );
-					{
-						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, struct.methods.size() ) );
-						for( java.lang.String _iter11 : struct.methods ) {
-							oprot.writeString( _iter11 );
-						}
-						oprot.writeListEnd();
-					}
-					oprot.writeFieldEnd();
-				}
-				oprot.writeFieldBegin( RANDOM_FIELD_DESC );
-				oprot.writeBool( struct.random );
-				oprot.writeFieldEnd();
-				oprot.writeFieldBegin( ERR_NO_FIELD_DESC );
-				oprot.writeI32( struct.err_no );
-				oprot.writeFieldEnd();
-				oprot.writeFieldBegin( PROBABILITY_FIELD_DESC );
-				oprot.writeI32( struct.probability );
-				oprot.writeFieldEnd();
-				if( struct.regexp != null ) {
-					oprot.writeFieldBegin( REGEXP_FIELD_DESC );
-					oprot.writeString( struct.regexp );
-					oprot.writeFieldEnd();
-				}
-				oprot.writeFieldBegin( KILL_CALLER_FIELD_DESC );
-				oprot.writeBool( struct.kill_caller );
-				oprot.writeFieldEnd();
-				oprot.writeFieldBegin( DELAY_US_FIELD_DESC );
-				oprot.writeI32( struct.delay_us );
-				oprot.writeFieldEnd();
-				oprot.writeFieldBegin( AUTO_DELAY_FIELD_DESC );
-				oprot.writeBool( struct.auto_delay );
+				oprot.writeFieldBegin( RESET_FIELD_DESC );
+				oprot.writeBool( struct.reset );
 				oprot.writeFieldEnd();
 				oprot.writeFieldStop();
 				oprot.writeStructEnd();
@@ -3675,117 +17167,34 @@ public class server {
 
 		}
 
-		private static class set_fault_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public set_fault_argsTupleScheme getScheme() {
-				return new set_fault_argsTupleScheme();
+		private static class get_latencies_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_latencies_argsTupleScheme getScheme() {
+				return new get_latencies_argsTupleScheme();
 			}
 		}
 
-		private static class set_fault_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_fault_args> {
+		private static class get_latencies_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_latencies_args> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, set_fault_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_latencies_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
 				java.util.BitSet optionals = new java.util.BitSet();
-				if( struct.isSetMethods() ) {
+				if( struct.isSetReset() ) {
 					optionals.set( 0 );
 				}
-				if( struct.isSetRandom() ) {
-					optionals.set( 1 );
-				}
-				if( struct.isSetErr_no() ) {
-					optionals.set( 2 );
-				}
-				if( struct.isSetProbability() ) {
-					optionals.set( 3 );
-				}
-				if( struct.isSetRegexp() ) {
-					optionals.set( 4 );
-				}
-				if( struct.isSetKill_caller() ) {
-					optionals.set( 5 );
-				}
-				if( struct.isSetDelay_us() ) {
-					optionals.set( 6 );
-				}
-				if( struct.isSetAuto_delay() ) {
-					optionals.set( 7 );
-				}
-				oprot.writeBitSet( optionals, 8 );
-				if( struct.isSetMethods() ) {
-					{
-						oprot.writeI32( struct.methods.size() );
-						for( java.lang.String _iter12 : struct.methods ) {
-							oprot.writeString( _iter12 );
-						}
-					}
-				}
-				if( struct.isSetRandom() ) {
-					oprot.writeBool( struct.random );
-				}
-				if( struct.isSetErr_no() ) {
-					oprot.writeI32( struct.err_no );
-				}
-				if( struct.isSetProbability() ) {
-					oprot.writeI32( struct.probability );
-				}
-				if( struct.isSetRegexp() ) {
-					oprot.writeString( struct.regexp );
-				}
-				if( struct.isSetKill_caller() ) {
-					oprot.writeBool( struct.kill_caller );
-				}
-				if( struct.isSetDelay_us() ) {
-					oprot.writeI32( struct.delay_us );
-				}
-				if( struct.isSetAuto_delay() ) {
-					oprot.writeBool( struct.auto_delay );
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetReset() ) {
+					oprot.writeBool( struct.reset );
 				}
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, set_fault_args struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_latencies_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
-				java.util.BitSet incoming = iprot.readBitSet( 8 );
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
 				if( incoming.get( 0 ) ) {
-					{
-						org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRING, iprot.readI32() );
-						struct.methods = new java.util.ArrayList<java.lang.String>( _list13.size );
-						java.lang.String _elem14;
-						for( int _i15 = 0; _i15 < _list13.size; ++_i15 ) {
-							_elem14 = iprot.readString();
-							struct.methods.add( _elem14 );
-						}
-					}
-					struct.setMethodsIsSet( true );
-				}
-				if( incoming.get( 1 ) ) {
-					struct.random = iprot.readBool();
-					struct.setRandomIsSet( true );
-				}
-				if( incoming.get( 2 ) ) {
-					struct.err_no = iprot.readI32();
-					struct.setErr_noIsSet( true );
-				}
-				if( incoming.get( 3 ) ) {
-					struct.probability = iprot.readI32();
-					struct.setProbabilityIsSet( true );
-				}
-				if( incoming.get( 4 ) ) {
-					struct.regexp = iprot.readString();
-					struct.setRegexpIsSet( true );
-				}
-				if( incoming.get( 5 ) ) {
-					struct.kill_caller = iprot.readBool();
-					struct.setKill_callerIsSet( true );
-				}
-				if( incoming.get( 6 ) ) {
-					struct.delay_us = iprot.readI32();
-					struct.setDelay_usIsSet( true );
-				}
-				if( incoming.get( 7 ) ) {
-					struct.auto_delay = iprot.readBool();
-					struct.setAuto_delayIsSet( true );
+					struct.reset = iprot.readBool();
+					struct.setResetIsSet( true );
 				}
 			}
 		}
@@ -3795,17 +17204,19 @@ public class server {
 		}
 	}
 
-	public static class set_fault_result implements org.apache.thrift.TBase<set_fault_result, set_fault_result._Fields>, java.io.Serializable, Cloneable, Comparable<set_fault_result> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_fault_result" );
+	public static class get_latencies_result implements org.apache.thrift.TBase<get_latencies_result, get_latencies_result._Fields>, java.io.Serializable, Cloneable, Comparable<get_latencies_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_latencies_result" );
 
+		private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField( "success", org.apache.thrift.protocol.TType.LIST, ( short ) 0 );
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_fault_resultStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_fault_resultTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_latencies_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_latencies_resultTupleSchemeFactory();
 
+		public java.util.List<method_latency> success; // required
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
 		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-			;
+			SUCCESS( ( short ) 0, "success" );
 
 			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3820,6 +17231,8 @@ public class server {
 			 */
 			public static _Fields findByThriftId( int fieldId ) {
 				switch( fieldId ) {
+					case 0: // SUCCESS
+						return SUCCESS;
 					default:
 						return null;
 				}
@@ -3861,38 +17274,106 @@ public class server {
 			}
 		}
 
+		// isset id assignments
 		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
 
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData( "success", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                            new org.apache.thrift.meta_data.ListMetaData( org.apache.thrift.protocol.TType.LIST,
+			                                                                                                                          new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, method_latency.class ) ) ) );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_fault_result.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_latencies_result.class, metaDataMap );
 		}
 
-		public set_fault_result() {
+		public get_latencies_result() {
+		}
+
+		public get_latencies_result(
+				java.util.List<method_latency> success ) {
+			this();
+			this.success = success;
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public set_fault_result( set_fault_result other ) {
+		public get_latencies_result( get_latencies_result other ) {
+			if( other.isSetSuccess() ) {
+				java.util.List<method_latency> __this__success = new java.util.ArrayList<method_latency>( other.success.size() );
+				for( method_latency other_element : other.success ) {
+					__this__success.add( new method_latency( other_element ) );
+				}
+				this.success = __this__success;
+			}
 		}
 
-		public set_fault_result deepCopy() {
-			return new set_fault_result( this );
+		public get_latencies_result deepCopy() {
+			return new get_latencies_result( this );
 		}
 
 		@Override
 		public void clear() {
+			this.success = null;
+		}
+
+		public int getSuccessSize() {
+			return ( this.success == null ) ? 0 : this.success.size();
+		}
+
+		public java.util.Iterator<method_latency> getSuccessIterator() {
+			return ( this.success == null ) ? null : this.success.iterator();
+		}
+
+		public void addToSuccess( method_latency elem ) {
+			if( this.success == null ) {
+				this.success = new java.util.ArrayList<method_latency>();
+			}
+			this.success.add( elem );
+		}
+
+		public java.util.List<method_latency> getSuccess() {
+			return this.success;
+		}
+
+		public get_latencies_result setSuccess( java.util.List<method_latency> success ) {
+			this.success = success;
+			return this;
+		}
+
+		public void unsetSuccess() {
+			this.success = null;
+		}
+
+		/** Returns true if field success is set (has been assigned a value) and false otherwise */
+		public boolean isSetSuccess() {
+			return this.success != null;
+		}
+
+		public void setSuccessIsSet( boolean value ) {
+			if( !value ) {
+				this.success = null;
+			}
 		}
 
 		public void setFieldValue( _Fields field, java.lang.Object value ) {
 			switch( field ) {
+				case SUCCESS:
+					if( value == null ) {
+						unsetSuccess();
+					} else {
+						setSuccess( ( java.util.List<method_latency> ) value );
+					}
+					break;
+
 			}
 		}
 
 		public java.lang.Object getFieldValue( _Fields field ) {
 			switch( field ) {
+				case SUCCESS:
+					return getSuccess();
+
 			}
 			throw new java.lang.IllegalStateException();
 		}
@@ -3904,6 +17385,8 @@ public class server {
 			}
 
 			switch( field ) {
+				case SUCCESS:
+					return isSetSuccess();
 			}
 			throw new java.lang.IllegalStateException();
 		}
@@ -3913,13 +17396,13 @@ public class server {
 			if( that == null ) {
 				return false;
 			}
-			if( that instanceof set_fault_result ) {
-				return this.equals( ( set_fault_result ) that );
+			if( that instanceof get_latencies_result ) {
+				return this.equals( ( get_latencies_result ) that );
 			}
 			return false;
 		}
 
-		public boolean equals( set_fault_result that ) {
+		public boolean equals( get_latencies_result that ) {
 			if( that == null ) {
 				return false;
 			}
@@ -3927,6 +17410,17 @@ public class server {
 				return true;
 			}
 
+			boolean this_present_success = true && this.isSetSuccess();
+			boolean that_present_success = true && that.isSetSuccess();
+			if( this_present_success || that_present_success ) {
+				if( !( this_present_success && that_present_success ) ) {
+					return false;
+				}
+				if( !this.success.equals( that.success ) ) {
+					return false;
+				}
+			}
+
 			return true;
 		}
 
@@ -3934,17 +17428,32 @@ public class server {
 		public int hashCode() {
 			int hashCode = 1;
 
+			hashCode = hashCode * 8191 + ( ( isSetSuccess() ) ? 131071 : 524287 );
+			if( isSetSuccess() ) {
+				hashCode = hashCode * 8191 + success.hashCode();
+			}
+
 			return hashCode;
 		}
 
 		@Override
-		public int compareTo( set_fault_result other ) {
+		public int compareTo( get_latencies_result other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
 
 			int lastComparison = 0;
 
+			lastComparison = java.lang.Boolean.valueOf( isSetSuccess() ).compareTo( other.isSetSuccess() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSuccess() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.success, other.success );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
 			return 0;
 		}
 
@@ -3962,9 +17471,16 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_fault_result(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_latencies_result(" );
 			boolean first = true;
 
+			sb.append( "success:" );
+			if( this.success == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.success );
+			}
+			first = false;
 			sb.append( ")" );
 			return sb.toString();
 		}
@@ -3990,15 +17506,15 @@ public class server {
 			}
 		}
 
-		private static class set_fault_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public set_fault_resultStandardScheme getScheme() {
-				return new set_fault_resultStandardScheme();
+		private static class get_latencies_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_latencies_resultStandardScheme getScheme() {
+				return new get_latencies_resultStandardScheme();
 			}
 		}
 
-		private static class set_fault_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_fault_result> {
+		private static class get_latencies_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_latencies_result> {
 
-			public void read( org.apache.thrift.protocol.TProtocol iprot, set_fault_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_latencies_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TField schemeField;
 				iprot.readStructBegin();
 				while( true ) {
@@ -4007,6 +17523,24 @@ public class server {
 						break;
 					}
 					switch( schemeField.id ) {
+						case 0: // SUCCESS
+							if( schemeField.type == org.apache.thrift.protocol.TType.LIST ) {
+								{
+									org.apache.thrift.protocol.TList _list128 = iprot.readListBegin();
+									struct.success = new java.util.ArrayList<method_latency>( _list128.size );
+									method_latency _elem129;
+									for( int _i130 = 0; _i130 < _list128.size; ++_i130 ) {
+										_elem129 = new method_latency();
+										_elem129.read( iprot );
+										struct.success.add( _elem129 );
+									}
+									iprot.readListEnd();
+								}
+								struct.setSuccessIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
 						default:
 							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
 					}
@@ -4018,32 +17552,70 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, set_fault_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_latencies_result struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.success != null ) {
+					oprot.writeFieldBegin( SUCCESS_FIELD_DESC );
+					{
+						oprot.writeListBegin( new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, struct.success.size() ) );
+						for( method_latency _iter131 : struct.success ) {
+							_iter131.write( oprot );
+						}
+						oprot.writeListEnd();
+					}
+					oprot.writeFieldEnd();
+				}
 				oprot.writeFieldStop();
 				oprot.writeStructEnd();
 			}
 
 		}
 
-		private static class set_fault_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public set_fault_resultTupleScheme getScheme() {
-				return new set_fault_resultTupleScheme();
+		private static class get_latencies_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_latencies_resultTupleScheme getScheme() {
+				return new get_latencies_resultTupleScheme();
 			}
 		}
 
-		private static class set_fault_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_fault_result> {
+		private static class get_latencies_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_latencies_result> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, set_fault_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_latencies_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetSuccess() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetSuccess() ) {
+					{
+						oprot.writeI32( struct.success.size() );
+						for( method_latency _iter132 : struct.success ) {
+							_iter132.write( oprot );
+						}
+					}
+				}
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, set_fault_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_latencies_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					{
+						org.apache.thrift.protocol.TList _list133 = new org.apache.thrift.protocol.TList( org.apache.thrift.protocol.TType.STRUCT, iprot.readI32() );
+						struct.success = new java.util.ArrayList<method_latency>( _list133.size );
+						method_latency _elem134;
+						for( int _i135 = 0; _i135 < _list133.size; ++_i135 ) {
+							_elem134 = new method_latency();
+							_elem134.read( iprot );
+							struct.success.add( _elem134 );
+						}
+					}
+					struct.setSuccessIsSet( true );
+				}
 			}
 		}
 
@@ -4052,37 +17624,19 @@ public class server {
 		}
 	}
 
-	public static class set_all_fault_args implements org.apache.thrift.TBase<set_all_fault_args, set_all_fault_args._Fields>, java.io.Serializable, Cloneable, Comparable<set_all_fault_args> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_all_fault_args" );
+	public static class set_device_model_args implements org.apache.thrift.TBase<set_device_model_args, set_device_model_args._Fields>, java.io.Serializable, Cloneable, Comparable<set_device_model_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_device_model_args" );
 
-		private static final org.apache.thrift.protocol.TField RANDOM_FIELD_DESC = new org.apache.thrift.protocol.TField( "random", org.apache.thrift.protocol.TType.BOOL, ( short ) 1 );
-		private static final org.apache.thrift.protocol.TField ERR_NO_FIELD_DESC = new org.apache.thrift.protocol.TField( "err_no", org.apache.thrift.protocol.TType.I32, ( short ) 2 );
-		private static final org.apache.thrift.protocol.TField PROBABILITY_FIELD_DESC = new org.apache.thrift.protocol.TField( "probability", org.apache.thrift.protocol.TType.I32, ( short ) 3 );
-		private static final org.apache.thrift.protocol.TField REGEXP_FIELD_DESC = new org.apache.thrift.protocol.TField( "regexp", org.apache.thrift.protocol.TType.STRING, ( short ) 4 );
-		private static final org.apache.thrift.protocol.TField KILL_CALLER_FIELD_DESC = new org.apache.thrift.protocol.TField( "kill_caller", org.apache.thrift.protocol.TType.BOOL, ( short ) 5 );
-		private static final org.apache.thrift.protocol.TField DELAY_US_FIELD_DESC = new org.apache.thrift.protocol.TField( "delay_us", org.apache.thrift.protocol.TType.I32, ( short ) 6 );
-		private static final org.apache.thrift.protocol.TField AUTO_DELAY_FIELD_DESC = new org.apache.thrift.protocol.TField( "auto_delay", org.apache.thrift.protocol.TType.BOOL, ( short ) 7 );
+		private static final org.apache.thrift.protocol.TField MODEL_FIELD_DESC = new org.apache.thrift.protocol.TField( "model", org.apache.thrift.protocol.TType.STRUCT, ( short ) 1 );
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_all_fault_argsStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_all_fault_argsTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_device_model_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_device_model_argsTupleSchemeFactory();
 
-		public boolean random; // required
-		public int err_no; // required
-		public int probability; // required
-		public java.lang.String regexp; // required
-		public boolean kill_caller; // required
-		public int delay_us; // required
-		public boolean auto_delay; // required
+		public device_latency_model model; // required
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
 		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-			RANDOM( ( short ) 1, "random" ),
-			ERR_NO( ( short ) 2, "err_no" ),
-			PROBABILITY( ( short ) 3, "probability" ),
-			REGEXP( ( short ) 4, "regexp" ),
-			KILL_CALLER( ( short ) 5, "kill_caller" ),
-			DELAY_US( ( short ) 6, "delay_us" ),
-			AUTO_DELAY( ( short ) 7, "auto_delay" );
+			MODEL( ( short ) 1, "model" );
 
 			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -4097,20 +17651,8 @@ public class server {
 			 */
 			public static _Fields findByThriftId( int fieldId ) {
 				switch( fieldId ) {
-					case 1: // RANDOM
-						return RANDOM;
-					case 2: // ERR_NO
-						return ERR_NO;
-					case 3: // PROBABILITY
-						return PROBABILITY;
-					case 4: // REGEXP
-						return REGEXP;
-					case 5: // KILL_CALLER
-						return KILL_CALLER;
-					case 6: // DELAY_US
-						return DELAY_US;
-					case 7: // AUTO_DELAY
-						return AUTO_DELAY;
+					case 1: // MODEL
+						return MODEL;
 					default:
 						return null;
 				}
@@ -4153,345 +17695,408 @@ public class server {
 		}
 
 		// isset id assignments
-		private static final int __RANDOM_ISSET_ID = 0;
-		private static final int __ERR_NO_ISSET_ID = 1;
-		private static final int __PROBABILITY_ISSET_ID = 2;
-		private static final int __KILL_CALLER_ISSET_ID = 3;
-		private static final int __DELAY_US_ISSET_ID = 4;
-		private static final int __AUTO_DELAY_ISSET_ID = 5;
-		private byte __isset_bitfield = 0;
 		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
 
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
-			tmpMap.put( _Fields.RANDOM, new org.apache.thrift.meta_data.FieldMetaData( "random", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
-			tmpMap.put( _Fields.ERR_NO, new org.apache.thrift.meta_data.FieldMetaData( "err_no", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
-			tmpMap.put( _Fields.PROBABILITY, new org.apache.thrift.meta_data.FieldMetaData( "probability", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                                new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
-			tmpMap.put( _Fields.REGEXP, new org.apache.thrift.meta_data.FieldMetaData( "regexp", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                           new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.STRING ) ) );
-			tmpMap.put( _Fields.KILL_CALLER, new org.apache.thrift.meta_data.FieldMetaData( "kill_caller", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                                new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
-			tmpMap.put( _Fields.DELAY_US, new org.apache.thrift.meta_data.FieldMetaData( "delay_us", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                             new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.I32 ) ) );
-			tmpMap.put( _Fields.AUTO_DELAY, new org.apache.thrift.meta_data.FieldMetaData( "auto_delay", org.apache.thrift.TFieldRequirementType.DEFAULT,
-			                                                                               new org.apache.thrift.meta_data.FieldValueMetaData( org.apache.thrift.protocol.TType.BOOL ) ) );
+			tmpMap.put( _Fields.MODEL, new org.apache.thrift.meta_data.FieldMetaData( "model", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                          new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, device_latency_model.class ) ) );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_all_fault_args.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_device_model_args.class, metaDataMap );
 		}
 
-		public set_all_fault_args() {
+		public set_device_model_args() {
 		}
 
-		public set_all_fault_args(
-				boolean random,
-				int err_no,
-				int probability,
-				java.lang.String regexp,
-				boolean kill_caller,
-				int delay_us,
-				boolean auto_delay ) {
+		public set_device_model_args(
+				device_latency_model model ) {
 			this();
-			this.random = random;
-			setRandomIsSet( true );
-			this.err_no = err_no;
-			setErr_noIsSet( true );
-			this.probability = probability;
-			setProbabilityIsSet( true );
-			this.regexp = regexp;
-			this.kill_caller = kill_caller;
-			setKill_callerIsSet( true );
-			this.delay_us = delay_us;
-			setDelay_usIsSet( true );
-			this.auto_delay = auto_delay;
-			setAuto_delayIsSet( true );
+			this.model = model;
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public set_all_fault_args( set_all_fault_args other ) {
-			__isset_bitfield = other.__isset_bitfield;
-			this.random = other.random;
-			this.err_no = other.err_no;
-			this.probability = other.probability;
-			if( other.isSetRegexp() ) {
-				this.regexp = other.regexp;
+		public set_device_model_args( set_device_model_args other ) {
+			if( other.isSetModel() ) {
+				this.model = new device_latency_model( other.model );
 			}
-			this.kill_caller = other.kill_caller;
-			this.delay_us = other.delay_us;
-			this.auto_delay = other.auto_delay;
 		}
 
-		public set_all_fault_args deepCopy() {
-			return new set_all_fault_args( this );
+		public set_device_model_args deepCopy() {
+			return new set_device_model_args( this );
 		}
 
 		@Override
 		public void clear() {
-			setRandomIsSet( false );
-			this.random = false;
-			setErr_noIsSet( false );
-			this.err_no = 0;
-			setProbabilityIsSet( false );
-			this.probability = 0;
-			this.regexp = null;
-			setKill_callerIsSet( false );
-			this.kill_caller = false;
-			setDelay_usIsSet( false );
-			this.delay_us = 0;
-			setAuto_delayIsSet( false );
-			this.auto_delay = false;
+			this.model = null;
 		}
 
-		public boolean isRandom() {
-			return this.random;
+		public device_latency_model getModel() {
+			return this.model;
 		}
 
-		public set_all_fault_args setRandom( boolean random ) {
-			this.random = random;
-			setRandomIsSet( true );
+		public set_device_model_args setModel( device_latency_model model ) {
+			this.model = model;
 			return this;
 		}
 
-		public void unsetRandom() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __RANDOM_ISSET_ID );
+		public void unsetModel() {
+			this.model = null;
 		}
 
-		/** Returns true if field random is set (has been assigned a value) and false otherwise */
-		public boolean isSetRandom() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __RANDOM_ISSET_ID );
+		/** Returns true if field model is set (has been assigned a value) and false otherwise */
+		public boolean isSetModel() {
+			return this.model != null;
 		}
 
-		public void setRandomIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __RANDOM_ISSET_ID, value );
+		public void setModelIsSet( boolean value ) {
+			if( !value ) {
+				this.model = null;
+			}
 		}
 
-		public int getErr_no() {
-			return this.err_no;
-		}
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+				case MODEL:
+					if( value == null ) {
+						unsetModel();
+					} else {
+						setModel( ( device_latency_model ) value );
+					}
+					break;
 
-		public set_all_fault_args setErr_no( int err_no ) {
-			this.err_no = err_no;
-			setErr_noIsSet( true );
-			return this;
+			}
 		}
 
-		public void unsetErr_no() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __ERR_NO_ISSET_ID );
-		}
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+				case MODEL:
+					return getModel();
 
-		/** Returns true if field err_no is set (has been assigned a value) and false otherwise */
-		public boolean isSetErr_no() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __ERR_NO_ISSET_ID );
+			}
+			throw new java.lang.IllegalStateException();
 		}
 
-		public void setErr_noIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __ERR_NO_ISSET_ID, value );
-		}
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
 
-		public int getProbability() {
-			return this.probability;
+			switch( field ) {
+				case MODEL:
+					return isSetModel();
+			}
+			throw new java.lang.IllegalStateException();
 		}
 
-		public set_all_fault_args setProbability( int probability ) {
-			this.probability = probability;
-			setProbabilityIsSet( true );
-			return this;
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof set_device_model_args ) {
+				return this.equals( ( set_device_model_args ) that );
+			}
+			return false;
 		}
 
-		public void unsetProbability() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __PROBABILITY_ISSET_ID );
-		}
+		public boolean equals( set_device_model_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
 
-		/** Returns true if field probability is set (has been assigned a value) and false otherwise */
-		public boolean isSetProbability() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __PROBABILITY_ISSET_ID );
+			boolean this_present_model = true && this.isSetModel();
+			boolean that_present_model = true && that.isSetModel();
+			if( this_present_model || that_present_model ) {
+				if( !( this_present_model && that_present_model ) ) {
+					return false;
+				}
+				if( !this.model.equals( that.model ) ) {
+					return false;
+				}
+			}
+
+			return true;
 		}
 
-		public void setProbabilityIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __PROBABILITY_ISSET_ID, value );
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			hashCode = hashCode * 8191 + ( ( isSetModel() ) ? 131071 : 524287 );
+			if( isSetModel() ) {
+				hashCode = hashCode * 8191 + model.hashCode();
+			}
+
+			return hashCode;
 		}
 
-		public java.lang.String getRegexp() {
-			return this.regexp;
+		@Override
+		public int compareTo( set_device_model_args other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
+			}
+
+			int lastComparison = 0;
+
+			lastComparison = java.lang.Boolean.valueOf( isSetModel() ).compareTo( other.isSetModel() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetModel() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.model, other.model );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
+			return 0;
 		}
 
-		public set_all_fault_args setRegexp( java.lang.String regexp ) {
-			this.regexp = regexp;
-			return this;
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
 		}
 
-		public void unsetRegexp() {
-			this.regexp = null;
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
 		}
 
-		/** Returns true if field regexp is set (has been assigned a value) and false otherwise */
-		public boolean isSetRegexp() {
-			return this.regexp != null;
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
 		}
 
-		public void setRegexpIsSet( boolean value ) {
-			if( !value ) {
-				this.regexp = null;
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_device_model_args(" );
+			boolean first = true;
+
+			sb.append( "model:" );
+			if( this.model == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.model );
 			}
+			first = false;
+			sb.append( ")" );
+			return sb.toString();
 		}
 
-		public boolean isKill_caller() {
-			return this.kill_caller;
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+			if( model != null ) {
+				model.validate();
+			}
 		}
 
-		public set_all_fault_args setKill_caller( boolean kill_caller ) {
-			this.kill_caller = kill_caller;
-			setKill_callerIsSet( true );
-			return this;
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
 		}
 
-		public void unsetKill_caller() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __KILL_CALLER_ISSET_ID );
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
 		}
 
-		/** Returns true if field kill_caller is set (has been assigned a value) and false otherwise */
-		public boolean isSetKill_caller() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __KILL_CALLER_ISSET_ID );
+		private static class set_device_model_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_device_model_argsStandardScheme getScheme() {
+				return new set_device_model_argsStandardScheme();
+			}
 		}
 
-		public void setKill_callerIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __KILL_CALLER_ISSET_ID, value );
-		}
+		private static class set_device_model_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_device_model_args> {
 
-		public int getDelay_us() {
-			return this.delay_us;
-		}
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_device_model_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						case 1: // MODEL
+							if( schemeField.type == org.apache.thrift.protocol.TType.STRUCT ) {
+								struct.model = new device_latency_model();
+								struct.model.read( iprot );
+								struct.setModelIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
+				}
+				iprot.readStructEnd();
 
-		public set_all_fault_args setDelay_us( int delay_us ) {
-			this.delay_us = delay_us;
-			setDelay_usIsSet( true );
-			return this;
-		}
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
+			}
 
-		public void unsetDelay_us() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __DELAY_US_ISSET_ID );
-		}
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_device_model_args struct ) throws org.apache.thrift.TException {
+				struct.validate();
 
-		/** Returns true if field delay_us is set (has been assigned a value) and false otherwise */
-		public boolean isSetDelay_us() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __DELAY_US_ISSET_ID );
-		}
+				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.model != null ) {
+					oprot.writeFieldBegin( MODEL_FIELD_DESC );
+					struct.model.write( oprot );
+					oprot.writeFieldEnd();
+				}
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
 
-		public void setDelay_usIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __DELAY_US_ISSET_ID, value );
 		}
 
-		public boolean isAuto_delay() {
-			return this.auto_delay;
+		private static class set_device_model_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_device_model_argsTupleScheme getScheme() {
+				return new set_device_model_argsTupleScheme();
+			}
 		}
 
-		public set_all_fault_args setAuto_delay( boolean auto_delay ) {
-			this.auto_delay = auto_delay;
-			setAuto_delayIsSet( true );
-			return this;
-		}
+		private static class set_device_model_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_device_model_args> {
 
-		public void unsetAuto_delay() {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.clearBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID );
-		}
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_device_model_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetModel() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetModel() ) {
+					struct.model.write( oprot );
+				}
+			}
 
-		/** Returns true if field auto_delay is set (has been assigned a value) and false otherwise */
-		public boolean isSetAuto_delay() {
-			return org.apache.thrift.EncodingUtils.testBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID );
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_device_model_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					struct.model = new device_latency_model();
+					struct.model.read( iprot );
+					struct.setModelIsSet( true );
+				}
+			}
 		}
 
-		public void setAuto_delayIsSet( boolean value ) {
-			__isset_bitfield = org.apache.thrift.EncodingUtils.setBit( __isset_bitfield, __AUTO_DELAY_ISSET_ID, value );
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
 		}
+	}
 
-		public void setFieldValue( _Fields field, java.lang.Object value ) {
-			switch( field ) {
-				case RANDOM:
-					if( value == null ) {
-						unsetRandom();
-					} else {
-						setRandom( ( java.lang.Boolean ) value );
-					}
-					break;
+	public static class set_device_model_result implements org.apache.thrift.TBase<set_device_model_result, set_device_model_result._Fields>, java.io.Serializable, Cloneable, Comparable<set_device_model_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_device_model_result" );
 
-				case ERR_NO:
-					if( value == null ) {
-						unsetErr_no();
-					} else {
-						setErr_no( ( java.lang.Integer ) value );
-					}
-					break;
 
-				case PROBABILITY:
-					if( value == null ) {
-						unsetProbability();
-					} else {
-						setProbability( ( java.lang.Integer ) value );
-					}
-					break;
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_device_model_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_device_model_resultTupleSchemeFactory();
 
-				case REGEXP:
-					if( value == null ) {
-						unsetRegexp();
-					} else {
-						setRegexp( ( java.lang.String ) value );
-					}
-					break;
 
-				case KILL_CALLER:
-					if( value == null ) {
-						unsetKill_caller();
-					} else {
-						setKill_caller( ( java.lang.Boolean ) value );
-					}
-					break;
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
 
-				case DELAY_US:
-					if( value == null ) {
-						unsetDelay_us();
-					} else {
-						setDelay_us( ( java.lang.Integer ) value );
-					}
-					break;
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
-				case AUTO_DELAY:
-					if( value == null ) {
-						unsetAuto_delay();
-					} else {
-						setAuto_delay( ( java.lang.Boolean ) value );
-					}
-					break;
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
+				}
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
+				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
 
+			public java.lang.String getFieldName() {
+				return _fieldName;
 			}
 		}
 
-		public java.lang.Object getFieldValue( _Fields field ) {
-			switch( field ) {
-				case RANDOM:
-					return isRandom();
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
 
-				case ERR_NO:
-					return getErr_no();
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_device_model_result.class, metaDataMap );
+		}
 
-				case PROBABILITY:
-					return getProbability();
+		public set_device_model_result() {
+		}
 
-				case REGEXP:
-					return getRegexp();
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public set_device_model_result( set_device_model_result other ) {
+		}
 
-				case KILL_CALLER:
-					return isKill_caller();
+		public set_device_model_result deepCopy() {
+			return new set_device_model_result( this );
+		}
 
-				case DELAY_US:
-					return getDelay_us();
+		@Override
+		public void clear() {
+		}
 
-				case AUTO_DELAY:
-					return isAuto_delay();
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
 
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
 			}
 			throw new java.lang.IllegalStateException();
 		}
@@ -4503,20 +18108,6 @@ public class server {
 			}
 
 			switch( field ) {
-				case RANDOM:
-					return isSetRandom();
-				case ERR_NO:
-					return isSetErr_no();
-				case PROBABILITY:
-					return isSetProbability();
-				case REGEXP:
-					return isSetRegexp();
-				case KILL_CALLER:
-					return isSetKill_caller();
-				case DELAY_US:
-					return isSetDelay_us();
-				case AUTO_DELAY:
-					return isSetAuto_delay();
 			}
 			throw new java.lang.IllegalStateException();
 		}
@@ -4526,13 +18117,13 @@ public class server {
 			if( that == null ) {
 				return false;
 			}
-			if( that instanceof set_all_fault_args ) {
-				return this.equals( ( set_all_fault_args ) that );
+			if( that instanceof set_device_model_result ) {
+				return this.equals( ( set_device_model_result ) that );
 			}
 			return false;
 		}
 
-		public boolean equals( set_all_fault_args that ) {
+		public boolean equals( set_device_model_result that ) {
 			if( that == null ) {
 				return false;
 			}
@@ -4540,188 +18131,281 @@ public class server {
 				return true;
 			}
 
-			boolean this_present_random = true;
-			boolean that_present_random = true;
-			if( this_present_random || that_present_random ) {
-				if( !( this_present_random && that_present_random ) ) {
-					return false;
-				}
-				if( this.random != that.random ) {
-					return false;
-				}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+
+			return hashCode;
+		}
+
+		@Override
+		public int compareTo( set_device_model_result other ) {
+			if( !getClass().equals( other.getClass() ) ) {
+				return getClass().getName().compareTo( other.getClass().getName() );
 			}
 
-			boolean this_present_err_no = true;
-			boolean that_present_err_no = true;
-			if( this_present_err_no || that_present_err_no ) {
-				if( !( this_present_err_no && that_present_err_no ) ) {
-					return false;
-				}
-				if( this.err_no != that.err_no ) {
-					return false;
-				}
+			int lastComparison = 0;
+
+			return 0;
+		}
+
+		public _Fields fieldForId( int fieldId ) {
+			return _Fields.findByThriftId( fieldId );
+		}
+
+		public void read( org.apache.thrift.protocol.TProtocol iprot ) throws org.apache.thrift.TException {
+			scheme( iprot ).read( iprot, this );
+		}
+
+		public void write( org.apache.thrift.protocol.TProtocol oprot ) throws org.apache.thrift.TException {
+			scheme( oprot ).write( oprot, this );
+		}
+
+		@Override
+		public java.lang.String toString() {
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_device_model_result(" );
+			boolean first = true;
+
+			sb.append( ")" );
+			return sb.toString();
+		}
+
+		public void validate() throws org.apache.thrift.TException {
+			// check for required fields
+			// check for sub-struct validity
+		}
+
+		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
+			try {
+				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
 			}
+		}
 
-			boolean this_present_probability = true;
-			boolean that_present_probability = true;
-			if( this_present_probability || that_present_probability ) {
-				if( !( this_present_probability && that_present_probability ) ) {
-					return false;
-				}
-				if( this.probability != that.probability ) {
-					return false;
-				}
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
 			}
+		}
 
-			boolean this_present_regexp = true && this.isSetRegexp();
-			boolean that_present_regexp = true && that.isSetRegexp();
-			if( this_present_regexp || that_present_regexp ) {
-				if( !( this_present_regexp && that_present_regexp ) ) {
-					return false;
-				}
-				if( !this.regexp.equals( that.regexp ) ) {
-					return false;
-				}
+		private static class set_device_model_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_device_model_resultStandardScheme getScheme() {
+				return new set_device_model_resultStandardScheme();
 			}
+		}
 
-			boolean this_present_kill_caller = true;
-			boolean that_present_kill_caller = true;
-			if( this_present_kill_caller || that_present_kill_caller ) {
-				if( !( this_present_kill_caller && that_present_kill_caller ) ) {
-					return false;
-				}
-				if( this.kill_caller != that.kill_caller ) {
-					return false;
+		private static class set_device_model_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_device_model_result> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, set_device_model_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
+						default:
+							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+					}
+					iprot.readFieldEnd();
 				}
+				iprot.readStructEnd();
+
+				// check for required fields of primitive type, which can't be checked in the validate method
+				struct.validate();
 			}
 
-			boolean this_present_delay_us = true;
-			boolean that_present_delay_us = true;
-			if( this_present_delay_us || that_present_delay_us ) {
-				if( !( this_present_delay_us && that_present_delay_us ) ) {
-					return false;
-				}
-				if( this.delay_us != that.delay_us ) {
-					return false;
+			public void write( org.apache.thrift.protocol.TProtocol oprot, set_device_model_result struct ) throws org.apache.thrift.TException {
+				struct.validate();
+
+				oprot.writeStructBegin( STRUCT_DESC );
+				oprot.writeFieldStop();
+				oprot.writeStructEnd();
+			}
+
+		}
+
+		private static class set_device_model_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public set_device_model_resultTupleScheme getScheme() {
+				return new set_device_model_resultTupleScheme();
+			}
+		}
+
+		private static class set_device_model_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_device_model_result> {
+
+			@Override
+			public void write( org.apache.thrift.protocol.TProtocol prot, set_device_model_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+
+			@Override
+			public void read( org.apache.thrift.protocol.TProtocol prot, set_device_model_result struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+			}
+		}
+
+		private static <S extends org.apache.thrift.scheme.IScheme> S scheme( org.apache.thrift.protocol.TProtocol proto ) {
+			return ( org.apache.thrift.scheme.StandardScheme.class.equals( proto.getScheme() ) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY ).getScheme();
+		}
+	}
+
+	public static class get_device_model_args implements org.apache.thrift.TBase<get_device_model_args, get_device_model_args._Fields>, java.io.Serializable, Cloneable, Comparable<get_device_model_args> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_device_model_args" );
+
+
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_device_model_argsStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_device_model_argsTupleSchemeFactory();
+
+
+		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+			;
+
+			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+			static {
+				for( _Fields field : java.util.EnumSet.allOf( _Fields.class ) ) {
+					byName.put( field.getFieldName(), field );
 				}
 			}
 
-			boolean this_present_auto_delay = true;
-			boolean that_present_auto_delay = true;
-			if( this_present_auto_delay || that_present_auto_delay ) {
-				if( !( this_present_auto_delay && that_present_auto_delay ) ) {
-					return false;
+			/**
+			 * Find the _Fields constant that matches fieldId, or null if its not found.
+			 */
+			public static _Fields findByThriftId( int fieldId ) {
+				switch( fieldId ) {
+					default:
+						return null;
 				}
-				if( this.auto_delay != that.auto_delay ) {
-					return false;
+			}
+
+			/**
+			 * Find the _Fields constant that matches fieldId, throwing an exception
+			 * if it is not found.
+			 */
+			public static _Fields findByThriftIdOrThrow( int fieldId ) {
+				_Fields fields = findByThriftId( fieldId );
+				if( fields == null ) {
+					throw new java.lang.IllegalArgumentException( "Field " + fieldId + " doesn't exist!" );
 				}
+				return fields;
+			}
+
+			/**
+			 * Find the _Fields constant that matches name, or null if its not found.
+			 */
+			public static _Fields findByName( java.lang.String name ) {
+				return byName.get( name );
+			}
+
+			private final short _thriftId;
+			private final java.lang.String _fieldName;
+
+			_Fields( short thriftId, java.lang.String fieldName ) {
+				_thriftId = thriftId;
+				_fieldName = fieldName;
+			}
+
+			public short getThriftFieldId() {
+				return _thriftId;
+			}
+
+			public java.lang.String getFieldName() {
+				return _fieldName;
 			}
+		}
+
+		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+
+		static {
+			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_device_model_args.class, metaDataMap );
+		}
+
+		public get_device_model_args() {
+		}
+
+		/**
+		 * Performs a deep copy on <i>other</i>.
+		 */
+		public get_device_model_args( get_device_model_args other ) {
+		}
 
-			return true;
+		public get_device_model_args deepCopy() {
+			return new get_device_model_args( this );
 		}
 
 		@Override
-		public int hashCode() {
-			int hashCode = 1;
+		public void clear() {
+		}
 
-			hashCode = hashCode * 8191 + ( ( random ) ? 131071 : 524287 );
+		public void setFieldValue( _Fields field, java.lang.Object value ) {
+			switch( field ) {
+			}
+		}
 
-			hashCode = hashCode * 8191 + err_no;
+		public java.lang.Object getFieldValue( _Fields field ) {
+			switch( field ) {
+			}
+			throw new java.lang.IllegalStateException();
+		}
 
-			hashCode = hashCode * 8191 + probability;
+		/** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+		public boolean isSet( _Fields field ) {
+			if( field == null ) {
+				throw new java.lang.IllegalArgumentException();
+			}
 
-			hashCode = hashCode * 8191 + ( ( isSetRegexp() ) ? 131071 : 524287 );
-			if( isSetRegexp() ) {
-				hashCode = hashCode * 8191 + regexp.hashCode();
+			switch( field ) {
 			}
+			throw new java.lang.IllegalStateException();
+		}
 
-			hashCode = hashCode * 8191 + ( ( kill_caller ) ? 131071 : 524287 );
+		@Override
+		public boolean equals( java.lang.Object that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( that instanceof get_device_model_args ) {
+				return this.equals( ( get_device_model_args ) that );
+			}
+			return false;
+		}
 
-			hashCode = hashCode * 8191 + delay_us;
+		public boolean equals( get_device_model_args that ) {
+			if( that == null ) {
+				return false;
+			}
+			if( this == that ) {
+				return true;
+			}
 
-			hashCode = hashCode * 8191 + ( ( auto_delay ) ? 131071 : 524287 );
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
 
 			return hashCode;
 		}
 
 		@Override
-		public int compareTo( set_all_fault_args other ) {
+		public int compareTo( get_device_model_args other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
 
 			int lastComparison = 0;
 
-			lastComparison = java.lang.Boolean.valueOf( isSetRandom() ).compareTo( other.isSetRandom() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetRandom() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.random, other.random );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetErr_no() ).compareTo( other.isSetErr_no() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetErr_no() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.err_no, other.err_no );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetProbability() ).compareTo( other.isSetProbability() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetProbability() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.probability, other.probability );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetRegexp() ).compareTo( other.isSetRegexp() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetRegexp() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.regexp, other.regexp );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetKill_caller() ).compareTo( other.isSetKill_caller() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetKill_caller() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.kill_caller, other.kill_caller );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetDelay_us() ).compareTo( other.isSetDelay_us() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetDelay_us() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.delay_us, other.delay_us );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
-			lastComparison = java.lang.Boolean.valueOf( isSetAuto_delay() ).compareTo( other.isSetAuto_delay() );
-			if( lastComparison != 0 ) {
-				return lastComparison;
-			}
-			if( isSetAuto_delay() ) {
-				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.auto_delay, other.auto_delay );
-				if( lastComparison != 0 ) {
-					return lastComparison;
-				}
-			}
 			return 0;
 		}
 
@@ -4739,52 +18423,9 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_all_fault_args(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_device_model_args(" );
 			boolean first = true;
 
-			sb.append( "random:" );
-			sb.append( this.random );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "err_no:" );
-			sb.append( this.err_no );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "probability:" );
-			sb.append( this.probability );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "regexp:" );
-			if( this.regexp == null ) {
-				sb.append( "null" );
-			} else {
-				sb.append( this.regexp );
-			}
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "kill_caller:" );
-			sb.append( this.kill_caller );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "delay_us:" );
-			sb.append( this.delay_us );
-			first = false;
-			if( !first ) {
-				sb.append( ", " );
-			}
-			sb.append( "auto_delay:" );
-			sb.append( this.auto_delay );
-			first = false;
 			sb.append( ")" );
 			return sb.toString();
 		}
@@ -4797,94 +18438,36 @@ public class server {
 		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
 			try {
 				write( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( out ) ) );
-			} catch( org.apache.thrift.TException te ) {
-				throw new java.io.IOException( te );
-			}
-		}
-
-		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
-			try {
-				// it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-				__isset_bitfield = 0;
-				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
-			} catch( org.apache.thrift.TException te ) {
-				throw new java.io.IOException( te );
-			}
-		}
-
-		private static class set_all_fault_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public set_all_fault_argsStandardScheme getScheme() {
-				return new set_all_fault_argsStandardScheme();
-			}
-		}
-
-		private static class set_all_fault_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_all_fault_args> {
-
-			public void read( org.apache.thrift.protocol.TProtocol iprot, set_all_fault_args struct ) throws org.apache.thrift.TException {
-				org.apache.thrift.protocol.TField schemeField;
-				iprot.readStructBegin();
-				while( true ) {
-					schemeField = iprot.readFieldBegin();
-					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
-						break;
-					}
-					switch( schemeField.id ) {
-						case 1: // RANDOM
-							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
-								struct.random = iprot.readBool();
-								struct.setRandomIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 2: // ERR_NO
-							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
-								struct.err_no = iprot.readI32();
-								struct.setErr_noIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 3: // PROBABILITY
-							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
-								struct.probability = iprot.readI32();
-								struct.setProbabilityIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 4: // REGEXP
-							if( schemeField.type == org.apache.thrift.protocol.TType.STRING ) {
-								struct.regexp = iprot.readString();
-								struct.setRegexpIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 5: // KILL_CALLER
-							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
-								struct.kill_caller = iprot.readBool();
-								struct.setKill_callerIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 6: // DELAY_US
-							if( schemeField.type == org.apache.thrift.protocol.TType.I32 ) {
-								struct.delay_us = iprot.readI32();
-								struct.setDelay_usIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
-						case 7: // AUTO_DELAY
-							if( schemeField.type == org.apache.thrift.protocol.TType.BOOL ) {
-								struct.auto_delay = iprot.readBool();
-								struct.setAuto_delayIsSet( true );
-							} else {
-								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
-							}
-							break;
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private void readObject( java.io.ObjectInputStream in ) throws java.io.IOException, java.lang.ClassNotFoundException {
+			try {
+				read( new org.apache.thrift.protocol.TCompactProtocol( new org.apache.thrift.transport.TIOStreamTransport( in ) ) );
+			} catch( org.apache.thrift.TException te ) {
+				throw new java.io.IOException( te );
+			}
+		}
+
+		private static class get_device_model_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_device_model_argsStandardScheme getScheme() {
+				return new get_device_model_argsStandardScheme();
+			}
+		}
+
+		private static class get_device_model_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_device_model_args> {
+
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_device_model_args struct ) throws org.apache.thrift.TException {
+				org.apache.thrift.protocol.TField schemeField;
+				iprot.readStructBegin();
+				while( true ) {
+					schemeField = iprot.readFieldBegin();
+					if( schemeField.type == org.apache.thrift.protocol.TType.STOP ) {
+						break;
+					}
+					switch( schemeField.id ) {
 						default:
 							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
 					}
@@ -4896,128 +18479,32 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, set_all_fault_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_device_model_args struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
-				oprot.writeFieldBegin( RANDOM_FIELD_DESC );
-				oprot.writeBool( struct.random );
-				oprot.writeFieldEnd();
-				oprot.writeFieldBegin( ERR_NO_FIELD_DESC );
-				oprot.writeI32( struct.err_no );
-				oprot.writeFieldEnd();
-				oprot.writeFieldBegin( PROBABILITY_FIELD_DESC );
-				oprot.writeI32( struct.probability );
-				oprot.writeFieldEnd();
-				if( struct.regexp != null ) {
-					oprot.writeFieldBegin( REGEXP_FIELD_DESC );
-					oprot.writeString( struct.regexp );
-					oprot.writeFieldEnd();
-				}
-				oprot.writeFieldBegin( KILL_CALLER_FIELD_DESC );
-				oprot.writeBool( struct.kill_caller );
-				oprot.writeFieldEnd();
-				oprot.writeFieldBegin( DELAY_US_FIELD_DESC );
-				oprot.writeI32( struct.delay_us );
-				oprot.writeFieldEnd();
-				oprot.writeFieldBegin( AUTO_DELAY_FIELD_DESC );
-				oprot.writeBool( struct.auto_delay );
-				oprot.writeFieldEnd();
 				oprot.writeFieldStop();
 				oprot.writeStructEnd();
 			}
 
 		}
 
-		private static class set_all_fault_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public set_all_fault_argsTupleScheme getScheme() {
-				return new set_all_fault_argsTupleScheme();
+		private static class get_device_model_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_device_model_argsTupleScheme getScheme() {
+				return new get_device_model_argsTupleScheme();
 			}
 		}
 
-		private static class set_all_fault_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_all_fault_args> {
+		private static class get_device_model_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_device_model_args> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, set_all_fault_args struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_device_model_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
-				java.util.BitSet optionals = new java.util.BitSet();
-				if( struct.isSetRandom() ) {
-					optionals.set( 0 );
-				}
-				if( struct.isSetErr_no() ) {
-					optionals.set( 1 );
-				}
-				if( struct.isSetProbability() ) {
-					optionals.set( 2 );
-				}
-				if( struct.isSetRegexp() ) {
-					optionals.set( 3 );
-				}
-				if( struct.isSetKill_caller() ) {
-					optionals.set( 4 );
-				}
-				if( struct.isSetDelay_us() ) {
-					optionals.set( 5 );
-				}
-				if( struct.isSetAuto_delay() ) {
-					optionals.set( 6 );
-				}
-				oprot.writeBitSet( optionals, 7 );
-				if( struct.isSetRandom() ) {
-					oprot.writeBool( struct.random );
-				}
-				if( struct.isSetErr_no() ) {
-					oprot.writeI32( struct.err_no );
-				}
-				if( struct.isSetProbability() ) {
-					oprot.writeI32( struct.probability );
-				}
-				if( struct.isSetRegexp() ) {
-					oprot.writeString( struct.regexp );
-				}
-				if( struct.isSetKill_caller() ) {
-					oprot.writeBool( struct.kill_caller );
-				}
-				if( struct.isSetDelay_us() ) {
-					oprot.writeI32( struct.delay_us );
-				}
-				if( struct.isSetAuto_delay() ) {
-					oprot.writeBool( struct.auto_delay );
-				}
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, set_all_fault_args struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_device_model_args struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
-				java.util.BitSet incoming = iprot.readBitSet( 7 );
-				if( incoming.get( 0 ) ) {
-					struct.random = iprot.readBool();
-					struct.setRandomIsSet( true );
-				}
-				if( incoming.get( 1 ) ) {
-					struct.err_no = iprot.readI32();
-					struct.setErr_noIsSet( true );
-				}
-				if( incoming.get( 2 ) ) {
-					struct.probability = iprot.readI32();
-					struct.setProbabilityIsSet( true );
-				}
-				if( incoming.get( 3 ) ) {
-					struct.regexp = iprot.readString();
-					struct.setRegexpIsSet( true );
-				}
-				if( incoming.get( 4 ) ) {
-					struct.kill_caller = iprot.readBool();
-					struct.setKill_callerIsSet( true );
-				}
-				if( incoming.get( 5 ) ) {
-					struct.delay_us = iprot.readI32();
-					struct.setDelay_usIsSet( true );
-				}
-				if( incoming.get( 6 ) ) {
-					struct.auto_delay = iprot.readBool();
-					struct.setAuto_delayIsSet( true );
-				}
 			}
 		}
 
@@ -5026,17 +18513,19 @@ public class server {
 		}
 	}
 
-	public static class set_all_fault_result implements org.apache.thrift.TBase<set_all_fault_result, set_all_fault_result._Fields>, java.io.Serializable, Cloneable, Comparable<set_all_fault_result> {
-		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "set_all_fault_result" );
+	public static class get_device_model_result implements org.apache.thrift.TBase<get_device_model_result, get_device_model_result._Fields>, java.io.Serializable, Cloneable, Comparable<get_device_model_result> {
+		private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct( "get_device_model_result" );
 
+		private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField( "success", org.apache.thrift.protocol.TType.STRUCT, ( short ) 0 );
 
-		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new set_all_fault_resultStandardSchemeFactory();
-		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new set_all_fault_resultTupleSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new get_device_model_resultStandardSchemeFactory();
+		private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new get_device_model_resultTupleSchemeFactory();
 
+		public device_latency_model success; // required
 
 		/** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
 		public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-			;
+			SUCCESS( ( short ) 0, "success" );
 
 			private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -5051,6 +18540,8 @@ public class server {
 			 */
 			public static _Fields findByThriftId( int fieldId ) {
 				switch( fieldId ) {
+					case 0: // SUCCESS
+						return SUCCESS;
 					default:
 						return null;
 				}
@@ -5092,38 +18583,86 @@ public class server {
 			}
 		}
 
+		// isset id assignments
 		public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
 
 		static {
 			java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>( _Fields.class );
+			tmpMap.put( _Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData( "success", org.apache.thrift.TFieldRequirementType.DEFAULT,
+			                                                                            new org.apache.thrift.meta_data.StructMetaData( org.apache.thrift.protocol.TType.STRUCT, device_latency_model.class ) ) );
 			metaDataMap = java.util.Collections.unmodifiableMap( tmpMap );
-			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( set_all_fault_result.class, metaDataMap );
+			org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap( get_device_model_result.class, metaDataMap );
 		}
 
-		public set_all_fault_result() {
+		public get_device_model_result() {
+		}
+
+		public get_device_model_result(
+				device_latency_model success ) {
+			this();
+			this.success = success;
 		}
 
 		/**
 		 * Performs a deep copy on <i>other</i>.
 		 */
-		public set_all_fault_result( set_all_fault_result other ) {
+		public get_device_model_result( get_device_model_result other ) {
+			if( other.isSetSuccess() ) {
+				this.success = new device_latency_model( other.success );
+			}
 		}
 
-		public set_all_fault_result deepCopy() {
-			return new set_all_fault_result( this );
+		public get_device_model_result deepCopy() {
+			return new get_device_model_result( this );
 		}
 
 		@Override
 		public void clear() {
+			this.success = null;
+		}
+
+		public device_latency_model getSuccess() {
+			return this.success;
+		}
+
+		public get_device_model_result setSuccess( device_latency_model success ) {
+			this.success = success;
+			return this;
+		}
+
+		public void unsetSuccess() {
+			this.success = null;
+		}
+
+		/** Returns true if field success is set (has been assigned a value) and false otherwise */
+		public boolean isSetSuccess() {
+			return this.success != null;
+		}
+
+		public void setSuccessIsSet( boolean value ) {
+			if( !value ) {
+				this.success = null;
+			}
 		}
 
 		public void setFieldValue( _Fields field, java.lang.Object value ) {
 			switch( field ) {
+				case SUCCESS:
+					if( value == null ) {
+						unsetSuccess();
+					} else {
+						setSuccess( ( device_latency_model ) value );
+					}
+					break;
+
 			}
 		}
 
 		public java.lang.Object getFieldValue( _Fields field ) {
 			switch( field ) {
+				case SUCCESS:
+					return getSuccess();
+
 			}
 			throw new java.lang.IllegalStateException();
 		}
@@ -5135,6 +18674,8 @@ public class server {
 			}
 
 			switch( field ) {
+				case SUCCESS:
+					return isSetSuccess();
 			}
 			throw new java.lang.IllegalStateException();
 		}
@@ -5144,13 +18685,13 @@ public class server {
 			if( that == null ) {
 				return false;
 			}
-			if( that instanceof set_all_fault_result ) {
-				return this.equals( ( set_all_fault_result ) that );
+			if( that instanceof get_device_model_result ) {
+				return this.equals( ( get_device_model_result ) that );
 			}
 			return false;
 		}
 
-		public boolean equals( set_all_fault_result that ) {
+		public boolean equals( get_device_model_result that ) {
 			if( that == null ) {
 				return false;
 			}
@@ -5158,6 +18699,17 @@ public class server {
 				return true;
 			}
 
+			boolean this_present_success = true && this.isSetSuccess();
+			boolean that_present_success = true && that.isSetSuccess();
+			if( this_present_success || that_present_success ) {
+				if( !( this_present_success && that_present_success ) ) {
+					return false;
+				}
+				if( !this.success.equals( that.success ) ) {
+					return false;
+				}
+			}
+
 			return true;
 		}
 
@@ -5165,17 +18717,32 @@ public class server {
 		public int hashCode() {
 			int hashCode = 1;
 
+			hashCode = hashCode * 8191 + ( ( isSetSuccess() ) ? 131071 : 524287 );
+			if( isSetSuccess() ) {
+				hashCode = hashCode * 8191 + success.hashCode();
+			}
+
 			return hashCode;
 		}
 
 		@Override
-		public int compareTo( set_all_fault_result other ) {
+		public int compareTo( get_device_model_result other ) {
 			if( !getClass().equals( other.getClass() ) ) {
 				return getClass().getName().compareTo( other.getClass().getName() );
 			}
 
 			int lastComparison = 0;
 
+			lastComparison = java.lang.Boolean.valueOf( isSetSuccess() ).compareTo( other.isSetSuccess() );
+			if( lastComparison != 0 ) {
+				return lastComparison;
+			}
+			if( isSetSuccess() ) {
+				lastComparison = org.apache.thrift.TBaseHelper.compareTo( this.success, other.success );
+				if( lastComparison != 0 ) {
+					return lastComparison;
+				}
+			}
 			return 0;
 		}
 
@@ -5193,9 +18760,16 @@ public class server {
 
 		@Override
 		public java.lang.String toString() {
-			java.lang.StringBuilder sb = new java.lang.StringBuilder( "set_all_fault_result(" );
+			java.lang.StringBuilder sb = new java.lang.StringBuilder( "get_device_model_result(" );
 			boolean first = true;
 
+			sb.append( "success:" );
+			if( this.success == null ) {
+				sb.append( "null" );
+			} else {
+				sb.append( this.success );
+			}
+			first = false;
 			sb.append( ")" );
 			return sb.toString();
 		}
@@ -5203,6 +18777,9 @@ public class server {
 		public void validate() throws org.apache.thrift.TException {
 			// check for required fields
 			// check for sub-struct validity
+			if( success != null ) {
+				success.validate();
+			}
 		}
 
 		private void writeObject( java.io.ObjectOutputStream out ) throws java.io.IOException {
@@ -5221,15 +18798,15 @@ public class server {
 			}
 		}
 
-		private static class set_all_fault_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public set_all_fault_resultStandardScheme getScheme() {
-				return new set_all_fault_resultStandardScheme();
+		private static class get_device_model_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_device_model_resultStandardScheme getScheme() {
+				return new get_device_model_resultStandardScheme();
 			}
 		}
 
-		private static class set_all_fault_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<set_all_fault_result> {
+		private static class get_device_model_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<get_device_model_result> {
 
-			public void read( org.apache.thrift.protocol.TProtocol iprot, set_all_fault_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol iprot, get_device_model_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TField schemeField;
 				iprot.readStructBegin();
 				while( true ) {
@@ -5238,6 +18815,15 @@ public class server {
 						break;
 					}
 					switch( schemeField.id ) {
+						case 0: // SUCCESS
+							if( schemeField.type == org.apache.thrift.protocol.TType.STRUCT ) {
+								struct.success = new device_latency_model();
+								struct.success.read( iprot );
+								struct.setSuccessIsSet( true );
+							} else {
+								org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
+							}
+							break;
 						default:
 							org.apache.thrift.protocol.TProtocolUtil.skip( iprot, schemeField.type );
 					}
@@ -5249,32 +18835,51 @@ public class server {
 				struct.validate();
 			}
 
-			public void write( org.apache.thrift.protocol.TProtocol oprot, set_all_fault_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol oprot, get_device_model_result struct ) throws org.apache.thrift.TException {
 				struct.validate();
 
 				oprot.writeStructBegin( STRUCT_DESC );
+				if( struct.success != null ) {
+					oprot.writeFieldBegin( SUCCESS_FIELD_DESC );
+					struct.success.write( oprot );
+					oprot.writeFieldEnd();
+				}
 				oprot.writeFieldStop();
 				oprot.writeStructEnd();
 			}
 
 		}
 
-		private static class set_all_fault_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-			public set_all_fault_resultTupleScheme getScheme() {
-				return new set_all_fault_resultTupleScheme();
+		private static class get_device_model_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+			public get_device_model_resultTupleScheme getScheme() {
+				return new get_device_model_resultTupleScheme();
 			}
 		}
 
-		private static class set_all_fault_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<set_all_fault_result> {
+		private static class get_device_model_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<get_device_model_result> {
 
 			@Override
-			public void write( org.apache.thrift.protocol.TProtocol prot, set_all_fault_result struct ) throws org.apache.thrift.TException {
+			public void write( org.apache.thrift.protocol.TProtocol prot, get_device_model_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol oprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet optionals = new java.util.BitSet();
+				if( struct.isSetSuccess() ) {
+					optionals.set( 0 );
+				}
+				oprot.writeBitSet( optionals, 1 );
+				if( struct.isSetSuccess() ) {
+					struct.success.write( oprot );
+				}
 			}
 
 			@Override
-			public void read( org.apache.thrift.protocol.TProtocol prot, set_all_fault_result struct ) throws org.apache.thrift.TException {
+			public void read( org.apache.thrift.protocol.TProtocol prot, get_device_model_result struct ) throws org.apache.thrift.TException {
 				org.apache.thrift.protocol.TTupleProtocol iprot = ( org.apache.thrift.protocol.TTupleProtocol ) prot;
+				java.util.BitSet incoming = iprot.readBitSet( 1 );
+				if( incoming.get( 0 ) ) {
+					struct.success = new device_latency_model();
+					struct.success.read( iprot );
+					struct.setSuccessIsSet( true );
+				}
 			}
 		}
 
@@ -0,0 +1,112 @@
+package org.charybde;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TSimpleServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.charybde.CharybdeFSControl.Method.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Batch against an in-process server recording the calls it gets
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public class CharybdeFSControlBatchTest {
+	private final List<String> calls = Collections.synchronizedList( new ArrayList<>() );
+
+	private TServerSocket socket;
+	private TServer server;
+	private Thread serving;
+
+	@Before
+	public void setUp() throws Exception {
+		final server.Iface handler = (server.Iface) Proxy.newProxyInstance(
+				server.Iface.class.getClassLoader(),
+				new Class<?>[] { server.Iface.class },
+				( proxy, method, args ) -> {
+					final String call = method.getName() + ( args == null ? "" : Arrays.toString( args ) );
+					calls.add( call );
+					if( call.contains( "fail" ) ) {
+						throw new IllegalStateException( call );
+					}
+					return null;
+				}
+		);
+		socket = new TServerSocket( 0 );
+		server = new TSimpleServer( new TServer.Args( socket ).processor( new server.Processor<>( handler ) ) );
+		serving = new Thread( server::serve );
+		serving.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		server.stop();
+		socket.close();
+		serving.join();
+	}
+
+	@Test
+	public void callsAreAppliedInOrderBeyondPipelineDepth() throws Exception {
+		try (final CharybdeFSControl control = connect()) {
+			final CharybdeFSControl.Batch batch = control.batch();
+			final int count = PipelinedClient.MAX_PIPELINED * 2 + 10;
+			for( int i = 0; i < count; i++ ) {
+				batch.setFault( EnumSet.of( fsync ), i, false, 100000, "", false, 0 );
+			}
+			batch.execute();
+
+			assertThat( batch.size(), is( 0 ) );
+			assertThat( calls.size(), is( count ) );
+			for( int i = 0; i < count; i++ ) {
+				assertThat( calls.get( i ), startsWith( "set_fault[[fsync], false, " + i + "," ) );
+			}
+
+			//connection is still in sync
+			control.clearFault( fsync );
+			assertThat( calls.get( count ), is( "clear_fault[fsync]" ) );
+		}
+	}
+
+	@Test
+	public void failedCallDoesNotStopFollowingOnes() throws Exception {
+		try (final CharybdeFSControl control = connect()) {
+			final CharybdeFSControl.Batch batch = control.batch()
+					.clearAllFaults()
+					.setFault( EnumSet.of( read ), 5, false, 100000, "fail", false, 0 )
+					.clearFault( write );
+			try {
+				batch.execute();
+				fail( "failed call must be reported" );
+			} catch( TApplicationException e ) {
+				//expected
+			}
+
+			assertThat( calls.size(), is( 3 ) );
+			assertThat( calls.get( 0 ), is( "clear_all_faults" ) );
+			assertThat( calls.get( 1 ), startsWith( "set_fault[[read]" ) );
+			assertThat( calls.get( 2 ), is( "clear_fault[write]" ) );
+
+			control.clearFault( read );
+			assertThat( calls.get( 3 ), is( "clear_fault[read]" ) );
+		}
+	}
+
+	private CharybdeFSControl connect() throws Exception {
+		return new CharybdeFSControl(
+				"localhost",
+				socket.getServerSocket().getLocalPort(),
+				/*clearFaults = */false
+		);
+	}
+}
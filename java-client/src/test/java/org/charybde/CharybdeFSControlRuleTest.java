@@ -0,0 +1,118 @@
+package org.charybde;
+
+import java.time.Duration;
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import static org.charybde.CharybdeFSControl.Method.*;
+import static org.charybde.CharybdeFSControl.newRule;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public class CharybdeFSControlRuleTest {
+	@Test
+	public void defaultRuleFiresEverywhereForever() {
+		final fault_rule rule = newRule( EnumSet.of( fsync ) ).build();
+
+		assertThat( rule.getMethods(), contains( "fsync" ) );
+		assertThat( rule.getRegexp(), is( "" ) );
+		assertThat( rule.getFilter_type(), is( path_filter_type.REGEXP ) );
+		assertThat( rule.getProbability(), is( 0 ) );
+		assertThat( rule.getTtl_us(), is( 0L ) );
+		assertThat( rule.getMax_injections(), is( 0L ) );
+		assertThat( rule.getOn_us(), is( 0L ) );
+		assertThat( rule.getBytes_per_sec(), is( 0L ) );
+		assertThat( rule.getOps_per_sec(), is( 0L ) );
+	}
+
+	@Test
+	public void optionsAreSetOnTheRule() {
+		final fault_rule rule = newRule( EnumSet.of( read, write ) )
+				.errorNo( 5 )
+				.prefix( "/data/keyspace1/" )
+				.delayUs( 50_000 )
+				.priority( 10 )
+				.stacked()
+				.expireAfter( Duration.ofSeconds( 2 ) )
+				.maxInjections( 100 )
+				.build();
+
+		assertThat( rule.getMethods(), contains( "read", "write" ) );
+		assertThat( rule.getErr_no(), is( 5 ) );
+		assertThat( rule.getFilter_type(), is( path_filter_type.PREFIX ) );
+		assertThat( rule.getRegexp(), is( "/data/keyspace1/" ) );
+		assertThat( rule.getDelay_us(), is( 50_000 ) );
+		assertThat( rule.getPriority(), is( 10 ) );
+		assertThat( rule.isStack(), is( true ) );
+		assertThat( rule.getTtl_us(), is( 2_000_000L ) );
+		assertThat( rule.getMax_injections(), is( 100L ) );
+	}
+
+	@Test
+	public void dutyCycleIsSetInMicroseconds() {
+		final fault_rule rule = newRule( EnumSet.of( fsync ) )
+				.delayUs( 100_000 )
+				.dutyCycle( Duration.ofMillis( 100 ), Duration.ofMillis( 900 ) )
+				.randomPhase()
+				.build();
+
+		assertThat( rule.getOn_us(), is( 100_000L ) );
+		assertThat( rule.getOff_us(), is( 900_000L ) );
+		assertThat( rule.isRandom_phase(), is( true ) );
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void dutyCycleWithoutOffPeriodIsRejected() {
+		newRule( EnumSet.of( fsync ) ).dutyCycle( Duration.ofMillis( 100 ), Duration.ZERO );
+	}
+
+	@Test
+	public void budgetsAreSetOnTheRule() {
+		final fault_rule rule = newRule( EnumSet.of( read, write, fsync ) )
+				.name( "gp3" )
+				.bandwidth( 200L << 20, 0 )
+				.iops( 5_000, 500 )
+				.build();
+
+		assertThat( rule.getName(), is( "gp3" ) );
+		assertThat( rule.getBytes_per_sec(), is( 200L << 20 ) );
+		assertThat( rule.getByte_burst(), is( 0L ) );
+		assertThat( rule.getOps_per_sec(), is( 5_000L ) );
+		assertThat( rule.getOp_burst(), is( 500L ) );
+	}
+
+	@Test
+	public void queueServesWithLatencyDistribution() {
+		final fault_rule rule = newRule( EnumSet.of( read, write ) )
+				.latency( LatencyDistribution.exponential( Duration.ofNanos( 200_000 ) ) )
+				.queueChannels( 4 )
+				.build();
+
+		assertThat( rule.getQueue_channels(), is( 4 ) );
+		assertThat( rule.getLatency().getValue_us(), is( 200L ) );
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void zeroBandwidthIsRejected() {
+		newRule( EnumSet.of( read ) ).bandwidth( 0, 0 );
+	}
+
+	@Test
+	public void builtRulesDoNotShareState() {
+		final CharybdeFSControl.RuleBuilder builder = newRule( EnumSet.of( read ) );
+		final fault_rule first = builder.build();
+		builder.maxInjections( 1 );
+
+		assertThat( first.getMax_injections(), is( 0L ) );
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void subMicrosecondTtlIsRejected() {
+		newRule( EnumSet.of( read ) ).expireAfter( Duration.ofNanos( 999 ) );
+	}
+}
@@ -0,0 +1,55 @@
+package org.charybde;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.charybde.CharybdeFSControl.Method.*;
+import static org.charybde.CharybdeFSControl.newRule;
+import static org.charybde.CharybdeFSControl.timeline;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public class CharybdeFSControlTimelineTest {
+	@Test
+	public void phasesStartOneAfterTheOther() {
+		final fault_rule stall = newRule( EnumSet.of( fsync ) ).delayUs( 200_000 ).build();
+		final fault_rule errors = newRule( EnumSet.of( read ) ).errorNo( 5 ).probability( 1_000 ).build();
+
+		final List<timeline_phase> phases = timeline()
+				.healthy( Duration.ofSeconds( 30 ) )
+				.phase( Duration.ofSeconds( 10 ), stall )
+				.phase( Duration.ofMillis( 5_500 ), errors )
+				.build();
+
+		assertThat( phases, hasSize( 4 ) );
+		assertThat( phases.get( 0 ).getStart_us(), is( 0L ) );
+		assertThat( phases.get( 0 ).getRules(), empty() );
+		assertThat( phases.get( 1 ).getStart_us(), is( 30_000_000L ) );
+		assertThat( phases.get( 1 ).getRules(), contains( stall ) );
+		assertThat( phases.get( 2 ).getStart_us(), is( 40_000_000L ) );
+		assertThat( phases.get( 2 ).getRules(), contains( errors ) );
+	}
+
+	@Test
+	public void timelineEndsHealthy() {
+		final List<timeline_phase> phases = timeline()
+				.phase( Duration.ofSeconds( 2 ), newRule( EnumSet.of( fsync ) ).delayUs( 50_000 ).build() )
+				.build();
+
+		assertThat( phases, hasSize( 2 ) );
+		assertThat( phases.get( 1 ).getStart_us(), is( 2_000_000L ) );
+		assertThat( phases.get( 1 ).getRules(), empty() );
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void emptyPhaseIsRejected() {
+		timeline().healthy( Duration.ZERO );
+	}
+}
@@ -0,0 +1,73 @@
+package org.charybde;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.charybde.CharybdeFSControl.Method.*;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Delays of read replies against a mounted charybdefs: read_buf answers with the backing file
+ * descriptor, a reply the kernel could take by splice, bypassing the deferring reply channel
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public class CharybdeFSDeferredReplyTest {
+	@ClassRule
+	public static final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static final int DELAY_US = 200_000;
+	private static final int FILE_SIZE = 1 << 20;
+
+	private File dataFolder;
+	private File targetDirectory;
+	private CharybdeFSMount charybde;
+
+	@Before
+	public void mountCharybde() throws Exception {
+		dataFolder = temporaryFolder.newFolder();
+		targetDirectory = temporaryFolder.newFolder();
+		charybde = CharybdeFSMountUtils.mount( targetDirectory, dataFolder );
+	}
+
+	@After
+	public void unmountCharybde() throws Exception {
+		if( charybde != null ) {
+			charybde.close();
+		}
+	}
+
+	@Test
+	public void readReplyIsDelayed() throws Exception {
+		//written to the backing directory, so no page of it is cached on the mount
+		Files.write( new File( dataFolder, "data.db" ).toPath(), new byte[FILE_SIZE] );
+
+		try (final CharybdeFSControl control = charybde.control()) {
+			control.setFaults( Collections.singletonList(
+					CharybdeFSControl.newRule( EnumSet.of( read, read_buf ) ).delayUs( DELAY_US ).build()
+			) );
+
+			final byte[] buffer = new byte[FILE_SIZE];
+			try (final RandomAccessFile file = new RandomAccessFile( new File( targetDirectory, "data.db" ), "r" )) {
+				final long startedAt = System.nanoTime();
+				file.readFully( buffer );
+				final long elapsedUs = NANOSECONDS.toMicros( System.nanoTime() - startedAt );
+
+				assertThat( elapsedUs, greaterThanOrEqualTo( (long) DELAY_US ) );
+			}
+
+			control.clearAllFaults();
+			assertThat( control.stats().of( read_buf ).ops() > 0, is( true ) );
+		}
+	}
+}
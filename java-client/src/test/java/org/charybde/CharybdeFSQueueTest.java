@@ -0,0 +1,42 @@
+package org.charybde;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.charybde.CharybdeFSControl.Method.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public class CharybdeFSQueueTest {
+	@Test
+	public void statusIsDecoded() {
+		final queue_status status = new queue_status(
+				"nvme",
+				Arrays.asList( "read", "write", "no_such_method" ),
+				4,
+				4,
+				2,
+				10,
+				new latency_histogram( 0, Arrays.asList( 8L, 2L ), 1L ),
+				new count_histogram( 0, Arrays.asList( 7L, 1L, 2L ), 2L )
+		);
+
+		final CharybdeFSQueue queue = new CharybdeFSQueue( status );
+
+		assertThat( queue.name(), is( "nvme" ) );
+		assertThat( queue.methods(), contains( read, write ) );
+		assertThat( queue.busy(), is( 4 ) );
+		assertThat( queue.waiting(), is( 2 ) );
+		assertThat( queue.ops(), is( 10L ) );
+		assertThat( queue.waitTime().count(), is( 10L ) );
+		assertThat( queue.queueLength().count(), is( 10L ) );
+		assertThat( queue.queueLength().p50(), is( 0L ) );
+		assertThat( queue.queueLength().p99(), is( 2L ) );
+		assertThat( queue.queueLength().max(), is( 2L ) );
+	}
+}
@@ -0,0 +1,173 @@
+package org.charybde;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.charybde.CharybdeFSControl.Method.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Region laid out as shm_region.cc does, with two methods and four rule slots only
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public class CharybdeFSSharedRegionTest {
+	private static final int STATS_OFFSET = 64;
+	private static final int FLAGS_OFFSET = 128;
+	private static final int NAMES_OFFSET = 192;
+	private static final int RULE_FLAGS_OFFSET = 256;
+	private static final int RULE_NAMES_OFFSET = 272;
+	private static final int RULE_SLOTS = 4;
+	private static final int SIZE = 400;
+
+	private Path file;
+
+	@Before
+	public void setUp() throws Exception {
+		file = Files.createTempFile( "charybde", ".region" );
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists( file );
+	}
+
+	@Test
+	public void countersAreReadByMethodName() throws Exception {
+		Files.write( file, region( 0x43484653, 2 ) );
+
+		try (final CharybdeFSSharedRegion region = CharybdeFSSharedRegion.map( file )) {
+			final CharybdeFSSharedRegion.Snapshot snapshot = region.read( new CharybdeFSSharedRegion.Snapshot() );
+
+			assertThat( snapshot.inFlight( fsync ), is( 1L ) );
+			assertThat( snapshot.ops( fsync ), is( 2L ) );
+			assertThat( snapshot.bytes( write ), is( 7L ) );
+			assertThat( snapshot.errors( write ), is( 8L ) );
+			assertThat( "absent from region", snapshot.ops( read ), is( 0L ) );
+			assertThat( snapshot.publishedAtNs(), is( 42L ) );
+		}
+	}
+
+	@Test
+	public void enableFaultsWritesMethodFlag() throws Exception {
+		Files.write( file, region( 0x43484653, 2 ) );
+
+		try (final CharybdeFSSharedRegion region = CharybdeFSSharedRegion.map( file )) {
+			assertThat( region.faultsEnabled( write ), is( true ) );
+			region.enableFaults( write, false );
+			assertThat( region.faultsEnabled( write ), is( false ) );
+			assertThat( region.faultsEnabled( fsync ), is( true ) );
+		}
+
+		final ByteBuffer written = ByteBuffer.wrap( Files.readAllBytes( file ) ).order( ByteOrder.nativeOrder() );
+		assertThat( written.getInt( FLAGS_OFFSET + 4 ), is( 0 ) );
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void methodAbsentFromRegionCanNotBeSwitched() throws Exception {
+		Files.write( file, region( 0x43484653, 2 ) );
+
+		try (final CharybdeFSSharedRegion region = CharybdeFSSharedRegion.map( file )) {
+			region.enableFaults( read, false );
+		}
+	}
+
+	@Test
+	public void enableRuleWritesSlotFlag() throws Exception {
+		Files.write( file, region( 0x43484653, 2 ) );
+
+		try (final CharybdeFSSharedRegion region = CharybdeFSSharedRegion.map( file )) {
+			assertThat( region.ruleEnabled( 1 ), is( true ) );
+			region.enableRule( 1, false );
+			assertThat( region.ruleEnabled( 1 ), is( false ) );
+			assertThat( region.ruleEnabled( 2 ), is( true ) );
+		}
+
+		final ByteBuffer written = ByteBuffer.wrap( Files.readAllBytes( file ) ).order( ByteOrder.nativeOrder() );
+		assertThat( written.getInt( RULE_FLAGS_OFFSET + 4 ), is( 0 ) );
+		assertThat( written.getInt( RULE_FLAGS_OFFSET + 8 ), is( 1 ) );
+	}
+
+	@Test
+	public void ruleIsSwitchedByName() throws Exception {
+		Files.write( file, region( 0x43484653, 2 ) );
+
+		try (final CharybdeFSSharedRegion region = CharybdeFSSharedRegion.map( file )) {
+			assertThat( region.ruleSlot( "fsync-eio" ), is( 2 ) );
+			region.enableRule( "fsync-eio", false );
+			assertThat( region.ruleEnabled( 2 ), is( false ) );
+			assertThat( region.ruleEnabled( 1 ), is( true ) );
+		}
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void unnamedRuleCanNotBeSwitchedByName() throws Exception {
+		Files.write( file, region( 0x43484653, 2 ) );
+
+		try (final CharybdeFSSharedRegion region = CharybdeFSSharedRegion.map( file )) {
+			region.enableRule( "write-delay", false );
+		}
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void slotOutOfRegionIsRejected() throws Exception {
+		Files.write( file, region( 0x43484653, 2 ) );
+
+		try (final CharybdeFSSharedRegion region = CharybdeFSSharedRegion.map( file )) {
+			region.enableRule( RULE_SLOTS, false );
+		}
+	}
+
+	@Test( expected = IOException.class )
+	public void uninitializedRegionIsRejected() throws Exception {
+		Files.write( file, region( 0, 2 ) );
+		CharybdeFSSharedRegion.map( file );
+	}
+
+	@Test( expected = IOException.class )
+	public void otherVersionIsRejected() throws Exception {
+		Files.write( file, region( 0x43484653, 3 ) );
+		CharybdeFSSharedRegion.map( file );
+	}
+
+	/** fsync and write counters, both enabled, all rule slots enabled and slot 2 named fsync-eio */
+	private static byte[] region( final int magic,
+	                              final int version ) {
+		final ByteBuffer buffer = ByteBuffer.allocate( SIZE ).order( ByteOrder.nativeOrder() );
+		buffer.putInt( 0, magic );
+		buffer.putInt( 4, version );
+		buffer.putInt( 8, 2 );
+		buffer.putInt( 12, STATS_OFFSET );
+		buffer.putInt( 16, FLAGS_OFFSET );
+		buffer.putInt( 20, NAMES_OFFSET );
+		buffer.putInt( 24, SIZE );
+		buffer.putInt( 28, RULE_FLAGS_OFFSET );
+		buffer.putLong( 32, 2 );
+		buffer.putLong( 40, 42 );
+		buffer.putInt( 48, RULE_SLOTS );
+		buffer.putInt( 52, RULE_NAMES_OFFSET );
+
+		for( int i = 0; i < 8; i++ ) {
+			buffer.putLong( STATS_OFFSET + i * 8, i + 1 );
+		}
+		buffer.putInt( FLAGS_OFFSET, 1 );
+		buffer.putInt( FLAGS_OFFSET + 4, 1 );
+		buffer.put( NAMES_OFFSET, "fsync".getBytes( StandardCharsets.US_ASCII ) );
+		buffer.put( NAMES_OFFSET + 16, "write".getBytes( StandardCharsets.US_ASCII ) );
+		for( int slot = 0; slot < RULE_SLOTS; slot++ ) {
+			buffer.putInt( RULE_FLAGS_OFFSET + slot * 4, 1 );
+		}
+		buffer.put( RULE_NAMES_OFFSET + 2 * 32, "fsync-eio".getBytes( StandardCharsets.UTF_8 ) );
+		return buffer.array();
+	}
+}
@@ -0,0 +1,77 @@
+package org.charybde;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.charybde.CharybdeFSControl.Method.fsync;
+
+/**
+ * Round trip of set_fault over TCP loopback vs unix domain socket. Needs a running
+ * charybdefs started with control_socket option, e.g.
+ * <pre>
+ * charybdefs /mnt/bench -omodules=subdir,subdir=/tmp/bench,control_socket=/tmp/charybde.sock
+ * </pre>
+ * Port and socket path are taken from charybde.port and charybde.socket properties.
+ * The fault set never fires, its regexp matches no path.
+ *
+ * @author ruslan
+ *         created 17/10/2026
+ */
+@BenchmarkMode( Mode.SampleTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class ControlRoundTripBenchmark {
+	private static final int PORT = Integer.getInteger( "charybde.port", 9090 );
+	private static final String SOCKET = System.getProperty( "charybde.socket", "/tmp/charybde.sock" );
+
+	@Param( { "tcp", "uds" } )
+	public String transport;
+
+	private CharybdeFSControl control;
+
+	@Setup
+	public void connect() throws Exception {
+		if( "tcp".equals( transport ) ) {
+			control = new CharybdeFSControl( "localhost", PORT, /*clearFaults = */false );
+		} else {
+			control = new CharybdeFSControl( Path.of( SOCKET ), /*clearFaults = */false );
+		}
+	}
+
+	@TearDown
+	public void close() throws Exception {
+		control.clearFault( fsync );
+		control.close();
+	}
+
+	@Benchmark
+	public void setFault() throws Exception {
+		control.setFault(
+				EnumSet.of( fsync ),
+				/*errorNo = */          5,
+				/*random = */           false,
+				/*probability/100_000*/ 100000,
+				/*fileNameRegExp = */   "^no such path$",
+				/*killCaller = */       false,
+				/*delayUs = */          0
+		);
+	}
+
+	public static void main( final String[] args ) throws RunnerException {
+		new Runner(
+				new OptionsBuilder()
+						.include( ControlRoundTripBenchmark.class.getSimpleName() )
+						.jvmArgsAppend( "-Dcharybde.port=" + PORT, "-Dcharybde.socket=" + SOCKET )
+						.build()
+		).run();
+	}
+}
@@ -0,0 +1,66 @@
+package org.charybde;
+
+import java.time.Duration;
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.charybde.CharybdeFSControl.Method.*;
+import static org.charybde.CharybdeFSControl.newRule;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public class LatencyDistributionTest {
+	@Test
+	public void ruleCarriesDistributionInMicroseconds() {
+		final fault_rule rule = newRule( EnumSet.of( read ) )
+				.latency( LatencyDistribution.logNormal( ofMillis( 2 ), 0.5 ) )
+				.build();
+
+		assertThat( rule.isSetLatency(), is( true ) );
+		assertThat( rule.getLatency().getType(), is( latency_distribution_type.LOG_NORMAL ) );
+		assertThat( rule.getLatency().getValue_us(), is( 2_000L ) );
+		assertThat( rule.getLatency().getShape(), is( 0.5 ) );
+	}
+
+	@Test
+	public void ruleWithoutDistributionUsesDelayUs() {
+		assertThat( newRule( EnumSet.of( read ) ).delayUs( 100 ).build().isSetLatency(), is( false ) );
+	}
+
+	@Test
+	public void bimodalHasFastAndSlowPaths() {
+		final latency_distribution bimodal = LatencyDistribution.bimodal( Duration.ofNanos( 200_000 ), ofMillis( 50 ), 100 ).toThrift();
+
+		assertThat( bimodal.getType(), is( latency_distribution_type.BIMODAL ) );
+		assertThat( bimodal.getValue_us(), is( 200L ) );
+		assertThat( bimodal.getSlow_us(), is( 50_000L ) );
+		assertThat( bimodal.getSlow_probability(), is( 100 ) );
+	}
+
+	@Test
+	public void cappingLeavesOriginalUnchanged() {
+		final LatencyDistribution pareto = LatencyDistribution.pareto( ofMillis( 1 ), 1.5 );
+		final LatencyDistribution capped = pareto.cappedAt( ofSeconds( 1 ) );
+
+		assertThat( capped.toThrift().getMax_us(), is( 1_000_000L ) );
+		assertThat( capped.toThrift().getMin_us(), is( 1_000L ) );
+		assertThat( pareto.toThrift().getMax_us(), is( 0L ) );
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void uniformBoundsMustBeOrdered() {
+		LatencyDistribution.uniform( ofMillis( 2 ), ofMillis( 1 ) );
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void paretoNeedsPositiveTailIndex() {
+		LatencyDistribution.pareto( ofMillis( 1 ), 0 );
+	}
+}
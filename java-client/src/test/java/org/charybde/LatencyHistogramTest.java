@@ -0,0 +1,74 @@
+package org.charybde;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void bucketsAreContiguous() throws Exception {
+		for( int bucket = 1; bucket < LatencyHistogram.BUCKETS - 1; bucket++ ) {
+			assertThat( LatencyHistogram.lowestValue( bucket ),
+			            is( LatencyHistogram.highestValue( bucket - 1 ) + 1 )
+			);
+		}
+	}
+
+	@Test
+	public void bucketsAreNarrowerThanSixteenthOfValue() throws Exception {
+		for( int bucket = 16; bucket < LatencyHistogram.BUCKETS - 1; bucket++ ) {
+			final long low = LatencyHistogram.lowestValue( bucket );
+			final long width = LatencyHistogram.highestValue( bucket ) - low + 1;
+			assertThat( width * 16, lessThanOrEqualTo( low ) );
+		}
+	}
+
+	@Test
+	public void percentilesAreReportedAsBucketHighestValue() throws Exception {
+		//bucket 16 = [16,16], 32 = [32,33], 48 = [64,67]: 90 values of 16, 9 of 33, 1 of 67
+		final long[] counts = new long[33];
+		counts[0] = 90;
+		counts[16] = 9;
+		counts[32] = 1;
+		final LatencyHistogram histogram = new LatencyHistogram( 16, counts, 67 );
+
+		assertThat( histogram.count(), is( 100L ) );
+		assertThat( histogram.p50Ns(), is( 16L ) );
+		assertThat( histogram.valueAtPercentileNs( 95 ), is( 33L ) );
+		assertThat( histogram.p99Ns(), is( 33L ) );
+		assertThat( histogram.p999Ns(), is( 67L ) );
+		assertThat( histogram.maxNs(), is( 67L ) );
+	}
+
+	@Test
+	public void percentileNeverExceedsMax() throws Exception {
+		//bucket 48 = [64,67], but only 65 was recorded
+		final LatencyHistogram histogram = new LatencyHistogram( 48, new long[]{ 1 }, 65 );
+		assertThat( histogram.p50Ns(), is( 65L ) );
+	}
+
+	@Test
+	public void emptyHistogramReportsZero() throws Exception {
+		assertThat( LatencyHistogram.EMPTY.count(), is( 0L ) );
+		assertThat( LatencyHistogram.EMPTY.p99Ns(), is( 0L ) );
+	}
+
+	@Test
+	public void mergeSumsOverlappingBuckets() throws Exception {
+		final LatencyHistogram a = new LatencyHistogram( 10, new long[]{ 1, 2 }, 11 );
+		final LatencyHistogram b = new LatencyHistogram( 11, new long[]{ 3, 4 }, 12 );
+		final LatencyHistogram merged = a.merge( b );
+
+		assertThat( merged.count(), is( 10L ) );
+		assertThat( merged.maxNs(), is( 12L ) );
+		assertThat( merged.valueAtPercentileNs( 10 ), is( 10L ) );
+		assertThat( merged.valueAtPercentileNs( 60 ), is( 11L ) );
+		assertThat( merged.valueAtPercentileNs( 61 ), is( 12L ) );
+	}
+}
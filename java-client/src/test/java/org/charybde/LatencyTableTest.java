@@ -0,0 +1,99 @@
+package org.charybde;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author ruslan
+ *         created 17/10/2026
+ */
+public class LatencyTableTest {
+	@Test
+	public void bucketValuesAreSpreadUniformly() {
+		final LatencyTable table = LatencyTable.fromHistogram( new long[] { 100, 1_000 }, new long[] { 3, 1 }, 8 );
+
+		// 3/4 of values in (0, 100], 1/4 in (100, 1000]
+		assertThat( table.points(), is( 8 ) );
+		assertThat( table.quantileUs( 0 ), is( 8 ) );
+		assertThat( table.quantileUs( 5 ), is( 92 ) );
+		assertThat( table.quantileUs( 6 ), is( 325 ) );
+		assertThat( table.quantileUs( 7 ), is( 775 ) );
+	}
+
+	@Test
+	public void histogramFileSkipsComments() throws Exception {
+		final Path file = Files.createTempFile( "histogram", ".txt" );
+		try {
+			Files.write( file, Arrays.asList( "# upper_us count", "", "100, 3", "1000\t1" ) );
+
+			final LatencyTable table = LatencyTable.fromHistogramFile( file, 8 );
+
+			assertThat( table.quantileUs( 7 ), is( 775 ) );
+		} finally {
+			Files.delete( file );
+		}
+	}
+
+	@Test
+	public void percentileDistributionIsReadInValueUnit() throws Exception {
+		final Path file = Files.createTempFile( "latency", ".hgrm" );
+		try {
+			Files.write( file, Arrays.asList(
+					"       Value     Percentile TotalCount 1/(1-Percentile)",
+					"",
+					"       1.000 0.000000000000          1           1.00",
+					"       2.000 0.500000000000         50           2.00",
+					"      10.000 1.000000000000        100",
+					"#[Mean    =        3.000, StdDeviation   =        2.000]",
+					"#[Max     =       10.000, Total count    =          100]"
+			) );
+
+			final LatencyTable table = LatencyTable.fromPercentileDistribution( file, TimeUnit.MILLISECONDS, 4 );
+
+			assertThat( table.quantileUs( 0 ), is( 1_250 ) );
+			assertThat( table.quantileUs( 1 ), is( 1_750 ) );
+			assertThat( table.quantileUs( 2 ), is( 4_000 ) );
+			assertThat( table.quantileUs( 3 ), is( 8_000 ) );
+		} finally {
+			Files.delete( file );
+		}
+	}
+
+	@Test
+	public void recordedHistogramIsReplayed() {
+		// 16 values in the bucket of 1000ns, one in the bucket of 1ms
+		final long[] counts = new long[LatencyHistogram.BUCKETS];
+		counts[bucketOf( 1_000 )] = 16;
+		counts[bucketOf( 1_000_000 )] = 1;
+		final LatencyTable table = LatencyTable.fromHistogram( new LatencyHistogram( 0, counts, 1_000_000 ), 17 );
+
+		assertThat( table.quantileUs( 0 ), is( 1 ) );
+		assertThat( table.quantileUs( 16 ), is( 1_000 ) );
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void emptyHistogramIsRejected() {
+		LatencyTable.fromHistogram( new long[] { 100 }, new long[] { 0 }, 8 );
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void decreasingBoundsAreRejected() {
+		LatencyTable.fromHistogram( new long[] { 100, 50 }, new long[] { 1, 1 }, 8 );
+	}
+
+	private static int bucketOf( final long ns ) {
+		for( int bucket = 0; bucket < LatencyHistogram.BUCKETS; bucket++ ) {
+			if( LatencyHistogram.highestValue( bucket ) >= ns ) {
+				return bucket;
+			}
+		}
+		throw new AssertionError( ns );
+	}
+}
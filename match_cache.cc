@@ -0,0 +1,122 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "match_cache.hh"
+#include "rcu.hh"
+
+match_cache::match_cache(const std::string &pattern, size_t capacity)
+    : regexp(pattern), set_mask(0)
+{
+    if (!capacity) {
+        return;
+    }
+
+    size_t sets = 1;
+    while (sets * WAYS < capacity) {
+        sets *= 2;
+    }
+    set_mask = sets - 1;
+
+    slots.reset(new slot[sets * WAYS]);
+    for (size_t i = 0; i < sets * WAYS; i++) {
+        slots[i].cached.store(nullptr);
+        slots[i].referenced.store(false);
+    }
+    hands.resize(sets);
+}
+
+match_cache::~match_cache()
+{
+    // no reader is left once the rule owning the cache is freed
+    if (slots) {
+        for (size_t i = 0; i < (set_mask + 1) * WAYS; i++) {
+            delete slots[i].cached.load();
+        }
+    }
+    for (auto &r: retired) {
+        delete r.cached;
+    }
+}
+
+bool match_cache::match(path_view path)
+{
+    if (!slots) {
+        return std::regex_match(path.begin(), path.end(), regexp);
+    }
+
+    uint64_t hash = path.hash();
+    slot *set = &slots[(hash & set_mask) * WAYS];
+
+    for (size_t way = 0; way < WAYS; way++) {
+        const entry *e = set[way].cached.load(std::memory_order_acquire);
+        if (e && e->hash == hash && path.equals(e->path)) {
+            // skip the store when already set, keeps the line shared
+            if (!set[way].referenced.load(std::memory_order_relaxed)) {
+                set[way].referenced.store(true, std::memory_order_relaxed);
+            }
+            return e->matched;
+        }
+    }
+
+    // evaluate outside of the lock, the regex is immutable
+    bool matched = std::regex_match(path.begin(), path.end(), regexp);
+    insert(hash, path, matched);
+
+    return matched;
+}
+
+void match_cache::insert(uint64_t hash, path_view path, bool matched)
+{
+    size_t set_index = hash & set_mask;
+    slot *set = &slots[set_index * WAYS];
+
+    std::lock_guard<std::mutex> lk(insert_mutex);
+
+    // a colliding path, or one inserted meanwhile by another thread,
+    // replaces the entry with the same hash
+    size_t victim = WAYS;
+    for (size_t way = 0; way < WAYS; way++) {
+        const entry *e = set[way].cached.load(std::memory_order_relaxed);
+        if (!e || e->hash == hash) {
+            victim = way;
+            break;
+        }
+    }
+
+    // CLOCK: give referenced slots a second chance, ends within two turns
+    uint8_t &hand = hands[set_index];
+    while (victim == WAYS) {
+        if (!set[hand].referenced.exchange(false, std::memory_order_relaxed)) {
+            victim = hand;
+        }
+        hand = (hand + 1) % WAYS;
+    }
+
+    const entry *old = set[victim].cached.exchange(
+        new entry{hash, path.str(), matched}, std::memory_order_acq_rel);
+    set[victim].referenced.store(false, std::memory_order_relaxed);
+
+    if (old) {
+        retired.push_back(retired_entry{old, rcu_start_grace()});
+    }
+
+    // free the entries no reader can see anymore
+    for (size_t i = 0; i < retired.size();) {
+        if (rcu_grace_elapsed(retired[i].cookie)) {
+            delete retired[i].cached;
+            retired[i] = retired.back();
+            retired.pop_back();
+        } else {
+            i++;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef MATCH_CACHE_HH
+#define MATCH_CACHE_HH
+
+#include <atomic>
+#include <memory>
+#include <mutex>
+#include <regex>
+#include <string>
+#include <vector>
+
+#include <cstdint>
+
+#include "path_view.hh"
+
+// Compiled filename regexp with a bounded cache of match results keyed by
+// path.  Databases hit the same few files over and over so most lookups
+// skip the regex evaluation.
+//
+// The cache is set associative, a path hashes to a set of WAYS slots each
+// holding an immutable entry.  A hit only loads the slots and sets the
+// slot reference bit, it takes no lock.  A miss inserts under the lock and
+// evicts with CLOCK: the hand skips, and clears, referenced slots.  An
+// evicted entry is freed once the readers which may still see it left
+// their read side section.
+class match_cache {
+public:
+    // throw std::regex_error if the pattern is invalid
+    match_cache(const std::string &pattern, size_t capacity);
+    ~match_cache();
+
+    match_cache(const match_cache &) = delete;
+    match_cache &operator=(const match_cache &) = delete;
+
+    // return true if path matches the regexp, must be called from inside a
+    // read side section (rcu.hh), does not lock nor allocate on a hit
+    bool match(path_view path);
+
+private:
+    static const size_t WAYS = 4;
+
+    struct entry {
+        uint64_t hash;
+        std::string path;
+        bool matched;
+    };
+
+    struct slot {
+        std::atomic<const entry *> cached;  // null when empty
+        std::atomic<bool> referenced;       // hit since the hand last passed
+    };
+
+    struct retired_entry {
+        const entry *cached;
+        uint64_t cookie;    // rcu_start_grace() when it was unpublished
+    };
+
+    void insert(uint64_t hash, path_view path, bool matched);
+
+    const std::regex regexp;
+    size_t set_mask;                // sets - 1, sets is a power of two
+    std::unique_ptr<slot[]> slots;  // null when the capacity is 0
+
+    // serialize inserts, hits never take it
+    std::mutex insert_mutex;
+    std::vector<uint8_t> hands;     // CLOCK hand of every set
+    std::vector<retired_entry> retired;
+};
+
+#endif
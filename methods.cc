@@ -0,0 +1,76 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "methods.hh"
+
+#include <unordered_map>
+
+const char *const method_names[METHOD_COUNT] = {
+    "getattr",
+    "readlink",
+    "mknod",
+    "mkdir",
+    "unlink",
+    "rmdir",
+    "symlink",
+    "rename",
+    "link",
+    "chmod",
+    "chown",
+    "truncate",
+    "open",
+    "read",
+    "write",
+    "statfs",
+    "flush",
+    "release",
+    "fsync",
+    "setxattr",
+    "getxattr",
+    "listxattr",
+    "removexattr",
+    "opendir",
+    "readdir",
+    "releasedir",
+    "fsyncdir",
+    "access",
+    "create",
+    "ftruncate",
+    "fgetattr",
+    "lock",
+    "bmap",
+    "ioctl",
+    "poll",
+    "write_buf",
+    "read_buf",
+    "flock",
+    "fallocate",
+};
+
+method_id method_by_name(const std::string &name)
+{
+    // built once, read only afterwards
+    static const std::unordered_map<std::string, method_id> ids = [] {
+        std::unordered_map<std::string, method_id> m;
+        for (int i = 0; i < METHOD_COUNT; i++) {
+            m[method_names[i]] = (method_id) i;
+        }
+        return m;
+    }();
+
+    auto it = ids.find(name);
+    if (it == ids.end()) {
+        return METHOD_COUNT;
+    }
+
+    return it->second;
+}
@@ -0,0 +1,69 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef METHODS_HH
+#define METHODS_HH
+
+#include <string>
+
+// Dense identifiers of the FUSE methods faults can be injected into.
+// They index the fault table so keep METHOD_COUNT last.
+enum method_id {
+    METHOD_GETATTR,
+    METHOD_READLINK,
+    METHOD_MKNOD,
+    METHOD_MKDIR,
+    METHOD_UNLINK,
+    METHOD_RMDIR,
+    METHOD_SYMLINK,
+    METHOD_RENAME,
+    METHOD_LINK,
+    METHOD_CHMOD,
+    METHOD_CHOWN,
+    METHOD_TRUNCATE,
+    METHOD_OPEN,
+    METHOD_READ,
+    METHOD_WRITE,
+    METHOD_STATFS,
+    METHOD_FLUSH,
+    METHOD_RELEASE,
+    METHOD_FSYNC,
+    METHOD_SETXATTR,
+    METHOD_GETXATTR,
+    METHOD_LISTXATTR,
+    METHOD_REMOVEXATTR,
+    METHOD_OPENDIR,
+    METHOD_READDIR,
+    METHOD_RELEASEDIR,
+    METHOD_FSYNCDIR,
+    METHOD_ACCESS,
+    METHOD_CREATE,
+    METHOD_FTRUNCATE,
+    METHOD_FGETATTR,
+    METHOD_LOCK,
+    METHOD_BMAP,
+    METHOD_IOCTL,
+    METHOD_POLL,
+    METHOD_WRITE_BUF,
+    METHOD_READ_BUF,
+    METHOD_FLOCK,
+    METHOD_FALLOCATE,
+    METHOD_COUNT
+};
+
+// method names as exposed through the thrift interface
+extern const char *const method_names[METHOD_COUNT];
+
+// return METHOD_COUNT if the name is not a valid method
+method_id method_by_name(const std::string &name);
+
+#endif
@@ -0,0 +1,110 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "path_index.hh"
+
+#include <algorithm>
+
+#include <fnmatch.h>
+
+// return the node of the last byte of key
+uint32_t path_index::trie::insert(const std::string &key)
+{
+    uint32_t current = 0;
+
+    for (unsigned char c: key) {
+        auto &children = nodes[current].children;
+        auto it = std::lower_bound(children.begin(), children.end(),
+                                   std::make_pair(c, (uint32_t) 0));
+        if (it != children.end() && it->first == c) {
+            current = it->second;
+            continue;
+        }
+
+        uint32_t next = nodes.size();
+        children.insert(it, std::make_pair(c, next));
+        // children is invalid once nodes grows
+        nodes.emplace_back();
+        current = next;
+    }
+
+    return current;
+}
+
+const path_index::node *path_index::trie::child(const node &n, unsigned char c) const
+{
+    auto it = std::lower_bound(n.children.begin(), n.children.end(),
+                               std::make_pair(c, (uint32_t) 0));
+    if (it == n.children.end() || it->first != c) {
+        return nullptr;
+    }
+    return &nodes[it->second];
+}
+
+void path_index::add(uint32_t position, filter_type type, const std::string &pattern)
+{
+    switch (type) {
+    case FILTER_PREFIX:
+        forward.nodes[forward.insert(pattern)].rules.push_back(position);
+        break;
+
+    case FILTER_SUFFIX:
+        backward.nodes[backward.insert(std::string(pattern.rbegin(), pattern.rend()))]
+            .rules.push_back(position);
+        break;
+
+    case FILTER_GLOB: {
+        // the head before the first special character must match literally
+        size_t head = pattern.find_first_of("*?[\\");
+        uint32_t index = glob_patterns.size();
+        glob_patterns.push_back(std::make_pair(position, pattern));
+        forward.nodes[forward.insert(pattern.substr(0, head))].globs.push_back(index);
+        break;
+    }
+
+    case FILTER_REGEXP:
+        break;
+    }
+}
+
+void path_index::match(path_view path, std::vector<uint32_t> &matched) const
+{
+    size_t first = matched.size();
+
+    if (!empty()) {
+        // fnmatch() needs a terminated string, FUSE paths and
+        // std::string data are
+        const char *cpath = path.begin();
+
+        const node *n = &forward.nodes[0];
+        const char *p = path.begin();
+        while (n) {
+            matched.insert(matched.end(), n->rules.begin(), n->rules.end());
+            for (auto index: n->globs) {
+                auto &glob = glob_patterns[index];
+                if (!fnmatch(glob.second.c_str(), cpath, 0)) {
+                    matched.push_back(glob.first);
+                }
+            }
+            n = p != path.end() ? forward.child(*n, *p++) : nullptr;
+        }
+
+        n = &backward.nodes[0];
+        p = path.end();
+        while (n) {
+            matched.insert(matched.end(), n->rules.begin(), n->rules.end());
+            n = p != path.begin() ? backward.child(*n, *--p) : nullptr;
+        }
+    }
+
+    std::sort(matched.begin() + first, matched.end());
+}
@@ -0,0 +1,69 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef PATH_INDEX_HH
+#define PATH_INDEX_HH
+
+#include <string>
+#include <utility>
+#include <vector>
+
+#include <cstdint>
+
+#include "path_view.hh"
+
+// how the pattern of a rule matches the path
+enum filter_type {
+    FILTER_REGEXP,      // std::regex matching the whole path
+    FILTER_PREFIX,
+    FILTER_SUFFIX,
+    FILTER_GLOB,        // fnmatch(3) without flags, * and ? match '/' too
+};
+
+// Index of the prefix, suffix and glob filters of a rule list.
+//
+// Prefixes and the literal head of globs go into a trie walked from the
+// start of the path, suffixes into a trie walked from its end.  A lookup is
+// one walk each way over the path plus a fnmatch() per glob whose head
+// matched, whatever the number of rules.  Rules are known by their position
+// in the list.
+class path_index {
+public:
+    void add(uint32_t position, filter_type type, const std::string &pattern);
+
+    bool empty() const { return forward.size() == 1 && backward.size() == 1; }
+
+    // append the positions of the rules matching path in increasing order,
+    // does not allocate once matched has grown
+    void match(path_view path, std::vector<uint32_t> &matched) const;
+
+private:
+    struct node {
+        std::vector<std::pair<unsigned char, uint32_t>> children;  // sorted by byte
+        std::vector<uint32_t> rules;    // whole pattern read
+        std::vector<uint32_t> globs;    // glob head read, index in glob_patterns
+    };
+
+    struct trie {
+        std::vector<node> nodes = std::vector<node>(1);    // root first
+
+        size_t size() const { return nodes.size(); }
+        uint32_t insert(const std::string &key);
+        const node *child(const node &n, unsigned char c) const;
+    };
+
+    trie forward;
+    trie backward;
+    std::vector<std::pair<uint32_t, std::string>> glob_patterns;   // position, pattern
+};
+
+#endif
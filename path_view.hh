@@ -0,0 +1,54 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef PATH_VIEW_HH
+#define PATH_VIEW_HH
+
+#include <string>
+
+#include <cstddef>
+#include <cstdint>
+#include <cstring>
+
+// Non owning view of a path handed over by FUSE, valid for the duration
+// of the call.  Lets the injection path look at paths without copying
+// them into std::string.
+struct path_view {
+    const char *data;
+    size_t size;
+
+    path_view(const char *path) : data(path), size(strlen(path)) {}
+    path_view(const std::string &path) : data(path.data()), size(path.size()) {}
+
+    const char *begin() const { return data; }
+    const char *end() const { return data + size; }
+
+    bool equals(const std::string &other) const
+    {
+        return other.size() == size && !memcmp(other.data(), data, size);
+    }
+
+    std::string str() const { return std::string(data, size); }
+
+    // FNV-1a
+    uint64_t hash() const
+    {
+        uint64_t h = 14695981039346656037ULL;
+        for (size_t i = 0; i < size; i++) {
+            h ^= (unsigned char) data[i];
+            h *= 1099511628211ULL;
+        }
+        return h;
+    }
+};
+
+#endif
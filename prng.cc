@@ -0,0 +1,95 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "prng.hh"
+
+#include <random>
+
+#include <cerrno>
+
+static uint64_t splitmix64(uint64_t &x)
+{
+    uint64_t z = (x += 0x9e3779b97f4a7c15ULL);
+    z = (z ^ (z >> 30)) * 0xbf58476d1ce4e5b9ULL;
+    z = (z ^ (z >> 27)) * 0x94d049bb133111ebULL;
+    return z ^ (z >> 31);
+}
+
+static inline uint64_t rotl(uint64_t x, int k)
+{
+    return (x << k) | (x >> (64 - k));
+}
+
+xoshiro256::xoshiro256(uint64_t seed)
+{
+    for (int i = 0; i < 4; i++) {
+        s[i] = splitmix64(seed);
+    }
+}
+
+uint64_t xoshiro256::next()
+{
+    uint64_t result = rotl(s[1] * 5, 7) * 9;
+    uint64_t t = s[1] << 17;
+
+    s[2] ^= s[0];
+    s[3] ^= s[1];
+    s[1] ^= s[2];
+    s[0] ^= s[3];
+    s[2] ^= t;
+    s[3] = rotl(s[3], 45);
+
+    return result;
+}
+
+uint32_t xoshiro256::below(uint32_t bound)
+{
+    // Lemire's multiply and shift, the bias is below 2^-32
+    return (uint32_t) (((next() >> 32) * bound) >> 32);
+}
+
+static uint64_t random_seed()
+{
+    std::random_device rd;
+    return ((uint64_t) rd() << 32) | rd();
+}
+
+xoshiro256 &thread_prng()
+{
+    static thread_local xoshiro256 prng(random_seed());
+    return prng;
+}
+
+xoshiro256 prng_stream::next()
+{
+    uint64_t n = ordinal.fetch_add(1, std::memory_order_relaxed);
+    return xoshiro256(key ^ (n * 0x9e3779b97f4a7c15ULL));
+}
+
+int random_err_no(xoshiro256 &prng)
+{
+    return E2BIG + prng.below(EXFULL - E2BIG + 1);
+}
+
+bool get_lucky(xoshiro256 &prng, int probability)
+{
+    if (!probability) {
+        return false;
+    }
+
+    // probability is expressed in 1/100000
+    if ((int) prng.below(100000) + 1 > probability) {
+        return true;
+    }
+
+    return false;
+}
@@ -0,0 +1,54 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef PRNG_HH
+#define PRNG_HH
+
+#include <atomic>
+
+#include <cstdint>
+
+// xoshiro256** generator, not suitable for cryptography
+struct xoshiro256 {
+    uint64_t s[4];
+
+    // expand a 64 bits seed with splitmix64
+    explicit xoshiro256(uint64_t seed);
+
+    uint64_t next();
+
+    // uniform in [0, bound)
+    uint32_t below(uint32_t bound);
+};
+
+// Generator of the calling thread, seeded once from std::random_device
+// the first time the thread uses it.
+xoshiro256 &thread_prng();
+
+// Reproducible sequence of generators: the n-th call of next() returns a
+// generator depending only on the key and n, whichever thread calls it.
+struct prng_stream {
+    const uint64_t key;
+    std::atomic<uint64_t> ordinal;
+
+    explicit prng_stream(uint64_t key) : key(key), ordinal(0) {}
+
+    xoshiro256 next();
+};
+
+// return a random err_no
+int random_err_no(xoshiro256 &prng);
+
+// return true if random number is not in the probability
+bool get_lucky(xoshiro256 &prng, int probability);
+
+#endif
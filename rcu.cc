@@ -0,0 +1,118 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "rcu.hh"
+
+#include <atomic>
+#include <cstdint>
+#include <thread>
+
+struct rcu_slot {
+    std::atomic<uint64_t> epoch;    // 0 when the owner is not reading
+    std::atomic<bool> used;         // owned by a live thread
+    rcu_slot *next;
+    char pad[64 - sizeof(std::atomic<uint64_t>) - sizeof(std::atomic<bool>) - sizeof(rcu_slot *)];
+};
+
+static std::atomic<uint64_t> global_epoch(1);
+
+// slots are never freed, a thread exiting gives its slot back for reuse
+static std::atomic<rcu_slot *> slots(nullptr);
+
+static rcu_slot *acquire_slot()
+{
+    for (rcu_slot *s = slots.load(); s; s = s->next) {
+        bool expected = false;
+        if (!s->used.load() && s->used.compare_exchange_strong(expected, true)) {
+            return s;
+        }
+    }
+
+    rcu_slot *s = new rcu_slot();
+    s->epoch.store(0);
+    s->used.store(true);
+    s->next = slots.load();
+    while (!slots.compare_exchange_weak(s->next, s)) {
+    }
+    return s;
+}
+
+struct rcu_thread_slot {
+    rcu_slot *slot;
+
+    rcu_thread_slot() : slot(acquire_slot()) {}
+    ~rcu_thread_slot()
+    {
+        slot->epoch.store(0);
+        slot->used.store(false);
+    }
+};
+
+static rcu_slot *this_thread_slot()
+{
+    static thread_local rcu_thread_slot holder;
+    return holder.slot;
+}
+
+void rcu_read_lock()
+{
+    this_thread_slot()->epoch.store(global_epoch.load());
+
+    // Store then load on both sides: the reader stores its epoch then loads
+    // the snapshot pointer, the writer swaps the pointer then loads the
+    // epochs.  Both sides need a seq_cst fence, or seq_cst operations, in
+    // between, a seq_cst store followed by an acquire load may still be
+    // reordered and the writer would free the snapshot being read.  The
+    // writer's fence is in rcu_start_grace().
+    std::atomic_thread_fence(std::memory_order_seq_cst);
+}
+
+void rcu_read_unlock()
+{
+    this_thread_slot()->epoch.store(0, std::memory_order_release);
+}
+
+void rcu_synchronize()
+{
+    uint64_t target = rcu_start_grace();
+
+    // readers which entered before the epoch moved may still see the
+    // previous snapshot, wait for them to leave
+    for (rcu_slot *s = slots.load(); s; s = s->next) {
+        while (true) {
+            uint64_t epoch = s->epoch.load();
+            if (!epoch || epoch >= target) {
+                break;
+            }
+            std::this_thread::yield();
+        }
+    }
+}
+
+uint64_t rcu_start_grace()
+{
+    // pairs with the fence of rcu_read_lock(), whatever the order of the
+    // store unpublishing the object
+    std::atomic_thread_fence(std::memory_order_seq_cst);
+    return global_epoch.fetch_add(1) + 1;
+}
+
+bool rcu_grace_elapsed(uint64_t cookie)
+{
+    for (rcu_slot *s = slots.load(); s; s = s->next) {
+        uint64_t epoch = s->epoch.load();
+        if (epoch && epoch < cookie) {
+            return false;
+        }
+    }
+    return true;
+}
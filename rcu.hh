@@ -0,0 +1,48 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef RCU_HH
+#define RCU_HH
+
+#include <cstdint>
+
+// Epoch based protection of read mostly snapshots.
+//
+// A reader announces the epoch it entered in a slot owned by its thread,
+// it never takes a lock nor writes shared cache lines.  A writer publishes
+// the new snapshot, calls rcu_synchronize() which waits for every reader
+// that may still hold the previous one, then frees it.
+//
+// Read side sections must be short and must not nest.
+
+void rcu_read_lock();
+void rcu_read_unlock();
+
+// must not be called from inside a read side section
+void rcu_synchronize();
+
+// Polled grace period for writers which cannot wait, e.g. from inside a
+// read side section: unpublish the object, take a cookie, free the object
+// once rcu_grace_elapsed() returns true for that cookie.  A reader polling
+// from inside its own section never sees its own cookie elapse.
+uint64_t rcu_start_grace();
+bool rcu_grace_elapsed(uint64_t cookie);
+
+struct rcu_read_guard {
+    rcu_read_guard() { rcu_read_lock(); }
+    ~rcu_read_guard() { rcu_read_unlock(); }
+
+    rcu_read_guard(const rcu_read_guard &) = delete;
+    rcu_read_guard &operator=(const rcu_read_guard &) = delete;
+};
+
+#endif
@@ -10,30 +10,30 @@
  * **
  */
 
-#include <chrono>
+#include <cstdio>
+#include <fstream>
 #include <iostream>
-#include <map>
 #include <memory>
-#include <mutex>
-#include <random>
-#include <set>
-#include <regex>
+#include <stdexcept>
 #include <thread>
 #include <vector>
 
-#include <cerrno>
-#include <sys/types.h>
-#include <csignal>
-
-#include <fuse.h>
+#include <unistd.h>
 
 #include <thrift/protocol/TBinaryProtocol.h>
-#include <thrift/server/TSimpleServer.h>
+#include <thrift/server/TThreadedServer.h>
 #include <thrift/transport/TServerSocket.h>
 #include <thrift/transport/TBufferTransports.h>
 
 #include "gen-cpp/server.h"
 
+#include "fault_table.hh"
+#include "server.hh"
+#include "shm_region.hh"
+#include "stats.hh"
+#include "timeline.hh"
+#include "trace.hh"
+
 using namespace ::apache::thrift;
 using namespace ::apache::thrift::protocol;
 using namespace ::apache::thrift::transport;
@@ -41,228 +41,447 @@ using namespace ::apache::thrift::server;
 
 using boost::shared_ptr;
 
-struct fault_descriptor {
-    bool random;        // error code must be randomized
-    int err_no;         // error code to return
-    int32_t probability;    // 0 < probability < 100
-    std::string regexp; // regular expression on filename
-    bool kill_caller;   // Must we kill the caller
-    int32_t delay_us;       // operation delay in us
-    bool auto_delay;    // must auto delay like an SSD
-};
+class server_handler: public serverIf {
+    void get_methods(std::vector<std::string> & _return)
+    {
+        for (auto method: method_names) {
+            _return.push_back(method);
+        }
+    }
 
-std::set<std::string> valid_methods;
-std::map<std::string, fault_descriptor> fault_map;
-std::mutex mutex;
+    void clear_all_faults()
+    {
+        fault_table_clear_all();
+        shm_region_clear_rule_names();
+    }
 
-void init_valid_methods()
-{
-    valid_methods.insert("getattr");
-    valid_methods.insert("readlink");
-    valid_methods.insert("mknod");
-    valid_methods.insert("mkdir");
-    valid_methods.insert("unlink");
-    valid_methods.insert("rmdir");
-    valid_methods.insert("symlink");
-    valid_methods.insert("rename");
-    valid_methods.insert("link");
-    valid_methods.insert("chmod");
-    valid_methods.insert("chown");
-    valid_methods.insert("truncate");
-    valid_methods.insert("open");
-    valid_methods.insert("read");
-    valid_methods.insert("write");
-    valid_methods.insert("statfs");
-    valid_methods.insert("flush");
-    valid_methods.insert("release");
-    valid_methods.insert("fsync");
-    valid_methods.insert("setxattr");
-    valid_methods.insert("getxattr");
-    valid_methods.insert("listxattr");
-    valid_methods.insert("removexattr");
-    valid_methods.insert("opendir");
-    valid_methods.insert("readdir");
-    valid_methods.insert("releasedir");
-    valid_methods.insert("fsyncdir");
-    valid_methods.insert("access");
-    valid_methods.insert("create");
-    valid_methods.insert("ftruncate");
-    valid_methods.insert("fgetattr");
-    valid_methods.insert("lock");
-    valid_methods.insert("bmap");
-    valid_methods.insert("ioctl");
-    valid_methods.insert("poll");
-    valid_methods.insert("write_buf");
-    valid_methods.insert("read_buf");
-    valid_methods.insert("flock");
-    valid_methods.insert("fallocate");
-}
+    void clear_fault(const std::string& method)
+    {
+        method_id id = method_by_name(method);
+        if (id != METHOD_COUNT) {
+            fault_table_clear(id);
+        }
+    }
 
-static bool is_valid_method(std::string method)
-{
-    return valid_methods.count(method);
-}
+    static fault_update to_update(const std::vector<std::string>& methods, const bool random,
+                                  const int32_t err_no, const int32_t probability,
+                                  const std::string& regexp, const bool kill_caller,
+                                  int32_t delay_us, const bool auto_delay,
+                                  int32_t priority = 0, bool stack = false,
+                                  filter_type filter = FILTER_REGEXP)
+    {
+        fault_update update = fault_update();
+        update.stack = stack;
+        struct fault_descriptor &descr = update.descr;
 
-// return a random err_no
-static int random_err_no()
-{
-    std::random_device rd;
-    std::uniform_int_distribution<int> dist(E2BIG, EXFULL);
+        descr.random = random;
+        descr.err_no = err_no;
+        descr.probability = probability;
+        descr.pattern = regexp;
+        descr.filter = filter;
+        descr.kill_caller = kill_caller;
+        descr.delay_us = delay_us;
+        descr.auto_delay = auto_delay;
+        descr.priority = priority;
 
-    return dist(rd);
-} 
+        for (auto method: methods) {
+            method_id id = method_by_name(method);
+            if (id != METHOD_COUNT) {
+                update.methods.push_back(id);
+            }
+        }
 
-// return true if random number is not in the probability
-static bool get_lucky(int probability)
-{
-    std::random_device rd;
-    std::uniform_int_distribution<int> dist(1, 100000);
+        return update;
+    }
 
-    if (!probability) {
-        return false;
+    static filter_type to_filter(path_filter_type::type type)
+    {
+        switch (type) {
+        case path_filter_type::REGEXP:
+            return FILTER_REGEXP;
+        case path_filter_type::PREFIX:
+            return FILTER_PREFIX;
+        case path_filter_type::SUFFIX:
+            return FILTER_SUFFIX;
+        case path_filter_type::GLOB:
+            return FILTER_GLOB;
+        }
+        throw std::invalid_argument("unknown path filter type");
     }
 
-    if (dist(rd) > probability) {
-        return true;
+    static delay_distribution to_distribution(const latency_distribution& latency)
+    {
+        delay_distribution d;
+        switch (latency.type) {
+        case latency_distribution_type::CONSTANT:
+            d.kind = DELAY_CONSTANT;
+            break;
+        case latency_distribution_type::UNIFORM:
+            d.kind = DELAY_UNIFORM;
+            break;
+        case latency_distribution_type::EXPONENTIAL:
+            d.kind = DELAY_EXPONENTIAL;
+            break;
+        case latency_distribution_type::LOG_NORMAL:
+            d.kind = DELAY_LOG_NORMAL;
+            break;
+        case latency_distribution_type::PARETO:
+            d.kind = DELAY_PARETO;
+            break;
+        case latency_distribution_type::BIMODAL:
+            d.kind = DELAY_BIMODAL;
+            break;
+        case latency_distribution_type::EMPIRICAL:
+            d.kind = DELAY_EMPIRICAL;
+            break;
+        default:
+            throw std::invalid_argument("unknown latency distribution type");
+        }
+        d.value_us = latency.value_us;
+        d.min_us = latency.min_us;
+        d.max_us = latency.max_us;
+        d.shape = latency.shape;
+        d.slow_us = latency.slow_us;
+        d.slow_probability = latency.slow_probability;
+
+        check_delay_distribution(d);
+        return d;
     }
-    
-    return false;
-}
 
-// return an err_no if we must proceed to error injection
-int error_inject(volatile int in_flight, std::string path, std::string method)
-{
-    std::lock_guard<std::mutex> lk(mutex);
+    static std::vector<fault_update> to_updates(const std::vector<fault_rule>& rules)
+    {
+        std::vector<fault_update> updates;
+        for (auto &rule: rules) {
+            updates.push_back(to_update(rule.methods, rule.random, rule.err_no,
+                                        rule.probability, rule.regexp,
+                                        rule.kill_caller, rule.delay_us,
+                                        rule.auto_delay, rule.priority,
+                                        rule.stack, to_filter(rule.filter_type)));
+            updates.back().descr.ttl_us = rule.ttl_us;
+            updates.back().descr.max_injections = rule.max_injections;
+            updates.back().descr.on_us = rule.on_us;
+            updates.back().descr.off_us = rule.off_us;
+            updates.back().descr.random_phase = rule.random_phase;
+            updates.back().descr.name = rule.name;
+            updates.back().descr.bytes_per_sec = rule.bytes_per_sec;
+            updates.back().descr.byte_burst = rule.byte_burst;
+            updates.back().descr.ops_per_sec = rule.ops_per_sec;
+            updates.back().descr.op_burst = rule.op_burst;
+            updates.back().descr.queue_channels = rule.queue_channels;
+            if (rule.shm_slot < 0 || rule.shm_slot >= SHM_RULE_SLOTS) {
+                throw std::invalid_argument("shm_slot must be in [0, " +
+                                            std::to_string(SHM_RULE_SLOTS) + ")");
+            }
+            if (rule.shm_slot && rule.name.size() >= SHM_RULE_NAME_SIZE) {
+                throw std::invalid_argument("name of a rule with a shm_slot must be shorter than " +
+                                            std::to_string(SHM_RULE_NAME_SIZE) + " bytes");
+            }
+            updates.back().descr.shm_slot = rule.shm_slot;
+            if (rule.__isset.latency) {
+                updates.back().descr.latency = to_distribution(rule.latency);
+            }
+        }
+        return updates;
+    }
 
-    // no fault injection for this method
-    if (!fault_map.count(method)) {
-        return 0;
+    void set_fault(const std::vector<std::string>& methods, const bool random,
+                   const int32_t err_no, const int32_t probability,
+                   const std::string& regexp, const bool kill_caller,
+                   int32_t delay_us, const bool auto_delay)
+    {
+        fault_update update = to_update(methods, random, err_no, probability,
+                                        regexp, kill_caller, delay_us, auto_delay);
+        fault_table_set(update.methods, update.descr);
     }
 
-    // get the fault injection descritor
-    auto descr = fault_map[method];
+    void set_all_fault(const bool random, const int32_t err_no,
+                       const int32_t probability, const std::string& regexp,
+                       const bool kill_caller, const int32_t delay_us,
+                       const bool auto_delay)
+    {
+        std::vector<std::string> methods;
 
-    int err_no = 0;
+        for (auto method: method_names) {
+            methods.push_back(method);
+        }
 
-    // get the err_no to inject
-    if (descr.err_no) {
-        err_no = descr.err_no;
-    } else if (descr.random) {
-        err_no = random_err_no();
+
+        set_fault(methods, random, err_no, probability,
+                  regexp, kill_caller, delay_us,
+                  auto_delay);
     }
 
-    if (descr.regexp.size()) {
-        std::regex r(descr.regexp);
-        if (!std::regex_match(path, r)) {
-            return 0;
+    // once rules are validated, before the RPC returns
+    static void name_rule_slots(const std::vector<fault_rule>& rules)
+    {
+        for (auto &rule: rules) {
+            if (rule.shm_slot) {
+                shm_region_name_rule(rule.shm_slot, rule.name);
+            }
         }
     }
 
-    // Are we out of error probability
-    if (get_lucky(descr.probability)) {
-        return 0;
+    void set_faults(const std::vector<fault_rule>& rules)
+    {
+        fault_table_apply(to_updates(rules), false);
+        name_rule_slots(rules);
     }
 
-    uint32_t delay = 0;
-    if (descr.delay_us) {
-        delay = descr.delay_us;
+    void replace_all_faults(const std::vector<fault_rule>& rules)
+    {
+        fault_table_apply(to_updates(rules), true);
+        shm_region_clear_rule_names();
+        name_rule_slots(rules);
     }
 
-    if (descr.auto_delay) {
-        delay = 0;
+    void set_rule_evaluation(const bool sum_delays)
+    {
+        fault_table_sum_delays(sum_delays);
     }
 
-    if (delay) {
-        std::this_thread::sleep_for(
-            std::chrono::microseconds(delay));
+    void get_buckets(std::vector<bucket_status> & _return)
+    {
+        for (auto &shaper: fault_table_shapers()) {
+            bucket_status s;
+            s.name = shaper.name;
+            for (auto method: shaper.methods) {
+                s.methods.push_back(method_names[method]);
+            }
+            s.bytes_per_sec = shaper.bytes_per_sec;
+            s.byte_burst = shaper.byte_burst;
+            s.bytes_available = shaper.bytes_available;
+            s.ops_per_sec = shaper.ops_per_sec;
+            s.op_burst = shaper.op_burst;
+            s.ops_available = shaper.ops_available;
+            s.throttled_ops = shaper.throttled_ops;
+            s.throttled_us = shaper.throttled_ns / 1000;
+            _return.push_back(s);
+        }
     }
 
-    if (descr.kill_caller) {
-        static struct fuse_context *context;
-        context = fuse_get_context();
-        kill(context->pid, SIGKILL);
-        return 0;
+    void get_queues(std::vector<queue_status> & _return, const bool reset)
+    {
+        for (auto &queue: fault_table_queues(reset)) {
+            queue_status s;
+            s.name = queue.name;
+            for (auto method: queue.methods) {
+                s.methods.push_back(method_names[method]);
+            }
+            s.channels = queue.channels;
+            s.busy = queue.queue.busy;
+            s.waiting = queue.queue.waiting;
+            s.ops = queue.queue.ops;
+            s.wait.first_bucket = queue.queue.wait_first;
+            s.wait.counts = queue.queue.wait;
+            s.wait.max_ns = queue.queue.wait_max;
+            s.queue_length.first_bucket = queue.queue.length_first;
+            s.queue_length.counts = queue.queue.length;
+            s.queue_length.max = queue.queue.length_max;
+            _return.push_back(s);
+        }
     }
 
-    return -err_no;
-}
+    void set_latency_table(const std::vector<std::string>& methods,
+                           const std::vector<int32_t>& quantiles_us)
+    {
+        latency_table table;
+        for (auto quantile: quantiles_us) {
+            if (quantile < 0) {
+                throw std::invalid_argument("latency table quantiles must not be negative");
+            }
+            table.quantiles_us.push_back(quantile);
+        }
 
-class server_handler: public serverIf {
-    void get_methods(std::vector<std::string> & _return)
+        std::vector<method_id> ids;
+        for (auto method: methods) {
+            method_id id = method_by_name(method);
+            if (id != METHOD_COUNT) {
+                ids.push_back(id);
+            }
+        }
+        fault_table_set_latency_table(ids, table);
+    }
+
+    void start_timeline(const std::vector<timeline_phase>& phases)
     {
-        for (auto method: valid_methods) {
-            _return.push_back(method);
+        std::vector<fault_phase> compiled;
+        for (auto &phase: phases) {
+            if (phase.start_us < 0) {
+                throw std::invalid_argument("timeline phase starts before the timeline");
+            }
+            compiled.push_back(fault_phase{(uint64_t) phase.start_us,
+                                           fault_table_compile(to_updates(phase.rules))});
+        }
+        timeline_start(std::move(compiled));
+        for (auto &phase: phases) {
+            name_rule_slots(phase.rules);
         }
     }
 
-    void clear_all_faults()
+    void stop_timeline()
     {
-        std::lock_guard<std::mutex> lk(mutex);
-        fault_map.clear();
+        timeline_stop();
     }
 
-    void clear_fault(const std::string& method)
+    void get_timeline(timeline_status& _return)
     {
-        std::lock_guard<std::mutex> lk(mutex);
-        fault_map.erase(method);
+        timeline_state state = timeline_current();
+        _return.running = state.running;
+        _return.phase = state.phase;
+        _return.phase_count = state.phase_count;
+        _return.elapsed_us = state.elapsed_us;
+        _return.lag_ns = state.lag_ns;
     }
 
-    void set_fault(const std::vector<std::string>& methods, const bool random,
-                   const int32_t err_no, const int32_t probability,
-                   const std::string& regexp, const bool kill_caller,
-                   int32_t delay_us, const bool auto_delay)
+    void set_seed(const int64_t seed)
     {
-        struct fault_descriptor descr;
+        fault_table_seed(seed);
+    }
 
-        descr.random = random;
-        descr.err_no = err_no;
-        descr.probability = probability;
-        descr.regexp = regexp;
-        descr.kill_caller = kill_caller;
-        descr.delay_us = delay_us;
-        descr.auto_delay = auto_delay;
+    void clear_seed()
+    {
+        fault_table_unseed();
+    }
 
-        std::lock_guard<std::mutex> lk(mutex);
-        for (auto method: methods) {
-            if (is_valid_method(method)) {
-                fault_map[method] = descr;
-            }
+    void start_trace(const std::string& file, const int32_t sample_rate)
+    {
+        trace_start(file, sample_rate);
+    }
+
+    void stop_trace()
+    {
+        trace_stop();
+    }
+
+    void get_stats(std::vector<method_stats> & _return)
+    {
+        op_stats stats[METHOD_COUNT];
+        stats_snapshot(stats);
+
+        for (int i = 0; i < METHOD_COUNT; i++) {
+            method_stats s;
+            s.method = method_names[i];
+            s.in_flight = stats[i].in_flight;
+            s.ops = stats[i].ops;
+            s.bytes = stats[i].bytes;
+            s.errors = stats[i].errors;
+            _return.push_back(s);
         }
     }
 
-    void set_all_fault(const bool random, const int32_t err_no,
-                       const int32_t probability, const std::string& regexp,
-                       const bool kill_caller, const int32_t delay_us,
-                       const bool auto_delay)
+    void get_latencies(std::vector<method_latency> & _return, const bool reset)
     {
-        std::vector<std::string> methods;
+        std::vector<latency_snapshot> snapshots(METHOD_COUNT);
+        latency_snapshot_all(reset, snapshots.data());
+
+        for (int i = 0; i < METHOD_COUNT; i++) {
+            const latency_snapshot &s = snapshots[i];
+            method_latency l;
+            l.method = method_names[i];
+            l.backing.first_bucket = s.backing_first;
+            l.backing.counts = s.backing;
+            l.backing.max_ns = s.backing_max;
+            l.injected.first_bucket = s.injected_first;
+            l.injected.counts = s.injected;
+            l.injected.max_ns = s.injected_max;
+            _return.push_back(l);
+        }
+    }
 
-        for (auto method: valid_methods) {
-            methods.push_back(method);
+    void set_device_model(const device_latency_model& model)
+    {
+        if (model.read_us < 0 || model.write_us < 0 || model.fsync_us < 0 ||
+            model.metadata_us < 0 || model.read_ns_per_byte < 0 ||
+            model.write_ns_per_byte < 0 || model.queue_depth < 0 ||
+            model.queue_penalty_us < 0) {
+            throw std::invalid_argument("device model values must not be negative");
         }
-        
-        set_fault(methods, random, err_no, probability,
-                  regexp, kill_caller, delay_us,
-                  auto_delay);
+
+        device_model m;
+        m.read_us = model.read_us;
+        m.write_us = model.write_us;
+        m.fsync_us = model.fsync_us;
+        m.metadata_us = model.metadata_us;
+        m.read_ns_per_byte = model.read_ns_per_byte;
+        m.write_ns_per_byte = model.write_ns_per_byte;
+        m.queue_depth = model.queue_depth;
+        m.queue_penalty_us = model.queue_penalty_us;
+
+        fault_table_set_device_model(m);
+    }
+
+    void get_device_model(device_latency_model & _return)
+    {
+        device_model m = fault_table_device_model();
+        _return.read_us = m.read_us;
+        _return.write_us = m.write_us;
+        _return.fsync_us = m.fsync_us;
+        _return.metadata_us = m.metadata_us;
+        _return.read_ns_per_byte = m.read_ns_per_byte;
+        _return.write_ns_per_byte = m.write_ns_per_byte;
+        _return.queue_depth = m.queue_depth;
+        _return.queue_penalty_us = m.queue_penalty_us;
     }
 
 };
 
-void server_thread()
-{
-    int port = 9090;
+// Control clients served concurrently, each one holds a thread while
+// connected.  Further clients wait in the accept backlog until one leaves.
+static const int64_t MAX_CONTROL_CLIENTS = 32;
+
+// reports the port once the socket listens, so the port is known even
+// when the kernel picked it
+class port_reporter: public TServerEventHandler {
+public:
+    port_reporter(shared_ptr<TServerSocket> socket, const std::string &port_file)
+        : socket(socket), port_file(port_file)
+    {
+    }
 
-    init_valid_methods();
+    void preServe()
+    {
+        int port = socket->getPort();
+        std::cout << "Control port " << port << std::endl;
 
-    std::cout << "Server Thread started" << std::endl;
+        if (port_file.empty()) {
+            return;
+        }
+
+        // readers see either no file or the whole port
+        std::string tmp = port_file + ".tmp";
+        {
+            std::ofstream out(tmp);
+            out << port << std::endl;
+            if (!out) {
+                std::cout << "Cannot write " << tmp << std::endl;
+                return;
+            }
+        }
+        if (std::rename(tmp.c_str(), port_file.c_str())) {
+            std::cout << "Cannot rename " << tmp << " to " << port_file << std::endl;
+        }
+    }
+
+private:
+    shared_ptr<TServerSocket> socket;
+    std::string port_file;
+};
+
+// serves the control API on socket until the process exits
+static void serve(shared_ptr<TServerSocket> socket, shared_ptr<TServerEventHandler> events)
+{
     try {
         shared_ptr<server_handler> handler(new server_handler());
         shared_ptr<TProcessor> processor(new serverProcessor(handler));
-        shared_ptr<TServerTransport> serverTransport(new TServerSocket(port));
         shared_ptr<TTransportFactory> transportFactory(new TBufferedTransportFactory());
         shared_ptr<TProtocolFactory> protocolFactory(new TBinaryProtocolFactory());
 
-        TSimpleServer server(processor, serverTransport, transportFactory, protocolFactory);
+        // buffered binary protocol as before, existing clients keep working
+        TThreadedServer server(processor, socket, transportFactory, protocolFactory);
+        server.setConcurrentClientLimit(MAX_CONTROL_CLIENTS);
+        if (events) {
+            server.setServerEventHandler(events);
+        }
         std::cout << "Starting to serve" << std::endl;
         server.serve();
     } catch(...) {
@@ -271,8 +490,39 @@ void server_thread()
     std::cout << "Finished serving" << std::endl;
 }
 
+void server_thread(int port, std::string port_file)
+{
+    std::cout << "Server Thread started" << std::endl;
+    shared_ptr<TServerSocket> socket(new TServerSocket(port));
+    serve(socket, shared_ptr<TServerEventHandler>(new port_reporter(socket, port_file)));
+}
+
+void unix_server_thread(std::string path)
+{
+    std::cout << "Unix socket server thread started on " << path << std::endl;
+
+    // a socket left by a previous instance would fail the bind
+    unlink(path.c_str());
+    serve(shared_ptr<TServerSocket>(new TServerSocket(path)), nullptr);
+}
+
 std::thread *thread;
+std::thread *unix_thread;
+
+void start_server_thread(const struct control_options *options)
+{
+    int port = DEFAULT_CONTROL_PORT;
+    std::string port_file;
+
+    if (options) {
+        port = options->port;
+        if (options->port_file) {
+            port_file = options->port_file;
+        }
+        if (options->socket_path) {
+            unix_thread = new std::thread(unix_server_thread, std::string(options->socket_path));
+        }
+    }
 
-void start_server_thread() {
-    thread = new std::thread(server_thread);
+    thread = new std::thread(server_thread, port, port_file);
 }
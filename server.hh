@@ -13,14 +13,17 @@
 #ifndef SERVER_HH
 #define SERVER_HH
 
-#ifdef __cplusplus
+// Options of the control server, given as mount options
+struct control_options {
+    int port;           // 0 binds a free port
+    char *port_file;    // the bound port is written there once listening, may be NULL
+    char *socket_path;  // also served on this unix socket, may be NULL
+    char *shm_path;     // shared memory region, see shm_region.hh, may be NULL
+};
 
-#include <string>
+#define DEFAULT_CONTROL_PORT 9090
 
-int error_inject(volatile int in_flight, std::string path, std::string method);
-
-#endif
-
-void start_server_thread();
+// options may be NULL for the defaults
+void start_server_thread(const struct control_options *options);
 
 #endif
@@ -4,6 +4,153 @@
 // look at: https://thrift.apache.org/tutorial/py
 //
 
+// Counters of a method since charybdefs started
+struct method_stats {
+    1:string method,
+    2:i64 in_flight,    // operations currently running
+    3:i64 ops,          // completed operations
+    4:i64 bytes,        // bytes read or written
+    5:i64 errors,       // operations which returned an error, injected or not
+}
+
+// Log bucketed latency histogram in nanoseconds, see histogram.hh for the
+// bucket layout.  Only the range of non empty buckets is sent.
+struct latency_histogram {
+    1:i32 first_bucket,     // bucket index of counts[0]
+    2:list<i64> counts,
+    3:i64 max_ns,
+}
+
+// Same bucket layout as latency_histogram, recording counts instead of ns
+struct count_histogram {
+    1:i32 first_bucket,     // bucket index of counts[0]
+    2:list<i64> counts,
+    3:i64 max,
+}
+
+// Latencies of a method since charybdefs started or the last reset
+struct method_latency {
+    1:string method,
+    2:latency_histogram backing,    // time spent in the backing filesystem
+    3:latency_histogram injected,   // time spent in injected delays
+}
+
+// Latency model of the device simulated by the faults with auto_delay:
+// base latency of the method + bytes * cost per byte + operations in
+// flight beyond queue_depth * queue_penalty_us
+struct device_latency_model {
+    1:i32 read_us,              // Base latency of read, read_buf
+    2:i32 write_us,             // Base latency of write, write_buf
+    3:i32 fsync_us,             // Base latency of fsync, fsyncdir
+    4:i32 metadata_us,          // Base latency of every other method
+    5:double read_ns_per_byte,  // Transfer cost of reads
+    6:double write_ns_per_byte, // Transfer cost of writes
+    7:i32 queue_depth,          // Operations served in parallel without penalty
+    8:i32 queue_penalty_us,     // Added per operation queued beyond queue_depth
+}
+
+// How the regexp field of a fault_rule matches the path
+enum path_filter_type {
+    REGEXP = 0,     // regular expression matching the whole path
+    PREFIX = 1,
+    SUFFIX = 2,
+    GLOB = 3,       // fnmatch(3) pattern, * and ? match / too
+}
+
+enum latency_distribution_type {
+    CONSTANT = 0,       // value_us
+    UNIFORM = 1,        // in [min_us, max_us]
+    EXPONENTIAL = 2,    // mean value_us
+    LOG_NORMAL = 3,     // median value_us, sigma shape
+    PARETO = 4,         // at least min_us, tail index shape
+    BIMODAL = 5,        // value_us, slow_us with slow_probability
+    EMPIRICAL = 6,      // latency table of the method, see set_latency_table
+}
+
+// Delay drawn for every injected operation
+struct latency_distribution {
+    1:latency_distribution_type type,
+    2:i64 value_us,
+    3:i64 min_us,
+    4:i64 max_us,               // cap of every type, 0 for none but uniform
+    5:double shape,
+    6:i64 slow_us,
+    7:i32 slow_probability,     // over 100 000
+}
+
+// A fault applied to a list of methods, see set_fault for the fields
+struct fault_rule {
+    1:list<string> methods,
+    2:bool random,
+    3:i32 err_no,
+    4:i32 probability,
+    5:string regexp,
+    6:bool kill_caller,
+    7:i32 delay_us,
+    8:bool auto_delay,
+    9:i32 priority,     // rules of a method are evaluated by decreasing priority
+    10:bool stack,      // added to the rules of the methods instead of replacing them
+    11:path_filter_type filter_type,    // prefix, suffix and glob are cheaper than regexp
+    12:i64 ttl_us,              // rule expires ttl_us after it is set, 0 for never
+    13:i64 max_injections,      // rule expires once it fired that many times, 0 for never
+    14:i64 on_us,               // with off_us, rule is only active on_us out of every
+    15:i64 off_us,              // on_us + off_us, 0 for always
+    16:bool random_phase,       // cycle starts at a random point instead of on
+    17:latency_distribution latency,    // replaces delay_us if set
+    18:string name,             // reported by get_buckets
+    19:i64 bytes_per_sec,       // operations are delayed beyond these budgets:
+    20:i64 byte_burst,          // bytes of read and write methods, every
+    21:i64 ops_per_sec,         // operation for ops.  0 for unlimited, a burst
+    22:i64 op_burst,            // of 0 for 1/10 s worth
+    23:i32 queue_channels,      // replies queue FIFO for this many channels, the
+                                // delay being their service time, 0 for no queue.
+                                // A reply delay model: the operation reaches the
+                                // backing filesystem on arrival, backing operations
+                                // are not throttled, see device_queue.hh
+    24:i32 shm_slot,            // injected only while this rule flag of the shared
+                                // region is on, in [1, 256), 0 for none
+}
+
+// Token buckets of a rule with bytes_per_sec or ops_per_sec
+struct bucket_status {
+    1:string name,
+    2:list<string> methods,
+    3:i64 bytes_per_sec,
+    4:i64 byte_burst,
+    5:i64 bytes_available,      // negative while operations wait
+    6:i64 ops_per_sec,
+    7:i64 op_burst,
+    8:i64 ops_available,
+    9:i64 throttled_ops,        // delayed for lack of budget
+    10:i64 throttled_us,        // sum of their delays
+}
+
+// Device queue of a rule with queue_channels, in which replies wait
+struct queue_status {
+    1:string name,
+    2:list<string> methods,
+    3:i32 channels,
+    4:i32 busy,                 // channels serving an operation
+    5:i32 waiting,              // operations queued for a channel
+    6:i64 ops,
+    7:latency_histogram wait,   // time spent queued
+    8:count_histogram queue_length,     // seen by each arrival
+}
+
+// Rules replacing the whole fault set start_us after the timeline started
+struct timeline_phase {
+    1:i64 start_us,
+    2:list<fault_rule> rules,
+}
+
+struct timeline_status {
+    1:bool running,
+    2:i32 phase,            // last phase started, -1 if none
+    3:i32 phase_count,
+    4:i64 elapsed_us,       // since the timeline started
+    5:i64 lag_ns,           // how late the last phase started
+}
+
 service server {
 
     // Used to get the list of availables systems calls
@@ -23,7 +170,7 @@ service server {
                    5:string regexp,           // A regexp matching a victim file
                    6:bool kill_caller,        // Kill -9 the caller process
                    7:i32 delay_us,            // Delay to inject in the fs calls
-                   8:bool auto_delay),        // Not implemented yet: Will be used to simulate SSDs latencies
+                   8:bool auto_delay),        // Delay from the device model instead of delay_us
 
     // Works like set_fault but applies the fault to all methods
     void set_all_fault(1:bool random,
@@ -33,4 +180,73 @@ service server {
                        5:bool kill_caller,
                        6:i32 delay_us,
                        7:bool auto_delay),
+
+    // Set several faults at once: operations see either none or all of
+    // them.  Rules apply in order: a rule replaces the rules of its
+    // methods, or adds to them if stack is set.  Methods of no rule keep
+    // their faults.  Nothing is set if a regexp is invalid.
+    void set_faults(1:list<fault_rule> rules),
+
+    // Like set_faults but the methods of no rule lose their faults, so the
+    // rules replace the whole fault set at once
+    void replace_all_faults(1:list<fault_rule> rules),
+
+    // How the rules of a method combine.  By default the first rule, by
+    // priority, whose regexp matches decides alone.  With sum_delays every
+    // matching rule which fires adds its delay, the first errno wins.
+    void set_rule_evaluation(1:bool sum_delays),
+
+    // Used to get the budgets of the current rules with token buckets
+    list<bucket_status> get_buckets(),
+
+    // Used to get the state of the current rules with device queues, with
+    // reset the histograms restart empty
+    list<queue_status> get_queues(1:bool reset),
+
+    // Set the inverse CDF sampled by the EMPIRICAL latency of the rules of
+    // methods: quantiles_us[i] is the delay at quantile (i + 0.5) / size,
+    // nondecreasing, up to 2^20 points.  An empty list removes the table.
+    void set_latency_table(1:list<string> methods,
+                           2:list<i32> quantiles_us),
+
+    // Stop the running timeline, if any, and start phases now, ordered by
+    // start_us.  Each phase replaces the whole fault set like
+    // replace_all_faults, the faults of the last one stay.  Nothing starts
+    // if a regexp is invalid.
+    void start_timeline(1:list<timeline_phase> phases),
+
+    // Stop the running timeline, the faults of its current phase stay
+    void stop_timeline(),
+
+    timeline_status get_timeline(),
+
+    // Make the probabilistic decisions of the faults set after this call
+    // reproducible: each of them draws from its own stream derived from
+    // the seed, so the same workload gets faults at the same operation
+    // ordinals
+    void set_seed(1:i64 seed),
+
+    // Faults set after this call get non reproducible random decisions
+    void clear_seed(),
+
+    // Record one operation every sample_rate to file until stop_trace().
+    // See trace.hh for the record format.
+    void start_trace(1:string file,
+                     2:i32 sample_rate),
+
+    // Stop recording and close the trace file
+    void stop_trace(),
+
+    // Used to get the operation counters of every method
+    list<method_stats> get_stats(),
+
+    // Used to get the latency histograms of every method, with reset the
+    // histograms restart empty so successive calls return disjoint intervals
+    list<method_latency> get_latencies(1:bool reset),
+
+    // Set the device model used by the faults with auto_delay
+    void set_device_model(1:device_latency_model model),
+
+    // Used to get the current device model
+    device_latency_model get_device_model(),
 }
@@ -0,0 +1,188 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "shm_region.hh"
+#include "clock.hh"
+#include "stats.hh"
+
+#include <chrono>
+#include <mutex>
+#include <stdexcept>
+#include <thread>
+
+#include <cerrno>
+#include <cstring>
+#include <fcntl.h>
+#include <sys/mman.h>
+#include <unistd.h>
+
+std::atomic<std::atomic<int32_t> *> shm_enabled_flags(nullptr);
+std::atomic<std::atomic<int32_t> *> shm_rule_flags(nullptr);
+
+// protected by control_mutex
+static std::mutex control_mutex;
+static std::string region_path;
+static void *region;
+static std::thread publisher;
+
+static std::atomic<bool> publishing(false);
+
+static uint32_t round_up(uint32_t size)
+{
+    return (size + 63) & ~63u;
+}
+
+static void publish(shm_header *header, shm_counters *counters)
+{
+    op_stats stats[METHOD_COUNT];
+    stats_snapshot(stats);
+
+    uint64_t seq = header->seq.load(std::memory_order_relaxed);
+    header->seq.store(seq + 1, std::memory_order_relaxed);
+    std::atomic_thread_fence(std::memory_order_release);
+
+    for (int m = 0; m < METHOD_COUNT; m++) {
+        counters[m].in_flight.store(stats[m].in_flight, std::memory_order_relaxed);
+        counters[m].ops.store(stats[m].ops, std::memory_order_relaxed);
+        counters[m].bytes.store(stats[m].bytes, std::memory_order_relaxed);
+        counters[m].errors.store(stats[m].errors, std::memory_order_relaxed);
+    }
+    header->publish_ns.store(now_ns(), std::memory_order_relaxed);
+
+    header->seq.store(seq + 2, std::memory_order_release);
+}
+
+static void publish_loop(shm_header *header)
+{
+    shm_counters *counters = (shm_counters *) ((char *) header + header->stats_offset);
+
+    while (publishing.load(std::memory_order_relaxed)) {
+        publish(header, counters);
+        std::this_thread::sleep_for(std::chrono::microseconds(SHM_PUBLISH_US));
+    }
+}
+
+// must be called with control_mutex held
+static void stop_locked()
+{
+    if (!region) {
+        return;
+    }
+
+    publishing = false;
+    publisher.join();
+
+    // error_inject() may still read the flags, they only go with the process
+    shm_enabled_flags = nullptr;
+    shm_rule_flags = nullptr;
+    unlink(region_path.c_str());
+    region = nullptr;
+}
+
+void shm_region_start(const std::string &path)
+{
+    std::lock_guard<std::mutex> lk(control_mutex);
+    stop_locked();
+
+    uint32_t stats_offset = sizeof(shm_header);
+    uint32_t flags_offset = stats_offset + round_up(METHOD_COUNT * sizeof(shm_counters));
+    uint32_t names_offset = flags_offset + round_up(METHOD_COUNT * sizeof(int32_t));
+    uint32_t rule_flags_offset = names_offset + round_up(METHOD_COUNT * SHM_NAME_SIZE);
+    uint32_t rule_names_offset = rule_flags_offset + round_up(SHM_RULE_SLOTS * sizeof(int32_t));
+    uint32_t size = rule_names_offset + round_up(SHM_RULE_SLOTS * SHM_RULE_NAME_SIZE);
+
+    int fd = open(path.c_str(), O_RDWR | O_CREAT | O_TRUNC, 0644);
+    if (fd < 0) {
+        throw std::runtime_error("cannot create " + path + ": " + strerror(errno));
+    }
+
+    if (ftruncate(fd, size)) {
+        int err = errno;
+        close(fd);
+        throw std::runtime_error("cannot size " + path + ": " + strerror(err));
+    }
+
+    void *mapped = mmap(NULL, size, PROT_READ | PROT_WRITE, MAP_SHARED, fd, 0);
+    close(fd);
+    if (mapped == MAP_FAILED) {
+        throw std::runtime_error("cannot map " + path + ": " + strerror(errno));
+    }
+
+    // the file is zero filled, fill in everything but the magic first so
+    // a reader seeing the magic sees a complete header
+    shm_header *header = (shm_header *) mapped;
+    header->version = SHM_VERSION;
+    header->method_count = METHOD_COUNT;
+    header->stats_offset = stats_offset;
+    header->flags_offset = flags_offset;
+    header->names_offset = names_offset;
+    header->size = size;
+    header->rule_flags_offset = rule_flags_offset;
+    header->rule_slots = SHM_RULE_SLOTS;
+    header->rule_names_offset = rule_names_offset;
+
+    std::atomic<int32_t> *flags = (std::atomic<int32_t> *) ((char *) mapped + flags_offset);
+    char *names = (char *) mapped + names_offset;
+    for (int m = 0; m < METHOD_COUNT; m++) {
+        flags[m].store(1, std::memory_order_relaxed);
+        strncpy(names + m * SHM_NAME_SIZE, method_names[m], SHM_NAME_SIZE - 1);
+    }
+    std::atomic<int32_t> *rule_flags =
+        (std::atomic<int32_t> *) ((char *) mapped + rule_flags_offset);
+    for (int32_t slot = 0; slot < SHM_RULE_SLOTS; slot++) {
+        rule_flags[slot].store(1, std::memory_order_relaxed);
+    }
+
+    std::atomic_thread_fence(std::memory_order_release);
+    header->magic = SHM_MAGIC;
+
+    // a previous region stays mapped, error_inject() may still read it
+    region = mapped;
+    region_path = path;
+    shm_enabled_flags.store(flags, std::memory_order_release);
+    shm_rule_flags.store(rule_flags, std::memory_order_release);
+
+    publishing = true;
+    publisher = std::thread(publish_loop, header);
+}
+
+void shm_region_stop()
+{
+    std::lock_guard<std::mutex> lk(control_mutex);
+    stop_locked();
+}
+
+static char *rule_name_locked(int32_t slot)
+{
+    shm_header *header = (shm_header *) region;
+    return (char *) region + header->rule_names_offset + slot * SHM_RULE_NAME_SIZE;
+}
+
+void shm_region_name_rule(int32_t slot, const std::string &name)
+{
+    std::lock_guard<std::mutex> lk(control_mutex);
+    if (!region) {
+        return;
+    }
+    char *dest = rule_name_locked(slot);
+    memset(dest, 0, SHM_RULE_NAME_SIZE);
+    strncpy(dest, name.c_str(), SHM_RULE_NAME_SIZE - 1);
+}
+
+void shm_region_clear_rule_names()
+{
+    std::lock_guard<std::mutex> lk(control_mutex);
+    if (!region) {
+        return;
+    }
+    memset(rule_name_locked(0), 0, SHM_RULE_SLOTS * SHM_RULE_NAME_SIZE);
+}
@@ -0,0 +1,117 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef SHM_REGION_HH
+#define SHM_REGION_HH
+
+#include <atomic>
+#include <string>
+
+#include <cstdint>
+
+#include "methods.hh"
+
+// Shared memory view of the operation counters, per method and per rule
+// fault switches, for clients polling or flipping faults faster than an
+// RPC.
+//
+// A thread copies the counters into the region every SHM_PUBLISH_US under
+// a seqlock: the sequence is odd while the copy is written, a reader
+// retries if it read an odd sequence or a different one after the copy.
+// Each method has an enable flag, 1 when the region is created.  While a
+// method flag is 0 its fault, set through the RPC, is not injected.  A
+// rule set with a shm_slot is also only injected while the rule flag of
+// that slot is 1, so one of several rules stacked on a method can be
+// flipped alone.  Rule flag 0 is never consulted, slot 0 means no slot.
+// The name of the last rule set on a slot is written next to the flags
+// before the RPC setting it returns, for clients switching rules by name;
+// the names are cleared with all faults.
+
+// Region layout, host byte order.  A layout change bumps SHM_VERSION.
+//
+//   0  shm_header
+//  64  shm_counters[method_count]
+//      int32_t enabled[method_count]               at flags_offset
+//      char name[method_count][SHM_NAME_SIZE]      at names_offset, NUL padded
+//      int32_t rule_enabled[rule_slots]            at rule_flags_offset
+//      char rule_name[rule_slots][SHM_RULE_NAME_SIZE] at rule_names_offset
+const uint32_t SHM_MAGIC = 0x43484653;     // "CHFS"
+const uint32_t SHM_VERSION = 2;
+const uint32_t SHM_NAME_SIZE = 16;
+const int32_t SHM_RULE_SLOTS = 256;
+const uint32_t SHM_RULE_NAME_SIZE = 32;
+
+const unsigned SHM_PUBLISH_US = 1000;
+
+struct shm_header {
+    uint32_t magic;
+    uint32_t version;
+    uint32_t method_count;
+    uint32_t stats_offset;
+    uint32_t flags_offset;
+    uint32_t names_offset;
+    uint32_t size;                      // of the whole region
+    uint32_t rule_flags_offset;
+    std::atomic<uint64_t> seq;          // odd while counters are written
+    std::atomic<uint64_t> publish_ns;   // steady clock of the last copy
+    uint32_t rule_slots;
+    uint32_t rule_names_offset;
+    uint64_t padding;
+};
+
+struct shm_counters {
+    std::atomic<int64_t> in_flight;
+    std::atomic<int64_t> ops;
+    std::atomic<int64_t> bytes;
+    std::atomic<int64_t> errors;
+};
+
+static_assert(sizeof(shm_header) == 64, "shm_header layout");
+static_assert(sizeof(shm_counters) == 32, "shm_counters layout");
+
+// null unless a region is mapped
+extern std::atomic<std::atomic<int32_t> *> shm_enabled_flags;
+extern std::atomic<std::atomic<int32_t> *> shm_rule_flags;
+
+// true unless the region switched the faults of method off
+inline bool shm_method_enabled(method_id method)
+{
+    // acquire: pairs with the publication of the flags by shm_region_start()
+    std::atomic<int32_t> *flags = shm_enabled_flags.load(std::memory_order_acquire);
+    return !flags || flags[method].load(std::memory_order_relaxed);
+}
+
+// true unless the region switched the rule of slot off, slot 0 for none
+inline bool shm_rule_enabled(int32_t slot)
+{
+    if (!slot) {
+        return true;
+    }
+    std::atomic<int32_t> *flags = shm_rule_flags.load(std::memory_order_acquire);
+    return !flags || flags[slot].load(std::memory_order_relaxed);
+}
+
+// Create the region file, /dev/shm/... for memory backed, and start
+// publishing.  throw std::runtime_error if it can not be created.
+void shm_region_start(const std::string &path);
+
+// stop publishing and remove the file
+void shm_region_stop();
+
+// name slot after the rule set on it, name shorter than SHM_RULE_NAME_SIZE.
+// Nothing without a region.
+void shm_region_name_rule(int32_t slot, const std::string &name);
+
+// forget the names of all slots
+void shm_region_clear_rule_names();
+
+#endif
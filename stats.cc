@@ -0,0 +1,156 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "stats.hh"
+
+#include <atomic>
+
+// power of two
+static const unsigned STATS_STRIPES = 16;
+
+struct alignas(64) method_counters {
+    std::atomic<int64_t> in_flight;
+    std::atomic<int64_t> ops;
+    std::atomic<int64_t> bytes;
+    std::atomic<int64_t> errors;
+};
+
+struct alignas(64) total_counters {
+    std::atomic<int64_t> in_flight;
+};
+
+// zero initialized as statics
+static method_counters counters[STATS_STRIPES][METHOD_COUNT];
+static total_counters totals[STATS_STRIPES];
+
+static std::atomic<unsigned> next_stripe(0);
+
+static histogram backing_latency[METHOD_COUNT];
+static histogram injected_latency[METHOD_COUNT];
+
+// what error_inject() did to the operation running on this thread
+struct injection {
+    int err_no;
+    uint64_t delay_ns;
+    uint64_t slept_ns;  // part of delay_ns spent in the operation
+};
+
+static thread_local injection current;
+
+static unsigned this_stripe()
+{
+    static thread_local unsigned stripe =
+        next_stripe.fetch_add(1, std::memory_order_relaxed) & (STATS_STRIPES - 1);
+    return stripe;
+}
+
+static method_counters &counters_of(method_id method)
+{
+    return counters[this_stripe()][method];
+}
+
+void stats_enter(method_id method)
+{
+    counters_of(method).in_flight.fetch_add(1, std::memory_order_relaxed);
+    totals[this_stripe()].in_flight.fetch_add(1, std::memory_order_relaxed);
+    current.err_no = 0;
+    current.delay_ns = 0;
+    current.slept_ns = 0;
+}
+
+void op_injected(int err_no, uint64_t delay_ns, bool deferred)
+{
+    // symlink, rename and link inject twice
+    current.err_no = err_no;
+    current.delay_ns += delay_ns;
+    if (!deferred) {
+        current.slept_ns += delay_ns;
+    }
+}
+
+static bool is_data_method(method_id method)
+{
+    return method == METHOD_READ || method == METHOD_WRITE ||
+           method == METHOD_READ_BUF || method == METHOD_WRITE_BUF;
+}
+
+int stats_leave(method_id method, int ret, size_t size, uint64_t elapsed_ns)
+{
+    method_counters &c = counters_of(method);
+
+    c.in_flight.fetch_sub(1, std::memory_order_relaxed);
+    totals[this_stripe()].in_flight.fetch_sub(1, std::memory_order_relaxed);
+    c.ops.fetch_add(1, std::memory_order_relaxed);
+
+    if (ret < 0) {
+        c.errors.fetch_add(1, std::memory_order_relaxed);
+    } else if (is_data_method(method)) {
+        // read_buf only sets up the buffer, FUSE reads the size asked
+        int64_t bytes = method == METHOD_READ_BUF ? size : ret;
+        c.bytes.fetch_add(bytes, std::memory_order_relaxed);
+    }
+
+    uint64_t delay_ns = current.delay_ns;
+    if (delay_ns) {
+        injected_latency[method].record(delay_ns);
+    }
+
+    uint64_t slept_ns = current.slept_ns;
+    if (!current.err_no) {
+        backing_latency[method].record(elapsed_ns > slept_ns ? elapsed_ns - slept_ns : 0);
+    }
+
+    return current.err_no;
+}
+
+void stats_snapshot(op_stats stats[METHOD_COUNT])
+{
+    for (int m = 0; m < METHOD_COUNT; m++) {
+        op_stats &s = stats[m];
+        s.in_flight = s.ops = s.bytes = s.errors = 0;
+
+        for (unsigned i = 0; i < STATS_STRIPES; i++) {
+            const method_counters &c = counters[i][m];
+            s.in_flight += c.in_flight.load(std::memory_order_relaxed);
+            s.ops += c.ops.load(std::memory_order_relaxed);
+            s.bytes += c.bytes.load(std::memory_order_relaxed);
+            s.errors += c.errors.load(std::memory_order_relaxed);
+        }
+    }
+}
+
+int64_t stats_in_flight(method_id method)
+{
+    int64_t in_flight = 0;
+    for (unsigned i = 0; i < STATS_STRIPES; i++) {
+        in_flight += counters[i][method].in_flight.load(std::memory_order_relaxed);
+    }
+    return in_flight;
+}
+
+int64_t stats_total_in_flight()
+{
+    int64_t in_flight = 0;
+    for (unsigned i = 0; i < STATS_STRIPES; i++) {
+        in_flight += totals[i].in_flight.load(std::memory_order_relaxed);
+    }
+    return in_flight;
+}
+
+void latency_snapshot_all(bool reset, latency_snapshot snapshots[METHOD_COUNT])
+{
+    for (int m = 0; m < METHOD_COUNT; m++) {
+        latency_snapshot &s = snapshots[m];
+        backing_latency[m].snapshot(reset, s.backing_first, s.backing, s.backing_max);
+        injected_latency[m].snapshot(reset, s.injected_first, s.injected, s.injected_max);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef STATS_HH
+#define STATS_HH
+
+#include <vector>
+
+#include <cstddef>
+#include <cstdint>
+
+#include "clock.hh"
+#include "histogram.hh"
+#include "methods.hh"
+#include "trace.hh"
+
+// Per method operation counters and latency histograms.
+//
+// Counters are striped by thread so concurrent FUSE threads do not bounce
+// the same cache line, a read sums the stripes.  Histograms are shared,
+// a bucket increment is small next to the operation it measures.
+
+struct op_stats {
+    int64_t in_flight;  // operations currently running
+    int64_t ops;        // completed operations
+    int64_t bytes;      // bytes read or written
+    int64_t errors;     // operations which returned an error, injected or not
+};
+
+// counters are not read atomically across methods nor stripes
+void stats_snapshot(op_stats stats[METHOD_COUNT]);
+int64_t stats_in_flight(method_id method);
+int64_t stats_total_in_flight();
+
+// Latencies of a method split between the time spent in the backing
+// filesystem and the time spent in injected delays.  Operations failed by
+// an injected error have no backing time.
+struct latency_snapshot {
+    int32_t backing_first;
+    std::vector<int64_t> backing;
+    int64_t backing_max;
+    int32_t injected_first;
+    std::vector<int64_t> injected;
+    int64_t injected_max;
+};
+
+// with reset the histograms restart empty, so successive calls return
+// disjoint intervals
+void latency_snapshot_all(bool reset, latency_snapshot snapshots[METHOD_COUNT]);
+
+// called by error_inject() for the operation running on the calling thread,
+// a deferred delay is spent after the operation returned
+void op_injected(int err_no, uint64_t delay_ns, bool deferred = false);
+
+void stats_enter(method_id method);
+
+// return the errno injected into the operation, 0 if none
+int stats_leave(method_id method, int ret, size_t size, uint64_t elapsed_ns);
+
+// Accounts and traces one filesystem operation, every return of the
+// operation must go through done().
+struct op_scope {
+    method_id method;
+    size_t size;
+    trace_scope trace;
+    uint64_t start_ns;
+
+    op_scope(method_id method, const char *path, int64_t offset = 0, size_t size = 0)
+        : method(method), size(size), trace(method, path, offset, size)
+    {
+        stats_enter(method);
+        start_ns = now_ns();
+    }
+
+    int done(int ret)
+    {
+        int err_no = stats_leave(method, ret, size, now_ns() - start_ns);
+        trace.end(err_no);
+        return ret;
+    }
+
+    op_scope(const op_scope &) = delete;
+    op_scope &operator=(const op_scope &) = delete;
+};
+
+#endif
@@ -0,0 +1,234 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+// Lifetime, duty cycle, shaping, device queue and shared memory switches
+// of fault rules, driven through error_inject() without FUSE: delays are
+// slept by the calling thread.  Windows are tens of milliseconds wide so a loaded host does not
+// flip a check.
+//
+//   fault_rules_test
+//
+// Prints every failed check and exits with 1 if any failed.
+
+#include <algorithm>
+#include <cerrno>
+#include <chrono>
+#include <cstdio>
+#include <string>
+#include <thread>
+#include <vector>
+
+#include <unistd.h>
+
+#include "../clock.hh"
+#include "../fault_table.hh"
+#include "../shm_region.hh"
+
+static int failures = 0;
+
+#define CHECK(cond) \
+    do { \
+        if (!(cond)) { \
+            printf("%s:%d: %s: check failed: %s\n", __FILE__, __LINE__, __func__, #cond); \
+            failures++; \
+        } \
+    } while (0)
+
+static const char *PATH = "/data/ks/nb-1-big-Data.db";
+
+static void sleep_ms(int ms)
+{
+    std::this_thread::sleep_for(std::chrono::milliseconds(ms));
+}
+
+// milliseconds since start
+static uint64_t elapsed_ms(uint64_t start_ns)
+{
+    return (now_ns() - start_ns) / 1000000;
+}
+
+static void sleep_until_ms(uint64_t start_ns, uint64_t ms)
+{
+    std::this_thread::sleep_until(std::chrono::steady_clock::time_point(
+        std::chrono::nanoseconds(start_ns + ms * 1000000)));
+}
+
+static void set_rule(const fault_descriptor &descr)
+{
+    fault_table_apply({fault_update{{METHOD_FSYNC}, descr, false}}, true);
+}
+
+static void ttl_expires()
+{
+    fault_descriptor descr = fault_descriptor();
+    descr.err_no = EIO;
+    descr.ttl_us = 100 * 1000;
+    set_rule(descr);
+
+    CHECK(error_inject(PATH, METHOD_FSYNC) == -EIO);
+    sleep_ms(200);
+    CHECK(error_inject(PATH, METHOD_FSYNC) == 0);
+}
+
+static void max_injections_exhaust()
+{
+    fault_descriptor descr = fault_descriptor();
+    descr.err_no = EIO;
+    descr.max_injections = 3;
+    set_rule(descr);
+
+    for (int i = 0; i < 3; i++) {
+        CHECK(error_inject(PATH, METHOD_FSYNC) == -EIO);
+    }
+    CHECK(error_inject(PATH, METHOD_FSYNC) == 0);
+    CHECK(error_inject(PATH, METHOD_FSYNC) == 0);
+}
+
+static void duty_cycle_windows()
+{
+    fault_descriptor descr = fault_descriptor();
+    descr.err_no = EIO;
+    descr.on_us = 200 * 1000;
+    descr.off_us = 200 * 1000;
+
+    // the cycle starts on when the rule is set
+    uint64_t start = now_ns();
+    set_rule(descr);
+
+    // checked in the middle of each window, skipped if woken too late
+    sleep_until_ms(start, 100);
+    if (elapsed_ms(start) < 190) {
+        CHECK(error_inject(PATH, METHOD_FSYNC) == -EIO);
+    }
+    sleep_until_ms(start, 300);
+    if (elapsed_ms(start) < 390) {
+        CHECK(error_inject(PATH, METHOD_FSYNC) == 0);
+    }
+    sleep_until_ms(start, 500);
+    if (elapsed_ms(start) < 590) {
+        CHECK(error_inject(PATH, METHOD_FSYNC) == -EIO);
+    }
+}
+
+static void token_bucket_throttles()
+{
+    fault_descriptor descr = fault_descriptor();
+    descr.ops_per_sec = 20;
+    descr.op_burst = 1;
+    set_rule(descr);
+
+    // the burst goes through, every other operation waits 50 ms
+    uint64_t start = now_ns();
+    for (int i = 0; i < 5; i++) {
+        CHECK(error_inject(PATH, METHOD_FSYNC) == 0);
+    }
+    CHECK(elapsed_ms(start) >= 190);
+
+    std::vector<shaper_state> shapers = fault_table_shapers();
+    CHECK(shapers.size() == 1);
+    if (shapers.size() == 1) {
+        CHECK(shapers[0].throttled_ops == 4);
+        CHECK(shapers[0].throttled_ns >= 190 * 1000000LL);
+    }
+}
+
+static void queue_wait_grows()
+{
+    const int channels = 2;
+    const int threads = 6;
+
+    fault_descriptor descr = fault_descriptor();
+    descr.delay_us = 50 * 1000;
+    descr.queue_channels = channels;
+    set_rule(descr);
+
+    // arriving together, every pair of operations waits one more service
+    // time than the previous pair
+    std::vector<uint64_t> latency_ms(threads);
+    std::vector<std::thread> workers;
+    for (int i = 0; i < threads; i++) {
+        workers.push_back(std::thread([&latency_ms, i] {
+            uint64_t start = now_ns();
+            error_inject(PATH, METHOD_FSYNC);
+            latency_ms[i] = elapsed_ms(start);
+        }));
+    }
+    for (auto &worker: workers) {
+        worker.join();
+    }
+
+    uint64_t slowest = 0;
+    for (auto latency: latency_ms) {
+        CHECK(latency >= 50);
+        slowest = std::max(slowest, latency);
+    }
+    CHECK(slowest >= 150);
+
+    std::vector<queue_state> queues = fault_table_queues(false);
+    CHECK(queues.size() == 1);
+    if (queues.size() == 1) {
+        const device_queue::state &queue = queues[0].queue;
+        CHECK(queue.ops == threads);
+        CHECK(queue.wait_max >= 90 * 1000000LL);
+        CHECK(queue.length_max >= threads - channels - 1);
+        CHECK(queue.busy == 0);
+        CHECK(queue.waiting == 0);
+    }
+}
+
+// two rules stacked on fsync, each switched by its own slot
+static void shm_slots_switch_stacked_rules()
+{
+    fault_descriptor eio = fault_descriptor();
+    eio.err_no = EIO;
+    eio.priority = 1;
+    eio.shm_slot = 1;
+    fault_descriptor enospc = fault_descriptor();
+    enospc.err_no = ENOSPC;
+    enospc.shm_slot = 2;
+
+    std::string path = "/tmp/fault_rules_test." + std::to_string(getpid());
+    shm_region_start(path);
+    fault_table_apply({fault_update{{METHOD_FSYNC}, eio, true},
+                       fault_update{{METHOD_FSYNC}, enospc, true}}, true);
+
+    std::atomic<int32_t> *flags = shm_rule_flags.load();
+    CHECK(error_inject(PATH, METHOD_FSYNC) == -EIO);
+    flags[1] = 0;
+    CHECK(error_inject(PATH, METHOD_FSYNC) == -ENOSPC);
+    flags[2] = 0;
+    CHECK(error_inject(PATH, METHOD_FSYNC) == 0);
+    flags[1] = 1;
+    CHECK(error_inject(PATH, METHOD_FSYNC) == -EIO);
+
+    shm_region_stop();
+    CHECK(error_inject(PATH, METHOD_FSYNC) == -EIO);
+}
+
+int main()
+{
+    ttl_expires();
+    max_injections_exhaust();
+    duty_cycle_windows();
+    token_bucket_throttles();
+    queue_wait_grows();
+    shm_slots_switch_stacked_rules();
+
+    fault_table_clear_all();
+
+    if (failures) {
+        printf("%d checks failed\n", failures);
+        return 1;
+    }
+    printf("all checks passed\n");
+    return 0;
+}
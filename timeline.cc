@@ -0,0 +1,131 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "timeline.hh"
+#include "clock.hh"
+
+#include <atomic>
+#include <chrono>
+#include <condition_variable>
+#include <mutex>
+#include <stdexcept>
+#include <thread>
+
+// serialize start and stop
+static std::mutex control_mutex;
+static std::thread runner;
+
+// wakes the runner up when stopped
+static std::mutex wait_mutex;
+static std::condition_variable wake;
+static std::atomic<bool> stopping(false);
+
+// protected by control_mutex, read by the runner while it runs
+static std::vector<fault_phase> phases;
+static uint64_t start_ns;
+
+static std::atomic<bool> running(false);
+static std::atomic<int32_t> active_phase(-1);
+static std::atomic<int64_t> lag_ns(0);
+
+// return false if stopped before due_ns
+static bool wait_until(uint64_t due_ns)
+{
+    const uint64_t spin_ns = TIMELINE_SPIN_US * 1000ULL;
+
+    {
+        std::unique_lock<std::mutex> lk(wait_mutex);
+        while (!stopping.load() && now_ns() + spin_ns < due_ns) {
+            std::chrono::steady_clock::time_point wake_at(
+                std::chrono::nanoseconds(due_ns - spin_ns));
+            wake.wait_until(lk, wake_at);
+        }
+    }
+
+    // the condition variable wakes up tens of microseconds late
+    while (now_ns() < due_ns) {
+        if (stopping.load(std::memory_order_relaxed)) {
+            return false;
+        }
+        std::this_thread::yield();
+    }
+    return !stopping.load();
+}
+
+static void run()
+{
+    for (size_t i = 0; i < phases.size(); i++) {
+        uint64_t due_ns = start_ns + phases[i].start_us * 1000ULL;
+        if (!wait_until(due_ns)) {
+            break;
+        }
+
+        lag_ns.store(now_ns() - due_ns);
+        fault_table_apply(phases[i].rules, true);
+        active_phase.store(i);
+    }
+    running.store(false);
+}
+
+// must be called with control_mutex held
+static void stop_locked()
+{
+    if (!runner.joinable()) {
+        return;
+    }
+
+    {
+        std::lock_guard<std::mutex> lk(wait_mutex);
+        stopping.store(true);
+    }
+    wake.notify_all();
+    runner.join();
+    stopping.store(false);
+}
+
+void timeline_start(std::vector<fault_phase> new_phases)
+{
+    for (size_t i = 1; i < new_phases.size(); i++) {
+        if (new_phases[i].start_us < new_phases[i - 1].start_us) {
+            throw std::invalid_argument("timeline phases must be ordered by start time");
+        }
+    }
+
+    std::lock_guard<std::mutex> lk(control_mutex);
+    stop_locked();
+
+    phases = std::move(new_phases);
+    active_phase.store(-1);
+    lag_ns.store(0);
+    running.store(true);
+    start_ns = now_ns();
+    runner = std::thread(run);
+}
+
+void timeline_stop()
+{
+    std::lock_guard<std::mutex> lk(control_mutex);
+    stop_locked();
+}
+
+timeline_state timeline_current()
+{
+    std::lock_guard<std::mutex> lk(control_mutex);
+
+    timeline_state state;
+    state.running = running.load();
+    state.phase = active_phase.load();
+    state.phase_count = phases.size();
+    state.elapsed_us = runner.joinable() ? (now_ns() - start_ns) / 1000 : 0;
+    state.lag_ns = lag_ns.load();
+    return state;
+}
@@ -0,0 +1,52 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef TIMELINE_HH
+#define TIMELINE_HH
+
+#include <vector>
+
+#include <cstdint>
+
+#include "fault_table.hh"
+
+// A timeline replaces the whole fault set with the rules of each phase when
+// the phase starts, relative to the start of the timeline.  Its own thread
+// sleeps until TIMELINE_SPIN_US before a transition then spins, so phases
+// start within microseconds of their due time.  Faults of the last phase
+// stay once the timeline is over.
+
+const unsigned TIMELINE_SPIN_US = 200;
+
+struct fault_phase {
+    uint64_t start_us;          // since the start of the timeline
+    compiled_updates rules;
+};
+
+struct timeline_state {
+    bool running;
+    int32_t phase;              // last phase started, -1 if none
+    int32_t phase_count;
+    uint64_t elapsed_us;        // since the start of the timeline
+    int64_t lag_ns;             // how late the last phase started
+};
+
+// Stop the running timeline, if any, and start phases now.  Phases must be
+// ordered by start time, throw std::invalid_argument otherwise.
+void timeline_start(std::vector<fault_phase> phases);
+
+// Faults of the last phase started stay
+void timeline_stop();
+
+timeline_state timeline_current();
+
+#endif
@@ -0,0 +1,169 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "timer_wheel.hh"
+#include "clock.hh"
+
+timer_wheel::timer_wheel(uint64_t tick_ns, size_t slots)
+    : tick_ns(tick_ns), slots(slots, nullptr), current_tick(0), wake_tick(0),
+      count(0), running(true)
+{
+    thread = std::thread(&timer_wheel::run, this);
+}
+
+// first tick at which the timer is due, never early
+static uint64_t due_tick(const timer *t, uint64_t tick_ns)
+{
+    return (t->due_ns + tick_ns - 1) / tick_ns;
+}
+
+timer_wheel::~timer_wheel()
+{
+    stop();
+}
+
+void timer_wheel::add(timer *t)
+{
+    std::lock_guard<std::mutex> lk(mutex);
+
+    // an idle wheel does not tick, catch up with the clock
+    if (!count.load(std::memory_order_relaxed)) {
+        current_tick = now_ns() / tick_ns;
+    }
+
+    uint64_t tick = due_tick(t, tick_ns);
+    if (tick < current_tick) {
+        tick = current_tick;
+    }
+
+    timer *&slot = slots[tick % slots.size()];
+    t->next = slot;
+    slot = t;
+
+    count.fetch_add(1, std::memory_order_relaxed);
+
+    // due before the thread wakes up
+    if (tick < wake_tick) {
+        wakeup.notify_one();
+    }
+}
+
+// must be called with mutex held, due timers are moved to fired
+void timer_wheel::expire(uint64_t now, timer *&fired)
+{
+    uint64_t now_tick = now / tick_ns;
+
+    // do not spin more than one round over an idle stretch
+    if (now_tick > current_tick + slots.size()) {
+        current_tick = now_tick - slots.size();
+    }
+
+    for (; current_tick <= now_tick; current_tick++) {
+        timer **link = &slots[current_tick % slots.size()];
+        while (*link) {
+            timer *t = *link;
+            if (due_tick(t, tick_ns) > current_tick) {
+                // later round
+                link = &t->next;
+                continue;
+            }
+            *link = t->next;
+            t->next = fired;
+            fired = t;
+            count.fetch_sub(1, std::memory_order_relaxed);
+        }
+    }
+}
+
+// must be called with mutex held, earliest tick of this round holding a
+// due timer, or the first tick of the next round if only later rounds wait
+uint64_t timer_wheel::next_due_tick() const
+{
+    uint64_t end = current_tick + slots.size();
+    for (uint64_t tick = current_tick; tick < end; tick++) {
+        for (timer *t = slots[tick % slots.size()]; t; t = t->next) {
+            if (due_tick(t, tick_ns) <= tick) {
+                return tick;
+            }
+        }
+    }
+    return end;
+}
+
+void timer_wheel::run()
+{
+    std::unique_lock<std::mutex> lk(mutex);
+
+    while (running) {
+        if (!count.load(std::memory_order_relaxed)) {
+            wake_tick = UINT64_MAX;
+            wakeup.wait(lk);
+            wake_tick = 0;
+            continue;
+        }
+
+        timer *fired = nullptr;
+        expire(now_ns(), fired);
+
+        lk.unlock();
+        while (fired) {
+            timer *t = fired;
+            fired = t->next;
+            t->fire(t);
+        }
+        lk.lock();
+
+        if (!running || !count.load(std::memory_order_relaxed)) {
+            continue;
+        }
+
+        uint64_t next = next_due_tick();
+        uint64_t next_ns = next * tick_ns;
+        uint64_t now = now_ns();
+        if (next_ns > now) {
+            wake_tick = next;
+            wakeup.wait_for(lk, std::chrono::nanoseconds(next_ns - now));
+            wake_tick = 0;
+        }
+    }
+}
+
+void timer_wheel::stop()
+{
+    timer *fired = nullptr;
+    {
+        std::lock_guard<std::mutex> lk(mutex);
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        for (auto &slot: slots) {
+            while (slot) {
+                timer *t = slot;
+                slot = t->next;
+                t->next = fired;
+                fired = t;
+            }
+        }
+        count.store(0);
+        wakeup.notify_one();
+    }
+
+    thread.join();
+
+    while (fired) {
+        timer *t = fired;
+        fired = t->next;
+        t->fire(t);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef TIMER_WHEEL_HH
+#define TIMER_WHEEL_HH
+
+#include <atomic>
+#include <condition_variable>
+#include <mutex>
+#include <thread>
+#include <vector>
+
+#include <cstddef>
+#include <cstdint>
+
+// Intrusive timer, fire() is called once from the wheel thread.
+struct timer {
+    uint64_t due_ns;
+    timer *next;
+    void (*fire)(timer *t);
+};
+
+// Hashed timer wheel driven by its own thread.
+//
+// Timers are hashed by due tick into slots, a slot holds the timers of
+// every round so a tick only looks at one slot.  Adding is O(1) and a
+// thousand pending timers cost a thousand list nodes, not threads.  Timers
+// fire at most one tick late.  The thread sleeps until the earliest tick
+// holding a due timer, at most one round ahead, not from tick to tick.
+class timer_wheel {
+public:
+    timer_wheel(uint64_t tick_ns, size_t slots);
+    ~timer_wheel();
+
+    void add(timer *t);
+
+    // number of timers not fired yet
+    size_t pending() const { return count.load(std::memory_order_relaxed); }
+
+    // fire every pending timer now and stop the thread
+    void stop();
+
+private:
+    void run();
+    void expire(uint64_t now_ns, timer *&fired);
+    uint64_t next_due_tick() const;
+
+    const uint64_t tick_ns;
+    std::vector<timer *> slots;
+    uint64_t current_tick;      // next tick to expire
+    uint64_t wake_tick;         // tick the thread sleeps until, 0 if awake
+    std::atomic<size_t> count;
+    bool running;
+
+    std::mutex mutex;
+    std::condition_variable wakeup;
+    std::thread thread;
+};
+
+#endif
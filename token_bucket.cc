@@ -0,0 +1,89 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "token_bucket.hh"
+
+#include <algorithm>
+
+static const uint64_t NS_PER_SEC = 1000000000ULL;
+
+token_bucket::token_bucket(int64_t rate, int64_t burst, uint64_t now_ns)
+    : rate(rate), burst(burst ? burst : std::max<int64_t>(rate / 10, 1)),
+      empty_ns(rate ? full_since(now_ns) : 0)
+{
+}
+
+uint64_t token_bucket::tokens_ns(uint64_t tokens) const
+{
+    // split so that tokens * NS_PER_SEC can not overflow
+    return tokens / rate * NS_PER_SEC + tokens % rate * NS_PER_SEC / rate;
+}
+
+// the bucket is full now if it was empty at this time
+uint64_t token_bucket::full_since(uint64_t now_ns) const
+{
+    uint64_t burst_ns = tokens_ns(burst);
+    return now_ns > burst_ns ? now_ns - burst_ns : 0;
+}
+
+uint64_t token_bucket::charge(uint64_t cost, uint64_t now_ns)
+{
+    if (unlimited()) {
+        return 0;
+    }
+
+    // tokens beyond the burst are lost
+    uint64_t full_ns = full_since(now_ns);
+    uint64_t cost_ns = tokens_ns(cost);
+
+    uint64_t empty = empty_ns.load(std::memory_order_relaxed);
+    uint64_t next;
+    do {
+        next = std::max(empty, full_ns) + cost_ns;
+    } while (!empty_ns.compare_exchange_weak(empty, next, std::memory_order_relaxed));
+
+    return next > now_ns ? next - now_ns : 0;
+}
+
+int64_t token_bucket::level(uint64_t now_ns) const
+{
+    if (unlimited()) {
+        return 0;
+    }
+
+    uint64_t empty = empty_ns.load(std::memory_order_relaxed);
+    if (empty <= full_since(now_ns)) {
+        return burst;
+    }
+
+    // at most burst tokens in the past, as many as operations queued ahead
+    int64_t since_empty_ns = (int64_t) (now_ns - empty);
+    return since_empty_ns / 1000 * rate / 1000000;
+}
+
+shaper::shaper(int64_t bytes_per_sec, int64_t byte_burst,
+               int64_t ops_per_sec, int64_t op_burst, uint64_t now_ns)
+    : bytes(bytes_per_sec, byte_burst, now_ns), ops(ops_per_sec, op_burst, now_ns),
+      throttled_ops(0), throttled_ns(0)
+{
+}
+
+uint64_t shaper::charge(uint64_t size, uint64_t now_ns)
+{
+    // the operation waits for the scarcer of both budgets
+    uint64_t wait_ns = std::max(bytes.charge(size, now_ns), ops.charge(1, now_ns));
+    if (wait_ns) {
+        throttled_ops.fetch_add(1, std::memory_order_relaxed);
+        throttled_ns.fetch_add(wait_ns, std::memory_order_relaxed);
+    }
+    return wait_ns;
+}
@@ -0,0 +1,62 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef TOKEN_BUCKET_HH
+#define TOKEN_BUCKET_HH
+
+#include <atomic>
+
+#include <cstdint>
+
+// Token bucket kept as the time it is, or will be, empty: tokens accrue at
+// rate per second from then, up to burst.  An operation takes its tokens
+// at once and waits until the bucket would have had them, so operations
+// queue up in arrival order without a lock: a charge is one CAS.
+class token_bucket {
+public:
+    // rate 0 for unlimited, burst 0 for rate / 10
+    token_bucket(int64_t rate, int64_t burst, uint64_t now_ns);
+
+    // take cost tokens, return how long to wait for them, ns
+    uint64_t charge(uint64_t cost, uint64_t now_ns);
+
+    // tokens available now, negative while operations wait for theirs
+    int64_t level(uint64_t now_ns) const;
+
+    bool unlimited() const { return !rate; }
+
+    const int64_t rate;     // tokens per second
+    const int64_t burst;
+
+private:
+    uint64_t tokens_ns(uint64_t tokens) const;
+    uint64_t full_since(uint64_t now_ns) const;
+
+    std::atomic<uint64_t> empty_ns;
+};
+
+// Bandwidth and IOPS budget of a rule, shared by all its methods
+struct shaper {
+    token_bucket bytes;
+    token_bucket ops;
+
+    std::atomic<int64_t> throttled_ops;
+    std::atomic<int64_t> throttled_ns;
+
+    shaper(int64_t bytes_per_sec, int64_t byte_burst,
+           int64_t ops_per_sec, int64_t op_burst, uint64_t now_ns);
+
+    // charge an operation of size bytes, return how long it must wait, ns
+    uint64_t charge(uint64_t size, uint64_t now_ns);
+};
+
+#endif
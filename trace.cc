@@ -0,0 +1,205 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#include "trace.hh"
+#include "clock.hh"
+
+#include <algorithm>
+#include <chrono>
+#include <iostream>
+#include <mutex>
+#include <stdexcept>
+#include <thread>
+
+#include <cstdio>
+
+std::atomic<bool> trace_enabled(false);
+
+// Single producer (the owning thread), single consumer (the drainer) ring.
+struct trace_ring {
+    trace_record records[TRACE_RING_SIZE];
+    std::atomic<uint64_t> head;     // next record to write
+    std::atomic<uint64_t> tail;     // next record to drain
+    std::atomic<bool> used;         // owned by a live thread
+    trace_ring *next;
+};
+
+// rings are never freed, a thread exiting gives its ring back for reuse.
+// The ring may still hold undrained records: the next owner appends after
+// them at head, the drainer keeps reading from tail, and the used flag
+// handoff orders the two producers, so nothing is lost or overwritten.
+static std::atomic<trace_ring *> rings(nullptr);
+
+static std::atomic<uint32_t> sample_rate(1);
+static std::atomic<uint64_t> dropped(0);
+
+// protected by control_mutex
+static std::mutex control_mutex;
+static FILE *trace_file = nullptr;
+static std::thread *drainer = nullptr;
+static std::atomic<bool> draining(false);
+
+static trace_ring *acquire_ring()
+{
+    for (trace_ring *r = rings.load(); r; r = r->next) {
+        bool expected = false;
+        if (!r->used.load() && r->used.compare_exchange_strong(expected, true)) {
+            return r;
+        }
+    }
+
+    trace_ring *r = new trace_ring();
+    r->head.store(0);
+    r->tail.store(0);
+    r->used.store(true);
+    r->next = rings.load();
+    while (!rings.compare_exchange_weak(r->next, r)) {
+    }
+    return r;
+}
+
+struct thread_trace {
+    trace_ring *ring = nullptr;     // acquired on the first sampled operation
+    uint32_t count = 0;             // operations since the last sample
+
+    ~thread_trace()
+    {
+        if (ring) {
+            ring->used.store(false);
+        }
+    }
+};
+
+static thread_trace &this_thread_trace()
+{
+    static thread_local thread_trace t;
+    return t;
+}
+
+void trace_scope::begin(method_id method, const char *path, int64_t offset, size_t size)
+{
+    thread_trace &t = this_thread_trace();
+    if (++t.count < sample_rate.load(std::memory_order_relaxed)) {
+        return;
+    }
+    t.count = 0;
+
+    sampled = true;
+    this->method = method;
+    this->path_hash = path_view(path).hash();
+    this->offset = offset;
+    this->size = size;
+    this->start_ns = now_ns();
+}
+
+void trace_scope::record(int err_no)
+{
+    uint64_t end_ns = now_ns();
+
+    thread_trace &t = this_thread_trace();
+    if (!t.ring) {
+        t.ring = acquire_ring();
+    }
+
+    trace_ring *ring = t.ring;
+    uint64_t head = ring->head.load(std::memory_order_relaxed);
+    if (head - ring->tail.load(std::memory_order_acquire) >= TRACE_RING_SIZE) {
+        dropped.fetch_add(1, std::memory_order_relaxed);
+        return;
+    }
+
+    trace_record &record = ring->records[head % TRACE_RING_SIZE];
+    record.start_ns = start_ns;
+    record.path_hash = path_hash;
+    record.offset = offset;
+    record.latency_ns = end_ns - start_ns;
+    record.size = size;
+    record.method = method;
+    record.err_no = err_no;
+
+    ring->head.store(head + 1, std::memory_order_release);
+}
+
+static void drain(FILE *file)
+{
+    for (trace_ring *r = rings.load(); r; r = r->next) {
+        uint64_t tail = r->tail.load(std::memory_order_relaxed);
+        uint64_t head = r->head.load(std::memory_order_acquire);
+
+        // at most two contiguous chunks because of the wrap around
+        while (tail != head) {
+            uint64_t start = tail % TRACE_RING_SIZE;
+            uint64_t count = std::min(head - tail, TRACE_RING_SIZE - start);
+            fwrite(&r->records[start], sizeof(trace_record), count, file);
+            tail += count;
+        }
+
+        r->tail.store(tail, std::memory_order_release);
+    }
+}
+
+static void drain_thread(FILE *file)
+{
+    while (draining.load()) {
+        drain(file);
+        std::this_thread::sleep_for(std::chrono::milliseconds(10));
+    }
+    drain(file);
+}
+
+// must be called with control_mutex held
+static void stop_locked()
+{
+    if (!drainer) {
+        return;
+    }
+
+    trace_enabled.store(false);
+    draining.store(false);
+    drainer->join();
+    delete drainer;
+    drainer = nullptr;
+
+    fclose(trace_file);
+    trace_file = nullptr;
+
+    std::cout << "Trace stopped, " << dropped.exchange(0)
+              << " records dropped" << std::endl;
+}
+
+void trace_start(const std::string &file, int32_t rate)
+{
+    std::lock_guard<std::mutex> lk(control_mutex);
+    stop_locked();
+
+    FILE *f = fopen(file.c_str(), "wb");
+    if (!f) {
+        throw std::runtime_error("cannot open trace file " + file);
+    }
+
+    // forget records left over from a previous trace
+    for (trace_ring *r = rings.load(); r; r = r->next) {
+        r->tail.store(r->head.load());
+    }
+
+    trace_file = f;
+    sample_rate.store(rate > 1 ? rate : 1);
+    draining.store(true);
+    drainer = new std::thread(drain_thread, f);
+    trace_enabled.store(true);
+}
+
+void trace_stop()
+{
+    std::lock_guard<std::mutex> lk(control_mutex);
+    stop_locked();
+}
@@ -0,0 +1,84 @@
+/*
+ * ** 17-10-2026
+ * **
+ * ** The author disclaims copyright to this source code.  In place of
+ * ** a legal notice, here is a blessing:
+ * **
+ * **    May you do good and not evil.
+ * **    May you find forgiveness for yourself and forgive others.
+ * **    May you share freely, never taking more than you give.
+ * **
+ */
+
+#ifndef TRACE_HH
+#define TRACE_HH
+
+#include <atomic>
+#include <string>
+
+#include <cstdint>
+
+#include "methods.hh"
+#include "path_view.hh"
+
+// Sampled trace of the filesystem operations.
+//
+// Each FUSE thread appends fixed size records to its own ring, a background
+// thread drains the rings to the trace file.  A full ring drops records
+// rather than blocking the operation.  When tracing is off an operation
+// only pays for one relaxed load.
+
+// Trace file format: a sequence of trace_record in host byte order.
+struct trace_record {
+    uint64_t start_ns;  // steady clock at operation start
+    uint64_t path_hash; // FNV-1a of the path
+    int64_t offset;     // file offset, 0 if irrelevant
+    uint64_t latency_ns;
+    uint32_t size;      // bytes requested, 0 if irrelevant
+    uint16_t method;    // method_id
+    int16_t err_no;     // injected errno, 0 if none
+};
+
+// records per thread ring
+const size_t TRACE_RING_SIZE = 4096;
+
+extern std::atomic<bool> trace_enabled;
+
+// Start tracing one operation every sample_rate to file.
+// throw std::runtime_error if the file can not be opened.
+void trace_start(const std::string &file, int32_t sample_rate);
+void trace_stop();
+
+struct trace_scope {
+    bool sampled;
+    uint16_t method;
+    uint64_t path_hash;
+    int64_t offset;
+    uint32_t size;
+    uint64_t start_ns;
+
+    trace_scope(method_id method, const char *path, int64_t offset = 0, size_t size = 0)
+        : sampled(false)
+    {
+        if (trace_enabled.load(std::memory_order_relaxed)) {
+            begin(method, path, offset, size);
+        }
+    }
+
+    // err_no is the injected errno, 0 if none
+    void end(int err_no)
+    {
+        if (sampled) {
+            record(err_no);
+        }
+    }
+
+    trace_scope(const trace_scope &) = delete;
+    trace_scope &operator=(const trace_scope &) = delete;
+
+private:
+    void begin(method_id method, const char *path, int64_t offset, size_t size);
+    void record(int err_no);
+};
+
+#endif